@@ -8,6 +8,8 @@ import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
 import jakarta.persistence.PersistenceException;
@@ -17,6 +19,8 @@ import jakarta.persistence.PersistenceException;
  * <p>
  * Działa na poziomie metod w repozytoriach, automatycznie przechwytując
  * wyjątki związane z bazą danych i konwertując je na DatabaseConnectionException.
+ * Konflikty wersji i naruszenia więzów integralności nie są błędami połączenia - są przekazywane
+ * bez zmian, aby wywołujący mógł odpowiedzieć na nie odpowiednim statusem.
  *
  * @version 1.0.0
  * @since 1.0.0
@@ -44,6 +48,8 @@ public class DatabaseExceptionAspect {
     public Object handleDatabaseExceptions(ProceedingJoinPoint joinPoint) throws Throwable {
         try {
             return joinPoint.proceed();
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            throw e;
         } catch (DataAccessException | PersistenceException e) {
             String methodName = joinPoint.getSignature().toShortString();
             logger.error("Błąd dostępu do bazy danych w metodzie {}: {}", methodName, e.getMessage());
@@ -0,0 +1,43 @@
+package com.example.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Konfiguracja puli wątków używanej do równoległego renderowania sekcji raportów PDF.
+ * <p>
+ * Liczba wątków jest określana właściwością {@code app.reports.render-threads};
+ * domyślnie odpowiada liczbie dostępnych rdzeni procesora.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+public class ReportRenderingConfig {
+
+    @Value("${app.reports.render-threads:0}")
+    private int renderThreads;
+
+    /**
+     * Tworzy pulę wątków renderujących sekcje raportów.
+     *
+     * @return pula wątków zamykana razem z kontekstem aplikacji
+     */
+    @Bean(name = "reportRenderExecutor", destroyMethod = "shutdown")
+    public ExecutorService reportRenderExecutor() {
+        int threads = renderThreads > 0 ? renderThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "report-render-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(threads, threadFactory);
+    }
+}
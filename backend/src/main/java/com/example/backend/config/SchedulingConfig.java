@@ -0,0 +1,15 @@
+package com.example.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Włącza obsługę zadań cyklicznych oznaczonych adnotacją {@code @Scheduled}.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -19,7 +19,9 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -94,6 +96,9 @@ public class PdfReportController {
      * @param dateFrom     Data początkowa zakresu raportu
      * @param dateTo       Data końcowa zakresu raportu
      * @param userId       Identyfikator użytkownika generującego raport
+     * @param streaming    Czy użyć trybu strumieniowego (ograniczone zużycie pamięci przy dużych raportach)
+     * @param parallel     Czy renderować sekcje pracowników równolegle i scalić je ze spisem treści;
+     *                     nie można łączyć z trybem strumieniowym
      * @return ResponseEntity zawierający informacje o wygenerowanym raporcie lub błędzie
      */
     @PostMapping("/employee-load")
@@ -101,18 +106,34 @@ public class PdfReportController {
             @RequestParam(required = false) Integer targetUserId,
             @RequestParam String dateFrom,
             @RequestParam String dateTo,
-            @RequestParam Integer userId) {
+            @RequestParam Integer userId,
+            @RequestParam(defaultValue = "false") boolean streaming,
+            @RequestParam(defaultValue = "false") boolean parallel) {
+
+        if (streaming && parallel) {
+            // Parallel rendering needs every section up front, which defeats streaming
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("Streaming and parallel rendering cannot be combined");
+        }
 
         try {
             User user = userRepository.findById(userId)
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
 
-            // Collect data
-            EmployeeLoadReportDTO reportDTO =
-                    reportDataService.collectEmployeeLoadData(targetUserId, dateFrom, dateTo);
+            Report report;
+            if (streaming) {
+                // Items are computed lazily while the PDF is written
+                report = pdfReportService.generateEmployeeLoadReportStreaming(targetUserId, dateFrom, dateTo, user);
+            } else {
+                // Collect data
+                EmployeeLoadReportDTO reportDTO =
+                        reportDataService.collectEmployeeLoadData(targetUserId, dateFrom, dateTo);
 
-            // Generate report
-            Report report = pdfReportService.generateEmployeeLoadReport(reportDTO, user);
+                // Generate report
+                report = parallel ?
+                        pdfReportService.generateEmployeeLoadReportParallel(reportDTO, user) :
+                        pdfReportService.generateEmployeeLoadReport(reportDTO, user);
+            }
 
             Map<String, Object> response = new HashMap<>();
             response.put("reportId", report.getId());
@@ -163,6 +184,52 @@ public class PdfReportController {
         }
     }
 
+    /**
+     * Generuje pakiet raportów dla kierownictwa za podany okres: raport postępu budowy dla każdego zespołu,
+     * raport obciążenia wszystkich pracowników oraz raport efektywności zespołów.
+     * Dane wszystkich raportów są wczytywane jednorazowo i współdzielone.
+     *
+     * @param dateFrom Data początkowa zakresu raportów
+     * @param dateTo   Data końcowa zakresu raportów
+     * @param userId   Identyfikator użytkownika generującego raporty
+     * @return ResponseEntity zawierający informacje o wygenerowanych raportach lub błędzie
+     */
+    @PostMapping("/bundle")
+    public ResponseEntity<?> generateReportBundle(
+            @RequestParam String dateFrom,
+            @RequestParam String dateTo,
+            @RequestParam Integer userId) {
+
+        try {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
+
+            // Collect data once for all reports
+            ReportBundleDTO bundle = reportDataService.collectReportBundle(dateFrom, dateTo);
+
+            // Generate reports
+            List<Report> reports = pdfReportService.generateReportBundle(bundle, user);
+
+            List<Map<String, Object>> generated = new ArrayList<>();
+            for (Report report : reports) {
+                Map<String, Object> entry = new HashMap<>();
+                entry.put("reportId", report.getId());
+                entry.put("name", report.getName());
+                entry.put("fileName", report.getFileName());
+                generated.add(entry);
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("reports", generated);
+            response.put("message", "Report bundle generated successfully");
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Error generating report bundle: " + e.getMessage());
+        }
+    }
+
     /**
      * Pobiera wygenerowany raport PDF.
      *
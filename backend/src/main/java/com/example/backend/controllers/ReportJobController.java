@@ -0,0 +1,65 @@
+package com.example.backend.controllers;
+
+import com.example.backend.dto.ReportJobDTO;
+import com.example.backend.dto.reports.ReportJobRequestDTO;
+import com.example.backend.services.ReportJobService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kontroler REST kolejki zleceń generowania raportów.
+ * <p>
+ * Zlecenie jest tylko zapisywane w kolejce, a raport generuje proces roboczy działający
+ * w profilu {@code worker}. Stan zlecenia (i identyfikator gotowego raportu) można odczytać
+ * pod adresem {@code /api/report-jobs/{id}}.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/report-jobs")
+public class ReportJobController {
+
+    private final ReportJobService reportJobService;
+
+    @Autowired
+    public ReportJobController(ReportJobService reportJobService) {
+        this.reportJobService = reportJobService;
+    }
+
+    /**
+     * Dodaje zlecenie wygenerowania raportu do kolejki.
+     *
+     * @param request Parametry raportu
+     * @return Zlecenie w stanie {@code PENDING} (status 202) lub opis błędu (status 400)
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> enqueueReportJob(@RequestBody ReportJobRequestDTO request) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(reportJobService.enqueue(request));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    /**
+     * Pobiera stan zlecenia na podstawie jego identyfikatora.
+     *
+     * @param id Identyfikator zlecenia
+     * @return Zlecenie lub status 404, jeśli nie istnieje
+     */
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ReportJobDTO> getReportJob(@PathVariable Integer id) {
+        return reportJobService.getJobById(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
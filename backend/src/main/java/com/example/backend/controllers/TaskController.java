@@ -1,18 +1,34 @@
 package com.example.backend.controllers;
 
+import com.example.backend.dto.TaskBulkResultDTO;
 import com.example.backend.dto.TaskDTO;
+import com.example.backend.dto.TaskDashboardDTO;
+import com.example.backend.dto.TaskFilterDTO;
+import com.example.backend.dto.TaskStatusTransitionDTO;
+import com.example.backend.exceptions.TaskVersionConflictException;
+import com.example.backend.services.TaskDashboardService;
+import com.example.backend.services.TaskDetailsService;
 import com.example.backend.services.TaskService;
+import com.example.backend.services.TaskStatusTransitionService;
+import com.example.backend.services.TaskVersionTracker;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Set;
 
 /**
  * Kontroler REST dla operacji na zadaniach.
@@ -30,30 +46,135 @@ import java.util.HashMap;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskVersionTracker taskVersionTracker;
+    private final TaskStatusTransitionService taskStatusTransitionService;
+    private final TaskDashboardService taskDashboardService;
+    private final TaskDetailsService taskDetailsService;
+
+    /**
+     * Czy PUT i PATCH wymagają nagłówka {@code If-Match}. Bez niego zmiany są zapisywane
+     * bez sprawdzania wersji.
+     */
+    @Value("${app.tasks.require-if-match:false}")
+    private boolean requireIfMatch;
 
     /**
      * Konstruktor wstrzykujący zależności.
      *
-     * @param taskService Serwis zadań
+     * @param taskService                 Serwis zadań
+     * @param taskVersionTracker          Liczniki wersji list zadań
+     * @param taskStatusTransitionService Serwis zbiorczej zmiany statusu zadań
+     * @param taskDashboardService        Serwis zestawienia zadań dla panelu głównego
+     * @param taskDetailsService          Serwis szczegółów zadania
      */
     @Autowired
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskVersionTracker taskVersionTracker,
+                          TaskStatusTransitionService taskStatusTransitionService,
+                          TaskDashboardService taskDashboardService,
+                          TaskDetailsService taskDetailsService) {
         this.taskService = taskService;
+        this.taskVersionTracker = taskVersionTracker;
+        this.taskStatusTransitionService = taskStatusTransitionService;
+        this.taskDashboardService = taskDashboardService;
+        this.taskDetailsService = taskDetailsService;
     }
 
     /**
-     * Pobiera wszystkie zadania.
+     * Pobiera stronę zadań posortowanych po ID.
+     * <p>
+     * Kolejną stronę pobiera się, przekazując w parametrze {@code cursor} wartość pola {@code next}
+     * z poprzedniej odpowiedzi. Pełna lista wszystkich zadań jest zwracana tylko po jawnym
+     * ustawieniu {@code unpaged=true}.
+     * <p>
+     * Odpowiedź zawiera słaby znacznik {@code ETag} wersji listy zadań; jeśli nagłówek
+     * {@code If-None-Match} zawiera bieżący znacznik, zwracany jest status 304 bez odczytu zadań.
+     * Nagłówek {@code Cache-Control: no-cache} powoduje, że przeglądarka sama ponawia żądanie
+     * warunkowo i przy odpowiedzi 304 korzysta z zapisanej kopii.
      *
-     * @return Lista wszystkich zadań
+     * @param cursor      Kursor następnej strony (pomijany dla pierwszej strony)
+     * @param limit       Rozmiar strony, maksymalnie {@link TaskService#MAX_PAGE_SIZE}
+     * @param unpaged     Czy zwrócić wszystkie zadania bez stronicowania
+     * @param ifNoneMatch Znacznik wersji posiadanej przez klienta
+     * @return Strona zadań, lista wszystkich zadań, status 304 lub status 400 dla nieprawidłowego kursora
      */
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<TaskDTO>> getAllTasks() {
-        List<TaskDTO> tasks = taskService.getAllTasks();
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+    public ResponseEntity<?> getAllTasks(@RequestParam(required = false) String cursor,
+                                         @RequestParam(required = false) Integer limit,
+                                         @RequestParam(defaultValue = "false") boolean unpaged,
+                                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // The version is read before the data, so the tag never claims a newer state than the body
+        String etag = taskVersionTracker.globalETag();
+        if (TaskVersionTracker.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        if (unpaged) {
+            List<TaskDTO> tasks = taskService.getAllTasks();
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .body(tasks);
+        }
+
+        try {
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .body(taskService.getTasksPage(cursor, limit));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Pobiera stronę zadań spełniających jednocześnie wszystkie podane kryteria.
+     * Pominięte kryteria nie ograniczają wyniku.
+     *
+     * @param teamId       Identyfikator zespołu
+     * @param statusId     Identyfikator statusu
+     * @param priorityId   Identyfikator priorytetu
+     * @param deadlineFrom Najwcześniejszy termin (włącznie), w formacie yyyy-MM-dd
+     * @param deadlineTo   Najpóźniejszy termin (włącznie), w formacie yyyy-MM-dd
+     * @param q            Fraza wyszukiwana w tytule i opisie zadania
+     * @param teamIds      Zespoły, do których może należeć zadanie, np. {@code teamIds=1,2}
+     * @param page         Numer strony, liczony od zera
+     * @param size         Rozmiar strony, maksymalnie {@link TaskService#MAX_PAGE_SIZE}
+     * @param sort         Sortowanie w postaci {@code pole,asc|desc}, np. {@code deadline,desc}
+     * @return Strona zadań lub status 400 dla nieprawidłowych parametrów
+     */
+    @GetMapping(value = "/filter", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> filterTasks(@RequestParam(required = false) Integer teamId,
+                                         @RequestParam(required = false) Integer statusId,
+                                         @RequestParam(required = false) Integer priorityId,
+                                         @RequestParam(required = false) String deadlineFrom,
+                                         @RequestParam(required = false) String deadlineTo,
+                                         @RequestParam(required = false) String q,
+                                         @RequestParam(required = false) List<Integer> teamIds,
+                                         @RequestParam(defaultValue = "0") int page,
+                                         @RequestParam(required = false) Integer size,
+                                         @RequestParam(required = false) String sort) {
+        try {
+            TaskFilterDTO filter = new TaskFilterDTO(teamId, statusId, priorityId,
+                    deadlineFrom != null ? LocalDate.parse(deadlineFrom) : null,
+                    deadlineTo != null ? LocalDate.parse(deadlineTo) : null,
+                    q, teamIds);
+            return new ResponseEntity<>(taskService.filterTasks(filter, page, size, sort), HttpStatus.OK);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+        }
     }
 
     /**
      * Pobiera zadanie na podstawie jego identyfikatora.
+     * Nagłówek {@code ETag} zawiera wersję zadania, którą należy odesłać w {@code If-Match}
+     * przy aktualizacji.
      *
      * @param id Identyfikator zadania
      * @return Zadanie lub status 404, jeśli nie istnieje
@@ -61,7 +182,40 @@ public class TaskController {
     @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<TaskDTO> getTaskById(@PathVariable Integer id) {
         return taskService.getTaskById(id)
-                .map(task -> new ResponseEntity<>(task, HttpStatus.OK))
+                .map(task -> withVersion(task, HttpStatus.OK))
+                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Pobiera zadanie wraz z danymi potrzebnymi do jego wyświetlenia lub edycji w jednej odpowiedzi:
+     * komentarzami, historią zmian, zespołem zadania, listą zespołów, priorytetami i statusami.
+     * Parametr {@code include} (np. {@code include=comments,team}) ogranicza odpowiedź do wskazanych
+     * części; bez niego zwracane są wszystkie. Nagłówek {@code ETag} zawiera wersję zadania, jak
+     * w {@link #getTaskById(Integer)}.
+     *
+     * @param id      Identyfikator zadania
+     * @param include Części do dołączenia: comments, history, team, teams, priorities, statuses (opcjonalne)
+     * @return Szczegóły zadania, status 404, jeśli zadanie nie istnieje, lub 400 dla nieznanej części
+     */
+    @GetMapping(value = "/{id}/details", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> getTaskDetails(@PathVariable Integer id,
+                                            @RequestParam(required = false) List<String> include) {
+        Set<TaskDetailsService.Part> parts;
+        try {
+            parts = TaskDetailsService.Part.parse(include);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        }
+        return taskDetailsService.getTaskDetails(id, parts)
+                .<ResponseEntity<?>>map(details -> {
+                    ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+                    if (details.getTask().getVersion() != null) {
+                        builder.eTag("\"" + details.getTask().getVersion() + "\"");
+                    }
+                    return builder.body(details);
+                })
                 .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
@@ -75,24 +229,85 @@ public class TaskController {
     public ResponseEntity<TaskDTO> createTask(@Valid @RequestBody TaskDTO taskDTO) {
         try {
             TaskDTO savedTask = taskService.saveTask(taskDTO);
-            return new ResponseEntity<>(savedTask, HttpStatus.CREATED);
+            return withVersion(savedTask, HttpStatus.CREATED);
         } catch (Exception e) {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    /**
+     * Tworzy i aktualizuje zadania zbiorczo w jednej transakcji.
+     * Zadania bez ID są tworzone, a zadania z ID aktualizowane. Pozycje z błędami
+     * są pomijane i zwracane w polu {@code errors} wraz z indeksem w przesłanej liście.
+     *
+     * @param taskDTOs Lista zadań do zapisania
+     * @return Wynik zapisu lub status 400, jeśli lista jest pusta
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> saveTasksBulk(@RequestBody List<TaskDTO> taskDTOs) {
+        if (taskDTOs == null || taskDTOs.isEmpty()) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Lista zadań nie może być pusta");
+            return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        }
+        try {
+            TaskBulkResultDTO result = taskService.saveTasksBulk(taskDTOs);
+            return new ResponseEntity<>(result, HttpStatus.OK);
+        } catch (Exception e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Wystąpił błąd podczas zbiorczego zapisu zadań");
+            errorResponse.put("message", e.getMessage());
+            return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Zmienia status wielu zadań naraz, np. zamyka wszystkie zadania etapu budowy.
+     * Przejście do statusu „Zakończone” ustawia datę zakończenia zadaniom, które jej nie mają,
+     * a zmiany są zapisywane w historii zadań. Nieistniejące zadania są zwracane w polu {@code errors}.
+     *
+     * @param transition Zadania, docelowy status i użytkownik zmieniający status
+     * @return Wynik zmiany lub status 400 dla nieprawidłowego żądania
+     */
+    @PostMapping(value = "/bulk/status", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> transitionTasksStatus(@RequestBody TaskStatusTransitionDTO transition) {
+        try {
+            return new ResponseEntity<>(taskStatusTransitionService.transitionStatus(transition), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Wystąpił błąd podczas zbiorczej zmiany statusu zadań");
+            errorResponse.put("message", e.getMessage());
+            return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * Aktualizuje istniejące zadanie.
+     * <p>
+     * Jeśli przekazano nagłówek {@code If-Match}, zmiana jest zapisywana tylko wtedy, gdy zadanie
+     * ma nadal tę wersję; w przeciwnym razie zwracany jest status 412 z bieżącym stanem zadania.
      *
-     * @param id     Identyfikator zadania
+     * @param id      Identyfikator zadania
      * @param taskDTO Zaktualizowane dane zadania
-     * @return Zaktualizowane zadanie lub status 404, jeśli nie istnieje
+     * @param ifMatch Znacznik {@code ETag} wersji, na podstawie której przygotowano zmianę
+     * @return Zaktualizowane zadanie, status 404, jeśli nie istnieje, 412 przy konflikcie wersji
+     * lub 428, gdy wymagany nagłówek {@code If-Match} nie został przekazany
      */
     @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<?> updateTask(@PathVariable Integer id, @Valid @RequestBody TaskDTO taskDTO) {
+    public ResponseEntity<?> updateTask(@PathVariable Integer id, @Valid @RequestBody TaskDTO taskDTO,
+                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ResponseEntity<?> preconditionError = checkIfMatch(ifMatch);
+        if (preconditionError != null) {
+            return preconditionError;
+        }
+        Long expectedVersion = parseIfMatch(ifMatch);
         try {
             return taskService.getTaskById(id)
-                    .map(existingTask -> {
+                    .<ResponseEntity<?>>map(existingTask -> {
                         // Upewniamy się, że ID w DTO jest prawidłowe
                         taskDTO.setId(id);
 
@@ -118,10 +333,14 @@ public class TaskController {
                             taskDTO.setCreatedAt(existingTask.getCreatedAt());
                         }
 
-                        TaskDTO updatedTask = taskService.updateTask(taskDTO);
-                        return new ResponseEntity<>(updatedTask, HttpStatus.OK);
+                        TaskDTO updatedTask = taskService.updateTask(taskDTO, expectedVersion);
+                        return withVersion(updatedTask, HttpStatus.OK);
                     })
                     .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+        } catch (TaskVersionConflictException e) {
+            return withVersion(e.getCurrentTask(), HttpStatus.PRECONDITION_FAILED);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return currentVersionConflict(id);
         } catch (Exception e) {
             Map<String, String> errorResponse = new HashMap<>();
             errorResponse.put("error", "Wystąpił błąd podczas aktualizacji zadania");
@@ -134,88 +353,35 @@ public class TaskController {
      * Częściowo aktualizuje istniejące zadanie.
      * Pozwala na aktualizację tylko wybranych pól zadania bez konieczności przesyłania całego obiektu.
      *
+     * Nagłówek {@code If-Match} działa tak samo jak w {@link #updateTask}.
+     *
      * @param id       Identyfikator zadania
      * @param updates  Mapa zawierająca pary klucz-wartość reprezentujące pola do aktualizacji
-     * @return Zaktualizowane zadanie lub status 404, jeśli nie istnieje
+     * @param ifMatch  Znacznik {@code ETag} wersji, na podstawie której przygotowano zmianę
+     * @return Zaktualizowane zadanie, status 404, jeśli nie istnieje, status 400 dla nieprawidłowych danych,
+     * 412 przy konflikcie wersji lub 428, gdy wymagany nagłówek {@code If-Match} nie został przekazany
      */
     @PatchMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<?> partialUpdateTask(@PathVariable Integer id, @RequestBody Map<String, Object> updates) {
+    public ResponseEntity<?> partialUpdateTask(@PathVariable Integer id, @RequestBody Map<String, Object> updates,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ResponseEntity<?> preconditionError = checkIfMatch(ifMatch);
+        if (preconditionError != null) {
+            return preconditionError;
+        }
         try {
-            return taskService.getTaskById(id)
-                    .map(existingTask -> {
-                        // Tworzymy nowy DTO z istniejącymi danymi
-                        TaskDTO taskToUpdate = new TaskDTO();
-                        taskToUpdate.setId(id);
-                        taskToUpdate.setTitle(existingTask.getTitle());
-                        taskToUpdate.setDescription(existingTask.getDescription());
-                        taskToUpdate.setTeamId(existingTask.getTeamId());
-                        taskToUpdate.setPriorityId(existingTask.getPriorityId());
-                        taskToUpdate.setStatusId(existingTask.getStatusId());
-                        taskToUpdate.setStartDate(existingTask.getStartDate());
-                        taskToUpdate.setDeadline(existingTask.getDeadline());
-                        taskToUpdate.setCompletedDate(existingTask.getCompletedDate());
-                        taskToUpdate.setCreatedById(existingTask.getCreatedById());
-                        taskToUpdate.setCreatedAt(existingTask.getCreatedAt());
-
-                        // Aktualizujemy tylko te pola, które zostały przekazane w żądaniu
-                        for (Map.Entry<String, Object> entry : updates.entrySet()) {
-                            String key = entry.getKey();
-                            Object value = entry.getValue();
-
-                            switch (key) {
-                                case "title":
-                                    taskToUpdate.setTitle((String) value);
-                                    break;
-                                case "description":
-                                    taskToUpdate.setDescription((String) value);
-                                    break;
-                                case "teamId":
-                                    if (value instanceof Integer) {
-                                        taskToUpdate.setTeamId((Integer) value);
-                                    } else if (value instanceof String) {
-                                        taskToUpdate.setTeamId(Integer.parseInt((String) value));
-                                    }
-                                    break;
-                                case "priorityId":
-                                    if (value instanceof Integer) {
-                                        taskToUpdate.setPriorityId((Integer) value);
-                                    } else if (value instanceof String) {
-                                        taskToUpdate.setPriorityId(Integer.parseInt((String) value));
-                                    }
-                                    break;
-                                case "statusId":
-                                    if (value instanceof Integer) {
-                                        taskToUpdate.setStatusId((Integer) value);
-                                    } else if (value instanceof String) {
-                                        taskToUpdate.setStatusId(Integer.parseInt((String) value));
-                                    }
-                                    break;
-                                case "startDate":
-                                    if (value != null) {
-                                        taskToUpdate.setStartDate(LocalDate.parse(value.toString()));
-                                    }
-                                    break;
-                                case "deadline":
-                                    if (value != null) {
-                                        taskToUpdate.setDeadline(LocalDate.parse(value.toString()));
-                                    }
-                                    break;
-                                case "completedDate":
-                                    if (value == null) {
-                                        taskToUpdate.setCompletedDate(null);
-                                    } else {
-                                        taskToUpdate.setCompletedDate(LocalDate.parse(value.toString()));
-                                    }
-                                    break;
-                                // Nie pozwalamy na aktualizację createdById i createdAt
-                            }
-                        }
-
-                        // Zapisujemy zaktualizowane zadanie
-                        TaskDTO updatedTask = taskService.updateTask(taskToUpdate);
-                        return new ResponseEntity<>(updatedTask, HttpStatus.OK);
-                    })
+            return taskService.patchTask(id, updates, parseIfMatch(ifMatch))
+                    .<ResponseEntity<?>>map(updatedTask -> withVersion(updatedTask, HttpStatus.OK))
                     .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+        } catch (TaskVersionConflictException e) {
+            return withVersion(e.getCurrentTask(), HttpStatus.PRECONDITION_FAILED);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return currentVersionConflict(id);
+        } catch (IllegalArgumentException | DataIntegrityViolationException e) {
+            // Invalid field values, or a changed reference pointing to a missing team, priority or status
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Nieprawidłowe dane częściowej aktualizacji zadania");
+            errorResponse.put("message", e.getMessage());
+            return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             Map<String, String> errorResponse = new HashMap<>();
             errorResponse.put("error", "Wystąpił błąd podczas częściowej aktualizacji zadania");
@@ -224,6 +390,69 @@ public class TaskController {
         }
     }
 
+    /**
+     * Sprawdza, czy nagłówek {@code If-Match} jest obecny (gdy jest wymagany) i poprawny.
+     *
+     * @return Odpowiedź z błędem lub {@code null}, jeśli nagłówek jest w porządku
+     */
+    private ResponseEntity<?> checkIfMatch(String ifMatch) {
+        Map<String, String> errorResponse = new HashMap<>();
+        if (ifMatch == null || ifMatch.isBlank()) {
+            if (!requireIfMatch) {
+                return null;
+            }
+            errorResponse.put("error", "Wymagany jest nagłówek If-Match z wersją zadania");
+            return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_REQUIRED);
+        }
+        try {
+            parseIfMatch(ifMatch);
+            return null;
+        } catch (IllegalArgumentException e) {
+            errorResponse.put("error", "Nieprawidłowy nagłówek If-Match");
+            errorResponse.put("message", e.getMessage());
+            return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Odczytuje wersję zadania z nagłówka {@code If-Match}, np. {@code "3"}.
+     *
+     * @return Oczekiwana wersja lub {@code null} dla braku nagłówka albo {@code *}
+     * @throws IllegalArgumentException gdy nagłówek nie zawiera pojedynczego silnego znacznika wersji
+     */
+    private Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        // Weak tags must not be used for If-Match, and a version tag is always a quoted number
+        if (value.length() < 3 || !value.startsWith("\"") || !value.endsWith("\"")) {
+            throw new IllegalArgumentException("Oczekiwano znacznika w postaci \"<wersja>\": " + ifMatch);
+        }
+        try {
+            return Long.parseLong(value.substring(1, value.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Oczekiwano znacznika w postaci \"<wersja>\": " + ifMatch, e);
+        }
+    }
+
+    /**
+     * Odpowiedź 412 z bieżącym stanem zadania, gdy inna zmiana została zapisana w trakcie aktualizacji.
+     */
+    private ResponseEntity<?> currentVersionConflict(Integer id) {
+        return taskService.getTaskById(id)
+                .<ResponseEntity<?>>map(task -> withVersion(task, HttpStatus.PRECONDITION_FAILED))
+                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    private ResponseEntity<TaskDTO> withVersion(TaskDTO task, HttpStatus status) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(status);
+        if (task.getVersion() != null) {
+            builder.eTag("\"" + task.getVersion() + "\"");
+        }
+        return builder.body(task);
+    }
+
     /**
      * Usuwa zadanie na podstawie jego identyfikatora.
      *
@@ -242,14 +471,28 @@ public class TaskController {
 
     /**
      * Pobiera zadania dla konkretnego zespołu na podstawie ID zespołu.
+     * Odpowiedź zawiera słaby znacznik {@code ETag} wersji listy zadań zespołu.
      *
-     * @param teamId ID zespołu
-     * @return Lista zadań przypisanych do zespołu
+     * @param teamId      ID zespołu
+     * @param ifNoneMatch Znacznik wersji posiadanej przez klienta
+     * @return Lista zadań przypisanych do zespołu lub status 304, jeśli lista się nie zmieniła
      */
     @GetMapping(value = "/team/{teamId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<TaskDTO>> getTasksByTeamId(@PathVariable Integer teamId) {
+    public ResponseEntity<List<TaskDTO>> getTasksByTeamId(@PathVariable Integer teamId,
+                                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = taskVersionTracker.teamETag(teamId);
+        if (TaskVersionTracker.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
         List<TaskDTO> tasks = taskService.getTasksByTeamId(teamId);
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(tasks);
     }
 
     /**
@@ -277,7 +520,8 @@ public class TaskController {
     }
 
     /**
-     * Pobiera zadanie na podstawie tytułu.
+     * Pobiera zadanie na podstawie tytułu. Jeśli kilka zadań ma ten sam tytuł, zwracane jest
+     * zadanie o najmniejszym ID.
      *
      * @param title Tytuł zadania
      * @return Zadanie lub status 404, jeśli nie istnieje
@@ -289,6 +533,29 @@ public class TaskController {
                 .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
+    /**
+     * Pobiera stronę zadań, których tytuł zaczyna się od podanego prefiksu, bez względu na wielkość
+     * liter i znaki diakrytyczne, posortowaną alfabetycznie - np. dla podpowiedzi przy wpisywaniu tytułu.
+     * Odpowiedź nie zawiera liczby wszystkich wyników; pole {@code hasNext} informuje o kolejnej stronie.
+     *
+     * @param prefix Początek tytułu
+     * @param page   Numer strony, liczony od zera
+     * @param size   Rozmiar strony, maksymalnie {@link TaskService#MAX_TITLE_PREFIX_PAGE_SIZE}
+     * @return Strona zadań lub status 400 dla pustego prefiksu i nieprawidłowej strony
+     */
+    @GetMapping(value = "/titles", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> findTasksByTitlePrefix(@RequestParam(required = false) String prefix,
+                                                    @RequestParam(defaultValue = "0") int page,
+                                                    @RequestParam(required = false) Integer size) {
+        try {
+            return new ResponseEntity<>(taskService.findTasksByTitlePrefix(prefix, page, size), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+        }
+    }
+
     /**
      * Pobiera zadania z terminem wykonania przed podaną datą.
      *
@@ -305,4 +572,47 @@ public class TaskController {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Pobiera zestawienie zadań dla panelu głównego: liczby zadań według statusu, priorytetu i zespołu,
+     * liczbę zadań po terminie i z terminem w bieżącym tygodniu. Zestawienie jest wyznaczane kilkoma
+     * zapytaniami {@code GROUP BY} i krótko przechowywane w pamięci do najbliższej zmiany zadań.
+     *
+     * @param userId ID użytkownika, aby ograniczyć zestawienie do jego zespołów (opcjonalne)
+     * @return Zestawienie zadań lub status 404, jeśli użytkownik nie istnieje
+     */
+    @GetMapping(value = "/dashboard", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskDashboardDTO> getDashboard(@RequestParam(required = false) Integer userId) {
+        if (userId == null) {
+            return new ResponseEntity<>(taskDashboardService.getDashboard(), HttpStatus.OK);
+        }
+        return taskDashboardService.getDashboardForUser(userId)
+                .map(dashboard -> new ResponseEntity<>(dashboard, HttpStatus.OK))
+                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Pobiera niezakończone zadania, których termin minął, posortowane od najdawniej przekroczonego terminu.
+     * Lista jest utrzymywana przez cykliczne przeszukiwanie terminów, więc zadanie pojawia się na niej
+     * z opóźnieniem nie większym niż odstęp między przeszukiwaniami.
+     *
+     * @return Lista zadań po terminie
+     */
+    @GetMapping(value = "/overdue", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<TaskDTO>> getOverdueTasks() {
+        List<TaskDTO> tasks = taskService.getOverdueTasks();
+        return new ResponseEntity<>(tasks, HttpStatus.OK);
+    }
+
+    /**
+     * Pobiera zadania zespołu po terminie.
+     *
+     * @param teamId ID zespołu
+     * @return Lista zadań zespołu po terminie
+     */
+    @GetMapping(value = "/team/{teamId}/overdue", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<TaskDTO>> getOverdueTasksByTeamId(@PathVariable Integer teamId) {
+        List<TaskDTO> tasks = taskService.getOverdueTasksByTeamId(teamId);
+        return new ResponseEntity<>(tasks, HttpStatus.OK);
+    }
+}
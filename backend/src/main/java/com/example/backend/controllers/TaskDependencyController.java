@@ -0,0 +1,114 @@
+package com.example.backend.controllers;
+
+import com.example.backend.dto.TaskDependencyDTO;
+import com.example.backend.dto.TeamScheduleDTO;
+import com.example.backend.exceptions.TaskDependencyCycleException;
+import com.example.backend.services.TaskDependencyService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Kontroler REST dla zależności między zadaniami i harmonogramu zespołu.
+ * <p>
+ * Harmonogram (najwcześniejsze i najpóźniejsze terminy, zapas i ścieżka krytyczna) jest wyznaczany
+ * z grafu zależności przechowywanego w pamięci i przeliczany przyrostowo po każdej zmianie.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/database/task-dependencies")
+public class TaskDependencyController {
+
+    private final TaskDependencyService taskDependencyService;
+
+    /**
+     * Konstruktor wstrzykujący zależności.
+     *
+     * @param taskDependencyService Serwis zależności zadań
+     */
+    @Autowired
+    public TaskDependencyController(TaskDependencyService taskDependencyService) {
+        this.taskDependencyService = taskDependencyService;
+    }
+
+    /**
+     * Pobiera zależności między zadaniami zespołu.
+     *
+     * @param teamId ID zespołu
+     * @return Lista zależności
+     */
+    @GetMapping(value = "/team/{teamId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<TaskDependencyDTO>> getTeamDependencies(@PathVariable Integer teamId) {
+        return new ResponseEntity<>(taskDependencyService.getTeamDependencies(teamId), HttpStatus.OK);
+    }
+
+    /**
+     * Pobiera zależności, w których zadanie jest poprzednikiem lub następnikiem.
+     *
+     * @param taskId ID zadania
+     * @return Lista zależności
+     */
+    @GetMapping(value = "/task/{taskId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<TaskDependencyDTO>> getTaskDependencies(@PathVariable Integer taskId) {
+        return new ResponseEntity<>(taskDependencyService.getTaskDependencies(taskId), HttpStatus.OK);
+    }
+
+    /**
+     * Pobiera harmonogram zadań zespołu wraz ze ścieżką krytyczną.
+     *
+     * @param teamId ID zespołu
+     * @return Harmonogram lub status 404, jeśli zespół nie istnieje
+     */
+    @GetMapping(value = "/team/{teamId}/schedule", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TeamScheduleDTO> getTeamSchedule(@PathVariable Integer teamId) {
+        return taskDependencyService.getTeamSchedule(teamId)
+                .map(schedule -> new ResponseEntity<>(schedule, HttpStatus.OK))
+                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Dodaje zależność "zakończ, aby rozpocząć" między zadaniami tego samego zespołu.
+     *
+     * @param dependencyDTO Zadanie poprzedzające i następujące
+     * @return Zapisana zależność, status 400 dla nieprawidłowych danych lub 409, jeśli zależność utworzyłaby cykl
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> addDependency(@Valid @RequestBody TaskDependencyDTO dependencyDTO) {
+        try {
+            TaskDependencyDTO saved = taskDependencyService.addDependency(dependencyDTO);
+            return new ResponseEntity<>(saved, HttpStatus.CREATED);
+        } catch (TaskDependencyCycleException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Zależność utworzyłaby cykl");
+            errorResponse.put("message", e.getMessage());
+            return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Nieprawidłowa zależność między zadaniami");
+            errorResponse.put("message", e.getMessage());
+            return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Usuwa zależność.
+     *
+     * @param id ID zależności
+     * @return Status 204 po usunięciu lub 404, jeśli zależność nie istnieje
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteDependency(@PathVariable Integer id) {
+        return taskDependencyService.deleteDependency(id)
+                ? new ResponseEntity<>(HttpStatus.NO_CONTENT)
+                : new ResponseEntity<>(HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.backend.controllers;
+
+import com.example.backend.services.TaskExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Kontroler REST eksportu zadań.
+ * <p>
+ * Eksport zwraca wszystkie zadania w formacie NDJSON ({@code application/x-ndjson}), po jednym
+ * obiekcie JSON w wierszu. Odpowiedź jest zapisywana strumieniowo w trakcie odczytu z bazy,
+ * bez budowania pełnej listy zadań w pamięci.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/database/tasks")
+public class TaskExportController {
+
+    /**
+     * Typ MIME formatu NDJSON.
+     */
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final TaskExportService taskExportService;
+
+    @Autowired
+    public TaskExportController(TaskExportService taskExportService) {
+        this.taskExportService = taskExportService;
+    }
+
+    /**
+     * Eksportuje wszystkie zadania, posortowane po ID, w formacie NDJSON.
+     *
+     * @return Strumień zadań w formacie NDJSON
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        StreamingResponseBody body = taskExportService::exportTasks;
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.ndjson\"")
+                .body(body);
+    }
+}
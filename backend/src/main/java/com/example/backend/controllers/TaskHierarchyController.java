@@ -0,0 +1,102 @@
+package com.example.backend.controllers;
+
+import com.example.backend.dto.TaskDTO;
+import com.example.backend.dto.TaskParentDTO;
+import com.example.backend.dto.TaskProgressDTO;
+import com.example.backend.services.TaskHierarchyService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Kontroler REST dla hierarchii zadań i podzadań.
+ * <p>
+ * Postęp zadania nadrzędnego jest agregowany z podzadań przy ich zapisie, więc jego odczyt
+ * nie przegląda hierarchii.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/database/tasks")
+public class TaskHierarchyController {
+
+    private final TaskHierarchyService taskHierarchyService;
+
+    /**
+     * Konstruktor wstrzykujący zależności.
+     *
+     * @param taskHierarchyService Serwis hierarchii zadań
+     */
+    @Autowired
+    public TaskHierarchyController(TaskHierarchyService taskHierarchyService) {
+        this.taskHierarchyService = taskHierarchyService;
+    }
+
+    /**
+     * Pobiera bezpośrednie podzadania zadania.
+     *
+     * @param id ID zadania
+     * @return Lista podzadań lub status 404, jeśli zadanie nie istnieje
+     */
+    @GetMapping(value = "/{id}/subtasks", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<TaskDTO>> getSubtasks(@PathVariable Integer id) {
+        return taskHierarchyService.getSubtasks(id)
+                .map(subtasks -> new ResponseEntity<>(subtasks, HttpStatus.OK))
+                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Pobiera wszystkie podzadania zadania na dowolnym poziomie, w kolejności przejścia drzewa w głąb.
+     *
+     * @param id ID zadania
+     * @return Lista potomków lub status 404, jeśli zadanie nie istnieje
+     */
+    @GetMapping(value = "/{id}/subtree", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<TaskDTO>> getSubtree(@PathVariable Integer id) {
+        return taskHierarchyService.getSubtree(id)
+                .map(subtree -> new ResponseEntity<>(subtree, HttpStatus.OK))
+                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Pobiera postęp zadania zagregowany z podzadań.
+     *
+     * @param id ID zadania
+     * @return Postęp zadania lub status 404, jeśli zadanie nie istnieje
+     */
+    @GetMapping(value = "/{id}/progress", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskProgressDTO> getProgress(@PathVariable Integer id) {
+        return taskHierarchyService.getProgress(id)
+                .map(progress -> new ResponseEntity<>(progress, HttpStatus.OK))
+                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Ustawia zadanie nadrzędne; zadanie jest przenoszone razem z podzadaniami.
+     *
+     * @param id        ID zadania
+     * @param parentDTO ID nowego zadania nadrzędnego ({@code null} odłącza zadanie od rodzica)
+     * @return Zaktualizowane zadanie, status 404, jeśli zadanie nie istnieje, lub 400 dla nieprawidłowego rodzica
+     */
+    @PutMapping(value = "/{id}/parent", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> setParent(@PathVariable Integer id, @RequestBody TaskParentDTO parentDTO) {
+        try {
+            return taskHierarchyService.setParent(id, parentDTO.getParentTaskId())
+                    .<ResponseEntity<?>>map(task -> new ResponseEntity<>(task, HttpStatus.OK))
+                    .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Nieprawidłowe zadanie nadrzędne");
+            errorResponse.put("message", e.getMessage());
+            return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.backend.controllers;
+
+import com.example.backend.dto.TaskSearchResultDTO;
+import com.example.backend.search.TaskSearchIndex;
+import com.example.backend.services.TaskService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kontroler REST wyszukiwania pełnotekstowego zadań.
+ * <p>
+ * Wyszukiwanie korzysta wyłącznie z indeksu w pamięci ({@link TaskSearchIndex}) i nie wykonuje
+ * zapytań do bazy danych.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/database/tasks")
+public class TaskSearchController {
+
+    /**
+     * Domyślna liczba wyników na stronie.
+     */
+    public static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+
+    private final TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    public TaskSearchController(TaskSearchIndex taskSearchIndex) {
+        this.taskSearchIndex = taskSearchIndex;
+    }
+
+    /**
+     * Wyszukuje zadania po tytule i opisie, zwracając wyniki posortowane według trafności.
+     *
+     * @param q    Zapytanie
+     * @param page Numer strony, liczony od zera
+     * @param size Rozmiar strony, maksymalnie {@link TaskService#MAX_PAGE_SIZE}
+     * @return Strona wyników lub status 400 dla pustego zapytania i nieprawidłowej strony
+     */
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> searchTasks(@RequestParam(required = false) String q,
+                                         @RequestParam(defaultValue = "0") int page,
+                                         @RequestParam(defaultValue = "" + DEFAULT_SEARCH_PAGE_SIZE) int size) {
+        if (q == null || q.isBlank()) {
+            return badRequest("Zapytanie nie może być puste");
+        }
+        if (page < 0 || size <= 0) {
+            return badRequest("Nieprawidłowy numer lub rozmiar strony");
+        }
+
+        TaskSearchResultDTO result = taskSearchIndex.search(q, page, Math.min(size, TaskService.MAX_PAGE_SIZE));
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
+    private ResponseEntity<Map<String, String>> badRequest(String message) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", message);
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+}
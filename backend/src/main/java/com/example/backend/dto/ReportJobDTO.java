@@ -0,0 +1,45 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Klasa DTO (Data Transfer Object) dla zlecenia wygenerowania raportu.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobDTO {
+
+    private Integer id;
+
+    private String type;
+
+    private String parameters;
+
+    private String status;
+
+    private Integer requestedById;
+
+    private Integer reportId;
+
+    private String workerId;
+
+    private Integer attempts;
+
+    private String errorMessage;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime claimedAt;
+
+    private LocalDateTime heartbeatAt;
+
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,46 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Klasa DTO (Data Transfer Object) z wynikiem zbiorczego zapisu zadań.
+ * <p>
+ * Zawiera zapisane zadania (utworzone i zaktualizowane) oraz listę błędów dla pozycji,
+ * których nie udało się zapisać. Indeks błędu odpowiada pozycji zadania w przesłanej tablicy.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkResultDTO {
+
+    private int createdCount;
+
+    private int updatedCount;
+
+    private List<TaskDTO> tasks = new ArrayList<>();
+
+    private List<ItemError> errors = new ArrayList<>();
+
+    /**
+     * Błąd zapisu pojedynczej pozycji.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemError {
+
+        private int index;
+
+        private Integer id;
+
+        private String message;
+    }
+}
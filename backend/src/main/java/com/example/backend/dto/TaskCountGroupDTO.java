@@ -0,0 +1,25 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Klasa DTO (Data Transfer Object) z liczbą zadań o danym zespole, statusie i priorytecie
+ * (wiersz zapytania {@code GROUP BY} dla panelu zadań).
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCountGroupDTO {
+
+    private Integer teamId;
+    private Integer statusId;
+    private Integer priorityId;
+    private long count;
+    private long overdueCount;
+    private long dueThisWeekCount;
+}
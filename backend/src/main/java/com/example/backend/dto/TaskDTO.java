@@ -32,6 +32,11 @@ public class TaskDTO {
 
     private String description;
 
+    /**
+     * ID zadania nadrzędnego; zmieniane wyłącznie przez API hierarchii zadań.
+     */
+    private Integer parentTaskId;
+
     private Integer teamId;
 
     @NotNull(message = "Priorytet zadania jest wymagany")
@@ -52,4 +57,9 @@ public class TaskDTO {
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
+
+    /**
+     * Wersja zadania; ta sama wartość jest zwracana w nagłówku {@code ETag}.
+     */
+    private Long version;
 }
\ No newline at end of file
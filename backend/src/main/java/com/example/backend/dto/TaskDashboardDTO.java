@@ -0,0 +1,68 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Klasa DTO (Data Transfer Object) z zestawieniem zadań dla panelu głównego.
+ * <p>
+ * Zadanie po terminie to niezakończone zadanie z terminem przed dniem {@code date}; zadanie z terminem
+ * w tym tygodniu to niezakończone zadanie z terminem od {@code date} do {@code weekEnd} (niedziela).
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDashboardDTO {
+
+    private LocalDate date;
+
+    private LocalDate weekEnd;
+
+    private long totalCount;
+
+    private long overdueCount;
+
+    private long dueThisWeekCount;
+
+    private List<GroupCount> byStatus = new ArrayList<>();
+
+    private List<GroupCount> byPriority = new ArrayList<>();
+
+    /**
+     * Liczby zadań zespołów; zadania bez zespołu mają pozycję z {@code id = null}.
+     */
+    private List<GroupCount> byTeam = new ArrayList<>();
+
+    /**
+     * Moment wyznaczenia liczb (zestawienie może pochodzić z pamięci podręcznej).
+     */
+    private LocalDateTime generatedAt;
+
+    /**
+     * Liczby zadań jednej grupy (statusu, priorytetu lub zespołu).
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GroupCount {
+
+        private Integer id;
+
+        private String name;
+
+        private long count;
+
+        private long overdueCount;
+
+        private long dueThisWeekCount;
+    }
+}
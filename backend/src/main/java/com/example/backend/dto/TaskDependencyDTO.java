@@ -0,0 +1,32 @@
+package com.example.backend.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Klasa DTO (Data Transfer Object) dla zależności "zakończ, aby rozpocząć" między zadaniami.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDependencyDTO {
+
+    private Integer id;
+
+    /**
+     * ID zadania, które musi zostać zakończone jako pierwsze.
+     */
+    @NotNull(message = "Zadanie poprzedzające jest wymagane")
+    private Integer predecessorId;
+
+    /**
+     * ID zadania, które rozpoczyna się po zakończeniu poprzednika.
+     */
+    @NotNull(message = "Zadanie następujące jest wymagane")
+    private Integer successorId;
+}
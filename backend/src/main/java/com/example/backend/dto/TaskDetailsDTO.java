@@ -0,0 +1,38 @@
+package com.example.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Klasa DTO (Data Transfer Object) ze szczegółami zadania do widoku zadania i formularza edycji.
+ * <p>
+ * Oprócz zadania zawiera tylko części wskazane w parametrze {@code include}; pominięte części
+ * nie występują w odpowiedzi. Pole {@code team} jest puste także dla zadania bez zespołu.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskDetailsDTO {
+
+    private TaskDTO task;
+
+    private List<TaskCommentDTO> comments;
+
+    private List<TaskHistoryDTO> history;
+
+    private TeamDTO team;
+
+    private List<TeamDTO> teams;
+
+    private List<PriorityDTO> priorities;
+
+    private List<TaskStatusDTO> statuses;
+}
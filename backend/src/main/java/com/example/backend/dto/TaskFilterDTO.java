@@ -0,0 +1,50 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Klasa DTO (Data Transfer Object) z kryteriami filtrowania zadań.
+ * <p>
+ * Wszystkie pola są opcjonalne; pominięte kryteria nie ograniczają wyniku, a podane
+ * kryteria są łączone koniunkcją.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilterDTO {
+
+    private Integer teamId;
+
+    private Integer statusId;
+
+    private Integer priorityId;
+
+    /**
+     * Najwcześniejszy termin zadania (włącznie).
+     */
+    private LocalDate deadlineFrom;
+
+    /**
+     * Najpóźniejszy termin zadania (włącznie).
+     */
+    private LocalDate deadlineTo;
+
+    /**
+     * Fraza wyszukiwana w tytule i opisie zadania, bez rozróżniania wielkości liter.
+     */
+    private String query;
+
+    /**
+     * Zespoły, do których może należeć zadanie (np. zespoły zalogowanego użytkownika);
+     * {@code null} lub pusta lista nie ogranicza wyniku.
+     */
+    private List<Integer> teamIds;
+}
@@ -0,0 +1,32 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Klasa DTO (Data Transfer Object) dla jednej strony przefiltrowanej listy zadań.
+ * <p>
+ * Strony są numerowane od zera; {@code totalElements} i {@code totalPages} opisują
+ * cały wynik filtrowania.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilterPageDTO {
+
+    private List<TaskDTO> items;
+
+    private int page;
+
+    private int size;
+
+    private long totalElements;
+
+    private int totalPages;
+}
@@ -0,0 +1,29 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Klasa DTO (Data Transfer Object) dla jednej strony listy zadań.
+ * <p>
+ * Strony są wyznaczane kursorem: pole {@code next} zawiera nieprzezroczysty kursor, który należy
+ * przekazać w parametrze {@code cursor}, aby pobrać następną stronę. Wartość {@code null}
+ * oznacza, że jest to ostatnia strona.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageDTO {
+
+    private List<TaskDTO> items;
+
+    private String next;
+
+    private Integer limit;
+}
@@ -0,0 +1,21 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Klasa DTO (Data Transfer Object) dla zmiany zadania nadrzędnego.
+ * <p>
+ * Wartość {@code null} odłącza zadanie od rodzica.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskParentDTO {
+
+    private Integer parentTaskId;
+}
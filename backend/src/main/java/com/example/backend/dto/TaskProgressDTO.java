@@ -0,0 +1,88 @@
+package com.example.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Klasa DTO (Data Transfer Object) dla postępu zadania zagregowanego z jego podzadań.
+ * <p>
+ * Liczby podzadań obejmują wszystkich potomków zadania. Postęp zadania z podzadaniami to średni
+ * postęp podzadań; dla zadania bez podzadań jest to postęp wynikający z jego statusu.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskProgressDTO {
+
+    private Integer taskId;
+
+    /**
+     * Ścieżka zadania w hierarchii, np. {@code /1/5/9/}.
+     */
+    @JsonIgnore
+    private String path;
+
+    /**
+     * Głębokość zadania w hierarchii (0 dla zadania bez rodzica).
+     */
+    private int depth;
+
+    /**
+     * Postęp samego zadania w procentach, wyznaczony z jego statusu.
+     */
+    private int progress;
+
+    private boolean completed;
+
+    /**
+     * Czy zadanie jest opóźnione (termin minął przed zakończeniem).
+     */
+    private boolean late;
+
+    private int subtaskCount;
+
+    private int completedSubtasks;
+
+    private int lateSubtasks;
+
+    /**
+     * Suma postępu wszystkich podzadań w procentach.
+     */
+    @JsonIgnore
+    private long subtaskProgress;
+
+    /**
+     * Zwraca postęp zadania w procentach, zagregowany z podzadań.
+     *
+     * @return Średni postęp podzadań lub postęp samego zadania, jeśli nie ma podzadań
+     */
+    public int getCompletionPercentage() {
+        return subtaskCount > 0 ? (int) Math.round((double) subtaskProgress / subtaskCount) : progress;
+    }
+
+    /**
+     * Zwraca identyfikatory przodków zadania, od korzenia hierarchii do bezpośredniego rodzica.
+     *
+     * @return Lista ID przodków
+     */
+    public List<Integer> getAncestorIds() {
+        List<Integer> ids = new ArrayList<>(depth);
+        if (path == null) {
+            return ids;
+        }
+        String[] segments = path.split("/");
+        // The path starts with '/' and ends with the task's own id
+        for (int i = 1; i < segments.length - 1; i++) {
+            ids.add(Integer.valueOf(segments[i]));
+        }
+        return ids;
+    }
+}
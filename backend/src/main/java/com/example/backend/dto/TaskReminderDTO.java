@@ -0,0 +1,22 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Klasa DTO (Data Transfer Object) dla przypomnienia o zbliżającym się terminie zadania.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskReminderDTO {
+
+    private Integer taskId;
+    private LocalDate deadline;
+}
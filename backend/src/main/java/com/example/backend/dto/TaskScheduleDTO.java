@@ -0,0 +1,47 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Klasa DTO (Data Transfer Object) dla harmonogramu pojedynczego zadania wyznaczonego
+ * metodą ścieżki krytycznej.
+ * <p>
+ * Daty zakończenia oznaczają ostatni dzień pracy nad zadaniem.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskScheduleDTO {
+
+    private Integer taskId;
+
+    /**
+     * Czas trwania zadania w dniach.
+     */
+    private int durationDays;
+
+    private LocalDate earliestStart;
+
+    private LocalDate earliestFinish;
+
+    private LocalDate latestStart;
+
+    private LocalDate latestFinish;
+
+    /**
+     * Zapas w dniach - o tyle można opóźnić zadanie bez przesunięcia końca prac zespołu.
+     */
+    private long slackDays;
+
+    /**
+     * Czy zadanie leży na ścieżce krytycznej (brak zapasu).
+     */
+    private boolean critical;
+}
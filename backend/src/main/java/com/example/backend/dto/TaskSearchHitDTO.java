@@ -0,0 +1,24 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Klasa DTO (Data Transfer Object) dla pojedynczego wyniku wyszukiwania zadań.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchHitDTO {
+
+    private TaskDTO task;
+
+    /**
+     * Trafność wyniku (BM25); wyższa wartość oznacza lepsze dopasowanie.
+     */
+    private double score;
+}
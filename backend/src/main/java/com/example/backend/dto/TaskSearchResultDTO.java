@@ -0,0 +1,29 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Klasa DTO (Data Transfer Object) dla jednej strony wyników wyszukiwania zadań.
+ * <p>
+ * Wyniki są posortowane malejąco według trafności; strony są numerowane od zera.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResultDTO {
+
+    private List<TaskSearchHitDTO> hits;
+
+    private long totalHits;
+
+    private int page;
+
+    private int size;
+}
@@ -0,0 +1,30 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Klasa DTO (Data Transfer Object) dla jednej strony zadań bez liczby wszystkich wyników.
+ * <p>
+ * Strony są numerowane od zera; {@code hasNext} informuje, czy istnieje kolejna strona.
+ * Używana tam, gdzie zliczanie wszystkich wyników byłoby zbyt kosztowne, np. przy podpowiedziach tytułów.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSliceDTO {
+
+    private List<TaskDTO> items;
+
+    private int page;
+
+    private int size;
+
+    private boolean hasNext;
+}
@@ -0,0 +1,39 @@
+package com.example.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Klasa DTO (Data Transfer Object) dla zbiorczej zmiany statusu zadań.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusTransitionDTO {
+
+    /**
+     * ID zadań, którym zmieniany jest status.
+     */
+    @NotEmpty(message = "Lista zadań nie może być pusta")
+    private List<Integer> taskIds;
+
+    /**
+     * ID docelowego statusu.
+     */
+    @NotNull(message = "Status zadania jest wymagany")
+    private Integer statusId;
+
+    /**
+     * ID użytkownika, który zmienia status (zapisywane w historii zmian).
+     */
+    @NotNull(message = "Informacja o użytkowniku zmieniającym status jest wymagana")
+    private Integer changedById;
+}
@@ -16,4 +16,19 @@ public class TeamDTO {
     private Integer managerId;
     
     private Boolean isActive = true;
+
+    /**
+     * Liczba niezakończonych zadań zespołu (tylko do odczytu).
+     */
+    private Integer openTaskCount;
+
+    /**
+     * Liczba zakończonych zadań zespołu (tylko do odczytu).
+     */
+    private Integer completedTaskCount;
+
+    /**
+     * Liczba zadań zespołu po terminie (tylko do odczytu).
+     */
+    private Integer overdueTaskCount;
 }
\ No newline at end of file
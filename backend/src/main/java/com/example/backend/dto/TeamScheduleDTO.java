@@ -0,0 +1,40 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Klasa DTO (Data Transfer Object) dla harmonogramu zadań zespołu wyznaczonego
+ * na podstawie zależności między zadaniami.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamScheduleDTO {
+
+    private Integer teamId;
+
+    private LocalDate projectStart;
+
+    /**
+     * Ostatni dzień prac zespołu przy najwcześniejszym możliwym wykonaniu zadań.
+     */
+    private LocalDate projectFinish;
+
+    /**
+     * ID zadań ścieżki krytycznej w kolejności wykonania.
+     */
+    private List<Integer> criticalPath;
+
+    /**
+     * Harmonogram zadań w kolejności topologicznej.
+     */
+    private List<TaskScheduleDTO> tasks;
+}
@@ -0,0 +1,23 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Klasa DTO (Data Transfer Object) z liczbami zadań zespołu wyliczonymi bezpośrednio z tabel zadań
+ * (uzupełnianie i naprawa liczników {@code team_task_counters}).
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamTaskCountsDTO {
+
+    private Integer teamId;
+    private long openCount;
+    private long completedCount;
+    private long overdueCount;
+}
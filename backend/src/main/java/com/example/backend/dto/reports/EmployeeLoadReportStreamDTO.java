@@ -0,0 +1,20 @@
+package com.example.backend.dto.reports;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Iterator;
+
+/**
+ * Dane raportu obciążenia pracowników w trybie strumieniowym.
+ * Pozycje są wyliczane leniwie przy kolejnych wywołaniach iteratora i mogą zostać przetworzone tylko raz.
+ */
+@Getter
+@Setter
+public class EmployeeLoadReportStreamDTO {
+    private Iterator<EmployeeLoadItemDTO> items;
+    private String dateFrom;
+    private String dateTo;
+    private Integer workingDays;
+    private Integer employeeCount;
+}
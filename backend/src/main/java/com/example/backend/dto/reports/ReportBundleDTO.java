@@ -0,0 +1,20 @@
+package com.example.backend.dto.reports;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * Pakiet raportów dla kierownictwa: postęp budowy każdego zespołu, obciążenie pracowników
+ * oraz efektywność zespołów za ten sam okres, wyliczone ze wspólnego odczytu danych.
+ */
+@Getter
+@Setter
+public class ReportBundleDTO {
+    private String dateFrom;
+    private String dateTo;
+    private Map<Integer, ConstructionProgressReportDTO> constructionProgressByTeam; // Klucz: ID zespołu
+    private EmployeeLoadReportDTO employeeLoad;
+    private TeamEfficiencyReportDTO teamEfficiency;
+}
@@ -0,0 +1,14 @@
+package com.example.backend.dto.reports;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ReportJobRequestDTO {
+    private String type; // construction-progress, employee-load lub team-efficiency
+    private String dateFrom;
+    private String dateTo;
+    private Integer targetId; // Team ID or Employee ID depending on report type
+    private Integer userId; // Użytkownik zlecający raport
+}
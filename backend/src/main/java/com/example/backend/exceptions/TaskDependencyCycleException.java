@@ -0,0 +1,22 @@
+package com.example.backend.exceptions;
+
+/**
+ * Wyjątek zgłaszany, gdy dodanie zależności między zadaniami utworzyłoby cykl,
+ * czyli zadanie musiałoby pośrednio poprzedzać samo siebie.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TaskDependencyCycleException extends RuntimeException {
+
+    /**
+     * Konstruktor z identyfikatorami zadań odrzuconej zależności.
+     *
+     * @param predecessorId ID zadania poprzedzającego
+     * @param successorId   ID zadania następującego
+     */
+    public TaskDependencyCycleException(Integer predecessorId, Integer successorId) {
+        super("Zależność " + predecessorId + " -> " + successorId + " utworzyłaby cykl: zadanie "
+                + successorId + " już poprzedza zadanie " + predecessorId);
+    }
+}
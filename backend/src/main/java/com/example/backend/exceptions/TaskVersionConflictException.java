@@ -0,0 +1,33 @@
+package com.example.backend.exceptions;
+
+import com.example.backend.dto.TaskDTO;
+
+/**
+ * Wyjątek zgłaszany, gdy zmiana zadania została przygotowana na podstawie nieaktualnej wersji.
+ * <p>
+ * Zawiera bieżący stan zadania, który jest zwracany klientowi razem ze statusem 412,
+ * aby mógł ponowić zmianę na aktualnych danych.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TaskVersionConflictException extends RuntimeException {
+
+    private final TaskDTO currentTask;
+
+    /**
+     * Konstruktor z bieżącym stanem zadania.
+     *
+     * @param expectedVersion wersja, na podstawie której przygotowano zmianę
+     * @param currentTask     bieżący stan zadania
+     */
+    public TaskVersionConflictException(Long expectedVersion, TaskDTO currentTask) {
+        super("Zadanie " + currentTask.getId() + " zostało zmienione (oczekiwana wersja " + expectedVersion
+                + ", bieżąca " + currentTask.getVersion() + ")");
+        this.currentTask = currentTask;
+    }
+
+    public TaskDTO getCurrentTask() {
+        return currentTask;
+    }
+}
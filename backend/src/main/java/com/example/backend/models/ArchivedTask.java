@@ -0,0 +1,155 @@
+package com.example.backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Zarchiwizowane zadanie - zadanie zakończone przed granicą archiwizacji, przeniesione z tabeli {@code tasks}
+ * przez {@code TaskArchiveService} razem z komentarzami ({@link ArchivedTaskComment})
+ * i historią zmian ({@link ArchivedTaskHistory}).
+ * <p>
+ * Zadanie zachowuje swoje ID i wartości kolumn z chwili archiwizacji. Zwykłe zapytania o zadania
+ * korzystają wyłącznie z tabeli {@code tasks}; archiwum jest dołączane jawnie, np. przez raporty
+ * obejmujące okres, z którego zadania zostały już zarchiwizowane.
+ * <p>
+ * Klasa jest encją bazy danych i odpowiada tabeli {@code archived_tasks}.
+ *
+ * <p>Używa adnotacji Lombok {@code @Getter} i {@code @Setter} do automatycznego generowania metod dostępnych.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "archived_tasks", indexes = {
+        @Index(name = "idx_archived_tasks_completed", columnList = "completed_date"),
+        @Index(name = "idx_archived_tasks_team_completed", columnList = "team_id, completed_date")
+})
+public class ArchivedTask {
+
+    /**
+     * ID zadania, takie samo jak przed archiwizacją.
+     */
+    @Id
+    @Column(name = "id", nullable = false)
+    private Integer id;
+
+    /**
+     * Tytuł zadania.
+     */
+    @Column(name = "title", nullable = false, length = 100)
+    private String title;
+
+    /**
+     * Opis zadania.
+     */
+    @Column(name = "description")
+    private String description;
+
+    /**
+     * Zespół, do którego zadanie było przypisane.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id")
+    private Team team;
+
+    /**
+     * Priorytet zadania.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "priority_id", nullable = false)
+    private Priority priority;
+
+    /**
+     * Status zadania.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "status_id", nullable = false)
+    private TaskStatus status;
+
+    /**
+     * Data rozpoczęcia zadania.
+     */
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    /**
+     * Termin zadania.
+     */
+    @Column(name = "deadline")
+    private LocalDate deadline;
+
+    /**
+     * Data zakończenia zadania.
+     */
+    @Column(name = "completed_date", nullable = false)
+    private LocalDate completedDate;
+
+    /**
+     * Użytkownik, który stworzył zadanie.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "created_by", nullable = false)
+    private User createdBy;
+
+    /**
+     * Data i czas utworzenia zadania.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Data i czas ostatniej aktualizacji zadania przed archiwizacją.
+     */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Wersja zadania w chwili archiwizacji.
+     */
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * Data i czas archiwizacji.
+     */
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * Domyślny konstruktor klasy {@link ArchivedTask}.
+     * Konstruktor bezparametrowy wymagany przez JPA.
+     */
+    public ArchivedTask() {
+        // Domyślny konstruktor, wymagany przez JPA do tworzenia nowych instancji encji.
+    }
+
+    /**
+     * Tworzy niezarządzaną kopię zadania w postaci {@link Task}, tak aby raporty mogły przetwarzać
+     * zadania z obu tabel w ten sam sposób. Kopia nie jest przeznaczona do zapisu.
+     *
+     * @return Kopia zadania
+     */
+    public Task toTask() {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setTeam(team);
+        task.setPriority(priority);
+        task.setStatus(status);
+        task.setStartDate(startDate);
+        task.setDeadline(deadline);
+        task.setCompletedDate(completedDate);
+        task.setCreatedBy(createdBy);
+        task.setCreatedAt(createdAt);
+        task.setUpdatedAt(updatedAt);
+        task.setVersion(version);
+        return task;
+    }
+}
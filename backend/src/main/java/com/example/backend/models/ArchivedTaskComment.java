@@ -0,0 +1,42 @@
+package com.example.backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Komentarz zarchiwizowanego zadania ({@link ArchivedTask}), przeniesiony z tabeli {@code task_comments}
+ * z zachowaniem ID. Klasa jest encją bazy danych i odpowiada tabeli {@code archived_task_comments}.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "archived_task_comments", indexes = @Index(name = "idx_archived_task_comments_task", columnList = "task_id"))
+public class ArchivedTaskComment {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private Integer id;
+
+    @Column(name = "task_id", nullable = false)
+    private Integer taskId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "comment", nullable = false)
+    private String comment;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public ArchivedTaskComment() {
+        // Domyślny konstruktor, wymagany przez JPA do tworzenia nowych instancji encji.
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Wpis historii zmian zarchiwizowanego zadania ({@link ArchivedTask}), przeniesiony z tabeli
+ * {@code task_history} z zachowaniem ID. Klasa jest encją bazy danych i odpowiada tabeli
+ * {@code archived_task_history}.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "archived_task_history", indexes = @Index(name = "idx_archived_task_history_task", columnList = "task_id"))
+public class ArchivedTaskHistory {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private Integer id;
+
+    @Column(name = "task_id", nullable = false)
+    private Integer taskId;
+
+    @Column(name = "changed_by", nullable = false)
+    private Integer changedBy;
+
+    @Column(name = "field_name", nullable = false, length = 50)
+    private String fieldName;
+
+    @Column(name = "old_value")
+    private String oldValue;
+
+    @Column(name = "new_value")
+    private String newValue;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    public ArchivedTaskHistory() {
+        // Domyślny konstruktor, wymagany przez JPA do tworzenia nowych instancji encji.
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Oznacza niezakończone zadanie, którego termin już minął.
+ * <p>
+ * Wiersze są dodawane przez cykliczne przeszukiwanie terminów i usuwane, gdy zadanie zostanie zakończone
+ * lub jego termin przesunięty. Klasa jest encją bazy danych i odpowiada tabeli {@code overdue_tasks};
+ * usunięcie zadania usuwa również jego wiersz.
+ *
+ * <p>Używa adnotacji Lombok {@code @Getter} i {@code @Setter} do automatycznego generowania metod dostępnych.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "overdue_tasks")
+public class OverdueTask {
+
+    /**
+     * ID zadania.
+     */
+    @Id
+    @Column(name = "task_id", nullable = false)
+    private Integer taskId;
+
+    /**
+     * Zadanie po terminie.
+     */
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task task;
+
+    /**
+     * Data i czas wykrycia przekroczenia terminu.
+     */
+    @Column(name = "detected_at", nullable = false)
+    private LocalDateTime detectedAt;
+
+    /**
+     * Domyślny konstruktor klasy {@link OverdueTask}.
+     * Konstruktor bezparametrowy wymagany przez JPA.
+     */
+    public OverdueTask() {
+        // Domyślny konstruktor, wymagany przez JPA do tworzenia nowych instancji encji.
+    }
+}
@@ -25,9 +25,18 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
+@NamedEntityGraph(name = Report.GRAPH_WITH_TYPE_AND_CREATOR, attributeNodes = {
+        @NamedAttributeNode("type"),
+        @NamedAttributeNode("createdBy")
+})
 @Table(name = "reports")
 public class Report {
 
+    /**
+     * Graf encji raportu wraz z typem i twórcą.
+     */
+    public static final String GRAPH_WITH_TYPE_AND_CREATOR = "Report.withTypeAndCreator";
+
     /**
      * Unikalny identyfikator raportu.
      */
@@ -47,7 +56,7 @@ public class Report {
      * Typ raportu, powiązany z encją {@code ReportType}.
      * Każdy raport musi mieć określony typ.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "type_id", nullable = false)
     private ReportType type;
 
@@ -55,7 +64,7 @@ public class Report {
      * Użytkownik, który wygenerował raport.
      * Powiązany z encją {@link User}.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by", nullable = false)
     private User createdBy;
 
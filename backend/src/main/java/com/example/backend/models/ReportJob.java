@@ -0,0 +1,135 @@
+package com.example.backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reprezentuje zlecenie wygenerowania raportu, oczekujące w kolejce na przetworzenie.
+ * Zlecenia są tworzone przez węzły API i pobierane przez procesy działające w profilu {@code worker},
+ * które renderują raport i zapisują powiązaną encję {@link Report}.
+ * <p>
+ * Klasa jest encją bazy danych i odpowiada tabeli {@code report_jobs}.
+ *
+ * <p>Używa adnotacji Lombok {@code @Getter} i {@code @Setter} do automatycznego generowania metod dostępnych.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "report_jobs", indexes = {
+        @Index(name = "idx_report_jobs_status", columnList = "status, id")
+})
+public class ReportJob {
+
+    /**
+     * Stan przetwarzania zlecenia.
+     */
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * Unikalny identyfikator zlecenia.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Integer id;
+
+    /**
+     * Rodzaj raportu, np. "construction-progress", "employee-load", "team-efficiency".
+     */
+    @Column(name = "type", nullable = false, length = 50)
+    private String type;
+
+    /**
+     * Parametry raportu w formacie JSON (zakres dat, identyfikator zespołu lub pracownika).
+     */
+    @Column(name = "parameters")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private String parameters;
+
+    /**
+     * Bieżący stan zlecenia.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    /**
+     * Użytkownik, który zlecił wygenerowanie raportu.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "requested_by", nullable = false)
+    private User requestedBy;
+
+    /**
+     * Wygenerowany raport; ustawiany po pomyślnym zakończeniu zlecenia.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "report_id")
+    private Report report;
+
+    /**
+     * Identyfikator procesu roboczego, który pobrał zlecenie.
+     */
+    @Column(name = "worker_id", length = 100)
+    private String workerId;
+
+    /**
+     * Liczba dotychczasowych prób przetworzenia zlecenia.
+     */
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    /**
+     * Komunikat ostatniego błędu przetwarzania.
+     */
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    /**
+     * Data i czas utworzenia zlecenia.
+     */
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    /**
+     * Data i czas pobrania zlecenia przez proces roboczy.
+     */
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    /**
+     * Data i czas ostatniego potwierdzenia, że proces roboczy nadal przetwarza zlecenie.
+     * Zlecenie bez potwierdzenia przez czas rezerwacji wraca do kolejki.
+     */
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    /**
+     * Data i czas zakończenia przetwarzania (pomyślnego lub nie).
+     */
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /**
+     * Domyślny konstruktor klasy {@link ReportJob}.
+     * Konstruktor bezparametrowy wymagany przez JPA.
+     */
+    public ReportJob() {
+        // Domyślny konstruktor, wymagany przez JPA do tworzenia nowych instancji encji.
+    }
+}
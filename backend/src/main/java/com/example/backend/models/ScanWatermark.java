@@ -0,0 +1,65 @@
+package com.example.backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Zapamiętuje, dokąd doszło ostatnie przeszukiwanie danych przez zadanie cykliczne, tak aby kolejne
+ * przeszukiwanie obejmowało tylko nowy zakres.
+ * <p>
+ * Klasa jest encją bazy danych i odpowiada tabeli {@code scan_watermarks}.
+ *
+ * <p>Używa adnotacji Lombok {@code @Getter} i {@code @Setter} do automatycznego generowania metod dostępnych.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "scan_watermarks")
+public class ScanWatermark {
+
+    /**
+     * Nazwa przeszukiwania, np. {@code overdue-tasks}.
+     */
+    @Id
+    @Column(name = "name", nullable = false, length = 50)
+    private String name;
+
+    /**
+     * Data, do której (wyłącznie) dane zostały już przeszukane.
+     * Wartość null oznacza, że przeszukiwanie nie było jeszcze wykonane.
+     */
+    @Column(name = "watermark")
+    private LocalDate watermark;
+
+    /**
+     * Data i czas ostatniej zmiany.
+     */
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Domyślny konstruktor klasy {@link ScanWatermark}.
+     * Konstruktor bezparametrowy wymagany przez JPA.
+     */
+    public ScanWatermark() {
+        // Domyślny konstruktor, wymagany przez JPA do tworzenia nowych instancji encji.
+    }
+
+    /**
+     * Tworzy znacznik przeszukiwania, które nie było jeszcze wykonane.
+     *
+     * @param name Nazwa przeszukiwania
+     */
+    public ScanWatermark(String name) {
+        this.name = name;
+    }
+}
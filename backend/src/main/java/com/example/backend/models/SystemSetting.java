@@ -60,7 +60,7 @@ public class SystemSetting {
      * Użytkownik, który dokonał ostatniej aktualizacji ustawienia systemowego.
      * Powiązany z encją {@link User}.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "updated_by")
     private User updatedBy;
 
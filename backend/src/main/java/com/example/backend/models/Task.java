@@ -1,12 +1,18 @@
 package com.example.backend.models;
 
+import com.example.backend.scheduling.TaskScheduleListener;
+import com.example.backend.search.PolishTextAnalyzer;
+import com.example.backend.search.TaskSearchIndexListener;
+import com.example.backend.services.TaskCacheListener;
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
@@ -19,7 +25,8 @@ import java.util.Set;
  * Zadania są jednostkami pracy, które są przypisywane do zespołów w ramach różnych projektów budowlanych.
  * Każde zadanie ma przypisany priorytet, status, daty rozpoczęcia, terminu i zakończenia.
  * <p>
- * Klasa jest encją bazy danych i odpowiada tabeli {@code tasks}.
+ * Klasa jest encją bazy danych i odpowiada tabeli {@code tasks}. Aktualizacje zapisują tylko
+ * zmienione kolumny ({@link DynamicUpdate}).
  *
  * <p>Używa adnotacji Lombok {@code @Getter} i {@code @Setter} do automatycznego generowania metod dostępnych.
  *
@@ -30,18 +37,60 @@ import java.util.Set;
 @Getter
 @Setter
 @Entity
-@Table(name = "tasks")
+@DynamicUpdate
+@EntityListeners({TaskSearchIndexListener.class, TaskScheduleListener.class, TaskCacheListener.class})
+@NamedEntityGraph(name = Task.GRAPH_REPORT_DATA, attributeNodes = {
+        @NamedAttributeNode("team"),
+        @NamedAttributeNode("status"),
+        @NamedAttributeNode("priority"),
+        @NamedAttributeNode("createdBy")
+})
+@NamedEntityGraph(name = Task.GRAPH_DETAIL, attributeNodes = {
+        @NamedAttributeNode(value = "team", subgraph = "team"),
+        @NamedAttributeNode("status"),
+        @NamedAttributeNode("priority"),
+        @NamedAttributeNode("createdBy"),
+        @NamedAttributeNode("task")
+}, subgraphs = @NamedSubgraph(name = "team", attributeNodes = @NamedAttributeNode("manager")))
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_team_status", columnList = "team_id, status_id"),
+        @Index(name = "idx_tasks_team_deadline", columnList = "team_id, deadline"),
+        @Index(name = "idx_tasks_status_deadline", columnList = "status_id, deadline"),
+        @Index(name = "idx_tasks_parent", columnList = "task_id"),
+        @Index(name = "idx_tasks_open_deadline", columnList = "completed_date, deadline"),
+        @Index(name = "idx_tasks_normalized_title", columnList = "normalized_title")
+})
 public class Task {
 
+    /**
+     * Graf encji dla danych raportów: zespół, status, priorytet i twórca zadania.
+     */
+    public static final String GRAPH_REPORT_DATA = "Task.reportData";
+
+    /**
+     * Graf encji dla szczegółów zadania: zespół wraz z kierownikiem, status, priorytet,
+     * twórca oraz zadanie nadrzędne.
+     */
+    public static final String GRAPH_DETAIL = "Task.detail";
+
     /**
      * Unikalny identyfikator zadania.
+     * <p>
+     * Identyfikatory są przydzielane pulami po {@code 50} z tabeli {@code id_generators}, dzięki czemu
+     * Hibernate zna ID przed wykonaniem INSERT i może wstawiać wiele zadań wsadowo (JDBC batch).
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_id_generator")
+    @TableGenerator(name = "task_id_generator", table = "id_generators", pkColumnName = "name",
+            valueColumnName = "next_val", pkColumnValue = "tasks", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Integer id;
 
-    @ManyToOne
+    /**
+     * Zadanie nadrzędne, jeśli zadanie jest podzadaniem.
+     * Zmieniane wyłącznie przez {@code TaskHierarchyService}, który utrzymuje też {@link TaskRollup}.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", referencedColumnName = "id")
     @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
     private Task task;
@@ -53,6 +102,15 @@ public class Task {
     @Column(name = "title", nullable = false, length = 100)
     private String title;
 
+    /**
+     * Tytuł sprowadzony do małych liter bez znaków diakrytycznych ({@link PolishTextAnalyzer#normalize(String)}),
+     * używany do wyszukiwania zadań po prefiksie tytułu. Ustawiany razem z tytułem.
+     */
+    @Setter(AccessLevel.NONE)
+    @JsonIgnore
+    @Column(name = "normalized_title", nullable = false, length = 100)
+    private String normalizedTitle;
+
     /**
      * Opcjonalny opis zadania, zawierający szczegóły na temat jego realizacji.
      */
@@ -63,7 +121,7 @@ public class Task {
      * Zespół odpowiedzialny za wykonanie zadania.
      * Powiązany z encją {@link Team}.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id")
     private Team team;
 
@@ -71,7 +129,7 @@ public class Task {
      * Priorytet zadania, który określa jego ważność.
      * Powiązany z encją {@link Priority}.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "priority_id", nullable = false)
     private Priority priority;
 
@@ -79,7 +137,7 @@ public class Task {
      * Status zadania, który określa jego aktualny stan (np. "W trakcie", "Zakończone").
      * Powiązany z encją {@link TaskStatus}.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "status_id", nullable = false)
     private TaskStatus status;
 
@@ -107,7 +165,7 @@ public class Task {
      * Użytkownik, który stworzył zadanie.
      * Powiązany z encją {@link User}.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by", nullable = false)
     private User createdBy;
 
@@ -127,6 +185,22 @@ public class Task {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Wersja zadania, zwiększana przy każdej aktualizacji.
+     * Zapis nieaktualnej wersji kończy się błędem optymistycznej blokady zamiast nadpisaniem zmian.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * ID zespołu, do którego zadanie było przypisane przy wczytaniu lub ostatnim zapisie.
+     * Nie jest utrwalane; używane do wykrycia przeniesienia zadania między zespołami.
+     */
+    @Transient
+    @JsonIgnore
+    private Integer originalTeamId;
+
     /**
      * Zbiór komentarzy powiązanych z danym zadaniem.
      * Relacja jednokierunkowa - jedno {@code Task} może mieć wiele {@code TaskComment}.
@@ -150,4 +224,14 @@ public class Task {
     public Task() {
         // Domyślny konstruktor, wymagany przez JPA do tworzenia nowych instancji encji.
     }
+
+    /**
+     * Ustawia tytuł zadania wraz z jego znormalizowaną postacią.
+     *
+     * @param title Tytuł zadania
+     */
+    public void setTitle(String title) {
+        this.title = title;
+        this.normalizedTitle = PolishTextAnalyzer.normalize(title);
+    }
 }
\ No newline at end of file
@@ -24,9 +24,15 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
+@NamedEntityGraph(name = TaskComment.GRAPH_WITH_USER, attributeNodes = @NamedAttributeNode("user"))
 @Table(name = "task_comments")
 public class TaskComment {
 
+    /**
+     * Graf encji komentarza wraz z autorem.
+     */
+    public static final String GRAPH_WITH_USER = "TaskComment.withUser";
+
     /**
      * Unikalny identyfikator komentarza do zadania.
      */
@@ -39,7 +45,7 @@ public class TaskComment {
      * Zadanie, do którego dodano komentarz.
      * Powiązane z encją {@link Task}.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
     private Task task;
 
@@ -47,7 +53,7 @@ public class TaskComment {
      * Użytkownik, który dodał komentarz.
      * Powiązane z encją {@link User}.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     @JsonIgnore
     private User user;
@@ -0,0 +1,71 @@
+package com.example.backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reprezentuje zależność typu "zakończ, aby rozpocząć" między dwoma zadaniami,
+ * np. wylanie fundamentów musi się zakończyć przed rozpoczęciem stawiania ścian.
+ * <p>
+ * Klasa jest encją bazy danych i odpowiada tabeli {@code task_dependencies}. Usunięcie
+ * zadania usuwa również jego zależności.
+ *
+ * <p>Używa adnotacji Lombok {@code @Getter} i {@code @Setter} do automatycznego generowania metod dostępnych.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "task_dependencies",
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_dependencies_pair",
+                columnNames = {"predecessor_id", "successor_id"}),
+        indexes = @Index(name = "idx_task_dependencies_successor", columnList = "successor_id"))
+public class TaskDependency {
+
+    /**
+     * Unikalny identyfikator zależności.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Integer id;
+
+    /**
+     * Zadanie, które musi zostać zakończone jako pierwsze.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "predecessor_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task predecessor;
+
+    /**
+     * Zadanie, które może się rozpocząć dopiero po zakończeniu poprzednika.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "successor_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task successor;
+
+    /**
+     * Data i czas utworzenia zależności.
+     */
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    /**
+     * Domyślny konstruktor klasy {@link TaskDependency}.
+     * Konstruktor bezparametrowy wymagany przez JPA.
+     */
+    public TaskDependency() {
+        // Domyślny konstruktor, wymagany przez JPA do tworzenia nowych instancji encji.
+    }
+}
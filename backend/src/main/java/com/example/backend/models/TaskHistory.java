@@ -38,7 +38,7 @@ public class TaskHistory {
      * Zadanie, którego dotyczy historia zmian.
      * Powiązane z encją {@link Task}.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
     private Task task;
 
@@ -0,0 +1,55 @@
+package com.example.backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Licznik wersji listy zadań, zwiększany w transakcji każdej zmiany zadań, z którego budowany jest
+ * znacznik {@code ETag} listy. Listy zadań zespołów mają własne liczniki w {@link TeamTaskCounter}.
+ * <p>
+ * Klasa jest encją bazy danych i odpowiada tabeli {@code task_list_versions}.
+ *
+ * <p>Używa adnotacji Lombok {@code @Getter} i {@code @Setter} do automatycznego generowania metod dostępnych.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "task_list_versions")
+public class TaskListVersion {
+
+    /**
+     * Nazwa listy, np. {@code tasks} dla listy wszystkich zadań.
+     */
+    @Id
+    @Column(name = "name", nullable = false, length = 50)
+    private String name;
+
+    /**
+     * Wersja listy.
+     */
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    /**
+     * Domyślny konstruktor klasy {@link TaskListVersion}.
+     * Konstruktor bezparametrowy wymagany przez JPA.
+     */
+    public TaskListVersion() {
+        // Domyślny konstruktor, wymagany przez JPA do tworzenia nowych instancji encji.
+    }
+
+    /**
+     * Tworzy licznik wersji listy o podanej wartości.
+     *
+     * @param name    Nazwa listy
+     * @param version Wersja listy
+     */
+    public TaskListVersion(String name, long version) {
+        this.name = name;
+        this.version = version;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Zapis wysłania przypomnienia o terminie zadania.
+ * <p>
+ * Klasa jest encją bazy danych i odpowiada tabeli {@code task_reminder_deliveries}. Unikalna para
+ * (zadanie, termin) sprawia, że spośród instancji aplikacji przypomnienie wysyła tylko ta, która
+ * pierwsza zapisze jego wysłanie. Usunięcie zadania usuwa również zapisy jego przypomnień.
+ *
+ * <p>Używa adnotacji Lombok {@code @Getter} i {@code @Setter} do automatycznego generowania metod dostępnych.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "task_reminder_deliveries",
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_reminder_deliveries_task_deadline",
+                columnNames = {"task_id", "deadline"}),
+        indexes = @Index(name = "idx_task_reminder_deliveries_deadline", columnList = "deadline"))
+public class TaskReminderDelivery {
+
+    /**
+     * Unikalny identyfikator zapisu.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    /**
+     * Zadanie, którego dotyczyło przypomnienie.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task task;
+
+    /**
+     * Termin zadania, o którym przypomniano.
+     */
+    @Column(name = "deadline", nullable = false)
+    private LocalDate deadline;
+
+    /**
+     * Data i czas wysłania przypomnienia.
+     */
+    @CreationTimestamp
+    @Column(name = "delivered_at", nullable = false, updatable = false)
+    private LocalDateTime deliveredAt;
+
+    /**
+     * Domyślny konstruktor klasy {@link TaskReminderDelivery}.
+     * Konstruktor bezparametrowy wymagany przez JPA.
+     */
+    public TaskReminderDelivery() {
+        // Domyślny konstruktor, wymagany przez JPA do tworzenia nowych instancji encji.
+    }
+
+    /**
+     * Tworzy zapis wysłania przypomnienia.
+     *
+     * @param task     Zadanie
+     * @param deadline Termin zadania
+     */
+    public TaskReminderDelivery(Task task, LocalDate deadline) {
+        this.task = task;
+        this.deadline = deadline;
+    }
+}
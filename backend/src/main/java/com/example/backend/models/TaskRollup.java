@@ -0,0 +1,108 @@
+package com.example.backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Przechowuje położenie zadania w hierarchii zadań i podzadań oraz zagregowany postęp jego podzadań.
+ * <p>
+ * Ścieżka ({@code path}) zawiera identyfikatory wszystkich przodków i samego zadania, np. {@code /1/5/9/},
+ * dzięki czemu całe poddrzewo można pobrać jednym zapytaniem po prefiksie ścieżki. Sumy podzadań
+ * obejmują wszystkich potomków (nie tylko bezpośrednie podzadania) i są aktualizowane przyrostowo
+ * wzdłuż ścieżki przodków przy każdej zmianie zadania.
+ * <p>
+ * Wiersz istnieje tylko dla zadań należących do hierarchii. Klasa jest encją bazy danych
+ * i odpowiada tabeli {@code task_rollups}; usunięcie zadania usuwa również jego wiersz.
+ *
+ * <p>Używa adnotacji Lombok {@code @Getter} i {@code @Setter} do automatycznego generowania metod dostępnych.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "task_rollups", indexes = @Index(name = "idx_task_rollups_path", columnList = "path"))
+public class TaskRollup {
+
+    /**
+     * ID zadania.
+     */
+    @Id
+    @Column(name = "task_id", nullable = false)
+    private Integer taskId;
+
+    /**
+     * Zadanie, którego dotyczy wiersz.
+     */
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task task;
+
+    /**
+     * Identyfikatory przodków i samego zadania, oddzielone i zakończone znakiem {@code /}.
+     */
+    @Column(name = "path", nullable = false, length = 500)
+    private String path;
+
+    /**
+     * Głębokość zadania w hierarchii (0 dla zadania bez rodzica).
+     */
+    @Column(name = "depth", nullable = false)
+    private int depth;
+
+    /**
+     * Postęp samego zadania w procentach, wyznaczony z jego statusu.
+     */
+    @Column(name = "progress", nullable = false)
+    private int progress;
+
+    /**
+     * Czy samo zadanie jest zakończone.
+     */
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    /**
+     * Czy samo zadanie jest opóźnione.
+     */
+    @Column(name = "late", nullable = false)
+    private boolean late;
+
+    /**
+     * Liczba wszystkich podzadań (potomków).
+     */
+    @Column(name = "subtask_count", nullable = false)
+    private int subtaskCount;
+
+    /**
+     * Liczba zakończonych podzadań.
+     */
+    @Column(name = "completed_subtasks", nullable = false)
+    private int completedSubtasks;
+
+    /**
+     * Liczba opóźnionych podzadań.
+     */
+    @Column(name = "late_subtasks", nullable = false)
+    private int lateSubtasks;
+
+    /**
+     * Suma postępu wszystkich podzadań w procentach.
+     */
+    @Column(name = "subtask_progress", nullable = false)
+    private long subtaskProgress;
+
+    /**
+     * Domyślny konstruktor klasy {@link TaskRollup}.
+     * Konstruktor bezparametrowy wymagany przez JPA.
+     */
+    public TaskRollup() {
+        // Domyślny konstruktor, wymagany przez JPA do tworzenia nowych instancji encji.
+    }
+}
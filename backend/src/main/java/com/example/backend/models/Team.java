@@ -24,9 +24,15 @@ import java.util.Set;
 @Getter
 @Setter
 @Entity
+@NamedEntityGraph(name = Team.GRAPH_DETAIL, attributeNodes = @NamedAttributeNode("manager"))
 @Table(name = "teams")
 public class Team {
 
+    /**
+     * Graf encji dla szczegółów zespołu: zespół wraz z kierownikiem.
+     */
+    public static final String GRAPH_DETAIL = "Team.detail";
+
     /**
      * Unikalny identyfikator zespołu.
      */
@@ -46,7 +52,7 @@ public class Team {
      * Menedżer zespołu, który jest odpowiedzialny za zarządzanie członkami zespołu oraz zadaniami.
      * Powiązane z encją {@link User}.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "manager_id", nullable = false)
     private User manager;
 
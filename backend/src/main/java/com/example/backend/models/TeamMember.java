@@ -22,9 +22,18 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
+@NamedEntityGraph(name = TeamMember.GRAPH_WITH_TEAM_AND_USER, attributeNodes = {
+        @NamedAttributeNode("team"),
+        @NamedAttributeNode("user")
+})
 @Table(name = "team_members")
 public class TeamMember {
 
+    /**
+     * Graf encji członkostwa wraz z zespołem i użytkownikiem.
+     */
+    public static final String GRAPH_WITH_TEAM_AND_USER = "TeamMember.withTeamAndUser";
+
     /**
      * Unikalny identyfikator członka zespołu.
      */
@@ -36,14 +45,14 @@ public class TeamMember {
     /**
      * Zespół, do którego należy członek. Powiązane z encją {@link Team}.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id", nullable = false)
     private Team team;
 
     /**
      * Użytkownik, który jest członkiem zespołu. Powiązane z encją {@link User}.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
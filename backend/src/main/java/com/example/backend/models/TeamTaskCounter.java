@@ -0,0 +1,88 @@
+package com.example.backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Liczby otwartych, zakończonych i przeterminowanych zadań zespołu oraz wersja listy jego zadań.
+ * <p>
+ * Liczniki otwartych i zakończonych zadań są zmieniane w tej samej transakcji co zadania, a licznik zadań
+ * po terminie odpowiada liczbie oznaczeń {@link OverdueTask} zadań zespołu. Klasa jest encją bazy danych
+ * i odpowiada tabeli {@code team_task_counters}; usunięcie zespołu usuwa również jego wiersz.
+ *
+ * <p>Używa adnotacji Lombok {@code @Getter} i {@code @Setter} do automatycznego generowania metod dostępnych.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "team_task_counters")
+public class TeamTaskCounter {
+
+    /**
+     * ID zespołu.
+     */
+    @Id
+    @Column(name = "team_id", nullable = false)
+    private Integer teamId;
+
+    /**
+     * Zespół, którego dotyczą liczniki.
+     */
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Team team;
+
+    /**
+     * Liczba niezakończonych zadań zespołu.
+     */
+    @Column(name = "open_count", nullable = false)
+    private int openCount;
+
+    /**
+     * Liczba zakończonych zadań zespołu.
+     */
+    @Column(name = "completed_count", nullable = false)
+    private int completedCount;
+
+    /**
+     * Liczba zadań zespołu oznaczonych jako zadania po terminie.
+     */
+    @Column(name = "overdue_count", nullable = false)
+    private int overdueCount;
+
+    /**
+     * Wersja listy zadań zespołu, zwiększana w transakcji każdej zmiany zadań zespołu.
+     */
+    @Column(name = "list_version", nullable = false)
+    private long listVersion;
+
+    /**
+     * Domyślny konstruktor klasy {@link TeamTaskCounter}.
+     * Konstruktor bezparametrowy wymagany przez JPA.
+     */
+    public TeamTaskCounter() {
+        // Domyślny konstruktor, wymagany przez JPA do tworzenia nowych instancji encji.
+    }
+
+    /**
+     * Tworzy liczniki zespołu o podanych wartościach.
+     *
+     * @param teamId         ID zespołu
+     * @param openCount      Liczba niezakończonych zadań
+     * @param completedCount Liczba zakończonych zadań
+     * @param overdueCount   Liczba zadań po terminie
+     */
+    public TeamTaskCounter(Integer teamId, int openCount, int completedCount, int overdueCount) {
+        this.teamId = teamId;
+        this.openCount = openCount;
+        this.completedCount = completedCount;
+        this.overdueCount = overdueCount;
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.backend.reminders;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Hierarchiczne haszowane koło czasowe (hierarchical hashed timing wheel).
+ * <p>
+ * Czas jest mierzony w taktach. Każdy poziom koła ma {@value #SLOTS} pól; pole poziomu {@code n} obejmuje
+ * {@code 64^n} taktów, więc koło o {@code L} poziomach przyjmuje wpisy do {@code 64^L} taktów naprzód.
+ * Wpis trafia na najniższy poziom, który obejmuje jego termin, a gdy czas dojdzie do pola wyższego poziomu,
+ * wpisy z tego pola są rozkładane na niższe poziomy. Dodanie, zmiana i usunięcie wpisu kosztują O(1),
+ * a przesunięcie czasu o jeden takt - O(1) plus liczba wpisów, które w tym takcie wygasają lub są rozkładane.
+ * <p>
+ * Każdy klucz ma co najwyżej jeden wpis; ponowne zaplanowanie klucza zastępuje poprzedni wpis.
+ * Klasa nie jest bezpieczna wątkowo.
+ *
+ * @param <K> typ klucza wpisu
+ * @param <V> typ wartości wpisu
+ */
+public class HierarchicalTimingWheel<K, V> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    /**
+     * Największa liczba poziomów, dla której zasięg koła mieści się w typie {@code long}.
+     */
+    public static final int MAX_LEVELS = 10;
+
+    private final Entry<K, V>[][] slots;
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+    private final int levels;
+    private long currentTick;
+
+    /**
+     * Tworzy puste koło.
+     *
+     * @param levels    Liczba poziomów (od 1 do {@value #MAX_LEVELS})
+     * @param startTick Bieżący takt
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(int levels, long startTick) {
+        if (levels < 1 || levels > MAX_LEVELS) {
+            throw new IllegalArgumentException("Liczba poziomów musi należeć do zakresu 1-" + MAX_LEVELS);
+        }
+        this.levels = levels;
+        this.slots = (Entry<K, V>[][]) new Entry<?, ?>[levels][SLOTS];
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Zwraca liczbę taktów naprzód, na którą można zaplanować wpis.
+     *
+     * @return Zasięg koła w taktach
+     */
+    public long horizon() {
+        return 1L << (SLOT_BITS * levels);
+    }
+
+    /**
+     * Zwraca bieżący takt.
+     *
+     * @return Bieżący takt
+     */
+    public long currentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Zwraca liczbę zaplanowanych wpisów.
+     *
+     * @return Liczba wpisów
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Sprawdza, czy klucz ma zaplanowany wpis.
+     *
+     * @param key Klucz
+     * @return {@code true}, jeśli wpis istnieje
+     */
+    public boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Planuje wpis na podany takt, zastępując poprzedni wpis klucza. Wpis z taktem, który już minął,
+     * wygasa przy najbliższym przesunięciu czasu.
+     *
+     * @param key        Klucz
+     * @param value      Wartość przekazywana przy wygaśnięciu
+     * @param expiryTick Takt wygaśnięcia
+     * @throws IllegalArgumentException gdy takt wykracza poza zasięg koła
+     */
+    public void schedule(K key, V value, long expiryTick) {
+        long expiry = Math.max(expiryTick, currentTick + 1);
+        if (expiry - currentTick >= horizon()) {
+            throw new IllegalArgumentException("Takt " + expiryTick + " wykracza poza zasięg koła czasowego");
+        }
+        cancel(key);
+        Entry<K, V> entry = new Entry<>(key, value, expiry);
+        entries.put(key, entry);
+        place(entry);
+    }
+
+    /**
+     * Usuwa wpis klucza.
+     *
+     * @param key Klucz
+     * @return {@code true}, jeśli wpis istniał
+     */
+    public boolean cancel(K key) {
+        Entry<K, V> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    /**
+     * Przesuwa czas do podanego taktu i przekazuje wpisy, które w tym czasie wygasły, w kolejności taktów.
+     * Akcja może planować i usuwać wpisy.
+     *
+     * @param tick    Nowy bieżący takt
+     * @param expired Akcja wywoływana dla każdego wygasłego wpisu
+     */
+    public void advanceTo(long tick, BiConsumer<K, V> expired) {
+        while (currentTick < tick) {
+            if (entries.isEmpty()) {
+                currentTick = tick;
+                return;
+            }
+            currentTick++;
+            cascade();
+            // Entries are taken one at a time, so the action may cancel entries of the same slot
+            int slot = (int) (currentTick & SLOT_MASK);
+            Entry<K, V> entry;
+            while ((entry = slots[0][slot]) != null) {
+                cancel(entry.key);
+                expired.accept(entry.key, entry.value);
+            }
+        }
+    }
+
+    /**
+     * Rozkłada na niższe poziomy wpisy z pól wyższych poziomów, do których doszedł czas.
+     */
+    private void cascade() {
+        for (int level = 1; level < levels; level++) {
+            int shift = SLOT_BITS * level;
+            // A level is only reached once every slot of the level below has been passed
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            int slot = (int) ((currentTick >>> shift) & SLOT_MASK);
+            Entry<K, V> entry;
+            while ((entry = slots[level][slot]) != null) {
+                // The entry expires within this slot's span, so it always lands on a lower level
+                unlink(entry);
+                place(entry);
+            }
+        }
+    }
+
+    private void place(Entry<K, V> entry) {
+        long delta = entry.expiryTick - currentTick;
+        int level = 0;
+        while (level < levels - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) ((entry.expiryTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        Entry<K, V> head = slots[level][slot];
+        entry.level = level;
+        entry.slot = slot;
+        entry.prev = null;
+        entry.next = head;
+        if (head != null) {
+            head.prev = entry;
+        }
+        slots[level][slot] = entry;
+    }
+
+    private void unlink(Entry<K, V> entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            slots[entry.level][entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private final V value;
+        private final long expiryTick;
+        private Entry<K, V> prev;
+        private Entry<K, V> next;
+        private int level;
+        private int slot;
+
+        private Entry(K key, V value, long expiryTick) {
+            this.key = key;
+            this.value = value;
+            this.expiryTick = expiryTick;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.backend.reminders;
+
+import com.example.backend.dto.TaskReminderDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Zapisuje przypomnienia o terminach zadań w logu aplikacji.
+ */
+@Component
+public class LoggingTaskReminderSink implements TaskReminderSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingTaskReminderSink.class);
+
+    @Override
+    public void deliver(TaskReminderDTO reminder) {
+        logger.info("Przypomnienie: termin zadania {} upływa {}", reminder.getTaskId(), reminder.getDeadline());
+    }
+}
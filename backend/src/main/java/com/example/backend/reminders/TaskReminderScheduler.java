@@ -0,0 +1,309 @@
+package com.example.backend.reminders;
+
+import com.example.backend.dto.TaskReminderDTO;
+import com.example.backend.models.Task;
+import com.example.backend.models.TaskReminderDelivery;
+import com.example.backend.repository.TaskReminderDeliveryRepository;
+import com.example.backend.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Wysyła przypomnienia o zbliżających się terminach zadań na zadaną liczbę dni przed terminem.
+ * <p>
+ * Przypomnienia są przechowywane w pamięci w hierarchicznym kole czasowym ({@link HierarchicalTimingWheel})
+ * z taktem jednej minuty, więc obsługa setek tysięcy otwartych zadań nie wymaga cyklicznego odpytywania bazy.
+ * Terminy są wczytywane z bazy oknami po {@code app.tasks.reminders.window-days} dni, dzień przed tym,
+ * jak przypadają pierwsze przypomnienia z kolejnego okna. Zmiany terminów i zakończenie zadań zgłaszane
+ * przez {@code TaskService} są nakładane na koło po zatwierdzeniu transakcji w czasie O(1).
+ * <p>
+ * Przed wysłaniem przypomnienia termin zadania jest sprawdzany w bazie, dzięki czemu zmiany wprowadzone
+ * przez inne instancje aplikacji nie powodują wysłania nieaktualnych przypomnień. Planowanie działa na każdej
+ * instancji, która obsługuje zmiany zadań, a przypomnienie wysyła tylko ta z nich, która pierwsza zapisze
+ * jego wysłanie w tabeli {@code task_reminder_deliveries} (unikalna para zadanie i termin). Przypomnienia
+ * trafiają do wszystkich komponentów {@link TaskReminderSink}.
+ */
+@Component
+public class TaskReminderScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskReminderScheduler.class);
+
+    /**
+     * Liczba poziomów koła czasowego; przy takcie jednej minuty zasięg koła wynosi ok. 31 lat.
+     */
+    private static final int WHEEL_LEVELS = 4;
+
+    private static final long SECONDS_PER_TICK = 60;
+
+    private final TaskRepository taskRepository;
+    private final TaskReminderDeliveryRepository deliveryRepository;
+    private final List<TaskReminderSink> sinks;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int daysBefore;
+    private final int windowDays;
+
+    /**
+     * Koło z przypomnieniami; {@code null} do czasu uruchomienia. Dostęp wyłącznie z blokadą {@code this}.
+     */
+    private HierarchicalTimingWheel<Integer, TaskReminderDTO> wheel;
+
+    /**
+     * Pierwszy dzień terminów, które nie zostały jeszcze wczytane do koła.
+     */
+    private LocalDate loadedUntil;
+
+    @Autowired
+    public TaskReminderScheduler(TaskRepository taskRepository,
+                                 TaskReminderDeliveryRepository deliveryRepository,
+                                 List<TaskReminderSink> sinks,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.tasks.reminders.enabled:true}") boolean enabled,
+                                 @Value("${app.tasks.reminders.days-before:1}") int daysBefore,
+                                 @Value("${app.tasks.reminders.window-days:7}") int windowDays) {
+        this(taskRepository, deliveryRepository, sinks, transactionManager, Clock.systemDefaultZone(),
+                enabled, daysBefore, windowDays);
+    }
+
+    TaskReminderScheduler(TaskRepository taskRepository,
+                          TaskReminderDeliveryRepository deliveryRepository,
+                          List<TaskReminderSink> sinks,
+                          PlatformTransactionManager transactionManager,
+                          Clock clock,
+                          boolean enabled,
+                          int daysBefore,
+                          int windowDays) {
+        if (daysBefore < 0 || windowDays < 1) {
+            throw new IllegalArgumentException("Nieprawidłowa konfiguracja przypomnień o terminach zadań");
+        }
+        this.taskRepository = taskRepository;
+        this.deliveryRepository = deliveryRepository;
+        this.sinks = sinks;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.enabled = enabled;
+        this.daysBefore = daysBefore;
+        this.windowDays = windowDays;
+    }
+
+    /**
+     * Wczytuje pierwsze okno terminów po starcie aplikacji.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            if (wheel != null) {
+                return;
+            }
+            wheel = new HierarchicalTimingWheel<>(WHEEL_LEVELS, toTick(clock.instant()));
+            loadedUntil = LocalDate.now(clock);
+            ensureLoaded(loadedUntil);
+            logger.info("Zaplanowano {} przypomnień o terminach zadań przed {}", wheel.size(), loadedUntil);
+        }
+    }
+
+    /**
+     * Przesuwa koło do bieżącej chwili, wczytuje w razie potrzeby kolejne okno terminów
+     * i wysyła przypomnienia, których czas nadszedł.
+     */
+    @Scheduled(fixedDelayString = "${app.tasks.reminders.tick-ms:60000}")
+    public void tick() {
+        List<TaskReminderDTO> due = new ArrayList<>();
+        synchronized (this) {
+            if (wheel == null) {
+                return;
+            }
+            ensureLoaded(LocalDate.now(clock));
+            wheel.advanceTo(toTick(clock.instant()), (taskId, reminder) -> due.add(reminder));
+        }
+        if (!due.isEmpty()) {
+            deliver(due);
+        }
+    }
+
+    /**
+     * Uwzględnia po zatwierdzeniu bieżącej transakcji zadania utworzone lub zadania, którym zmieniono
+     * termin lub datę zakończenia.
+     *
+     * @param tasks Zapisane zadania
+     */
+    public void tasksChanged(Collection<Task> tasks) {
+        if (!enabled || tasks.isEmpty()) {
+            return;
+        }
+        // Completed tasks are recorded without a deadline, which cancels their reminder
+        List<TaskReminderDTO> changes = tasks.stream()
+                .map(task -> new TaskReminderDTO(task.getId(),
+                        task.getCompletedDate() == null ? task.getDeadline() : null))
+                .toList();
+        afterCommit(() -> {
+            synchronized (this) {
+                if (wheel != null) {
+                    LocalDate today = LocalDate.now(clock);
+                    changes.forEach(change -> apply(change, today));
+                }
+            }
+        });
+    }
+
+    /**
+     * Usuwa przypomnienie usuniętego zadania po zatwierdzeniu bieżącej transakcji.
+     *
+     * @param taskId ID usuniętego zadania
+     */
+    public void taskRemoved(Integer taskId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            synchronized (this) {
+                if (wheel != null) {
+                    wheel.cancel(taskId);
+                }
+            }
+        });
+    }
+
+    /**
+     * Zwraca liczbę zaplanowanych przypomnień.
+     *
+     * @return Liczba przypomnień w kole
+     */
+    public synchronized int scheduledCount() {
+        return wheel != null ? wheel.size() : 0;
+    }
+
+    /**
+     * Sprawdza, czy dla zadania zaplanowano przypomnienie.
+     *
+     * @param taskId ID zadania
+     * @return {@code true}, jeśli przypomnienie czeka w kole
+     */
+    public synchronized boolean isScheduled(Integer taskId) {
+        return wheel != null && wheel.contains(taskId);
+    }
+
+    /**
+     * Wczytuje kolejne okna terminów, tak aby koło zawierało wszystkie przypomnienia przypadające do jutra.
+     * Wywoływane z blokadą {@code this}, więc zmiany zatwierdzone w trakcie wczytywania są nakładane po nim.
+     */
+    private void ensureLoaded(LocalDate today) {
+        if (!loadedUntil.minusDays(daysBefore).isAfter(today.plusDays(1))) {
+            // Reminders for past deadlines are never sent again, so their delivery records can go
+            writeTransaction.executeWithoutResult(status -> deliveryRepository.deleteByDeadlineBefore(today));
+        }
+        while (!loadedUntil.minusDays(daysBefore).isAfter(today.plusDays(1))) {
+            LocalDate from = loadedUntil;
+            LocalDate to = from.plusDays(windowDays);
+            List<TaskReminderDTO> window = readTransaction.execute(status ->
+                    taskRepository.findOpenAsReminderByDeadlineBetween(from, to));
+            window.forEach(this::schedule);
+            loadedUntil = to;
+            logger.debug("Wczytano {} terminów zadań od {} do {}", window.size(), from, to);
+        }
+    }
+
+    private void apply(TaskReminderDTO change, LocalDate today) {
+        LocalDate deadline = change.getDeadline();
+        if (deadline == null || deadline.isBefore(today) || !deadline.isBefore(loadedUntil)) {
+            // Deadlines beyond the loaded window are scheduled when their window is loaded
+            wheel.cancel(change.getTaskId());
+        } else {
+            schedule(change);
+        }
+    }
+
+    private void schedule(TaskReminderDTO reminder) {
+        Instant remindAt = reminder.getDeadline().minusDays(daysBefore).atStartOfDay(clock.getZone()).toInstant();
+        wheel.schedule(reminder.getTaskId(), reminder, toTick(remindAt));
+    }
+
+    private void deliver(List<TaskReminderDTO> due) {
+        List<Integer> taskIds = due.stream().map(TaskReminderDTO::getTaskId).toList();
+        Map<Integer, LocalDate> deadlines = readTransaction.execute(status ->
+                        taskRepository.findOpenAsReminderByIdIn(taskIds)).stream()
+                .collect(Collectors.toMap(TaskReminderDTO::getTaskId, TaskReminderDTO::getDeadline));
+
+        for (TaskReminderDTO reminder : due) {
+            LocalDate deadline = deadlines.get(reminder.getTaskId());
+            if (!reminder.getDeadline().equals(deadline)) {
+                // Changed by another instance - follow the current deadline instead
+                synchronized (this) {
+                    apply(new TaskReminderDTO(reminder.getTaskId(), deadline), LocalDate.now(clock));
+                }
+                continue;
+            }
+            if (!claim(reminder)) {
+                logger.debug("Przypomnienie o terminie zadania {} wysłała inna instancja", reminder.getTaskId());
+                continue;
+            }
+            for (TaskReminderSink sink : sinks) {
+                try {
+                    sink.deliver(reminder);
+                } catch (RuntimeException e) {
+                    logger.warn("Nie udało się dostarczyć przypomnienia o terminie zadania {}: {}",
+                            reminder.getTaskId(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Zapisuje wysłanie przypomnienia we własnej transakcji.
+     *
+     * @return {@code false}, jeśli przypomnienie o tym terminie zostało już zapisane przez inną instancję
+     */
+    private boolean claim(TaskReminderDTO reminder) {
+        try {
+            writeTransaction.executeWithoutResult(status -> deliveryRepository.saveAndFlush(new TaskReminderDelivery(
+                    taskRepository.getReferenceById(reminder.getTaskId()), reminder.getDeadline())));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private static long toTick(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), SECONDS_PER_TICK);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
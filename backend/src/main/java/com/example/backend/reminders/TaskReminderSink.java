@@ -0,0 +1,20 @@
+package com.example.backend.reminders;
+
+import com.example.backend.dto.TaskReminderDTO;
+
+/**
+ * Odbiorca przypomnień o zbliżających się terminach zadań wysyłanych przez {@link TaskReminderScheduler}.
+ * <p>
+ * Każdy komponent implementujący ten interfejs otrzymuje wszystkie przypomnienia, np. w celu wysłania
+ * powiadomienia e-mail. Przypomnienia są dostarczane co najmniej raz - po ponownym uruchomieniu aplikacji
+ * przypomnienia z bieżącego dnia mogą zostać wysłane ponownie.
+ */
+public interface TaskReminderSink {
+
+    /**
+     * Dostarcza przypomnienie. Metoda jest wywoływana poza transakcją, z wątku zadań cyklicznych.
+     *
+     * @param reminder Przypomnienie o terminie zadania
+     */
+    void deliver(TaskReminderDTO reminder);
+}
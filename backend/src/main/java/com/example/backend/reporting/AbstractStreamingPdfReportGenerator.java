@@ -0,0 +1,137 @@
+package com.example.backend.reporting;
+
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.pdf.PdfWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Bazowa klasa generatorów raportów PDF działających w trybie strumieniowym.
+ * <p>
+ * W przeciwieństwie do generatorów z biblioteki raportowej, które przyjmują pełną listę danych
+ * i budują dokument w pamięci, generator strumieniowy pobiera pozycje z iteratora jedna po drugiej
+ * i zapisuje dokument bezpośrednio do pliku. Ukończone strony są wypisywane na bieżąco przez
+ * {@link PdfWriter}, a duże tabele są dodawane do dokumentu porcjami, więc zużycie pamięci
+ * nie zależy od liczby wierszy raportu.
+ *
+ * @param <T> typ pozycji raportu
+ */
+public abstract class AbstractStreamingPdfReportGenerator<T> {
+
+    /**
+     * Liczba wierszy tabeli, po której zostają one wypisane do dokumentu i zwolnione z pamięci.
+     */
+    protected static final int ROWS_PER_FLUSH = 50;
+
+    /**
+     * Generuje raport i zapisuje go do pliku, przetwarzając pozycje kolejno z iteratora.
+     * Jeśli generowanie się nie powiedzie, częściowo zapisany plik jest usuwany.
+     *
+     * @param items      Iterator pozycji raportu; każda pozycja jest przetwarzana tylko raz
+     * @param parameters Parametry raportu (np. zakres dat)
+     * @param outputPath Ścieżka pliku wynikowego
+     * @return Ścieżka zapisanego pliku
+     * @throws DocumentException w przypadku błędu budowania dokumentu
+     * @throws IOException       w przypadku błędu zapisu pliku
+     */
+    public Path saveReport(Iterator<T> items, Map<String, Object> parameters, Path outputPath)
+            throws DocumentException, IOException {
+        Files.createDirectories(outputPath.getParent());
+
+        Document document = createDocument();
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(outputPath))) {
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setFullCompression();
+            document.open();
+
+            initialize();
+            writeHeader(document, parameters);
+            while (items.hasNext()) {
+                writeItem(document, items.next());
+            }
+            writeFooter(document, parameters);
+
+            document.close();
+        } catch (Throwable e) {
+            // Do not leave a truncated PDF behind
+            try {
+                Files.deleteIfExists(outputPath);
+            } catch (IOException deleteException) {
+                e.addSuppressed(deleteException);
+            }
+            throw e;
+        }
+        return outputPath;
+    }
+
+    /**
+     * Zapisuje pojedynczą pozycję jako samodzielny dokument PDF (bez nagłówka i podsumowania raportu).
+     * Używane przy równoległym renderowaniu sekcji, które są następnie scalane w jeden raport.
+     *
+     * @param item Pozycja raportu
+     * @param out  Strumień, do którego zapisywany jest dokument
+     * @throws DocumentException w przypadku błędu budowania dokumentu
+     * @throws IOException       w przypadku błędu zapisu
+     */
+    public void writeSection(T item, OutputStream out) throws DocumentException, IOException {
+        Document document = createDocument();
+        PdfWriter writer = PdfWriter.getInstance(document, out);
+        writer.setFullCompression();
+        document.open();
+
+        initialize();
+        writeItem(document, item);
+
+        document.close();
+    }
+
+    /**
+     * Dodaje wiersz do tabeli i, jeśli uzbierało się {@link #ROWS_PER_FLUSH} wierszy,
+     * wypisuje je do dokumentu. Tabela musi mieć ustawione {@code setComplete(false)}.
+     *
+     * @param document Dokument, do którego dopisywana jest tabela
+     * @param table    Tabela budowana przyrostowo
+     * @param rowCount Liczba wierszy dodanych do tej pory (łącznie z bieżącym)
+     * @throws DocumentException w przypadku błędu budowania dokumentu
+     */
+    protected void flushIfNeeded(Document document, PdfPTable table, int rowCount) throws DocumentException {
+        if (rowCount % ROWS_PER_FLUSH == 0) {
+            document.add(table);
+        }
+    }
+
+    /**
+     * Tworzy dokument o odpowiednim formacie strony i marginesach.
+     */
+    protected abstract Document createDocument();
+
+    /**
+     * Przygotowuje zasoby generatora (np. czcionki) przed zapisem pierwszego elementu dokumentu.
+     */
+    protected void initialize() throws DocumentException, IOException {
+        // Domyślnie brak zasobów do przygotowania
+    }
+
+    /**
+     * Zapisuje nagłówek raportu, przed pierwszą pozycją.
+     */
+    protected abstract void writeHeader(Document document, Map<String, Object> parameters) throws DocumentException;
+
+    /**
+     * Zapisuje pojedynczą pozycję raportu. Po powrocie z metody pozycja nie jest już potrzebna generatorowi.
+     */
+    protected abstract void writeItem(Document document, T item) throws DocumentException;
+
+    /**
+     * Zapisuje podsumowanie raportu, po ostatniej pozycji.
+     */
+    protected abstract void writeFooter(Document document, Map<String, Object> parameters) throws DocumentException;
+}
@@ -0,0 +1,205 @@
+package com.example.backend.reporting;
+
+import com.itextpdf.text.Chunk;
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.Phrase;
+import com.itextpdf.text.Rectangle;
+import com.itextpdf.text.pdf.BaseFont;
+import com.itextpdf.text.pdf.PdfCopy;
+import com.itextpdf.text.pdf.PdfPCell;
+import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.PdfWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Renderuje raporty wielosekcyjne (np. jedna sekcja na pracownika lub zespół) równolegle.
+ * <p>
+ * Każda sekcja jest budowana jako osobny fragment PDF na puli wątków {@code reportRenderExecutor}.
+ * Po zakończeniu wszystkich fragmentów generowany jest spis treści z numerami stron, a następnie
+ * spis treści i fragmenty są scalane w zadanej kolejności za pomocą {@link PdfCopy}.
+ * Scalony dokument zawiera również zakładki prowadzące do początku każdej sekcji.
+ */
+@Component
+public class ParallelPdfSectionRenderer {
+
+    /**
+     * Renderuje pojedynczą sekcję raportu jako samodzielny dokument PDF.
+     *
+     * @param <T> typ danych sekcji
+     */
+    @FunctionalInterface
+    public interface SectionWriter<T> {
+        void write(T section, OutputStream out) throws DocumentException, IOException;
+    }
+
+    private final ExecutorService executor;
+
+    @Autowired
+    public ParallelPdfSectionRenderer(@Qualifier("reportRenderExecutor") ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Renderuje sekcje równolegle i zapisuje scalony raport ze spisem treści.
+     *
+     * @param title         Tytuł raportu umieszczany nad spisem treści
+     * @param subtitleLines Dodatkowe wiersze nagłówka (np. okres raportu)
+     * @param sections      Sekcje w kolejności, w jakiej mają pojawić się w raporcie
+     * @param sectionTitle  Funkcja zwracająca tytuł sekcji do spisu treści
+     * @param sectionWriter Funkcja renderująca pojedynczą sekcję
+     * @param pageSize      Rozmiar strony spisu treści
+     * @param outputPath    Ścieżka pliku wynikowego
+     * @param <T>           typ danych sekcji
+     * @return Ścieżka zapisanego pliku
+     * @throws DocumentException w przypadku błędu budowania dokumentu
+     * @throws IOException       w przypadku błędu zapisu lub renderowania sekcji
+     */
+    public <T> Path render(String title, List<String> subtitleLines, List<T> sections,
+                           Function<T, String> sectionTitle, SectionWriter<T> sectionWriter,
+                           Rectangle pageSize, Path outputPath) throws DocumentException, IOException {
+        // 1. Render all sections concurrently
+        List<Future<byte[]>> futures = new ArrayList<>(sections.size());
+        for (T section : sections) {
+            futures.add(executor.submit(() -> {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                sectionWriter.write(section, out);
+                return out.toByteArray();
+            }));
+        }
+
+        List<byte[]> fragments = new ArrayList<>(sections.size());
+        try {
+            for (Future<byte[]> future : futures) {
+                fragments.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IOException("Renderowanie sekcji raportu zostało przerwane", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IOException("Błąd podczas renderowania sekcji raportu", e.getCause());
+        }
+
+        // 2. Compute the start page of every section (relative to the first section)
+        List<String> titles = new ArrayList<>(sections.size());
+        int[] startPages = new int[sections.size()];
+        int nextPage = 1;
+        for (int i = 0; i < sections.size(); i++) {
+            titles.add(sectionTitle.apply(sections.get(i)));
+            startPages[i] = nextPage;
+            PdfReader reader = new PdfReader(fragments.get(i));
+            nextPage += reader.getNumberOfPages();
+            reader.close();
+        }
+
+        // 3. Build the table of contents; its length does not depend on the page numbers,
+        //    so a first pass determines the offset and a second pass prints the final numbers
+        byte[] toc = renderTableOfContents(title, subtitleLines, titles, startPages, 0, pageSize);
+        PdfReader tocReader = new PdfReader(toc);
+        int tocPages = tocReader.getNumberOfPages();
+        tocReader.close();
+        toc = renderTableOfContents(title, subtitleLines, titles, startPages, tocPages, pageSize);
+
+        // 4. Merge table of contents and sections in order
+        Files.createDirectories(outputPath.getParent());
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(outputPath))) {
+            Document document = new Document();
+            PdfCopy copy = new PdfCopy(document, out);
+            copy.setFullCompression();
+            document.open();
+
+            appendAllPages(copy, toc);
+            List<HashMap<String, Object>> outlines = new ArrayList<>(sections.size());
+            for (int i = 0; i < fragments.size(); i++) {
+                appendAllPages(copy, fragments.get(i));
+                fragments.set(i, null); // Release the fragment once copied
+
+                HashMap<String, Object> outline = new HashMap<>();
+                outline.put("Title", titles.get(i));
+                outline.put("Action", "GoTo");
+                outline.put("Page", (startPages[i] + tocPages) + " Fit");
+                outlines.add(outline);
+            }
+            copy.setOutlines(outlines);
+
+            document.close();
+        }
+
+        return outputPath;
+    }
+
+    private void appendAllPages(PdfCopy copy, byte[] pdf) throws IOException, DocumentException {
+        PdfReader reader = new PdfReader(pdf);
+        for (int page = 1; page <= reader.getNumberOfPages(); page++) {
+            copy.addPage(copy.getImportedPage(reader, page));
+        }
+        copy.freeReader(reader);
+        reader.close();
+    }
+
+    private byte[] renderTableOfContents(String title, List<String> subtitleLines, List<String> titles,
+                                         int[] startPages, int pageOffset, Rectangle pageSize)
+            throws DocumentException, IOException {
+        BaseFont baseFont = BaseFont.createFont(BaseFont.HELVETICA, "Cp1250", BaseFont.NOT_EMBEDDED);
+        Font titleFont = new Font(baseFont, 18, Font.BOLD);
+        Font subtitleFont = new Font(baseFont, 12, Font.NORMAL);
+        Font sectionFont = new Font(baseFont, 14, Font.BOLD);
+        Font normalFont = new Font(baseFont, 10, Font.NORMAL);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = new Document(pageSize, 36, 36, 54, 36);
+        PdfWriter.getInstance(document, out);
+        document.open();
+
+        Paragraph titleParagraph = new Paragraph(title, titleFont);
+        titleParagraph.setAlignment(Element.ALIGN_CENTER);
+        document.add(titleParagraph);
+        for (String line : subtitleLines) {
+            Paragraph subtitle = new Paragraph(line, subtitleFont);
+            subtitle.setAlignment(Element.ALIGN_CENTER);
+            document.add(subtitle);
+        }
+        document.add(Chunk.NEWLINE);
+        document.add(new Paragraph("Spis treści", sectionFont));
+        document.add(Chunk.NEWLINE);
+
+        PdfPTable table = new PdfPTable(new float[]{9, 1});
+        table.setWidthPercentage(100);
+        for (int i = 0; i < titles.size(); i++) {
+            PdfPCell titleCell = new PdfPCell(new Phrase(titles.get(i), normalFont));
+            titleCell.setBorder(Rectangle.NO_BORDER);
+            table.addCell(titleCell);
+
+            PdfPCell pageCell = new PdfPCell(new Phrase(String.valueOf(startPages[i] + pageOffset), normalFont));
+            pageCell.setBorder(Rectangle.NO_BORDER);
+            pageCell.setHorizontalAlignment(Element.ALIGN_RIGHT);
+            table.addCell(pageCell);
+        }
+        document.add(table);
+
+        document.close();
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.backend.reporting;
+
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.Chunk;
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.Phrase;
+import com.itextpdf.text.pdf.BaseFont;
+import com.itextpdf.text.pdf.PdfPCell;
+import com.itextpdf.text.pdf.PdfPTable;
+import org.example.reporting.model.EmployeeLoad;
+import org.example.reporting.model.TaskDetail;
+
+import java.io.IOException;
+import java.text.DecimalFormat;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * Strumieniowy generator raportu obciążenia pracowników.
+ * <p>
+ * Każdy pracownik jest zapisywany jako osobna sekcja (podsumowanie i tabela zadań) od razu po
+ * pobraniu z iteratora, a podsumowanie całego raportu trafia na koniec dokumentu. Dzięki temu
+ * raport dla tysięcy pracowników nie wymaga trzymania wszystkich pozycji w pamięci.
+ * <p>
+ * Instancja generatora służy do wygenerowania jednego raportu lub jednej sekcji raportu.
+ */
+public class StreamingEmployeeLoadReportGenerator extends AbstractStreamingPdfReportGenerator<EmployeeLoad> {
+
+    private static final String[] TASK_HEADERS = {"Zadanie", "Status", "Termin", "Priorytet", "Szac. godziny"};
+
+    private final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private final DecimalFormat decimalFormat = new DecimalFormat("0.00");
+
+    private Font titleFont;
+    private Font subtitleFont;
+    private Font sectionFont;
+    private Font normalFont;
+    private Font headerFont;
+    private Font delayedFont;
+
+    private int employeeCount;
+    private int totalTaskCount;
+    private double totalHours;
+
+    @Override
+    protected Document createDocument() {
+        return new Document(PageSize.A4.rotate(), 36, 36, 54, 36);
+    }
+
+    @Override
+    protected void initialize() throws DocumentException, IOException {
+        BaseFont baseFont = BaseFont.createFont(BaseFont.HELVETICA, "Cp1250", BaseFont.NOT_EMBEDDED);
+        titleFont = new Font(baseFont, 18, Font.BOLD);
+        subtitleFont = new Font(baseFont, 12, Font.NORMAL);
+        sectionFont = new Font(baseFont, 12, Font.BOLD);
+        normalFont = new Font(baseFont, 10, Font.NORMAL);
+        headerFont = new Font(baseFont, 10, Font.BOLD);
+        delayedFont = new Font(baseFont, 10, Font.NORMAL, BaseColor.RED);
+    }
+
+    @Override
+    protected void writeHeader(Document document, Map<String, Object> parameters) throws DocumentException {
+        Paragraph title = new Paragraph("Raport obciążenia pracownika", titleFont);
+        title.setAlignment(Element.ALIGN_CENTER);
+        document.add(title);
+        document.add(Chunk.NEWLINE);
+
+        if (parameters.containsKey("dateFrom") && parameters.containsKey("dateTo")) {
+            Paragraph period = new Paragraph("Okres: " + parameters.get("dateFrom") + " - " + parameters.get("dateTo"),
+                    subtitleFont);
+            period.setAlignment(Element.ALIGN_CENTER);
+            document.add(period);
+        }
+        if (parameters.containsKey("workingDays")) {
+            Paragraph workingDays = new Paragraph("Dni robocze w okresie: " + parameters.get("workingDays"), subtitleFont);
+            workingDays.setAlignment(Element.ALIGN_CENTER);
+            document.add(workingDays);
+        }
+        document.add(Chunk.NEWLINE);
+    }
+
+    @Override
+    protected void writeItem(Document document, EmployeeLoad item) throws DocumentException {
+        employeeCount++;
+        totalTaskCount += item.getTaskCount() != null ? item.getTaskCount() : 0;
+        totalHours += item.getTotalHours() != null ? item.getTotalHours() : 0.0;
+
+        document.add(new Paragraph(item.getEmployeeName(), sectionFont));
+
+        StringBuilder summary = new StringBuilder()
+                .append("Liczba zadań: ").append(item.getTaskCount())
+                .append("   Godziny pracy: ").append(decimalFormat.format(item.getTotalHours()))
+                .append("   FTE: ").append(item.getFteEquivalent() != null ? decimalFormat.format(item.getFteEquivalent()) : "N/A");
+        if (item.getTasksByStatus() != null && !item.getTasksByStatus().isEmpty()) {
+            summary.append("   Statusy: ");
+            item.getTasksByStatus().forEach((status, count) -> summary.append(status).append(": ").append(count).append(" | "));
+        }
+        document.add(new Paragraph(summary.toString(), normalFont));
+
+        if (item.getTasks() != null && !item.getTasks().isEmpty()) {
+            document.add(Chunk.NEWLINE);
+
+            PdfPTable table = new PdfPTable(TASK_HEADERS.length);
+            table.setWidthPercentage(100);
+            table.setHeaderRows(1);
+            table.setComplete(false);
+            for (String header : TASK_HEADERS) {
+                PdfPCell cell = new PdfPCell(new Phrase(header, headerFont));
+                cell.setBackgroundColor(BaseColor.LIGHT_GRAY);
+                cell.setPadding(4);
+                table.addCell(cell);
+            }
+
+            int rowCount = 0;
+            for (TaskDetail task : item.getTasks()) {
+                Font font = task.isDelayed() ? delayedFont : normalFont;
+                table.addCell(new Phrase(task.getTaskName(), font));
+                table.addCell(new Phrase(task.getStatus(), font));
+                table.addCell(new Phrase(task.getDeadlineDate() != null ?
+                        task.getDeadlineDate().format(dateFormatter) : "Brak terminu", font));
+                table.addCell(new Phrase(task.getPriority(), font));
+                table.addCell(new Phrase(decimalFormat.format(task.getEstimatedHours()), font));
+                flushIfNeeded(document, table, ++rowCount);
+            }
+
+            table.setComplete(true);
+            document.add(table);
+        }
+        document.add(Chunk.NEWLINE);
+    }
+
+    @Override
+    protected void writeFooter(Document document, Map<String, Object> parameters) throws DocumentException {
+        document.add(new Paragraph("Podsumowanie", sectionFont));
+        document.add(new Paragraph("Liczba pracowników: " + employeeCount, normalFont));
+        document.add(new Paragraph("Łączna liczba zadań: " + totalTaskCount, normalFont));
+        document.add(new Paragraph("Łączne godziny pracy: " + decimalFormat.format(totalHours), normalFont));
+    }
+}
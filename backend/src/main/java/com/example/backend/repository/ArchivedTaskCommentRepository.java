@@ -0,0 +1,51 @@
+package com.example.backend.repository;
+
+import com.example.backend.models.ArchivedTaskComment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repozytorium dla encji {@link ArchivedTaskComment}.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface ArchivedTaskCommentRepository extends JpaRepository<ArchivedTaskComment, Integer> {
+
+    /**
+     * Kopiuje komentarze podanych zadań z tabeli {@code task_comments} do archiwum.
+     *
+     * @param taskIds ID zadań.
+     * @return Liczba skopiowanych komentarzy.
+     */
+    @Modifying
+    @Query("INSERT INTO ArchivedTaskComment (id, taskId, user, comment, createdAt) "
+            + "SELECT c.id, c.task.id, c.user, c.comment, c.createdAt FROM TaskComment c WHERE c.task.id IN :taskIds")
+    int copyFromTaskComments(@Param("taskIds") Collection<Integer> taskIds);
+
+    /**
+     * Znajduje komentarze zarchiwizowanego zadania.
+     *
+     * @param taskId ID zarchiwizowanego zadania.
+     * @return Lista komentarzy.
+     */
+    List<ArchivedTaskComment> findByTaskId(Integer taskId);
+
+    /**
+     * Usuwa komentarze zarchiwizowanych zadań zespołu.
+     *
+     * @param teamId ID zespołu.
+     * @return Liczba usuniętych wierszy.
+     */
+    @Modifying
+    @Query("DELETE FROM ArchivedTaskComment c WHERE c.taskId IN "
+            + "(SELECT a.id FROM ArchivedTask a WHERE a.team.id = :teamId)")
+    int deleteByArchivedTaskTeamId(@Param("teamId") Integer teamId);
+}
@@ -0,0 +1,52 @@
+package com.example.backend.repository;
+
+import com.example.backend.models.ArchivedTaskHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repozytorium dla encji {@link ArchivedTaskHistory}.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface ArchivedTaskHistoryRepository extends JpaRepository<ArchivedTaskHistory, Integer> {
+
+    /**
+     * Kopiuje historię zmian podanych zadań z tabeli {@code task_history} do archiwum.
+     *
+     * @param taskIds ID zadań.
+     * @return Liczba skopiowanych wpisów.
+     */
+    @Modifying
+    @Query("INSERT INTO ArchivedTaskHistory (id, taskId, changedBy, fieldName, oldValue, newValue, changedAt) "
+            + "SELECT h.id, h.task.id, h.changedBy, h.fieldName, h.oldValue, h.newValue, h.changedAt "
+            + "FROM TaskHistory h WHERE h.task.id IN :taskIds")
+    int copyFromTaskHistory(@Param("taskIds") Collection<Integer> taskIds);
+
+    /**
+     * Znajduje historię zmian zarchiwizowanego zadania.
+     *
+     * @param taskId ID zarchiwizowanego zadania.
+     * @return Lista wpisów historii.
+     */
+    List<ArchivedTaskHistory> findByTaskId(Integer taskId);
+
+    /**
+     * Usuwa historię zmian zarchiwizowanych zadań zespołu.
+     *
+     * @param teamId ID zespołu.
+     * @return Liczba usuniętych wierszy.
+     */
+    @Modifying
+    @Query("DELETE FROM ArchivedTaskHistory h WHERE h.taskId IN "
+            + "(SELECT a.id FROM ArchivedTask a WHERE a.team.id = :teamId)")
+    int deleteByArchivedTaskTeamId(@Param("teamId") Integer teamId);
+}
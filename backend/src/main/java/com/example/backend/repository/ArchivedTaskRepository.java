@@ -0,0 +1,118 @@
+package com.example.backend.repository;
+
+import com.example.backend.models.ArchivedTask;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repozytorium dla encji {@link ArchivedTask}.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Integer> {
+
+    /**
+     * Kopiuje podane zadania z tabeli {@code tasks} do archiwum jednym zapytaniem {@code INSERT ... SELECT}.
+     *
+     * @param taskIds    ID zadań.
+     * @param archivedAt Moment archiwizacji.
+     * @return Liczba skopiowanych zadań.
+     */
+    @Modifying
+    @Query("INSERT INTO ArchivedTask (id, title, description, team, priority, status, startDate, deadline, "
+            + "completedDate, createdBy, createdAt, updatedAt, version, archivedAt) "
+            + "SELECT t.id, t.title, t.description, t.team, t.priority, t.status, t.startDate, t.deadline, "
+            + "t.completedDate, t.createdBy, t.createdAt, t.updatedAt, t.version, :archivedAt "
+            + "FROM Task t WHERE t.id IN :taskIds")
+    int copyFromTasks(@Param("taskIds") Collection<Integer> taskIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * Usuwa zarchiwizowane zadania zespołu. Ich komentarze i historię zmian należy usunąć wcześniej.
+     *
+     * @param teamId ID zespołu.
+     * @return Liczba usuniętych zadań.
+     */
+    @Modifying
+    @Query("DELETE FROM ArchivedTask a WHERE a.team.id = :teamId")
+    int deleteByTeamId(@Param("teamId") Integer teamId);
+
+    /**
+     * Zwraca najpóźniejszą datę zakończenia zarchiwizowanego zadania.
+     * Raport, którego okres zaczyna się później, nie musi odczytywać archiwum.
+     *
+     * @return Data zakończenia ostatnio zakończonego zarchiwizowanego zadania lub pusty Optional, gdy archiwum jest puste.
+     */
+    @Query("SELECT MAX(a.completedDate) FROM ArchivedTask a")
+    Optional<LocalDate> findLatestCompletedDate();
+
+    /**
+     * Pobiera zarchiwizowane zadania zespołu zakończone w podanym dniu lub później,
+     * wraz z danymi potrzebnymi w raportach (zespół, status, priorytet, twórca).
+     *
+     * @param teamId        ID zespołu.
+     * @param completedFrom Najwcześniejsza data zakończenia.
+     * @return Lista zarchiwizowanych zadań zespołu.
+     */
+    @Query("SELECT a FROM ArchivedTask a JOIN FETCH a.team LEFT JOIN FETCH a.status LEFT JOIN FETCH a.priority "
+            + "LEFT JOIN FETCH a.createdBy WHERE a.team.id = :teamId AND a.completedDate >= :completedFrom")
+    List<ArchivedTask> findForReportByTeamId(@Param("teamId") Integer teamId,
+                                             @Param("completedFrom") LocalDate completedFrom);
+
+    /**
+     * Pobiera zarchiwizowane zadania zespołów zakończone w podanym dniu lub później, które rozpoczęły się
+     * lub zostały utworzone przed końcem okresu raportu (odpowiednik
+     * {@link TaskRepository#findTeamTasksStartedOrCreatedBefore}).
+     *
+     * @param completedFrom     Najwcześniejsza data zakończenia.
+     * @param startedOnOrBefore Najpóźniejsza data rozpoczęcia.
+     * @param createdBefore     Moment, przed którym zadanie zostało utworzone.
+     * @return Lista zarchiwizowanych zadań zespołów.
+     */
+    @Query("SELECT a FROM ArchivedTask a JOIN FETCH a.team LEFT JOIN FETCH a.status LEFT JOIN FETCH a.priority "
+            + "LEFT JOIN FETCH a.createdBy WHERE a.completedDate >= :completedFrom "
+            + "AND (a.startDate <= :startedOnOrBefore OR a.createdAt < :createdBefore)")
+    List<ArchivedTask> findTeamTasksCompletedFromStartedOrCreatedBefore(@Param("completedFrom") LocalDate completedFrom,
+                                                                        @Param("startedOnOrBefore") LocalDate startedOnOrBefore,
+                                                                        @Param("createdBefore") LocalDateTime createdBefore);
+
+    /**
+     * Strumieniuje zarchiwizowane zadania zespołów, w których użytkownik jest aktywnym członkiem, zakończone
+     * w podanym dniu lub później, które rozpoczęły się lub zostały utworzone przed końcem okresu raportu
+     * (odpowiednik {@link TaskRepository#streamUserTeamTasksStartedOrCreatedBefore}). Strumień musi być
+     * używany wewnątrz transakcji i zamknięty po użyciu.
+     *
+     * @param userId            ID użytkownika.
+     * @param completedFrom     Najwcześniejsza data zakończenia.
+     * @param startedOnOrBefore Najpóźniejsza data rozpoczęcia.
+     * @param createdBefore     Moment, przed którym zadanie zostało utworzone.
+     * @return Strumień zarchiwizowanych zadań zespołów użytkownika.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + TaskRepository.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT a FROM ArchivedTask a LEFT JOIN FETCH a.status LEFT JOIN FETCH a.priority "
+            + "WHERE a.team.id IN (SELECT m.team.id FROM TeamMember m WHERE m.user.id = :userId AND m.isActive = true) "
+            + "AND a.completedDate >= :completedFrom "
+            + "AND (a.startDate <= :startedOnOrBefore OR a.createdAt < :createdBefore) ORDER BY a.id")
+    Stream<ArchivedTask> streamUserTeamTasksCompletedFromStartedOrCreatedBefore(@Param("userId") Integer userId,
+                                                                                @Param("completedFrom") LocalDate completedFrom,
+                                                                                @Param("startedOnOrBefore") LocalDate startedOnOrBefore,
+                                                                                @Param("createdBefore") LocalDateTime createdBefore);
+}
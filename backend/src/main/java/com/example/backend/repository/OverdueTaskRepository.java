@@ -0,0 +1,60 @@
+package com.example.backend.repository;
+
+import com.example.backend.models.OverdueTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Repozytorium dla encji {@link OverdueTask}.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface OverdueTaskRepository extends JpaRepository<OverdueTask, Integer> {
+
+    /**
+     * Oznacza jako zadania po terminie wszystkie niezakończone zadania z terminem w podanym zakresie,
+     * które nie są jeszcze oznaczone. Zakres jest wyszukiwany indeksem {@code (completed_date, deadline)}.
+     *
+     * @param from       Początek zakresu terminów (włącznie).
+     * @param to         Koniec zakresu terminów (wyłącznie).
+     * @param detectedAt Moment wykrycia.
+     * @return Liczba oznaczonych zadań.
+     */
+    @Modifying
+    @Query("INSERT INTO OverdueTask (taskId, detectedAt) SELECT t.id, :detectedAt FROM Task t "
+            + "WHERE t.completedDate IS NULL AND t.deadline >= :from AND t.deadline < :to "
+            + "AND NOT EXISTS (SELECT 1 FROM OverdueTask o WHERE o.taskId = t.id)")
+    int insertOpenTasksWithDeadlineBetween(@Param("from") LocalDate from,
+                                           @Param("to") LocalDate to,
+                                           @Param("detectedAt") LocalDateTime detectedAt);
+
+    /**
+     * Usuwa oznaczenia zadań, które zostały zakończone, mają przesunięty termin lub już nie istnieją.
+     *
+     * @param today Bieżąca data.
+     * @return Liczba usuniętych oznaczeń.
+     */
+    @Modifying
+    @Query("DELETE FROM OverdueTask o WHERE NOT EXISTS (SELECT 1 FROM Task t WHERE t.id = o.taskId "
+            + "AND t.completedDate IS NULL AND t.deadline < :today)")
+    int deleteResolved(@Param("today") LocalDate today);
+
+    /**
+     * Usuwa oznaczenia podanych zadań.
+     *
+     * @param taskIds ID zadań.
+     * @return Liczba usuniętych oznaczeń.
+     */
+    @Modifying
+    @Query("DELETE FROM OverdueTask o WHERE o.taskId IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Integer> taskIds);
+}
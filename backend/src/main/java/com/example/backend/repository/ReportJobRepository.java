@@ -0,0 +1,123 @@
+package com.example.backend.repository;
+
+import com.example.backend.models.Report;
+import com.example.backend.models.ReportJob;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reposytorium dla encji {@link ReportJob}.
+ * <p>
+ * Oprócz podstawowych operacji CRUD udostępnia zapytanie pobierające zlecenia do przetworzenia
+ * z blokadą {@code SELECT ... FOR UPDATE SKIP LOCKED}, dzięki czemu wiele procesów roboczych może
+ * pobierać zlecenia równolegle bez czekania na siebie i bez przetwarzania tego samego zlecenia dwukrotnie.
+ * Na bazie H2 wskazówka {@code SKIP LOCKED} jest pomijana i procesy robocze czekają na blokadę.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface ReportJobRepository extends JpaRepository<ReportJob, Integer> {
+
+    /**
+     * Znajduje i blokuje najstarsze zlecenia o podanym stanie, pomijając zlecenia zablokowane
+     * przez inne transakcje. Musi być wywoływane wewnątrz transakcji.
+     *
+     * @param status   Stan zleceń (zwykle {@link ReportJob.Status#PENDING}).
+     * @param pageable Maksymalna liczba pobieranych zleceń.
+     * @return Lista zablokowanych zleceń.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT j FROM ReportJob j WHERE j.status = :status ORDER BY j.id")
+    List<ReportJob> findAndLockByStatus(@Param("status") ReportJob.Status status, Pageable pageable);
+
+    /**
+     * Znajduje i blokuje przetwarzane zlecenia, których proces roboczy nie potwierdził od wskazanego
+     * momentu, pomijając zlecenia zablokowane przez inne transakcje. Musi być wywoływane wewnątrz transakcji.
+     *
+     * @param heartbeatBefore Moment, przed którym nastąpiło ostatnie potwierdzenie.
+     * @return Lista zablokowanych zleceń.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT j FROM ReportJob j WHERE j.status = com.example.backend.models.ReportJob.Status.RUNNING "
+            + "AND j.heartbeatAt < :heartbeatBefore ORDER BY j.id")
+    List<ReportJob> findAndLockStale(@Param("heartbeatBefore") LocalDateTime heartbeatBefore);
+
+    /**
+     * Przedłuża rezerwację zlecenia, o ile nadal jest przetwarzane przez podany proces roboczy.
+     *
+     * @param id       ID zlecenia.
+     * @param workerId Identyfikator procesu roboczego.
+     * @param now      Bieżący moment.
+     * @return Liczba zmienionych wierszy (0, jeśli zlecenie nie należy już do procesu).
+     */
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.heartbeatAt = :now WHERE j.id = :id AND j.workerId = :workerId "
+            + "AND j.status = com.example.backend.models.ReportJob.Status.RUNNING")
+    int renewLease(@Param("id") Integer id, @Param("workerId") String workerId, @Param("now") LocalDateTime now);
+
+    /**
+     * Oznacza zlecenie jako zakończone, o ile nadal jest przetwarzane przez podany proces roboczy.
+     *
+     * @param id       ID zlecenia.
+     * @param workerId Identyfikator procesu roboczego.
+     * @param report   Wygenerowany raport.
+     * @param now      Bieżący moment.
+     * @return Liczba zmienionych wierszy (0, jeśli zlecenie nie należy już do procesu).
+     */
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.status = com.example.backend.models.ReportJob.Status.COMPLETED, "
+            + "j.report = :report, j.errorMessage = NULL, j.finishedAt = :now "
+            + "WHERE j.id = :id AND j.workerId = :workerId "
+            + "AND j.status = com.example.backend.models.ReportJob.Status.RUNNING")
+    int markCompleted(@Param("id") Integer id, @Param("workerId") String workerId,
+                      @Param("report") Report report, @Param("now") LocalDateTime now);
+
+    /**
+     * Przywraca nieudane zlecenie do kolejki, o ile nadal jest przetwarzane przez podany proces roboczy
+     * i nie wyczerpało dopuszczalnej liczby prób.
+     *
+     * @param id           ID zlecenia.
+     * @param workerId     Identyfikator procesu roboczego.
+     * @param errorMessage Opis błędu.
+     * @param maxAttempts  Dopuszczalna liczba prób.
+     * @return Liczba zmienionych wierszy.
+     */
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.status = com.example.backend.models.ReportJob.Status.PENDING, "
+            + "j.errorMessage = :errorMessage, j.workerId = NULL, j.claimedAt = NULL, j.heartbeatAt = NULL "
+            + "WHERE j.id = :id AND j.workerId = :workerId AND j.attempts < :maxAttempts "
+            + "AND j.status = com.example.backend.models.ReportJob.Status.RUNNING")
+    int requeueFailed(@Param("id") Integer id, @Param("workerId") String workerId,
+                      @Param("errorMessage") String errorMessage, @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Oznacza zlecenie jako nieudane, o ile nadal jest przetwarzane przez podany proces roboczy.
+     *
+     * @param id           ID zlecenia.
+     * @param workerId     Identyfikator procesu roboczego.
+     * @param errorMessage Opis błędu.
+     * @param now          Bieżący moment.
+     * @return Liczba zmienionych wierszy.
+     */
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.status = com.example.backend.models.ReportJob.Status.FAILED, "
+            + "j.errorMessage = :errorMessage, j.finishedAt = :now "
+            + "WHERE j.id = :id AND j.workerId = :workerId "
+            + "AND j.status = com.example.backend.models.ReportJob.Status.RUNNING")
+    int markFailed(@Param("id") Integer id, @Param("workerId") String workerId,
+                   @Param("errorMessage") String errorMessage, @Param("now") LocalDateTime now);
+}
@@ -3,7 +3,9 @@ package  com.example.backend.repository;
 import com.example.backend.models.Report;
 import com.example.backend.models.ReportType;
 import com.example.backend.models.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -32,6 +34,7 @@ public interface ReportRepository extends JpaRepository<Report, Integer>
      * @param type Typ raportu.
      * @return Lista raportów o podanym typie.
      */
+    @EntityGraph(Report.GRAPH_WITH_TYPE_AND_CREATOR)
     List<Report> findByType(ReportType type);
 
     /**
@@ -40,7 +43,18 @@ public interface ReportRepository extends JpaRepository<Report, Integer>
      * @param user Użytkownik, który stworzył raporty.
      * @return Lista raportów stworzonych przez określonego użytkownika.
      */
+    @EntityGraph(Report.GRAPH_WITH_TYPE_AND_CREATOR)
     List<Report> findByCreatedBy(User user);
 
+    @EntityGraph(Report.GRAPH_WITH_TYPE_AND_CREATOR)
     Optional<Report> findById(Long id);
+
+    /**
+     * Znajduje wszystkie raporty wraz z typem i twórcą w jednym zapytaniu.
+     *
+     * @return Lista wszystkich raportów.
+     */
+    @EntityGraph(Report.GRAPH_WITH_TYPE_AND_CREATOR)
+    @Query("SELECT r FROM Report r")
+    List<Report> findAllWithTypeAndCreator();
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.example.backend.repository;
+
+import com.example.backend.models.ScanWatermark;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Repozytorium dla encji {@link ScanWatermark}.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface ScanWatermarkRepository extends JpaRepository<ScanWatermark, String> {
+
+    /**
+     * Znajduje znacznik przeszukiwania i blokuje jego wiersz do końca transakcji ({@code SELECT ... FOR UPDATE}),
+     * aby przeszukiwania o tej samej nazwie były wykonywane kolejno.
+     *
+     * @param name Nazwa przeszukiwania.
+     * @return Opcjonalny zablokowany znacznik.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM ScanWatermark w WHERE w.name = :name")
+    Optional<ScanWatermark> findLockedByName(@Param("name") String name);
+
+    /**
+     * Cofa znacznik przeszukiwania do podanej daty, jeśli jest późniejszy, tak aby kolejne przeszukiwanie
+     * ponownie objęło zakres od tej daty.
+     *
+     * @param name Nazwa przeszukiwania.
+     * @param date Data, od której dane trzeba przeszukać ponownie.
+     * @return Liczba zmienionych wierszy.
+     */
+    @Modifying
+    @Query("UPDATE ScanWatermark w SET w.watermark = :date WHERE w.name = :name AND w.watermark > :date")
+    int lowerWatermark(@Param("name") String name, @Param("date") LocalDate date);
+}
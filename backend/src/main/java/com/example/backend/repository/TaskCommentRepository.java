@@ -3,9 +3,14 @@ package  com.example.backend.repository;
 import com.example.backend.models.Task;
 import com.example.backend.models.TaskComment;
 import com.example.backend.models.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -29,6 +34,7 @@ public interface TaskCommentRepository extends JpaRepository<TaskComment, Intege
      * @param task Zadanie, do którego komentarze mają zostać zwrócone.
      * @return Lista komentarzy przypisanych do podanego zadania.
      */
+    @EntityGraph(TaskComment.GRAPH_WITH_USER)
     List<TaskComment> findByTask(Task task);
 
     /**
@@ -37,6 +43,35 @@ public interface TaskCommentRepository extends JpaRepository<TaskComment, Intege
      * @param user Użytkownik, którego komentarze mają zostać zwrócone.
      * @return Lista komentarzy przypisanych do podanego użytkownika.
      */
+    @EntityGraph(TaskComment.GRAPH_WITH_USER)
     List<TaskComment> findByUser(User user);
 
-}
\ No newline at end of file
+    /**
+     * Znajduje wszystkie komentarze wraz z autorami w jednym zapytaniu.
+     *
+     * @return Lista wszystkich komentarzy.
+     */
+    @EntityGraph(TaskComment.GRAPH_WITH_USER)
+    @Query("SELECT c FROM TaskComment c")
+    List<TaskComment> findAllWithUser();
+
+    /**
+     * Znajduje komentarze zadania wraz z autorami w jednym zapytaniu, od najstarszego.
+     *
+     * @param taskId ID zadania.
+     * @return Lista komentarzy zadania.
+     */
+    @Query("SELECT c FROM TaskComment c JOIN FETCH c.user WHERE c.task.id = :taskId ORDER BY c.createdAt, c.id")
+    List<TaskComment> findWithUserByTaskId(@Param("taskId") Integer taskId);
+
+
+    /**
+     * Usuwa komentarze podanych zadań.
+     *
+     * @param taskIds ID zadań.
+     * @return Liczba usuniętych komentarzy.
+     */
+    @Modifying
+    @Query("DELETE FROM TaskComment c WHERE c.task.id IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Integer> taskIds);
+}
@@ -0,0 +1,68 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.TaskDependencyDTO;
+import com.example.backend.models.TaskDependency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repozytorium dla encji {@link TaskDependency}.
+ * <p>
+ * Zależności są zwracane jako DTO bezpośrednio z kolumn tabeli {@code task_dependencies},
+ * bez wczytywania encji zadań.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, Integer> {
+
+    /**
+     * Projekcja zależności do {@link TaskDependencyDTO}.
+     */
+    String TASK_DEPENDENCY_DTO_SELECT = "SELECT new com.example.backend.dto.TaskDependencyDTO(d.id, "
+            + "d.predecessor.id, d.successor.id) FROM TaskDependency d ";
+
+    /**
+     * Pobiera zależności między zadaniami zespołu. Zależności z zadaniami innych zespołów są pomijane.
+     *
+     * @param teamId ID zespołu.
+     * @return Lista zależności.
+     */
+    @Query(TASK_DEPENDENCY_DTO_SELECT + "WHERE d.predecessor.team.id = :teamId AND d.successor.team.id = :teamId")
+    List<TaskDependencyDTO> findAsDTOByTeamId(@Param("teamId") Integer teamId);
+
+    /**
+     * Pobiera zależności, w których zadanie jest poprzednikiem lub następnikiem.
+     *
+     * @param taskId ID zadania.
+     * @return Lista zależności.
+     */
+    @Query(TASK_DEPENDENCY_DTO_SELECT + "WHERE d.predecessor.id = :taskId OR d.successor.id = :taskId")
+    List<TaskDependencyDTO> findAsDTOByTaskId(@Param("taskId") Integer taskId);
+
+    /**
+     * Sprawdza, czy zależność między zadaniami już istnieje.
+     */
+    boolean existsByPredecessorIdAndSuccessorId(Integer predecessorId, Integer successorId);
+
+    /**
+     * Sprawdza, czy zadanie jest osiągalne z innego zadania po ścieżce zależności,
+     * tzn. czy dodanie zależności {@code toTaskId -> fromTaskId} utworzyłoby cykl.
+     * Ścieżka jest wyznaczana rekurencyjnym zapytaniem {@code WITH RECURSIVE} w bazie.
+     *
+     * @param fromTaskId ID zadania początkowego.
+     * @param toTaskId   ID zadania szukanego.
+     * @return Liczba większa od zera, jeśli ścieżka istnieje.
+     */
+    @Query(value = "WITH RECURSIVE reachable (task_id) AS ("
+            + "SELECT d.successor_id FROM task_dependencies d WHERE d.predecessor_id = :fromTaskId "
+            + "UNION "
+            + "SELECT d.successor_id FROM task_dependencies d JOIN reachable r ON d.predecessor_id = r.task_id) "
+            + "SELECT COUNT(*) FROM reachable WHERE task_id = :toTaskId", nativeQuery = true)
+    long countPathsBetween(@Param("fromTaskId") Integer fromTaskId, @Param("toTaskId") Integer toTaskId);
+}
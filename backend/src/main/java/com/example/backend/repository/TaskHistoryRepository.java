@@ -1,10 +1,16 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.TaskHistoryDTO;
 import com.example.backend.models.Task;
 import com.example.backend.models.TaskHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -27,4 +33,65 @@ public interface TaskHistoryRepository extends JpaRepository<TaskHistory, Intege
      * @return Lista historii zmian wykonanych przez użytkownika o podanym ID.
      */
     List<TaskHistory> findByChangedBy(Integer changedBy);
-}
\ No newline at end of file
+
+    /**
+     * Odczytuje historię zmian zadania wraz z danymi użytkowników, którzy dokonali zmian, w jednym
+     * zapytaniu, od najstarszej zmiany. Wpisy użytkowników, którzy już nie istnieją, nie mają ich danych.
+     *
+     * @param taskId ID zadania.
+     * @return Lista wpisów historii zadania.
+     */
+    @Query("SELECT new com.example.backend.dto.TaskHistoryDTO(h.id, h.task.id, h.changedBy, h.fieldName, "
+            + "h.oldValue, h.newValue, h.changedAt, u.username, CONCAT(u.firstName, ' ', u.lastName)) "
+            + "FROM TaskHistory h LEFT JOIN User u ON u.id = h.changedBy "
+            + "WHERE h.task.id = :taskId ORDER BY h.changedAt, h.id")
+    List<TaskHistoryDTO> findWithUserByTaskId(@Param("taskId") Integer taskId);
+
+    /**
+     * Usuwa historię zmian podanych zadań.
+     *
+     * @param taskIds ID zadań.
+     * @return Liczba usuniętych wpisów.
+     */
+    @Modifying
+    @Query("DELETE FROM TaskHistory h WHERE h.task.id IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Integer> taskIds);
+
+    /**
+     * Zapisuje jednym zapytaniem {@code INSERT ... SELECT} zmianę statusu podanych zadań,
+     * z bieżącą nazwą statusu zadania jako poprzednią wartością. Wywoływane przed zmianą statusu.
+     *
+     * @param taskIds   ID zadań, których status się zmienia.
+     * @param changedBy ID użytkownika, który dokonał zmiany.
+     * @param newValue  Nazwa nowego statusu.
+     * @param changedAt Moment zmiany.
+     * @return Liczba zapisanych wpisów.
+     */
+    @Modifying
+    @Query("INSERT INTO TaskHistory (task, changedBy, fieldName, oldValue, newValue, changedAt) "
+            + "SELECT t, :changedBy, 'status', s.name, :newValue, :changedAt "
+            + "FROM Task t JOIN t.status s WHERE t.id IN :taskIds")
+    int insertStatusChanges(@Param("taskIds") Collection<Integer> taskIds,
+                            @Param("changedBy") Integer changedBy,
+                            @Param("newValue") String newValue,
+                            @Param("changedAt") LocalDateTime changedAt);
+
+    /**
+     * Zapisuje jednym zapytaniem {@code INSERT ... SELECT} ustawienie daty zakończenia tym
+     * z podanych zadań, które jeszcze jej nie mają. Wywoływane przed zmianą zadań.
+     *
+     * @param taskIds   ID zadań.
+     * @param changedBy ID użytkownika, który dokonał zmiany.
+     * @param newValue  Nowa data zakończenia.
+     * @param changedAt Moment zmiany.
+     * @return Liczba zapisanych wpisów.
+     */
+    @Modifying
+    @Query("INSERT INTO TaskHistory (task, changedBy, fieldName, newValue, changedAt) "
+            + "SELECT t, :changedBy, 'completedDate', :newValue, :changedAt "
+            + "FROM Task t WHERE t.id IN :taskIds AND t.completedDate IS NULL")
+    int insertCompletedDateChanges(@Param("taskIds") Collection<Integer> taskIds,
+                                   @Param("changedBy") Integer changedBy,
+                                   @Param("newValue") String newValue,
+                                   @Param("changedAt") LocalDateTime changedAt);
+}
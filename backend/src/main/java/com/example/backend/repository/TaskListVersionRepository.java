@@ -0,0 +1,40 @@
+package com.example.backend.repository;
+
+import com.example.backend.models.TaskListVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repozytorium dla encji {@link TaskListVersion}.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface TaskListVersionRepository extends JpaRepository<TaskListVersion, String> {
+
+    /**
+     * Pobiera wersję listy zadań.
+     *
+     * @param name Nazwa listy.
+     * @return Opcjonalna wersja listy.
+     */
+    @Query("SELECT v.version FROM TaskListVersion v WHERE v.name = :name")
+    Optional<Long> findVersionByName(@Param("name") String name);
+
+    /**
+     * Zwiększa wersję listy zadań o jeden. Zmiana jest wykonywana przez bazę danych względem bieżącej
+     * wartości, więc równoległe transakcje nie nadpisują swoich zmian.
+     *
+     * @param name Nazwa listy.
+     * @return Liczba zmienionych wierszy (0, jeśli lista nie ma jeszcze wiersza).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TaskListVersion v SET v.version = v.version + 1 WHERE v.name = :name")
+    int increment(@Param("name") String name);
+}
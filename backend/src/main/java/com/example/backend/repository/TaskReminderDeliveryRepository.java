@@ -0,0 +1,31 @@
+package com.example.backend.repository;
+
+import com.example.backend.models.TaskReminderDelivery;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * Repozytorium dla encji {@link TaskReminderDelivery}.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface TaskReminderDeliveryRepository extends JpaRepository<TaskReminderDelivery, Long> {
+
+    /**
+     * Usuwa zapisy przypomnień o terminach wcześniejszych niż podana data; takie przypomnienia
+     * nie są już wysyłane.
+     *
+     * @param date Najwcześniejszy termin, którego zapisy są zachowywane.
+     * @return Liczba usuniętych zapisów.
+     */
+    @Modifying
+    @Query("DELETE FROM TaskReminderDelivery d WHERE d.deadline < :date")
+    int deleteByDeadlineBefore(@Param("date") LocalDate date);
+}
@@ -1,15 +1,33 @@
 package  com.example.backend.repository;
 
+import com.example.backend.dto.TaskCountGroupDTO;
+import com.example.backend.dto.TaskDTO;
+import com.example.backend.dto.TaskReminderDTO;
 import com.example.backend.models.Task;
 import com.example.backend.models.TaskStatus;
 import com.example.backend.models.User;
 import com.example.backend.models.Team;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Reposytorium dla encji {@link Task}.
@@ -19,14 +37,15 @@ import java.util.Optional;
  * umożliwia wstrzykiwanie zależności.
  * <p>
  * Zawiera metody umożliwiające wyszukiwanie zadań na podstawie różnych kryteriów, takich jak zespół, status, użytkownik, termin
- * lub tytuł zadania.
+ * lub tytuł zadania. Filtrowanie według wielu kryteriów naraz odbywa się przez {@link JpaSpecificationExecutor}
+ * ze specyfikacjami z {@link TaskSpecifications}.
  *
  * @author Jakub
  * @version 1.0.0
  * @since 1.0.0
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Integer> {
+public interface TaskRepository extends JpaRepository<Task, Integer>, JpaSpecificationExecutor<Task> {
 
     /**
      * Znajduje wszystkie zadania przypisane do konkretnego zespołu.
@@ -92,6 +111,330 @@ public interface TaskRepository extends JpaRepository<Task, Integer> {
      */
     List<Task> findByPriorityId(Integer priorityId);
 
+    /**
+     * Znajduje zadania zespołu wraz z danymi potrzebnymi do raportów (zespół, status, priorytet, twórca)
+     * w jednym zapytaniu.
+     *
+     * @param teamId ID zespołu.
+     * @return Lista zadań zespołu.
+     */
+    @EntityGraph(Task.GRAPH_REPORT_DATA)
+    List<Task> findForReportByTeamId(Integer teamId);
+
+    /**
+     * Znajduje zadanie wraz z zespołem i jego kierownikiem, statusem, priorytetem, twórcą
+     * i zadaniem nadrzędnym w jednym zapytaniu.
+     *
+     * @param id ID zadania.
+     * @return Opcjonalne zadanie z wczytanymi powiązaniami.
+     */
+    @EntityGraph(Task.GRAPH_DETAIL)
+    Optional<Task> findDetailedById(Integer id);
+
+    /**
+     * Liczba wierszy pobieranych z bazy w jednej porcji podczas strumieniowania zadań.
+     */
+    int EXPORT_FETCH_SIZE = 500;
+
+    /**
+     * Wspólna część zapytań budujących {@link TaskDTO} bezpośrednio z kolumn tabeli {@code tasks}.
+     * Odwołania do identyfikatorów powiązanych encji są odczytywane z kolumn kluczy obcych,
+     * więc zapytanie nie dołącza tabel zespołów, priorytetów, statusów ani użytkowników.
+     */
+    String TASK_DTO_SELECT = "SELECT new com.example.backend.dto.TaskDTO(t.id, t.title, t.description, t.task.id, "
+            + "t.team.id, t.priority.id, t.status.id, t.startDate, t.deadline, t.completedDate, "
+            + "t.createdBy.id, t.createdAt, t.updatedAt, t.version) FROM Task t ";
+
+    /**
+     * Pobiera wszystkie zadania jako DTO.
+     *
+     * @return Lista wszystkich zadań.
+     */
+    @Query(TASK_DTO_SELECT + "ORDER BY t.id")
+    List<TaskDTO> findAllAsDTO();
+
+    /**
+     * Pobiera kolejne zadania jako DTO o identyfikatorze większym niż podany, posortowane rosnąco po ID.
+     * Używane do stronicowania kursorem, dzięki któremu koszt pobrania strony nie zależy od jej położenia.
+     *
+     * @param id       ID ostatniego zadania z poprzedniej strony (0 dla pierwszej strony).
+     * @param pageable Maksymalna liczba zwracanych zadań.
+     * @return Lista zadań.
+     */
+    @Query(TASK_DTO_SELECT + "WHERE t.id > :id ORDER BY t.id")
+    List<TaskDTO> findAsDTOByIdGreaterThan(@Param("id") Integer id, Pageable pageable);
+
+    /**
+     * Pobiera zadania zespołu jako DTO.
+     *
+     * @param teamId ID zespołu.
+     * @return Lista zadań przypisanych do zespołu.
+     */
+    @Query(TASK_DTO_SELECT + "WHERE t.team.id = :teamId")
+    List<TaskDTO> findAsDTOByTeamId(@Param("teamId") Integer teamId);
+
+    /**
+     * Pobiera zadanie jako DTO.
+     *
+     * @param id ID zadania.
+     * @return Opcjonalne zadanie.
+     */
+    @Query(TASK_DTO_SELECT + "WHERE t.id = :id")
+    Optional<TaskDTO> findAsDTOById(@Param("id") Integer id);
+
+    /**
+     * Pobiera bezpośrednie podzadania zadania jako DTO.
+     *
+     * @param parentId ID zadania nadrzędnego.
+     * @return Lista podzadań posortowana po ID.
+     */
+    @Query(TASK_DTO_SELECT + "WHERE t.task.id = :parentId ORDER BY t.id")
+    List<TaskDTO> findAsDTOByParentId(@Param("parentId") Integer parentId);
+
+    /**
+     * Pobiera jednym zapytaniem wszystkie zadania, których ścieżka w hierarchii zaczyna się od podanej,
+     * z pominięciem zadania o tej ścieżce. Zadania są zwracane w kolejności przejścia drzewa w głąb
+     * (rodzic przed swoimi podzadaniami).
+     *
+     * @param path Ścieżka korzenia poddrzewa, np. {@code /1/5/}.
+     * @return Lista potomków zadania.
+     */
+    @Query(TASK_DTO_SELECT + "JOIN TaskRollup r ON r.taskId = t.id "
+            + "WHERE r.path LIKE CONCAT(:path, '_%') ORDER BY r.path")
+    List<TaskDTO> findAsDTOInSubtree(@Param("path") String path);
+
+    /**
+     * Znajduje zadania i blokuje ich wiersze do końca transakcji ({@code SELECT ... FOR UPDATE}).
+     * Wiersze są blokowane w kolejności ID, aby równoległe transakcje nie blokowały się nawzajem.
+     *
+     * @param ids ID zadań.
+     * @return Lista zablokowanych zadań.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.id IN :ids ORDER BY t.id")
+    List<Task> findLockedByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Znajduje bezpośrednie podzadania zadania i blokuje ich wiersze do końca transakcji.
+     *
+     * @param parentId ID zadania nadrzędnego.
+     * @return Lista zablokowanych podzadań.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.task.id = :parentId ORDER BY t.id")
+    List<Task> findLockedByParentId(@Param("parentId") Integer parentId);
+
+    /**
+     * Pobiera zadania po terminie jako DTO, posortowane od najdawniej przekroczonego terminu.
+     *
+     * @return Lista zadań po terminie.
+     */
+    @Query(TASK_DTO_SELECT + "JOIN OverdueTask o ON o.taskId = t.id ORDER BY t.deadline, t.id")
+    List<TaskDTO> findOverdueAsDTO();
+
+    /**
+     * Pobiera zadania zespołu po terminie jako DTO, posortowane od najdawniej przekroczonego terminu.
+     *
+     * @param teamId ID zespołu.
+     * @return Lista zadań zespołu po terminie.
+     */
+    @Query(TASK_DTO_SELECT + "JOIN OverdueTask o ON o.taskId = t.id WHERE t.team.id = :teamId ORDER BY t.deadline, t.id")
+    List<TaskDTO> findOverdueAsDTOByTeamId(@Param("teamId") Integer teamId);
+
+    /**
+     * Znajduje niezakończone podzadania z terminem w podanym zakresie.
+     *
+     * @param from Początek zakresu terminów (włącznie).
+     * @param to   Koniec zakresu terminów (wyłącznie).
+     * @return Lista podzadań.
+     */
+    @Query("SELECT t FROM Task t WHERE t.task IS NOT NULL AND t.completedDate IS NULL "
+            + "AND t.deadline >= :from AND t.deadline < :to")
+    List<Task> findOpenSubtasksWithDeadlineBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Pobiera terminy niezakończonych zadań z terminem w podanym zakresie.
+     * Zakres jest wyszukiwany indeksem {@code (completed_date, deadline)}.
+     *
+     * @param from Początek zakresu terminów (włącznie).
+     * @param to   Koniec zakresu terminów (wyłącznie).
+     * @return Lista terminów zadań.
+     */
+    @Query("SELECT new com.example.backend.dto.TaskReminderDTO(t.id, t.deadline) FROM Task t "
+            + "WHERE t.completedDate IS NULL AND t.deadline >= :from AND t.deadline < :to")
+    List<TaskReminderDTO> findOpenAsReminderByDeadlineBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Pobiera terminy podanych zadań, o ile nie są zakończone.
+     *
+     * @param ids ID zadań.
+     * @return Lista terminów niezakończonych zadań.
+     */
+    @Query("SELECT new com.example.backend.dto.TaskReminderDTO(t.id, t.deadline) FROM Task t "
+            + "WHERE t.id IN :ids AND t.completedDate IS NULL AND t.deadline IS NOT NULL")
+    List<TaskReminderDTO> findOpenAsReminderByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Znajduje zadania zakończone przed podaną datą, które można przenieść do archiwum, i blokuje je
+     * do końca transakcji. Pomijane są zadania należące do hierarchii (z rodzicem lub podzadaniami)
+     * oraz połączone zależnościami, tak aby postęp zadań nadrzędnych i harmonogramy zespołów się nie zmieniły.
+     *
+     * @param cutoff   Data, przed którą zadanie musiało zostać zakończone.
+     * @param pageable Rozmiar porcji.
+     * @return Porcja zadań do archiwizacji, w kolejności ID.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.completedDate < :cutoff AND t.task IS NULL "
+            + "AND NOT EXISTS (SELECT 1 FROM Task c WHERE c.task = t) "
+            + "AND NOT EXISTS (SELECT 1 FROM TaskDependency d WHERE d.predecessor = t OR d.successor = t) "
+            + "ORDER BY t.id")
+    List<Task> findLockedArchivableCompletedBefore(@Param("cutoff") LocalDate cutoff, Pageable pageable);
+
+    /**
+     * Zlicza zadania w grupach według zespołu, statusu i priorytetu, wraz z liczbą niezakończonych zadań
+     * po terminie i z terminem w podanym zakresie. Zadania bez zespołu tworzą grupy z {@code teamId = null}.
+     *
+     * @param today   Bieżący dzień; zadania z wcześniejszym terminem są po terminie.
+     * @param weekEnd Ostatni dzień bieżącego tygodnia.
+     * @return Liczby zadań w grupach.
+     */
+    @Query("SELECT new com.example.backend.dto.TaskCountGroupDTO(t.team.id, t.status.id, t.priority.id, COUNT(t), "
+            + "SUM(CASE WHEN t.completedDate IS NULL AND t.deadline < :today THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN t.completedDate IS NULL AND t.deadline BETWEEN :today AND :weekEnd THEN 1 ELSE 0 END)) "
+            + "FROM Task t GROUP BY t.team.id, t.status.id, t.priority.id")
+    List<TaskCountGroupDTO> countGroupedByTeamStatusAndPriority(@Param("today") LocalDate today,
+                                                                @Param("weekEnd") LocalDate weekEnd);
+
+    /**
+     * Zmienia status podanych zadań jednym zapytaniem {@code UPDATE}, zwiększając ich wersję.
+     * Zadaniom bez daty zakończenia ustawia {@code completedDate}, o ile jest podana.
+     * <p>
+     * Zapytanie pomija obserwatorów encji {@link Task}; wywołujący odpowiada za aktualizację
+     * indeksów w pamięci. Kontekst utrwalania jest czyszczony, aby nie zwracał nieaktualnych zadań.
+     *
+     * @param ids           ID zadań.
+     * @param status        Nowy status.
+     * @param completedDate Data zakończenia dla zadań, które jej nie mają, lub {@code null}.
+     * @param updatedAt     Moment zmiany.
+     * @return Liczba zaktualizowanych zadań.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.completedDate = COALESCE(t.completedDate, :completedDate), "
+            + "t.version = t.version + 1, t.updatedAt = :updatedAt WHERE t.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Integer> ids,
+                           @Param("status") TaskStatus status,
+                           @Param("completedDate") LocalDate completedDate,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Pobiera zadania o określonym statusie jako DTO.
+     *
+     * @param statusId ID statusu.
+     * @return Lista zadań o określonym statusie.
+     */
+    @Query(TASK_DTO_SELECT + "WHERE t.status.id = :statusId")
+    List<TaskDTO> findAsDTOByStatusId(@Param("statusId") Integer statusId);
+
+    /**
+     * Pobiera zadania o określonym priorytecie jako DTO.
+     *
+     * @param priorityId ID priorytetu.
+     * @return Lista zadań o określonym priorytecie.
+     */
+    @Query(TASK_DTO_SELECT + "WHERE t.priority.id = :priorityId")
+    List<TaskDTO> findAsDTOByPriorityId(@Param("priorityId") Integer priorityId);
+
+    /**
+     * Pobiera zadania z terminem przed podaną datą jako DTO.
+     *
+     * @param date Data, przed którą upływa termin zadania.
+     * @return Lista zadań z terminem przed podaną datą.
+     */
+    @Query(TASK_DTO_SELECT + "WHERE t.deadline < :date")
+    List<TaskDTO> findAsDTOByDeadlineBefore(@Param("date") LocalDate date);
+
+    /**
+     * Pobiera zadanie o określonym tytule jako DTO. Jeśli tytuł ma kilka zadań, zwracane jest
+     * zadanie o najmniejszym ID.
+     *
+     * @param title Tytuł zadania.
+     * @return Opcjonalne zadanie o podanym tytule, jeśli istnieje.
+     */
+    @Query(TASK_DTO_SELECT + "WHERE t.title = :title ORDER BY t.id LIMIT 1")
+    Optional<TaskDTO> findAsDTOByTitle(@Param("title") String title);
+
+    /**
+     * Pobiera stronę zadań, których znormalizowany tytuł pasuje do wzorca {@code LIKE}, jako DTO,
+     * posortowaną po znormalizowanym tytule. Wzorzec postaci {@code prefiks%} korzysta z indeksu
+     * {@code idx_tasks_normalized_title}; znaki specjalne prefiksu należy poprzedzić znakiem {@code !}.
+     * Strona nie wymaga zliczania wszystkich pasujących zadań.
+     *
+     * @param pattern  Wzorzec {@code LIKE} znormalizowanego tytułu.
+     * @param pageable Numer i rozmiar strony.
+     * @return Strona zadań.
+     */
+    @Query(TASK_DTO_SELECT + "WHERE t.normalizedTitle LIKE :pattern ESCAPE '!' ORDER BY t.normalizedTitle, t.id")
+    Slice<TaskDTO> findAsDTOByNormalizedTitleLike(@Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * Znajduje zadania przypisane do dowolnego zespołu, które rozpoczęły się do podanej daty
+     * lub zostały utworzone przed podanym momentem. Zespół, status, priorytet i twórca są
+     * pobierane w tym samym zapytaniu.
+     * <p>
+     * Używane do jednorazowego wczytania danych dla pakietu raportów.
+     *
+     * @param startedOnOrBefore Najpóźniejsza data rozpoczęcia zadania.
+     * @param createdBefore     Moment, przed którym zadanie musiało zostać utworzone.
+     * @return Lista zadań z powiązanymi encjami.
+     */
+    @Query("SELECT t FROM Task t JOIN FETCH t.team LEFT JOIN FETCH t.status LEFT JOIN FETCH t.priority "
+            + "LEFT JOIN FETCH t.createdBy "
+            + "WHERE t.startDate <= :startedOnOrBefore OR t.createdAt < :createdBefore")
+    List<Task> findTeamTasksStartedOrCreatedBefore(@Param("startedOnOrBefore") LocalDate startedOnOrBefore,
+                                                   @Param("createdBefore") LocalDateTime createdBefore);
+
+    /**
+     * Strumieniuje zadania zespołów, w których użytkownik jest aktywnym członkiem, które rozpoczęły się
+     * do podanej daty lub zostały utworzone przed podanym momentem, posortowane po ID. Status i priorytet
+     * są pobierane w tym samym zapytaniu.
+     * <p>
+     * Używane do raportu obciążenia w trybie strumieniowym. Strumień musi być używany wewnątrz transakcji
+     * i zamknięty po użyciu.
+     *
+     * @param userId            ID użytkownika.
+     * @param startedOnOrBefore Najpóźniejsza data rozpoczęcia zadania.
+     * @param createdBefore     Moment, przed którym zadanie musiało zostać utworzone.
+     * @return Strumień zadań zespołów użytkownika.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.status LEFT JOIN FETCH t.priority "
+            + "WHERE t.team.id IN (SELECT m.team.id FROM TeamMember m WHERE m.user.id = :userId AND m.isActive = true) "
+            + "AND (t.startDate <= :startedOnOrBefore OR t.createdAt < :createdBefore) ORDER BY t.id")
+    Stream<Task> streamUserTeamTasksStartedOrCreatedBefore(@Param("userId") Integer userId,
+                                                           @Param("startedOnOrBefore") LocalDate startedOnOrBefore,
+                                                           @Param("createdBefore") LocalDateTime createdBefore);
+
+    /**
+     * Strumieniuje wszystkie zadania posortowane po ID.
+     * <p>
+     * Wiersze są pobierane z bazy porcjami po {@value #EXPORT_FETCH_SIZE} (JDBC fetch size), a encje
+     * są wczytywane w trybie tylko do odczytu. Strumień musi być używany wewnątrz transakcji
+     * i zamknięty po użyciu.
+     *
+     * @return Strumień wszystkich zadań.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Task t ORDER BY t.id")
+    Stream<Task> streamAllOrderedById();
+
     /**
      * Usuwa wszystkie zadania przypisane do konkretnego zespołu.
      *
@@ -0,0 +1,118 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.TaskProgressDTO;
+import com.example.backend.models.TaskRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repozytorium dla encji {@link TaskRollup}.
+ * <p>
+ * Wiersze są odczytywane jako {@link TaskProgressDTO}, a modyfikowane zapytaniami aktualizującymi
+ * bezpośrednio w bazie, tak aby równoległe zmiany sum podzadań nie nadpisywały się nawzajem.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface TaskRollupRepository extends JpaRepository<TaskRollup, Integer> {
+
+    /**
+     * Wspólna część zapytań budujących {@link TaskProgressDTO} z kolumn tabeli {@code task_rollups}.
+     */
+    String TASK_PROGRESS_SELECT = "SELECT new com.example.backend.dto.TaskProgressDTO(r.taskId, r.path, r.depth, "
+            + "r.progress, r.completed, r.late, r.subtaskCount, r.completedSubtasks, r.lateSubtasks, "
+            + "r.subtaskProgress) FROM TaskRollup r ";
+
+    /**
+     * Pobiera postęp zadania należącego do hierarchii.
+     *
+     * @param taskId ID zadania.
+     * @return Opcjonalny postęp zadania.
+     */
+    @Query(TASK_PROGRESS_SELECT + "WHERE r.taskId = :taskId")
+    Optional<TaskProgressDTO> findProgressByTaskId(@Param("taskId") Integer taskId);
+
+    /**
+     * Pobiera postęp zadań i blokuje ich wiersze do końca transakcji ({@code SELECT ... FOR UPDATE}).
+     *
+     * @param taskIds ID zadań.
+     * @return Lista postępu zadań należących do hierarchii.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(TASK_PROGRESS_SELECT + "WHERE r.taskId IN :taskIds ORDER BY r.taskId")
+    List<TaskProgressDTO> findLockedProgressByTaskIdIn(@Param("taskIds") Collection<Integer> taskIds);
+
+    /**
+     * Zwraca długość najdłuższej ścieżki w poddrzewie.
+     *
+     * @param path Ścieżka korzenia poddrzewa.
+     * @return Długość najdłuższej ścieżki.
+     */
+    @Query("SELECT MAX(LENGTH(r.path)) FROM TaskRollup r WHERE r.path LIKE CONCAT(:path, '%')")
+    Integer findMaxPathLengthInSubtree(@Param("path") String path);
+
+    /**
+     * Zapisuje postęp samego zadania.
+     *
+     * @param taskId    ID zadania.
+     * @param progress  Postęp w procentach.
+     * @param completed Czy zadanie jest zakończone.
+     * @param late      Czy zadanie jest opóźnione.
+     * @return Liczba zmienionych wierszy.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TaskRollup r SET r.progress = :progress, r.completed = :completed, r.late = :late "
+            + "WHERE r.taskId = :taskId")
+    int updateOwnProgress(@Param("taskId") Integer taskId,
+                          @Param("progress") int progress,
+                          @Param("completed") boolean completed,
+                          @Param("late") boolean late);
+
+    /**
+     * Dodaje zmiany do sum podzadań podanych zadań (zwykle wszystkich przodków zmienionego zadania).
+     *
+     * @param taskIds   ID zadań.
+     * @param count     Zmiana liczby podzadań.
+     * @param completed Zmiana liczby zakończonych podzadań.
+     * @param late      Zmiana liczby opóźnionych podzadań.
+     * @param progress  Zmiana sumy postępu podzadań.
+     * @return Liczba zmienionych wierszy.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TaskRollup r SET r.subtaskCount = r.subtaskCount + :count, "
+            + "r.completedSubtasks = r.completedSubtasks + :completed, "
+            + "r.lateSubtasks = r.lateSubtasks + :late, "
+            + "r.subtaskProgress = r.subtaskProgress + :progress "
+            + "WHERE r.taskId IN :taskIds")
+    int addToSubtaskTotals(@Param("taskIds") Collection<Integer> taskIds,
+                           @Param("count") int count,
+                           @Param("completed") int completed,
+                           @Param("late") int late,
+                           @Param("progress") long progress);
+
+    /**
+     * Przenosi poddrzewo w hierarchii, zamieniając prefiks ścieżek wszystkich jego zadań.
+     *
+     * @param oldPath     Dotychczasowa ścieżka korzenia poddrzewa.
+     * @param newPath     Nowa ścieżka korzenia poddrzewa.
+     * @param depthChange Zmiana głębokości zadań poddrzewa.
+     * @return Liczba zmienionych wierszy.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TaskRollup r SET r.path = CONCAT(:newPath, SUBSTRING(r.path, LENGTH(:oldPath) + 1)), "
+            + "r.depth = r.depth + :depthChange "
+            + "WHERE r.path LIKE CONCAT(:oldPath, '%')")
+    int moveSubtree(@Param("oldPath") String oldPath,
+                    @Param("newPath") String newPath,
+                    @Param("depthChange") int depthChange);
+}
@@ -0,0 +1,85 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.TaskFilterDTO;
+import com.example.backend.models.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Specyfikacje JPA do filtrowania zadań według wielu kryteriów jednocześnie.
+ * <p>
+ * Warunki na zespół, status i priorytet porównują bezpośrednio kolumny kluczy obcych tabeli
+ * {@code tasks}, bez złączeń z tabelami powiązanymi, dzięki czemu mogą korzystać z indeksów
+ * złożonych {@code (team_id, status_id)}, {@code (team_id, deadline)} i {@code (status_id, deadline)}.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    /**
+     * Buduje specyfikację z podanych kryteriów; pominięte kryteria nie ograniczają wyniku.
+     *
+     * @param filter Kryteria filtrowania
+     * @return Specyfikacja łącząca wszystkie podane kryteria koniunkcją
+     */
+    public static Specification<Task> matching(TaskFilterDTO filter) {
+        return Specification.allOf(
+                hasTeam(filter.getTeamId()),
+                hasAnyTeam(filter.getTeamIds()),
+                hasStatus(filter.getStatusId()),
+                hasPriority(filter.getPriorityId()),
+                deadlineFrom(filter.getDeadlineFrom()),
+                deadlineTo(filter.getDeadlineTo()),
+                containsText(filter.getQuery()));
+    }
+
+    public static Specification<Task> hasTeam(Integer teamId) {
+        return (root, query, cb) -> teamId == null ? null : cb.equal(root.get("team").get("id"), teamId);
+    }
+
+    public static Specification<Task> hasAnyTeam(Collection<Integer> teamIds) {
+        return (root, query, cb) -> teamIds == null || teamIds.isEmpty() ? null : root.get("team").get("id").in(teamIds);
+    }
+
+    public static Specification<Task> hasStatus(Integer statusId) {
+        return (root, query, cb) -> statusId == null ? null : cb.equal(root.get("status").get("id"), statusId);
+    }
+
+    public static Specification<Task> hasPriority(Integer priorityId) {
+        return (root, query, cb) -> priorityId == null ? null : cb.equal(root.get("priority").get("id"), priorityId);
+    }
+
+    public static Specification<Task> deadlineFrom(LocalDate from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("deadline"), from);
+    }
+
+    public static Specification<Task> deadlineTo(LocalDate to) {
+        return (root, query, cb) -> to == null ? null : cb.lessThanOrEqualTo(root.get("deadline"), to);
+    }
+
+    /**
+     * Wyszukuje frazę w tytule lub opisie zadania, bez rozróżniania wielkości liter.
+     */
+    public static Specification<Task> containsText(String text) {
+        return (root, query, cb) -> {
+            if (text == null || text.isBlank()) {
+                return null;
+            }
+            String pattern = "%" + escapeLike(text.trim().toLowerCase(Locale.ROOT)) + "%";
+            return cb.or(
+                    cb.like(cb.lower(root.get("title")), pattern, '\\'),
+                    cb.like(cb.lower(root.get("description")), pattern, '\\'));
+        };
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -3,7 +3,9 @@ package  com.example.backend.repository;
 import com.example.backend.models.Team;
 import com.example.backend.models.TeamMember;
 import com.example.backend.models.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -32,6 +34,7 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Integer>
      * @param user Użytkownik, którego członkowie zespołu mają zostać znalezieni.
      * @return Lista członków zespołu przypisanych do użytkownika.
      */
+    @EntityGraph(TeamMember.GRAPH_WITH_TEAM_AND_USER)
     List<TeamMember> findByUser(User user);
 
     /**
@@ -40,6 +43,7 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Integer>
      * @param team Zespół, którego członkowie mają zostać znalezieni.
      * @return Lista członków zespołu przypisanych do zespołu.
      */
+    @EntityGraph(TeamMember.GRAPH_WITH_TEAM_AND_USER)
     List<TeamMember> findByTeam(Team team);
 
     /**
@@ -49,8 +53,18 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Integer>
      * @param isActive Status aktywności członków (true = aktywni, false = nieaktywni).
      * @return Lista członków zespołu o określonym statusie aktywności.
      */
+    @EntityGraph(TeamMember.GRAPH_WITH_TEAM_AND_USER)
     List<TeamMember> findByTeamAndIsActive(Team team, boolean isActive);
 
+    /**
+     * Zlicza członków zespołu o określonym statusie aktywności.
+     *
+     * @param team     Zespół, którego członkowie mają zostać policzeni.
+     * @param isActive Status aktywności członków.
+     * @return Liczba członków zespołu o określonym statusie aktywności.
+     */
+    long countByTeamAndIsActive(Team team, boolean isActive);
+
     /**
      * Znajduje członka zespołu przypisanego do konkretnego użytkownika i zespołu.
      *
@@ -58,6 +72,7 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Integer>
      * @param team Zespół, którego członkowie mają zostać znalezieni.
      * @return Opcjonalny członek zespołu przypisany do użytkownika i zespołu.
      */
+    @EntityGraph(TeamMember.GRAPH_WITH_TEAM_AND_USER)
     Optional<TeamMember> findByUserAndTeam(User user, Team team);
 
     /**
@@ -66,10 +81,20 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Integer>
      * @param team Zespół, którego członkowie mają zostać znalezieni.
      * @return Lista wszystkich członków zespołu.
      */
+    @EntityGraph(TeamMember.GRAPH_WITH_TEAM_AND_USER)
     List<TeamMember> findAllByTeam(Team team);
 
+    @EntityGraph(TeamMember.GRAPH_WITH_TEAM_AND_USER)
     Optional<TeamMember> findById(Long id);
 
+    /**
+     * Znajduje wszystkie aktywne członkostwa wraz z zespołem i użytkownikiem w jednym zapytaniu.
+     *
+     * @return Lista aktywnych członków zespołów.
+     */
+    @Query("SELECT m FROM TeamMember m JOIN FETCH m.team JOIN FETCH m.user WHERE m.isActive = true")
+    List<TeamMember> findActiveWithTeamAndUser();
+
     /**
      * Usuwa wszystkich członków zespołu przypisanych do konkretnego zespołu.
      *
@@ -2,7 +2,12 @@ package  com.example.backend.repository;
 
 import com.example.backend.models.Team;
 import com.example.backend.models.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -49,4 +54,34 @@ public interface TeamRepository extends JpaRepository<Team, Integer>
     Optional<Team> findByName(String teamName);
 
     List<Team> findByIsActiveTrue();
-}
\ No newline at end of file
+
+    /**
+     * Znajduje zespół wraz z kierownikiem w jednym zapytaniu.
+     *
+     * @param id ID zespołu.
+     * @return Opcjonalny zespół z wczytanym kierownikiem.
+     */
+    @EntityGraph(Team.GRAPH_DETAIL)
+    Optional<Team> findDetailedById(Integer id);
+
+    /**
+     * Znajduje zespół i blokuje jego wiersz do końca transakcji ({@code SELECT ... FOR UPDATE}),
+     * aby zmiany dotyczące całego zespołu były wykonywane kolejno.
+     *
+     * @param id ID zespołu.
+     * @return Opcjonalny zablokowany zespół.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Team t WHERE t.id = :id")
+    Optional<Team> findLockedById(@Param("id") Integer id);
+
+    /**
+     * Pobiera ID zespołów użytkownika: zespołów, którymi kieruje, oraz tych, do których aktywnie należy.
+     *
+     * @param userId ID użytkownika.
+     * @return Lista ID zespołów.
+     */
+    @Query("SELECT t.id FROM Team t WHERE t.manager.id = :userId OR EXISTS (SELECT 1 FROM TeamMember m "
+            + "WHERE m.team = t AND m.user.id = :userId AND m.isActive = true)")
+    List<Integer> findIdsByManagerOrActiveMember(@Param("userId") Integer userId);
+}
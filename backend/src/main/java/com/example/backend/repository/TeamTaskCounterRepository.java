@@ -0,0 +1,124 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.TeamTaskCountsDTO;
+import com.example.backend.models.TeamTaskCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repozytorium dla encji {@link TeamTaskCounter}.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface TeamTaskCounterRepository extends JpaRepository<TeamTaskCounter, Integer> {
+
+    /**
+     * Znajduje liczniki podanych zespołów.
+     *
+     * @param teamIds ID zespołów.
+     * @return Lista liczników; zespoły bez wiersza liczników są pomijane.
+     */
+    List<TeamTaskCounter> findByTeamIdIn(Collection<Integer> teamIds);
+
+    /**
+     * Znajduje liczniki wszystkich zespołów i blokuje ich wiersze do końca transakcji.
+     * Wiersze są blokowane w kolejności ID zespołów, tak jak przy zmianie liczników.
+     *
+     * @return Lista zablokowanych liczników.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM TeamTaskCounter c ORDER BY c.teamId")
+    List<TeamTaskCounter> findAllLocked();
+
+    /**
+     * Zmienia liczniki otwartych i zakończonych zadań zespołu o podane wartości. Zmiana jest wykonywana
+     * przez bazę danych względem bieżącej wartości, więc równoległe transakcje nie nadpisują swoich zmian.
+     *
+     * @param teamId         ID zespołu.
+     * @param openDelta      Zmiana liczby niezakończonych zadań.
+     * @param completedDelta Zmiana liczby zakończonych zadań.
+     * @return Liczba zmienionych wierszy (0, jeśli zespół nie ma jeszcze wiersza liczników).
+     */
+    @Modifying
+    @Query("UPDATE TeamTaskCounter c SET c.openCount = c.openCount + :openDelta, "
+            + "c.completedCount = c.completedCount + :completedDelta WHERE c.teamId = :teamId")
+    int addToCounts(@Param("teamId") Integer teamId,
+                    @Param("openDelta") int openDelta,
+                    @Param("completedDelta") int completedDelta);
+
+    /**
+     * Pobiera wersję listy zadań zespołu.
+     *
+     * @param teamId ID zespołu.
+     * @return Opcjonalna wersja listy; pusta, jeśli zespół nie ma wiersza liczników.
+     */
+    @Query("SELECT c.listVersion FROM TeamTaskCounter c WHERE c.teamId = :teamId")
+    Optional<Long> findListVersionByTeamId(@Param("teamId") Integer teamId);
+
+    /**
+     * Zwiększa o jeden wersje list zadań podanych zespołów.
+     *
+     * @param teamIds ID zespołów.
+     * @return Liczba zmienionych wierszy; zespoły bez wiersza liczników są pomijane.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TeamTaskCounter c SET c.listVersion = c.listVersion + 1 WHERE c.teamId IN :teamIds")
+    int incrementListVersions(@Param("teamIds") Collection<Integer> teamIds);
+
+    /**
+     * Przelicza liczniki zadań po terminie podanych zespołów na podstawie oznaczeń zadań po terminie.
+     *
+     * @param teamIds ID zespołów.
+     * @return Liczba zmienionych wierszy.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TeamTaskCounter c SET c.overdueCount = "
+            + "(SELECT COUNT(o) FROM OverdueTask o WHERE o.task.team.id = c.teamId) WHERE c.teamId IN :teamIds")
+    int recountOverdueByTeamIdIn(@Param("teamIds") Collection<Integer> teamIds);
+
+    /**
+     * Przelicza liczniki zadań po terminie wszystkich zespołów na podstawie oznaczeń zadań po terminie.
+     *
+     * @return Liczba zmienionych wierszy.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TeamTaskCounter c SET c.overdueCount = "
+            + "(SELECT COUNT(o) FROM OverdueTask o WHERE o.task.team.id = c.teamId)")
+    int recountOverdue();
+
+    /**
+     * Zlicza zadania podanych zespołów bezpośrednio w tabelach zadań i oznaczeń zadań po terminie.
+     *
+     * @param teamIds ID zespołów.
+     * @return Liczby zadań zespołów, także tych bez zadań.
+     */
+    @Query("SELECT new com.example.backend.dto.TeamTaskCountsDTO(tm.id, "
+            + "(SELECT COUNT(t) FROM Task t WHERE t.team.id = tm.id AND t.completedDate IS NULL), "
+            + "(SELECT COUNT(t) FROM Task t WHERE t.team.id = tm.id AND t.completedDate IS NOT NULL), "
+            + "(SELECT COUNT(o) FROM OverdueTask o WHERE o.task.team.id = tm.id)) "
+            + "FROM Team tm WHERE tm.id IN :teamIds ORDER BY tm.id")
+    List<TeamTaskCountsDTO> countTasksByTeamIdIn(@Param("teamIds") Collection<Integer> teamIds);
+
+    /**
+     * Zlicza zadania wszystkich zespołów bezpośrednio w tabelach zadań i oznaczeń zadań po terminie.
+     *
+     * @return Liczby zadań zespołów, także tych bez zadań.
+     */
+    @Query("SELECT new com.example.backend.dto.TeamTaskCountsDTO(tm.id, "
+            + "(SELECT COUNT(t) FROM Task t WHERE t.team.id = tm.id AND t.completedDate IS NULL), "
+            + "(SELECT COUNT(t) FROM Task t WHERE t.team.id = tm.id AND t.completedDate IS NOT NULL), "
+            + "(SELECT COUNT(o) FROM OverdueTask o WHERE o.task.team.id = tm.id)) "
+            + "FROM Team tm ORDER BY tm.id")
+    List<TeamTaskCountsDTO> countTasksOfAllTeams();
+}
@@ -0,0 +1,602 @@
+package com.example.backend.scheduling;
+
+import com.example.backend.dto.TaskDTO;
+import com.example.backend.dto.TaskDependencyDTO;
+import com.example.backend.dto.TaskScheduleDTO;
+import com.example.backend.dto.TeamScheduleDTO;
+import com.example.backend.exceptions.TaskDependencyCycleException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Graf zależności "zakończ, aby rozpocząć" między zadaniami jednego zespołu wraz z harmonogramem
+ * wyznaczanym metodą ścieżki krytycznej (CPM).
+ * <p>
+ * Graf utrzymuje porządek topologiczny zadań. Przy dodaniu krawędzi porządek jest poprawiany
+ * tylko w obszarze między jej końcami (algorytm Pearce'a-Kelly'ego), co jednocześnie wykrywa cykle.
+ * Po zmianie dat zadania lub zależności najwcześniejsze terminy są przeliczane tylko dla jego
+ * następników, a najpóźniejsze tylko dla poprzedników; pełne przeliczenie jest potrzebne jedynie
+ * wtedy, gdy zmienia się początek lub koniec prac zespołu.
+ * <p>
+ * Czas trwania zadania to liczba dni od daty rozpoczęcia do terminu włącznie
+ * ({@value #DEFAULT_DURATION_DAYS} dzień, gdy którejś z dat brakuje). Data rozpoczęcia zadania
+ * jest traktowana jako najwcześniejszy możliwy start.
+ * <p>
+ * Klasa nie jest bezpieczna wątkowo - dostęp synchronizuje {@link TaskDependencyGraphCache}.
+ */
+public class TaskDependencyGraph {
+
+    /**
+     * Czas trwania zadania bez dat rozpoczęcia lub zakończenia.
+     */
+    public static final int DEFAULT_DURATION_DAYS = 1;
+
+    private static final long NO_START = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int[] NO_EDGES = new int[0];
+
+    private final long defaultStart;
+    private final Map<Integer, Integer> nodeByTaskId = new HashMap<>();
+    private int size;
+
+    private int[] taskIds;
+    private long[] startBound;
+    private int[] duration;
+    private int[][] successors;
+    private int[] successorCount;
+    private int[][] predecessors;
+    private int[] predecessorCount;
+
+    // Topological order: order[position] = node, position[node] = index in order
+    private int[] order;
+    private int[] position;
+
+    // Epoch days; a task occupies [earliestStart, earliestStart + duration)
+    private long[] earliestStart;
+    private long[] latestStart;
+    private long projectStart;
+    private long projectFinish;
+
+    // Scratch marks reused by searches and passes, compared against a fresh stamp each time
+    private int[] mark;
+    private int stamp;
+
+    /**
+     * Tworzy pusty graf.
+     *
+     * @param defaultStart Początek prac, gdy żadne zadanie nie ma daty rozpoczęcia
+     */
+    public TaskDependencyGraph(LocalDate defaultStart) {
+        this.defaultStart = defaultStart.toEpochDay();
+        this.projectStart = this.defaultStart;
+        this.projectFinish = this.defaultStart;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Buduje graf z zadań zespołu i zależności między nimi. Zależności, których oba końce
+     * nie należą do przekazanych zadań, są pomijane.
+     *
+     * @param tasks        Zadania zespołu
+     * @param dependencies Zależności między zadaniami
+     * @param defaultStart Początek prac, gdy żadne zadanie nie ma daty rozpoczęcia
+     * @return Graf z wyznaczonym harmonogramem
+     * @throws IllegalStateException gdy zależności zawierają cykl
+     */
+    public static TaskDependencyGraph build(List<TaskDTO> tasks, List<TaskDependencyDTO> dependencies,
+                                            LocalDate defaultStart) {
+        TaskDependencyGraph graph = new TaskDependencyGraph(defaultStart);
+        for (TaskDTO task : tasks) {
+            graph.addNode(task.getId(), task.getStartDate(), task.getDeadline());
+        }
+        for (TaskDependencyDTO dependency : dependencies) {
+            Integer from = graph.nodeByTaskId.get(dependency.getPredecessorId());
+            Integer to = graph.nodeByTaskId.get(dependency.getSuccessorId());
+            if (from != null && to != null && !graph.hasEdge(from, to)) {
+                graph.addEdge(from, to);
+            }
+        }
+        graph.sortTopologically();
+        graph.recomputeAll();
+        return graph;
+    }
+
+    /**
+     * @return Liczba zadań w grafie
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sprawdza, czy zadanie należy do grafu.
+     */
+    public boolean contains(Integer taskId) {
+        return nodeByTaskId.containsKey(taskId);
+    }
+
+    /**
+     * Sprawdza, czy dodanie zależności utworzyłoby cykl.
+     *
+     * @param predecessorId ID zadania poprzedzającego
+     * @param successorId   ID zadania następującego
+     * @return {@code true}, jeśli zadanie następujące już (pośrednio) poprzedza poprzednika
+     */
+    public boolean wouldCreateCycle(Integer predecessorId, Integer successorId) {
+        int from = node(predecessorId);
+        int to = node(successorId);
+        if (from == to) {
+            return true;
+        }
+        // Every path runs forward in the topological order, so only a successor placed
+        // before the predecessor can reach it
+        return position[to] < position[from] && reaches(to, from);
+    }
+
+    /**
+     * Dodaje zależność i przelicza harmonogram. Istniejąca zależność jest pomijana.
+     *
+     * @param predecessorId ID zadania poprzedzającego
+     * @param successorId   ID zadania następującego
+     * @throws TaskDependencyCycleException gdy zależność utworzyłaby cykl
+     */
+    public void addDependency(Integer predecessorId, Integer successorId) {
+        int from = node(predecessorId);
+        int to = node(successorId);
+        if (hasEdge(from, to)) {
+            return;
+        }
+        if (from == to) {
+            throw new TaskDependencyCycleException(predecessorId, successorId);
+        }
+        if (position[to] < position[from]) {
+            reorder(from, to, predecessorId, successorId);
+        }
+        addEdge(from, to);
+        recompute(to, from);
+    }
+
+    /**
+     * Usuwa zależność i przelicza harmonogram.
+     *
+     * @param predecessorId ID zadania poprzedzającego
+     * @param successorId   ID zadania następującego
+     */
+    public void removeDependency(Integer predecessorId, Integer successorId) {
+        Integer from = nodeByTaskId.get(predecessorId);
+        Integer to = nodeByTaskId.get(successorId);
+        if (from == null || to == null || !hasEdge(from, to)) {
+            return;
+        }
+        removeEdge(successors, successorCount, from, to);
+        removeEdge(predecessors, predecessorCount, to, from);
+        recompute(to, from);
+    }
+
+    /**
+     * Dodaje zadanie lub aktualizuje jego daty i przelicza harmonogram.
+     *
+     * @param taskId    ID zadania
+     * @param startDate Data rozpoczęcia lub {@code null}
+     * @param deadline  Termin lub {@code null}
+     */
+    public void putTask(Integer taskId, LocalDate startDate, LocalDate deadline) {
+        Integer existing = nodeByTaskId.get(taskId);
+        if (existing == null) {
+            int node = addNode(taskId, startDate, deadline);
+            recompute(node, node);
+            return;
+        }
+        long newStart = startDate != null ? startDate.toEpochDay() : NO_START;
+        int newDuration = durationDays(startDate, deadline);
+        if (newStart == startBound[existing] && newDuration == duration[existing]) {
+            return;
+        }
+        startBound[existing] = newStart;
+        duration[existing] = newDuration;
+        recompute(existing, existing);
+    }
+
+    /**
+     * Zwraca harmonogram zespołu: terminy i zapas każdego zadania oraz ścieżkę krytyczną.
+     *
+     * @param teamId ID zespołu
+     * @return Harmonogram z zadaniami w kolejności topologicznej
+     */
+    public TeamScheduleDTO schedule(Integer teamId) {
+        List<TaskScheduleDTO> tasks = new ArrayList<>(size);
+        for (int pos = 0; pos < size; pos++) {
+            int node = order[pos];
+            long slack = latestStart[node] - earliestStart[node];
+            tasks.add(new TaskScheduleDTO(taskIds[node], duration[node],
+                    LocalDate.ofEpochDay(earliestStart[node]),
+                    LocalDate.ofEpochDay(earliestStart[node] + duration[node] - 1),
+                    LocalDate.ofEpochDay(latestStart[node]),
+                    LocalDate.ofEpochDay(latestStart[node] + duration[node] - 1),
+                    slack, slack == 0));
+        }
+        if (size == 0) {
+            return new TeamScheduleDTO(teamId, null, null, List.of(), tasks);
+        }
+        return new TeamScheduleDTO(teamId, LocalDate.ofEpochDay(projectStart),
+                LocalDate.ofEpochDay(projectFinish - 1), criticalPath(), tasks);
+    }
+
+    /**
+     * Czas trwania zadania w dniach, liczony od daty rozpoczęcia do terminu włącznie.
+     */
+    static int durationDays(LocalDate startDate, LocalDate deadline) {
+        if (startDate == null || deadline == null || deadline.isBefore(startDate)) {
+            return DEFAULT_DURATION_DAYS;
+        }
+        return Math.toIntExact(deadline.toEpochDay() - startDate.toEpochDay() + 1);
+    }
+
+    /**
+     * Ścieżka krytyczna: od zadania kończącego prace zespołu wstecz przez poprzedników
+     * bez zapasu, którzy kończą się dokładnie w dniu rozpoczęcia następnika.
+     */
+    private List<Integer> criticalPath() {
+        int current = -1;
+        for (int pos = 0; pos < size && current < 0; pos++) {
+            int node = order[pos];
+            if (earliestStart[node] + duration[node] == projectFinish) {
+                current = node;
+            }
+        }
+        List<Integer> path = new ArrayList<>();
+        while (current >= 0) {
+            path.add(taskIds[current]);
+            int next = -1;
+            for (int i = 0; i < predecessorCount[current] && next < 0; i++) {
+                int pred = predecessors[current][i];
+                if (latestStart[pred] == earliestStart[pred]
+                        && earliestStart[pred] + duration[pred] == earliestStart[current]) {
+                    next = pred;
+                }
+            }
+            current = next;
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private int node(Integer taskId) {
+        Integer node = nodeByTaskId.get(taskId);
+        if (node == null) {
+            throw new IllegalArgumentException("Zadanie " + taskId + " nie należy do grafu zależności zespołu");
+        }
+        return node;
+    }
+
+    private int addNode(Integer taskId, LocalDate startDate, LocalDate deadline) {
+        if (size == taskIds.length) {
+            grow(size * 2);
+        }
+        int node = size++;
+        nodeByTaskId.put(taskId, node);
+        taskIds[node] = taskId;
+        startBound[node] = startDate != null ? startDate.toEpochDay() : NO_START;
+        duration[node] = durationDays(startDate, deadline);
+        successors[node] = NO_EDGES;
+        predecessors[node] = NO_EDGES;
+        // A task without dependencies can go last in the topological order
+        order[node] = node;
+        position[node] = node;
+        return node;
+    }
+
+    private boolean hasEdge(int from, int to) {
+        for (int i = 0; i < successorCount[from]; i++) {
+            if (successors[from][i] == to) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addEdge(int from, int to) {
+        successors[from] = append(successors[from], successorCount[from]++, to);
+        predecessors[to] = append(predecessors[to], predecessorCount[to]++, from);
+    }
+
+    private static int[] append(int[] edges, int count, int node) {
+        int[] target = count < edges.length ? edges : Arrays.copyOf(edges, Math.max(4, count * 2));
+        target[count] = node;
+        return target;
+    }
+
+    private static void removeEdge(int[][] edges, int[] counts, int node, int other) {
+        int[] list = edges[node];
+        for (int i = 0; i < counts[node]; i++) {
+            if (list[i] == other) {
+                list[i] = list[--counts[node]];
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sprawdza, czy z węzła {@code from} prowadzi ścieżka do {@code target}, przeszukując tylko
+     * węzły leżące w porządku topologicznym nie dalej niż cel.
+     */
+    private boolean reaches(int from, int target) {
+        int limit = position[target];
+        int visit = nextStamp();
+        int[] stack = new int[INITIAL_CAPACITY];
+        int top = 0;
+        stack[top++] = from;
+        mark[from] = visit;
+        while (top > 0) {
+            int node = stack[--top];
+            for (int i = 0; i < successorCount[node]; i++) {
+                int next = successors[node][i];
+                if (next == target) {
+                    return true;
+                }
+                if (mark[next] != visit && position[next] < limit) {
+                    mark[next] = visit;
+                    stack = append(stack, top++, next);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Przywraca porządek topologiczny przed dodaniem krawędzi {@code from -> to}, gdy {@code to}
+     * stoi w porządku przed {@code from} (Pearce, Kelly: "A Dynamic Topological Sort Algorithm
+     * for Directed Acyclic Graphs"). Przestawiane są tylko węzły z przedziału między końcami krawędzi.
+     */
+    private void reorder(int from, int to, Integer predecessorId, Integer successorId) {
+        int lower = position[to];
+        int upper = position[from];
+
+        // Nodes reachable from "to" that sit before "from"; reaching "from" means a cycle
+        int forwardVisit = nextStamp();
+        List<Integer> forward = new ArrayList<>();
+        int[] stack = new int[INITIAL_CAPACITY];
+        int top = 0;
+        stack[top++] = to;
+        mark[to] = forwardVisit;
+        while (top > 0) {
+            int node = stack[--top];
+            forward.add(node);
+            for (int i = 0; i < successorCount[node]; i++) {
+                int next = successors[node][i];
+                if (next == from) {
+                    throw new TaskDependencyCycleException(predecessorId, successorId);
+                }
+                if (mark[next] != forwardVisit && position[next] < upper) {
+                    mark[next] = forwardVisit;
+                    stack = append(stack, top++, next);
+                }
+            }
+        }
+
+        // Nodes reaching "from" that sit after "to"
+        int backwardVisit = nextStamp();
+        List<Integer> backward = new ArrayList<>();
+        top = 0;
+        stack[top++] = from;
+        mark[from] = backwardVisit;
+        while (top > 0) {
+            int node = stack[--top];
+            backward.add(node);
+            for (int i = 0; i < predecessorCount[node]; i++) {
+                int prev = predecessors[node][i];
+                if (mark[prev] != backwardVisit && position[prev] > lower) {
+                    mark[prev] = backwardVisit;
+                    stack = append(stack, top++, prev);
+                }
+            }
+        }
+
+        // Ancestors of "from" take the freed positions first, then descendants of "to",
+        // each group keeping its relative order
+        backward.sort((a, b) -> Integer.compare(position[a], position[b]));
+        forward.sort((a, b) -> Integer.compare(position[a], position[b]));
+        List<Integer> nodes = new ArrayList<>(backward.size() + forward.size());
+        nodes.addAll(backward);
+        nodes.addAll(forward);
+        int[] positions = new int[nodes.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = position[nodes.get(i)];
+        }
+        Arrays.sort(positions);
+        for (int i = 0; i < positions.length; i++) {
+            int node = nodes.get(i);
+            position[node] = positions[i];
+            order[positions[i]] = node;
+        }
+    }
+
+    /**
+     * Wyznacza porządek topologiczny od zera (algorytm Kahna).
+     */
+    private void sortTopologically() {
+        int[] inDegree = Arrays.copyOf(predecessorCount, size);
+        int head = 0;
+        int tail = 0;
+        for (int node = 0; node < size; node++) {
+            if (inDegree[node] == 0) {
+                order[tail++] = node;
+            }
+        }
+        while (head < tail) {
+            int node = order[head++];
+            for (int i = 0; i < successorCount[node]; i++) {
+                int next = successors[node][i];
+                if (--inDegree[next] == 0) {
+                    order[tail++] = next;
+                }
+            }
+        }
+        if (tail < size) {
+            throw new IllegalStateException("Zależności zadań zawierają cykl");
+        }
+        for (int pos = 0; pos < size; pos++) {
+            position[order[pos]] = pos;
+        }
+    }
+
+    /**
+     * Przelicza harmonogram po zmianie węzła {@code forwardSeed} (jego najwcześniejszy start
+     * lub czas trwania) i węzła {@code backwardSeed} (jego najpóźniejszy koniec lub czas trwania).
+     */
+    private void recompute(int forwardSeed, int backwardSeed) {
+        long start = computeProjectStart();
+        if (start != projectStart) {
+            // Tasks without a start date all move with the project start
+            projectStart = start;
+            recomputeAll();
+            return;
+        }
+        forwardPass(forwardSeed, backwardSeed);
+        long finish = computeProjectFinish();
+        if (finish != projectFinish) {
+            // The latest dates of every sink depend on the project finish
+            projectFinish = finish;
+            backwardPass(-1, -1, true);
+        } else {
+            backwardPass(backwardSeed, forwardSeed, false);
+        }
+    }
+
+    private void recomputeAll() {
+        projectStart = computeProjectStart();
+        for (int pos = 0; pos < size; pos++) {
+            int node = order[pos];
+            earliestStart[node] = earliestStartOf(node);
+        }
+        projectFinish = computeProjectFinish();
+        backwardPass(-1, -1, true);
+    }
+
+    /**
+     * Przelicza najwcześniejsze terminy w porządku topologicznym, zaczynając od podanych węzłów
+     * i przechodząc dalej tylko do następników, których termin się zmienił.
+     */
+    private void forwardPass(int seed, int otherSeed) {
+        int visit = nextStamp();
+        mark[seed] = visit;
+        mark[otherSeed] = visit;
+        for (int pos = Math.min(position[seed], position[otherSeed]); pos < size; pos++) {
+            int node = order[pos];
+            if (mark[node] != visit) {
+                continue;
+            }
+            long start = earliestStartOf(node);
+            // The seeds may have a new duration, so their finish can move even at the same start
+            if (start != earliestStart[node] || node == seed || node == otherSeed) {
+                earliestStart[node] = start;
+                for (int i = 0; i < successorCount[node]; i++) {
+                    mark[successors[node][i]] = visit;
+                }
+            }
+        }
+    }
+
+    /**
+     * Przelicza najpóźniejsze terminy w odwrotnym porządku topologicznym, zaczynając od podanych
+     * węzłów (lub od wszystkich, gdy {@code all}) i przechodząc dalej tylko do poprzedników,
+     * których termin się zmienił.
+     */
+    private void backwardPass(int seed, int otherSeed, boolean all) {
+        int visit = nextStamp();
+        int from = size - 1;
+        if (!all) {
+            mark[seed] = visit;
+            mark[otherSeed] = visit;
+            from = Math.max(position[seed], position[otherSeed]);
+        }
+        for (int pos = from; pos >= 0; pos--) {
+            int node = order[pos];
+            if (!all && mark[node] != visit) {
+                continue;
+            }
+            long finish = projectFinish;
+            for (int i = 0; i < successorCount[node]; i++) {
+                finish = Math.min(finish, latestStart[successors[node][i]]);
+            }
+            long start = finish - duration[node];
+            if (all || start != latestStart[node] || node == seed || node == otherSeed) {
+                latestStart[node] = start;
+                for (int i = 0; i < predecessorCount[node]; i++) {
+                    mark[predecessors[node][i]] = visit;
+                }
+            }
+        }
+    }
+
+    private long earliestStartOf(int node) {
+        long start = startBound[node] != NO_START ? startBound[node] : projectStart;
+        for (int i = 0; i < predecessorCount[node]; i++) {
+            int pred = predecessors[node][i];
+            start = Math.max(start, earliestStart[pred] + duration[pred]);
+        }
+        return start;
+    }
+
+    private long computeProjectStart() {
+        long start = Long.MAX_VALUE;
+        for (int node = 0; node < size; node++) {
+            if (startBound[node] != NO_START) {
+                start = Math.min(start, startBound[node]);
+            }
+        }
+        return start != Long.MAX_VALUE ? start : defaultStart;
+    }
+
+    private long computeProjectFinish() {
+        long finish = projectStart;
+        for (int node = 0; node < size; node++) {
+            finish = Math.max(finish, earliestStart[node] + duration[node]);
+        }
+        return finish;
+    }
+
+    private int nextStamp() {
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(mark, 0);
+            stamp = 1;
+        }
+        return stamp;
+    }
+
+    private void allocate(int capacity) {
+        taskIds = new int[capacity];
+        startBound = new long[capacity];
+        duration = new int[capacity];
+        successors = new int[capacity][];
+        successorCount = new int[capacity];
+        predecessors = new int[capacity][];
+        predecessorCount = new int[capacity];
+        order = new int[capacity];
+        position = new int[capacity];
+        earliestStart = new long[capacity];
+        latestStart = new long[capacity];
+        mark = new int[capacity];
+    }
+
+    private void grow(int capacity) {
+        taskIds = Arrays.copyOf(taskIds, capacity);
+        startBound = Arrays.copyOf(startBound, capacity);
+        duration = Arrays.copyOf(duration, capacity);
+        successors = Arrays.copyOf(successors, capacity);
+        successorCount = Arrays.copyOf(successorCount, capacity);
+        predecessors = Arrays.copyOf(predecessors, capacity);
+        predecessorCount = Arrays.copyOf(predecessorCount, capacity);
+        order = Arrays.copyOf(order, capacity);
+        position = Arrays.copyOf(position, capacity);
+        earliestStart = Arrays.copyOf(earliestStart, capacity);
+        latestStart = Arrays.copyOf(latestStart, capacity);
+        mark = Arrays.copyOf(mark, capacity);
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.backend.scheduling;
+
+import com.example.backend.dto.TaskDTO;
+import com.example.backend.dto.TaskDependencyDTO;
+import com.example.backend.models.Task;
+import com.example.backend.repository.TaskDependencyRepository;
+import com.example.backend.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Przechowuje w pamięci grafy zależności zadań ({@link TaskDependencyGraph}), osobno dla każdego zespołu.
+ * <p>
+ * Graf zespołu jest wczytywany z bazy przy pierwszym użyciu, w osobnej transakcji tylko do odczytu.
+ * Zmiany dat zadań zgłaszane przez {@link TaskScheduleListener} są nakładane na graf po zatwierdzeniu
+ * transakcji i przeliczają tylko zależne terminy. Usunięcie zadania lub przeniesienie go do innego
+ * zespołu usuwa grafy zespołów z pamięci - zostaną wczytane ponownie przy następnym użyciu.
+ * <p>
+ * Wszystkie operacje na grafie zespołu są wykonywane kolejno (w ramach
+ * {@link ConcurrentHashMap#compute}), więc wczytanie grafu i nakładane na niego zmiany nie przeplatają się.
+ */
+@Component
+public class TaskDependencyGraphCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskDependencyGraphCache.class);
+
+    private final Map<Integer, TaskDependencyGraph> graphs = new ConcurrentHashMap<>();
+    private final TaskRepository taskRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final TransactionTemplate loadTransaction;
+
+    @Autowired
+    public TaskDependencyGraphCache(TaskRepository taskRepository,
+                                    TaskDependencyRepository taskDependencyRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.taskDependencyRepository = taskDependencyRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Wykonuje operację na grafie zespołu, wczytując go w razie potrzeby.
+     * Wyjątek zgłoszony przez operację pozostawia graf w pamięci bez zmian.
+     *
+     * @param teamId ID zespołu
+     * @param action Operacja na grafie
+     * @param <T>    typ wyniku
+     * @return Wynik operacji
+     */
+    public <T> T withGraph(Integer teamId, Function<TaskDependencyGraph, T> action) {
+        Object[] result = new Object[1];
+        graphs.compute(teamId, (id, graph) -> {
+            TaskDependencyGraph current = graph != null ? graph : load(id);
+            result[0] = action.apply(current);
+            return current;
+        });
+        @SuppressWarnings("unchecked")
+        T value = (T) result[0];
+        return value;
+    }
+
+    /**
+     * Usuwa graf zespołu z pamięci.
+     *
+     * @param teamId ID zespołu
+     */
+    public void invalidate(Integer teamId) {
+        if (teamId != null) {
+            graphs.remove(teamId);
+        }
+    }
+
+    /**
+     * Wykonuje operację na grafie zespołu po zatwierdzeniu bieżącej transakcji, o ile graf jest w pamięci.
+     *
+     * @param teamId ID zespołu
+     * @param action Operacja na grafie
+     */
+    public void updateAfterCommit(Integer teamId, Consumer<TaskDependencyGraph> action) {
+        afterCompletion(() -> graphs.computeIfPresent(teamId, (id, graph) -> {
+            try {
+                action.accept(graph);
+                return graph;
+            } catch (RuntimeException e) {
+                // The graph no longer matches the database; it is rebuilt on next use
+                logger.warn("Nie udało się zaktualizować grafu zależności zespołu {}: {}", id, e.getMessage());
+                return null;
+            }
+        }), true);
+    }
+
+    /**
+     * Uwzględnia zapis zadania po zatwierdzeniu bieżącej transakcji.
+     *
+     * @param task           Zapisane zadanie
+     * @param originalTeamId Zespół zadania przed zapisem (dla nowego zadania - jego zespół)
+     */
+    public void taskSaved(Task task, Integer originalTeamId) {
+        Integer taskId = task.getId();
+        Integer teamId = task.getTeam() != null ? task.getTeam().getId() : null;
+        LocalDate startDate = task.getStartDate();
+        LocalDate deadline = task.getDeadline();
+        if (!Objects.equals(originalTeamId, teamId)) {
+            // Dependencies that crossed teams may now connect tasks of the same team
+            afterCompletion(() -> {
+                invalidate(originalTeamId);
+                invalidate(teamId);
+            }, true);
+        } else if (teamId != null) {
+            updateAfterCommit(teamId, graph -> graph.putTask(taskId, startDate, deadline));
+        }
+    }
+
+    /**
+     * Uwzględnia usunięcie zadania po zatwierdzeniu bieżącej transakcji.
+     *
+     * @param task           Usunięte zadanie
+     * @param originalTeamId Zespół zadania przed usunięciem
+     */
+    public void taskRemoved(Task task, Integer originalTeamId) {
+        Integer teamId = task.getTeam() != null ? task.getTeam().getId() : null;
+        afterCompletion(() -> {
+            invalidate(originalTeamId);
+            invalidate(teamId);
+        }, true);
+    }
+
+    private TaskDependencyGraph load(Integer teamId) {
+        long start = System.currentTimeMillis();
+        TaskDependencyGraph graph = loadTransaction.execute(status -> {
+            List<TaskDTO> tasks = taskRepository.findAsDTOByTeamId(teamId);
+            List<TaskDependencyDTO> dependencies = taskDependencyRepository.findAsDTOByTeamId(teamId);
+            return TaskDependencyGraph.build(tasks, dependencies, LocalDate.now());
+        });
+        logger.debug("Wczytano graf zależności zespołu {}: {} zadań w {} ms",
+                teamId, graph.size(), System.currentTimeMillis() - start);
+        return graph;
+    }
+
+    /**
+     * Wykonuje akcję po zatwierdzeniu ({@code onCommit}) lub po wycofaniu bieżącej transakcji.
+     * Poza transakcją akcja po zatwierdzeniu jest wykonywana od razu.
+     */
+    private void afterCompletion(Runnable action, boolean onCommit) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (onCommit) {
+                action.run();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if ((status == STATUS_COMMITTED) == onCommit) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
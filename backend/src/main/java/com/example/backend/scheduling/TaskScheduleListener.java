@@ -0,0 +1,53 @@
+package com.example.backend.scheduling;
+
+import com.example.backend.models.Task;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Obserwator zmian encji {@link Task}, przekazujący zapisy i usunięcia zadań do
+ * {@link TaskDependencyGraphCache}.
+ * <p>
+ * Przy wczytaniu i po zapisie zadania zapamiętywany jest jego zespół, aby przeniesienie zadania
+ * do innego zespołu unieważniało grafy obu zespołów.
+ */
+public class TaskScheduleListener {
+
+    private final ObjectProvider<TaskDependencyGraphCache> graphCache;
+
+    @Autowired
+    public TaskScheduleListener(ObjectProvider<TaskDependencyGraphCache> graphCache) {
+        this.graphCache = graphCache;
+    }
+
+    @PostLoad
+    public void taskLoaded(Task task) {
+        task.setOriginalTeamId(teamId(task));
+    }
+
+    @PostPersist
+    public void taskCreated(Task task) {
+        Integer teamId = teamId(task);
+        graphCache.ifAvailable(cache -> cache.taskSaved(task, teamId));
+        task.setOriginalTeamId(teamId);
+    }
+
+    @PostUpdate
+    public void taskUpdated(Task task) {
+        graphCache.ifAvailable(cache -> cache.taskSaved(task, task.getOriginalTeamId()));
+        task.setOriginalTeamId(teamId(task));
+    }
+
+    @PostRemove
+    public void taskRemoved(Task task) {
+        graphCache.ifAvailable(cache -> cache.taskRemoved(task, task.getOriginalTeamId()));
+    }
+
+    private Integer teamId(Task task) {
+        return task.getTeam() != null ? task.getTeam().getId() : null;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.backend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Analizator tekstu dla wyszukiwania pełnotekstowego w języku polskim.
+ * <p>
+ * Tekst jest zamieniany na małe litery, polskie znaki diakrytyczne są sprowadzane do liter
+ * podstawowych (np. "ł" → "l", "ó" → "o"), pomijane są najczęstsze słowa funkcyjne,
+ * a z pozostałych słów usuwane są typowe końcówki fleksyjne. Dzięki temu np. "fundamentów",
+ * "fundamenty" i "Fundament" dają ten sam termin.
+ */
+public class PolishTextAnalyzer {
+
+    private static final Locale POLISH = Locale.forLanguageTag("pl-PL");
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    /**
+     * Minimalna długość słowa, od której usuwane są końcówki.
+     */
+    private static final int MIN_STEMMED_LENGTH = 5;
+
+    /**
+     * Minimalna długość rdzenia pozostałego po usunięciu końcówki.
+     */
+    private static final int MIN_STEM_LENGTH = 3;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "i", "o", "u", "w", "z", "we", "ze", "na", "do", "od", "po", "za", "sie", "nie",
+            "to", "jest", "oraz", "lub", "dla", "przy", "jak", "ten", "ta", "te", "tego", "czy",
+            "ale", "co", "jako", "bez", "pod", "nad", "przez");
+
+    /**
+     * Końcówki fleksyjne (po usunięciu znaków diakrytycznych), sprawdzane od najdłuższej.
+     */
+    private static final List<String> SUFFIXES = List.of(
+                    "owaniami", "owaniach", "owaniem", "owania", "owanie", "owaniu",
+                    "aniami", "eniami", "aniach", "eniach", "aniem", "eniem",
+                    "ania", "enia", "anie", "enie", "aniu", "eniu",
+                    "owie", "owej", "owym", "owych", "owa", "owe", "owi", "owy",
+                    "ami", "ach", "ego", "emu", "ymi", "imi", "ych", "ich", "iej",
+                    "om", "ow", "em", "ie", "ia",
+                    "a", "e", "i", "o", "u", "y").stream()
+            .sorted(Comparator.comparingInt(String::length).reversed())
+            .toList();
+
+    /**
+     * Dzieli tekst na znormalizowane termy.
+     *
+     * @param text Tekst do analizy (może być {@code null})
+     * @return Lista termów w kolejności występowania, z powtórzeniami
+     */
+    public List<String> analyze(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        List<String> terms = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(fold(text.toLowerCase(POLISH)))) {
+            if (token.isEmpty() || STOP_WORDS.contains(token)) {
+                continue;
+            }
+            terms.add(stem(token));
+        }
+        return terms;
+    }
+
+    /**
+     * Sprowadza cały tekst do postaci porównywalnej bez względu na wielkość liter i znaki diakrytyczne
+     * (np. "Łączenie rur " → "laczenie rur"), bez dzielenia na słowa i usuwania końcówek.
+     * Używane do wyszukiwania zadań po prefiksie tytułu.
+     *
+     * @param text Tekst (może być {@code null})
+     * @return Znormalizowany tekst lub {@code null}
+     */
+    public static String normalize(String text) {
+        return text == null ? null : fold(text.toLowerCase(POLISH)).trim();
+    }
+
+    /**
+     * Usuwa znaki diakrytyczne. Litera "ł" nie rozkłada się w normalizacji Unicode,
+     * więc jest zamieniana osobno.
+     */
+    static String fold(String text) {
+        String withoutStroke = text.replace('ł', 'l').replace('Ł', 'L');
+        return COMBINING_MARKS.matcher(Normalizer.normalize(withoutStroke, Normalizer.Form.NFD)).replaceAll("");
+    }
+
+    /**
+     * Usuwa najdłuższą pasującą końcówkę, jeśli pozostały rdzeń jest wystarczająco długi.
+     * Słowa zawierające cyfry (np. numery, symbole) pozostają bez zmian.
+     */
+    static String stem(String token) {
+        if (token.length() < MIN_STEMMED_LENGTH || token.chars().anyMatch(Character::isDigit)) {
+            return token;
+        }
+        for (String suffix : SUFFIXES) {
+            if (token.endsWith(suffix) && token.length() - suffix.length() >= MIN_STEM_LENGTH) {
+                return token.substring(0, token.length() - suffix.length());
+            }
+        }
+        return token;
+    }
+}
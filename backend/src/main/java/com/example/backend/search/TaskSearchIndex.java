@@ -0,0 +1,284 @@
+package com.example.backend.search;
+
+import com.example.backend.dto.TaskDTO;
+import com.example.backend.dto.TaskSearchHitDTO;
+import com.example.backend.dto.TaskSearchResultDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Indeks odwrócony tytułów i opisów zadań przechowywany w pamięci procesu.
+ * <p>
+ * Dla każdego termu (po analizie {@link PolishTextAnalyzer}) indeks przechowuje listę zadań wraz
+ * z liczbą wystąpień termu; wystąpienia w tytule liczą się {@link #TITLE_WEIGHT} razy. Wyniki są
+ * szeregowane według BM25, a zwracane zadania pochodzą z kopii przechowywanej w indeksie,
+ * więc wyszukiwanie nie odwołuje się do bazy danych.
+ * <p>
+ * Odczyty i zmiany indeksu są synchronizowane blokadą odczytu i zapisu. Przebudowa wczytuje
+ * i analizuje zadania poza blokadą, a zmiany zgłoszone od początku wczytywania są ponownie
+ * nakładane na nowy indeks przed jego udostępnieniem.
+ */
+@Component
+public class TaskSearchIndex {
+
+    /**
+     * Parametr nasycenia częstości termu w BM25.
+     */
+    static final double K1 = 1.2;
+
+    /**
+     * Parametr normalizacji długości dokumentu w BM25.
+     */
+    static final double B = 0.75;
+
+    /**
+     * Waga wystąpienia termu w tytule względem wystąpienia w opisie.
+     */
+    static final int TITLE_WEIGHT = 2;
+
+    private final PolishTextAnalyzer analyzer = new PolishTextAnalyzer();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Integer, IndexedTask> documents = new HashMap<>();
+    private Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+    private long totalLength;
+
+    /**
+     * Zmiany zgłoszone w trakcie przebudowy (ID → zadanie lub {@code null} dla usuniętego);
+     * {@code null}, gdy przebudowa nie trwa.
+     */
+    private Map<Integer, TaskDTO> pendingDuringRebuild;
+
+    /**
+     * Dodaje zadanie do indeksu lub zastępuje jego poprzednią wersję.
+     *
+     * @param task Zadanie z nadanym ID
+     */
+    public void index(TaskDTO task) {
+        IndexedTask document = analyze(task);
+        lock.writeLock().lock();
+        try {
+            removeDocument(task.getId());
+            addDocument(document);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.put(task.getId(), task);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Usuwa zadanie z indeksu.
+     *
+     * @param taskId ID zadania
+     */
+    public void remove(Integer taskId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(taskId);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.put(taskId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Zastępuje zawartość indeksu zadaniami wczytanymi przez {@code loader}. Zmiany zgłoszone
+     * od chwili rozpoczęcia wczytywania są zapamiętywane i nakładane na nowy indeks, więc zmiana
+     * zatwierdzona po odczycie danej porcji zadań nie zostanie utracona. Zadania są analizowane
+     * równolegle, a wyszukiwanie w dotychczasowym indeksie działa do chwili podmiany.
+     *
+     * @param loader Odczyt wszystkich zadań do zaindeksowania
+     * @return Liczba wczytanych zadań
+     */
+    public synchronized int rebuild(Supplier<? extends Collection<TaskDTO>> loader) {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Collection<TaskDTO> tasks;
+        try {
+            tasks = loader.get();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        List<IndexedTask> analyzed = tasks.parallelStream()
+                .map(this::analyze)
+                .toList();
+
+        Map<Integer, IndexedTask> newDocuments = new HashMap<>(analyzed.size() * 2);
+        Map<String, Map<Integer, Integer>> newPostings = new HashMap<>();
+        long newTotalLength = 0;
+        for (IndexedTask document : analyzed) {
+            newDocuments.put(document.task.getId(), document);
+            document.termFrequencies.forEach((term, frequency) ->
+                    newPostings.computeIfAbsent(term, t -> new HashMap<>()).put(document.task.getId(), frequency));
+            newTotalLength += document.length;
+        }
+
+        lock.writeLock().lock();
+        try {
+            documents = newDocuments;
+            postings = newPostings;
+            totalLength = newTotalLength;
+
+            // Re-apply changes that happened while the snapshot was being analyzed
+            pendingDuringRebuild.forEach((taskId, task) -> {
+                removeDocument(taskId);
+                if (task != null) {
+                    addDocument(analyze(task));
+                }
+            });
+            pendingDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return tasks.size();
+    }
+
+    /**
+     * Wyszukuje zadania pasujące do zapytania, posortowane malejąco według trafności BM25.
+     * Zadanie pasuje, jeśli zawiera co najmniej jeden term zapytania.
+     *
+     * @param query Zapytanie użytkownika
+     * @param page  Numer strony, liczony od zera
+     * @param size  Rozmiar strony
+     * @return Strona wyników wraz z łączną liczbą trafień
+     */
+    public TaskSearchResultDTO search(String query, int page, int size) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(analyzer.analyze(query)));
+
+        lock.readLock().lock();
+        try {
+            if (terms.isEmpty() || documents.isEmpty()) {
+                return new TaskSearchResultDTO(List.of(), 0, page, size);
+            }
+
+            int documentCount = documents.size();
+            double averageLength = (double) totalLength / documentCount;
+            Map<Integer, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<Integer, Integer> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+                termPostings.forEach((taskId, frequency) -> {
+                    double normalization = K1 * (1 - B + B * documents.get(taskId).length / averageLength);
+                    double score = idf * frequency * (K1 + 1) / (frequency + normalization);
+                    scores.merge(taskId, score, Double::sum);
+                });
+            }
+
+            // Keep only the best (page + 1) * size hits instead of sorting every match
+            Comparator<Map.Entry<Integer, Double>> ranking = Map.Entry.<Integer, Double>comparingByValue()
+                    .reversed()
+                    .thenComparing(Map.Entry.comparingByKey());
+            long limit = Math.min((long) (page + 1) * size, scores.size());
+            PriorityQueue<Map.Entry<Integer, Double>> top = new PriorityQueue<>(ranking.reversed());
+            for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+                top.offer(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<Map.Entry<Integer, Double>> ranked = new ArrayList<>(top);
+            ranked.sort(ranking);
+
+            List<TaskSearchHitDTO> hits = ranked.stream()
+                    .skip((long) page * size)
+                    .map(entry -> new TaskSearchHitDTO(documents.get(entry.getKey()).task, entry.getValue()))
+                    .toList();
+            return new TaskSearchResultDTO(hits, scores.size(), page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Zwraca liczbę zaindeksowanych zadań.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private IndexedTask analyze(TaskDTO task) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : analyzer.analyze(task.getTitle())) {
+            frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : analyzer.analyze(task.getDescription())) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        return new IndexedTask(task, frequencies, length);
+    }
+
+    private void addDocument(IndexedTask document) {
+        Integer taskId = document.task.getId();
+        documents.put(taskId, document);
+        document.termFrequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, t -> new HashMap<>()).put(taskId, frequency));
+        totalLength += document.length;
+    }
+
+    private void removeDocument(Integer taskId) {
+        IndexedTask previous = documents.remove(taskId);
+        if (previous == null) {
+            return;
+        }
+        previous.termFrequencies.keySet().forEach(term -> {
+            Map<Integer, Integer> termPostings = postings.get(term);
+            termPostings.remove(taskId);
+            if (termPostings.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+        totalLength -= previous.length;
+    }
+
+    /**
+     * Zaindeksowane zadanie wraz z częstościami termów.
+     */
+    private static final class IndexedTask {
+
+        private final TaskDTO task;
+        private final Map<String, Integer> termFrequencies;
+        private final int length;
+
+        private IndexedTask(TaskDTO task, Map<String, Integer> termFrequencies, int length) {
+            this.task = task;
+            this.termFrequencies = termFrequencies;
+            this.length = length;
+        }
+    }
+}
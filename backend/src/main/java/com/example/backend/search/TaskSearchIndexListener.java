@@ -0,0 +1,37 @@
+package com.example.backend.search;
+
+import com.example.backend.models.Task;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Obserwator zmian encji {@link Task}, przekazujący zapisy i usunięcia zadań do
+ * {@link TaskSearchIndexer}. Obejmuje wszystkie ścieżki zapisu przez JPA, również usuwanie
+ * zadań razem z zespołem.
+ * <p>
+ * Instancję tworzy Hibernate przez kontener Springa; indekser jest pobierany leniwie,
+ * ponieważ obserwator powstaje razem z fabryką {@code EntityManager}.
+ */
+public class TaskSearchIndexListener {
+
+    private final ObjectProvider<TaskSearchIndexer> taskSearchIndexer;
+
+    @Autowired
+    public TaskSearchIndexListener(ObjectProvider<TaskSearchIndexer> taskSearchIndexer) {
+        this.taskSearchIndexer = taskSearchIndexer;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void taskSaved(Task task) {
+        taskSearchIndexer.ifAvailable(indexer -> indexer.taskSaved(task));
+    }
+
+    @PostRemove
+    public void taskRemoved(Task task) {
+        taskSearchIndexer.ifAvailable(indexer -> indexer.taskRemoved(task.getId()));
+    }
+}
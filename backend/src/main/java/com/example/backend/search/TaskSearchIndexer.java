@@ -0,0 +1,123 @@
+package com.example.backend.search;
+
+import com.example.backend.dto.TaskDTO;
+import com.example.backend.models.Task;
+import com.example.backend.repository.TaskRepository;
+import com.example.backend.services.TaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utrzymuje {@link TaskSearchIndex} w zgodzie z tabelą {@code tasks}.
+ * <p>
+ * Po starcie aplikacji indeks jest budowany od nowa z bazy. Późniejsze zapisy i usunięcia zadań
+ * są zgłaszane przez {@link TaskSearchIndexListener} i nakładane na indeks dopiero po zatwierdzeniu
+ * transakcji, więc wycofane zmiany nie trafiają do wyników wyszukiwania.
+ */
+@Component
+public class TaskSearchIndexer {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskSearchIndexer.class);
+
+    /**
+     * Liczba zadań wczytywanych z bazy jednym zapytaniem podczas przebudowy indeksu.
+     */
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskRepository taskRepository;
+    private final TaskService taskService;
+
+    @Value("${app.search.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    @Autowired
+    public TaskSearchIndexer(TaskSearchIndex taskSearchIndex,
+                             TaskRepository taskRepository,
+                             TaskService taskService) {
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskRepository = taskRepository;
+        this.taskService = taskService;
+    }
+
+    /**
+     * Buduje indeks po starcie aplikacji.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Wczytuje wszystkie zadania porcjami i buduje indeks od nowa. Zmiany zatwierdzone w trakcie
+     * wczytywania są zapamiętywane przez indeks od pierwszego zapytania i nakładane po podmianie.
+     *
+     * @return Liczba zaindeksowanych zadań
+     */
+    public int rebuild() {
+        long start = System.currentTimeMillis();
+        int count = taskSearchIndex.rebuild(this::loadAllTasks);
+        logger.info("Zbudowano indeks wyszukiwania zadań: {} zadań w {} ms",
+                count, System.currentTimeMillis() - start);
+        return count;
+    }
+
+    private List<TaskDTO> loadAllTasks() {
+        List<TaskDTO> tasks = new ArrayList<>();
+        List<TaskDTO> chunk;
+        int afterId = 0;
+        do {
+            chunk = taskRepository.findAsDTOByIdGreaterThan(afterId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            tasks.addAll(chunk);
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+        return tasks;
+    }
+
+    /**
+     * Aktualizuje zadanie w indeksie po zatwierdzeniu bieżącej transakcji.
+     *
+     * @param task Zapisane zadanie
+     */
+    public void taskSaved(Task task) {
+        TaskDTO dto = taskService.mapToDTO(task);
+        afterCommit(() -> taskSearchIndex.index(dto));
+    }
+
+    /**
+     * Usuwa zadanie z indeksu po zatwierdzeniu bieżącej transakcji.
+     *
+     * @param taskId ID usuniętego zadania
+     */
+    public void taskRemoved(Integer taskId) {
+        afterCommit(() -> taskSearchIndex.remove(taskId));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.backend.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cyklicznie wyszukuje zadania, których termin minął ({@link OverdueTaskService#scan()}).
+ * <p>
+ * Uruchamiany w każdym węźle (API i {@code worker}), o ile nie wyłączono go właściwością
+ * {@code app.tasks.overdue.scan-enabled}, ponieważ z oznaczeń korzystają listy zadań po terminie i liczniki
+ * zespołów obsługiwane przez węzły API. Równoległe przeszukiwania są wykonywane kolejno dzięki blokadzie
+ * znacznika {@code overdue-tasks} i obejmują tylko terminy, które minęły od poprzedniego uruchomienia, więc
+ * częste wywołania są tanie.
+ */
+@Component
+@ConditionalOnProperty(name = "app.tasks.overdue.scan-enabled", havingValue = "true")
+public class OverdueTaskScanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(OverdueTaskScanner.class);
+
+    private final OverdueTaskService overdueTaskService;
+
+    @Autowired
+    public OverdueTaskScanner(OverdueTaskService overdueTaskService) {
+        this.overdueTaskService = overdueTaskService;
+    }
+
+    /**
+     * Oznacza zadania, których termin minął od poprzedniego przeszukiwania.
+     */
+    @Scheduled(fixedDelayString = "${app.tasks.overdue.scan-interval-ms:600000}")
+    public void scan() {
+        int added = overdueTaskService.scan();
+        if (added > 0) {
+            logger.info("Oznaczono {} zadań po terminie", added);
+        }
+    }
+}
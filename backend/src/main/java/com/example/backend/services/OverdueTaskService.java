@@ -0,0 +1,152 @@
+package com.example.backend.services;
+
+import com.example.backend.models.OverdueTask;
+import com.example.backend.models.ScanWatermark;
+import com.example.backend.models.Task;
+import com.example.backend.repository.OverdueTaskRepository;
+import com.example.backend.repository.ScanWatermarkRepository;
+import com.example.backend.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Serwis utrzymujący listę zadań po terminie ({@link OverdueTask}).
+ * <p>
+ * Zadanie staje się zadaniem po terminie z upływem czasu, bez żadnej zmiany w bazie, dlatego nowe
+ * zadania po terminie wykrywa cykliczne przeszukiwanie ({@link #scan()}). Znacznik {@link ScanWatermark}
+ * zapamiętuje datę ostatniego przeszukiwania, więc każde kolejne sprawdza tylko terminy, które minęły
+ * od tego czasu. Zmiany zadań wprowadzane przez {@link TaskService} są uwzględniane od razu: zakończenie
+ * zadania lub przesunięcie terminu usuwa oznaczenie, a ustawienie terminu w przeszłości cofa znacznik,
+ * tak aby zadanie zostało oznaczone przy najbliższym przeszukiwaniu. Każda zmiana oznaczeń przelicza
+ * liczniki zadań po terminie zespołów ({@link TeamTaskCounterService}).
+ */
+@Service
+@Transactional
+public class OverdueTaskService {
+
+    /**
+     * Nazwa znacznika przeszukiwania terminów zadań.
+     */
+    public static final String WATERMARK_NAME = "overdue-tasks";
+
+    /**
+     * Najwcześniejsza data obsługiwana przez kolumny typu DATE - początek zakresu pierwszego przeszukiwania.
+     */
+    static final LocalDate EARLIEST_DEADLINE = LocalDate.of(1000, 1, 1);
+
+    private static final Logger logger = LoggerFactory.getLogger(OverdueTaskService.class);
+
+    private final OverdueTaskRepository overdueTaskRepository;
+    private final ScanWatermarkRepository scanWatermarkRepository;
+    private final TaskRepository taskRepository;
+    private final TaskHierarchyService taskHierarchyService;
+    private final TeamTaskCounterService teamTaskCounterService;
+
+    /**
+     * Konstruktor wstrzykujący zależności.
+     */
+    @Autowired
+    public OverdueTaskService(OverdueTaskRepository overdueTaskRepository,
+                              ScanWatermarkRepository scanWatermarkRepository,
+                              TaskRepository taskRepository,
+                              TaskHierarchyService taskHierarchyService,
+                              TeamTaskCounterService teamTaskCounterService) {
+        this.overdueTaskRepository = overdueTaskRepository;
+        this.scanWatermarkRepository = scanWatermarkRepository;
+        this.taskRepository = taskRepository;
+        this.taskHierarchyService = taskHierarchyService;
+        this.teamTaskCounterService = teamTaskCounterService;
+    }
+
+    /**
+     * Oznacza niezakończone zadania, których termin minął od ostatniego przeszukiwania, i usuwa oznaczenia
+     * zadań, które przestały być po terminie. Równoległe wywołania (np. z kilku procesów roboczych)
+     * są wykonywane kolejno dzięki blokadzie wiersza znacznika; w danym dniu przeszukiwanie jest
+     * wykonywane tylko raz, chyba że znacznik został cofnięty.
+     *
+     * @return Liczba nowo oznaczonych zadań
+     */
+    public int scan() {
+        LocalDate today = LocalDate.now();
+        ScanWatermark watermark = scanWatermarkRepository.findLockedByName(WATERMARK_NAME)
+                .orElseGet(() -> scanWatermarkRepository.save(new ScanWatermark(WATERMARK_NAME)));
+        LocalDate from = watermark.getWatermark() != null ? watermark.getWatermark() : EARLIEST_DEADLINE;
+        if (!from.isBefore(today)) {
+            return 0;
+        }
+
+        int resolved = overdueTaskRepository.deleteResolved(today);
+        int added = overdueTaskRepository.insertOpenTasksWithDeadlineBetween(from, today, LocalDateTime.now());
+        // Subtasks that just became late change the totals of their ancestors
+        taskHierarchyService.tasksChanged(taskRepository.findOpenSubtasksWithDeadlineBetween(from, today));
+        if (resolved > 0 || added > 0) {
+            teamTaskCounterService.overdueChangedForAllTeams();
+        }
+        watermark.setWatermark(today);
+        logger.debug("Przeszukano terminy zadań od {} do {}: {} nowych zadań po terminie, {} usuniętych oznaczeń",
+                from, today, added, resolved);
+        return added;
+    }
+
+    /**
+     * Uwzględnia nowo utworzone zadania.
+     *
+     * @param tasks Utworzone zadania
+     */
+    public void tasksCreated(Collection<Task> tasks) {
+        reconcile(tasks, false);
+    }
+
+    /**
+     * Uwzględnia zadania, którym zmieniono termin lub datę zakończenia.
+     *
+     * @param tasks Zmienione zadania
+     */
+    public void tasksChanged(Collection<Task> tasks) {
+        reconcile(tasks, true);
+    }
+
+    /**
+     * Sprawdza, czy zadanie jest po terminie.
+     *
+     * @param task  Zadanie
+     * @param today Bieżąca data
+     * @return {@code true}, jeśli zadanie nie jest zakończone, a jego termin minął
+     */
+    public static boolean isOverdue(Task task, LocalDate today) {
+        return task.getCompletedDate() == null && task.getDeadline() != null && task.getDeadline().isBefore(today);
+    }
+
+    private void reconcile(Collection<Task> tasks, boolean mayBeMarked) {
+        LocalDate today = LocalDate.now();
+        List<Integer> resolved = new ArrayList<>();
+        List<Integer> resolvedTeamIds = new ArrayList<>();
+        LocalDate earliestOverdue = null;
+        for (Task task : tasks) {
+            if (isOverdue(task, today)) {
+                if (earliestOverdue == null || task.getDeadline().isBefore(earliestOverdue)) {
+                    earliestOverdue = task.getDeadline();
+                }
+            } else if (mayBeMarked) {
+                resolved.add(task.getId());
+                resolvedTeamIds.add(task.getTeam() != null ? task.getTeam().getId() : null);
+            }
+        }
+        if (!resolved.isEmpty() && overdueTaskRepository.deleteByTaskIdIn(resolved) > 0) {
+            teamTaskCounterService.overdueChanged(resolvedTeamIds);
+        }
+        if (earliestOverdue != null) {
+            // Only the scan marks tasks, so the mark is never inserted twice
+            scanWatermarkRepository.lowerWatermark(WATERMARK_NAME, earliestOverdue);
+        }
+    }
+}
@@ -6,12 +6,16 @@ import com.example.backend.models.ReportType;
 import com.example.backend.models.User;
 import com.example.backend.repository.ReportRepository;
 import com.example.backend.repository.ReportTypeRepository;
+import com.example.backend.reporting.ParallelPdfSectionRenderer;
+import com.example.backend.reporting.StreamingEmployeeLoadReportGenerator;
+import com.itextpdf.text.PageSize;
 import org.example.reporting.generator.*;
 import org.example.reporting.model.*;
 import org.example.reporting.storage.FileStorageUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -34,6 +38,8 @@ public class PdfReportService {
     private final ReportRepository reportRepository;
     private final ReportTypeRepository reportTypeRepository;
     private final ObjectMapper objectMapper;
+    private final ParallelPdfSectionRenderer parallelRenderer;
+    private final ReportDataService reportDataService;
 
     @Value("${app.reports.storage-path}")
     private String reportStoragePath;
@@ -41,10 +47,14 @@ public class PdfReportService {
     @Autowired
     public PdfReportService(ReportRepository reportRepository,
                             ReportTypeRepository reportTypeRepository,
-                            ObjectMapper objectMapper) {
+                            ObjectMapper objectMapper,
+                            ParallelPdfSectionRenderer parallelRenderer,
+                            ReportDataService reportDataService) {
         this.reportRepository = reportRepository;
         this.reportTypeRepository = reportTypeRepository;
         this.objectMapper = objectMapper;
+        this.parallelRenderer = parallelRenderer;
+        this.reportDataService = reportDataService;
     }
 
     /**
@@ -116,47 +126,7 @@ public class PdfReportService {
      */
     public Report generateEmployeeLoadReport(EmployeeLoadReportDTO reportDTO, User createdBy) throws Exception {
         List<EmployeeLoad> dataItems = reportDTO.getItems().stream()
-                .map(item -> {
-                    EmployeeLoad load = new EmployeeLoad();
-                    load.setEmployeeId(item.getEmployeeId());
-                    load.setEmployeeName(item.getEmployeeName());
-                    load.setTaskCount(item.getTaskCount());
-                    load.setTotalHours(item.getTotalHours());
-
-                    // Dodanie brakujących transferów danych
-                    load.setFteEquivalent(item.getFteEquivalent());
-
-                    // Konwersja informacji o zadaniach
-                    if (item.getTasks() != null && !item.getTasks().isEmpty()) {
-                        List<TaskDetail> taskDetails = item.getTasks().stream()
-                                .map(taskDTO -> {
-                                    TaskDetail detail = new TaskDetail();
-                                    detail.setTaskId(taskDTO.getTaskId());
-                                    detail.setTaskName(taskDTO.getTaskName());
-                                    detail.setStatus(taskDTO.getStatus());
-                                    detail.setPriority(taskDTO.getPriority());
-                                    detail.setStartDate(taskDTO.getStartDate());
-                                    detail.setDeadlineDate(taskDTO.getDeadlineDate());
-                                    detail.setCompletedDate(taskDTO.getCompletedDate());
-                                    detail.setEstimatedHours(taskDTO.getEstimatedHours());
-                                    detail.setDelayed(taskDTO.isDelayed());
-                                    return detail;
-                                }).collect(Collectors.toList());
-                        load.setTasks(taskDetails);
-                    }
-
-                    // Konwersja informacji o statusach
-                    if (item.getTasksByStatus() != null) {
-                        load.setTasksByStatus(new HashMap<>(item.getTasksByStatus()));
-                    } else {
-                        // Domyślna wartość jeśli brak danych
-                        Map<String, Integer> defaultStatuses = new HashMap<>();
-                        defaultStatuses.put("Nieznany", item.getTaskCount());
-                        load.setTasksByStatus(defaultStatuses);
-                    }
-
-                    return load;
-                })
+                .map(this::toEmployeeLoad)
                 .collect(Collectors.toList());
 
         // 2. Przygotowanie parametrów dla generatora raportów
@@ -191,6 +161,173 @@ public class PdfReportService {
 
         return reportRepository.save(report);
     }
+    /**
+     * Generuje raport obciążenia pracowników w trybie strumieniowym.
+     * <p>
+     * Pozycje są pobierane z iteratora {@link ReportDataService#streamEmployeeLoadData}, konwertowane
+     * i zapisywane do pliku jedna po drugiej wewnątrz transakcji odczytu danych, więc szczyt zużycia pamięci
+     * nie zależy od liczby pracowników ani liczby ich zadań. Metoda nie uczestniczy we własnej transakcji:
+     * informacje o raporcie są zapisywane osobno, dopiero po zapisaniu pliku.
+     *
+     * @param targetUserId Identyfikator pracownika lub {@code null} dla wszystkich pracowników
+     * @param dateFrom     Data początkowa zakresu raportu (yyyy-MM-dd)
+     * @param dateTo       Data końcowa zakresu raportu (yyyy-MM-dd)
+     * @param createdBy    Użytkownik generujący raport
+     * @return Obiekt Report zawierający informacje o wygenerowanym raporcie
+     * @throws Exception w przypadku błędu podczas generowania raportu
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Report generateEmployeeLoadReportStreaming(Integer targetUserId, String dateFrom, String dateTo,
+                                                      User createdBy) throws Exception {
+        String reportType = "employee-load";
+        String fileName = FileStorageUtils.createUniqueFileName(reportType, "pdf");
+        Path filePath = FileStorageUtils.resolveReportPath(reportStoragePath, reportType, fileName);
+
+        Map<String, Object> parameters = reportDataService.streamEmployeeLoadData(targetUserId, dateFrom, dateTo,
+                reportStream -> writeEmployeeLoadReportStreaming(reportStream, filePath));
+
+        Report report = new Report();
+        report.setName("Raport obciążenia pracownika");
+
+        ReportType type = reportTypeRepository.findByName("Raport obciążenia pracownika")
+                .orElseThrow(() -> new RuntimeException("Report type not found"));
+        report.setType(type);
+
+        report.setCreatedBy(createdBy);
+        report.setParameters(objectMapper.writeValueAsString(parameters));
+        report.setFileName(fileName);
+        report.setFilePath(filePath.toString());
+        report.setCreatedAt(LocalDateTime.now());
+
+        return reportRepository.save(report);
+    }
+
+    /**
+     * Zapisuje pozycje strumienia do pliku PDF, pobierając je z iteratora jedna po drugiej.
+     *
+     * @return Parametry raportu
+     */
+    private Map<String, Object> writeEmployeeLoadReportStreaming(EmployeeLoadReportStreamDTO reportStream,
+                                                                 Path filePath) throws Exception {
+        Iterator<EmployeeLoadItemDTO> source = reportStream.getItems();
+        Iterator<EmployeeLoad> dataItems = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public EmployeeLoad next() {
+                return toEmployeeLoad(source.next());
+            }
+        };
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("dateFrom", reportStream.getDateFrom());
+        parameters.put("dateTo", reportStream.getDateTo());
+        parameters.put("workingDays", reportStream.getWorkingDays());
+        parameters.put("employeeCount", reportStream.getEmployeeCount());
+
+        new StreamingEmployeeLoadReportGenerator().saveReport(dataItems, parameters, filePath);
+        return parameters;
+    }
+
+    /**
+     * Generuje raport obciążenia pracowników, renderując sekcję każdego pracownika równolegle.
+     * <p>
+     * Sekcje są budowane jako osobne fragmenty PDF na puli wątków, a następnie scalane w kolejności
+     * pracowników, poprzedzone spisem treści z numerami stron.
+     *
+     * @param reportDTO Obiekt zawierający dane do raportu
+     * @param createdBy Użytkownik generujący raport
+     * @return Obiekt Report zawierający informacje o wygenerowanym raporcie
+     * @throws Exception w przypadku błędu podczas generowania raportu
+     */
+    public Report generateEmployeeLoadReportParallel(EmployeeLoadReportDTO reportDTO, User createdBy) throws Exception {
+        List<EmployeeLoad> dataItems = reportDTO.getItems().stream()
+                .map(this::toEmployeeLoad)
+                .collect(Collectors.toList());
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("dateFrom", reportDTO.getDateFrom());
+        parameters.put("dateTo", reportDTO.getDateTo());
+        parameters.put("workingDays", reportDTO.getWorkingDays());
+
+        String reportType = "employee-load";
+        String fileName = FileStorageUtils.createUniqueFileName(reportType, "pdf");
+        Path filePath = FileStorageUtils.resolveReportPath(reportStoragePath, reportType, fileName);
+
+        parallelRenderer.render(
+                "Raport obciążenia pracownika",
+                List.of("Okres: " + reportDTO.getDateFrom() + " - " + reportDTO.getDateTo(),
+                        "Dni robocze w okresie: " + reportDTO.getWorkingDays()),
+                dataItems,
+                EmployeeLoad::getEmployeeName,
+                (item, out) -> new StreamingEmployeeLoadReportGenerator().writeSection(item, out),
+                PageSize.A4.rotate(),
+                filePath);
+
+        Report report = new Report();
+        report.setName("Raport obciążenia pracownika");
+
+        ReportType type = reportTypeRepository.findByName("Raport obciążenia pracownika")
+                .orElseThrow(() -> new RuntimeException("Report type not found"));
+        report.setType(type);
+
+        report.setCreatedBy(createdBy);
+        report.setParameters(objectMapper.writeValueAsString(parameters));
+        report.setFileName(fileName);
+        report.setFilePath(filePath.toString());
+        report.setCreatedAt(LocalDateTime.now());
+
+        return reportRepository.save(report);
+    }
+
+    /**
+     * Konwertuje pozycję raportu obciążenia na model biblioteki raportowej.
+     */
+    private EmployeeLoad toEmployeeLoad(EmployeeLoadItemDTO item) {
+        EmployeeLoad load = new EmployeeLoad();
+        load.setEmployeeId(item.getEmployeeId());
+        load.setEmployeeName(item.getEmployeeName());
+        load.setTaskCount(item.getTaskCount());
+        load.setTotalHours(item.getTotalHours());
+
+        // Dodanie brakujących transferów danych
+        load.setFteEquivalent(item.getFteEquivalent());
+
+        // Konwersja informacji o zadaniach
+        if (item.getTasks() != null && !item.getTasks().isEmpty()) {
+            List<TaskDetail> taskDetails = item.getTasks().stream()
+                    .map(taskDTO -> {
+                        TaskDetail detail = new TaskDetail();
+                        detail.setTaskId(taskDTO.getTaskId());
+                        detail.setTaskName(taskDTO.getTaskName());
+                        detail.setStatus(taskDTO.getStatus());
+                        detail.setPriority(taskDTO.getPriority());
+                        detail.setStartDate(taskDTO.getStartDate());
+                        detail.setDeadlineDate(taskDTO.getDeadlineDate());
+                        detail.setCompletedDate(taskDTO.getCompletedDate());
+                        detail.setEstimatedHours(taskDTO.getEstimatedHours());
+                        detail.setDelayed(taskDTO.isDelayed());
+                        return detail;
+                    }).collect(Collectors.toList());
+            load.setTasks(taskDetails);
+        }
+
+        // Konwersja informacji o statusach
+        if (item.getTasksByStatus() != null) {
+            load.setTasksByStatus(new HashMap<>(item.getTasksByStatus()));
+        } else {
+            // Domyślna wartość jeśli brak danych
+            Map<String, Integer> defaultStatuses = new HashMap<>();
+            defaultStatuses.put("Nieznany", item.getTaskCount());
+            load.setTasksByStatus(defaultStatuses);
+        }
+
+        return load;
+    }
+
     /**
      * Generuje raport efektywności zespołu w formacie PDF.
      *
@@ -261,4 +398,25 @@ public class PdfReportService {
 
         return reportRepository.save(report);
     }
-}
\ No newline at end of file
+
+    /**
+     * Generuje wszystkie raporty z pakietu w formacie PDF: raport postępu budowy dla każdego zespołu,
+     * raport obciążenia pracowników oraz raport efektywności zespołów.
+     *
+     * @param bundle    Pakiet danych raportów wyliczony ze wspólnego odczytu danych
+     * @param createdBy Użytkownik generujący raporty
+     * @return Lista wygenerowanych raportów w kolejności: postęp budowy, obciążenie, efektywność
+     * @throws Exception w przypadku błędu podczas generowania któregokolwiek z raportów
+     */
+    public List<Report> generateReportBundle(ReportBundleDTO bundle, User createdBy) throws Exception {
+        List<Report> reports = new ArrayList<>();
+
+        for (ConstructionProgressReportDTO progress : bundle.getConstructionProgressByTeam().values()) {
+            reports.add(generateConstructionProgressReport(progress, createdBy));
+        }
+        reports.add(generateEmployeeLoadReport(bundle.getEmployeeLoad(), createdBy));
+        reports.add(generateTeamEfficiencyReport(bundle.getTeamEfficiency(), createdBy));
+
+        return reports;
+    }
+}
@@ -3,54 +3,118 @@ package com.example.backend.services;
 import com.example.backend.dto.reports.*;
 import com.example.backend.models.*;
 import com.example.backend.repository.*;
+import jakarta.persistence.EntityManager;
 import org.example.reporting.model.TeamEfficiency;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class ReportDataService {
 
+    // Standard work hours per day
+    private static final double WORK_HOURS_PER_DAY = 8.0;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final TaskCommentRepository taskCommentRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * Odbiorca danych raportu obciążenia pracowników w trybie strumieniowym
+     * ({@link #streamEmployeeLoadData}), wywoływany wewnątrz transakcji odczytu.
+     *
+     * @param <R> Typ wyniku odbiorcy
+     */
+    @FunctionalInterface
+    public interface EmployeeLoadStreamWriter<R> {
+        R write(EmployeeLoadReportStreamDTO reportStream) throws Exception;
+    }
 
     @Autowired
     public ReportDataService(TaskRepository taskRepository,
                              UserRepository userRepository,
                              TeamRepository teamRepository,
                              TeamMemberRepository teamMemberRepository,
-                             TaskCommentRepository taskCommentRepository) {
+                             TaskCommentRepository taskCommentRepository,
+                             ArchivedTaskRepository archivedTaskRepository,
+                             EntityManager entityManager) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
         this.teamRepository = teamRepository;
         this.teamMemberRepository = teamMemberRepository;
         this.taskCommentRepository = taskCommentRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.entityManager = entityManager;
     }
 
+    @Transactional(readOnly = true)
     public ConstructionProgressReportDTO collectConstructionProgressData(Integer teamId, String dateFrom, String dateTo) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        LocalDate startDate = LocalDate.parse(dateFrom, formatter);
-        LocalDate endDate = LocalDate.parse(dateTo, formatter);
-        LocalDate currentDate = LocalDate.now();
-
         // Fetch the team
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new RuntimeException("Team not found"));
 
+        LocalDate archiveFrom = archiveFrom(LocalDate.parse(dateFrom, DateTimeFormatter.ofPattern("yyyy-MM-dd")));
+        return buildConstructionProgressReport(findTeamTasksForReport(team.getId(), archiveFrom), dateFrom, dateTo);
+    }
+
+    /**
+     * Zwraca datę, od której raport zaczynający się w podanym dniu musi odczytać archiwum zadań,
+     * lub {@code null}, jeśli żadne zarchiwizowane zadanie nie zostało zakończone w okresie raportu ani później.
+     * Raporty obejmują zadania rozpoczęte lub trwające w okresie raportu, a zadanie nie kończy się przed
+     * rozpoczęciem, więc zadania zakończone przed początkiem okresu nigdy do raportu nie trafiają.
+     */
+    private LocalDate archiveFrom(LocalDate startDate) {
+        return archivedTaskRepository.findLatestCompletedDate()
+                .filter(latest -> !latest.isBefore(startDate))
+                .map(latest -> startDate)
+                .orElse(null);
+    }
+
+    /**
+     * Pobiera zadania zespołu do raportu, dołączając zarchiwizowane zadania zakończone od {@code archiveFrom}.
+     */
+    private List<Task> findTeamTasksForReport(Integer teamId, LocalDate archiveFrom) {
+        List<Task> tasks = taskRepository.findForReportByTeamId(teamId);
+        if (archiveFrom == null) {
+            return tasks;
+        }
+        List<Task> merged = new ArrayList<>(tasks);
+        for (ArchivedTask archivedTask : archivedTaskRepository.findForReportByTeamId(teamId, archiveFrom)) {
+            merged.add(archivedTask.toTask());
+        }
+        return merged;
+    }
+
+    /**
+     * Buduje raport postępu budowy na podstawie już wczytanych zadań zespołu.
+     */
+    private ConstructionProgressReportDTO buildConstructionProgressReport(List<Task> teamTasks, String dateFrom, String dateTo) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        LocalDate startDate = LocalDate.parse(dateFrom, formatter);
+        LocalDate endDate = LocalDate.parse(dateTo, formatter);
+        LocalDate currentDate = LocalDate.now();
 
         // Fetch ALL tasks for the team within the date range
-        List<Task> tasks = taskRepository.findByTeam(team).stream()
+        List<Task> tasks = teamTasks.stream()
                 .filter(task -> {
                     LocalDate taskDate = task.getStartDate();
                     return taskDate != null &&
@@ -186,6 +250,7 @@ public class ReportDataService {
         return reportDTO;
     }
 
+    @Transactional(readOnly = true)
     public EmployeeLoadReportDTO collectEmployeeLoadData(Integer userId, String dateFrom, String dateTo) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         LocalDate startDate = LocalDate.parse(dateFrom, formatter);
@@ -205,119 +270,125 @@ public class ReportDataService {
             users = List.of(user);
         }
 
-        // Create data items
-        List<EmployeeLoadItemDTO> items = new ArrayList<>();
-
-        // Standard work hours per day
-        final double WORK_HOURS_PER_DAY = 8.0;
-        // Number of working days in the period
-        long workingDays = ChronoUnit.DAYS.between(startDate, endDate.plusDays(1));
-        // Simple adjustment for weekends (approximation)
-        workingDays = workingDays - (workingDays * 2 / 7); // Subtract weekends
-
-        // Ensure at least 1 day
-        if (workingDays < 1) workingDays = 1;
+        LocalDate archiveFrom = archiveFrom(startDate);
+        return buildEmployeeLoadReport(users,
+                user -> getUserTeamTasks(user, startDate, endDate, currentDate, archiveFrom), dateFrom, dateTo);
+    }
 
-        for (User user : users) {
-            // Get tasks from user's teams instead of created by user
-            List<Task> userTasks = getUserTeamTasks(user, startDate, endDate, currentDate);
-
-            // Always create item for user (even without tasks)
-            double totalHours = 0.0;
-            Map<String, Integer> tasksByStatus = new HashMap<>();
-            List<TaskDetailDTO> taskDetails = new ArrayList<>();
-
-            for (Task task : userTasks) {
-                // Collect status information - ensure it's never null
-                String status = task.getStatus() != null ? task.getStatus().getName() : "Nieznany";
-                tasksByStatus.merge(status, 1, Integer::sum);
-
-                // Calculate estimated hours based on priority
-                double priorityMultiplier = 1.0;
-                if (task.getPriority() != null) {
-                    int priorityValue = task.getPriority().getValue();
-                    priorityMultiplier = 0.5 + (priorityValue * 0.25); // Scale from 0.75 to 1.5 based on priority
-                }
+    /**
+     * Przekazuje dane raportu obciążenia pracowników w trybie strumieniowym do podanego odbiorcy.
+     * <p>
+     * Pozycje raportu (wraz z listami szczegółów zadań) są wyliczane leniwie, dopiero przy pobraniu
+     * z iteratora: zadania każdego pracownika są wtedy czytane strumieniowo z bazy, a po zbudowaniu pozycji
+     * kontekst utrwalania jest czyszczony. Dzięki temu w pamięci znajdują się naraz zadania tylko jednego
+     * pracownika, niezależnie od liczby pracowników. Iterator jest ważny tylko wewnątrz transakcji odczytu,
+     * dlatego odbiorca jest wywoływany w tej metodzie.
+     *
+     * @param userId   Identyfikator pracownika lub {@code null} dla wszystkich pracowników
+     * @param dateFrom Data początkowa zakresu raportu (yyyy-MM-dd)
+     * @param dateTo   Data końcowa zakresu raportu (yyyy-MM-dd)
+     * @param writer   Odbiorca nagłówka raportu z leniwym iteratorem pozycji
+     * @param <R>      Typ wyniku odbiorcy
+     * @return Wynik zwrócony przez odbiorcę
+     * @throws Exception w przypadku błędu zgłoszonego przez odbiorcę
+     */
+    @Transactional(readOnly = true)
+    public <R> R streamEmployeeLoadData(Integer userId, String dateFrom, String dateTo,
+                                        EmployeeLoadStreamWriter<R> writer) throws Exception {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        LocalDate startDate = LocalDate.parse(dateFrom, formatter);
+        LocalDate endDate = LocalDate.parse(dateTo, formatter);
+        LocalDate currentDate = LocalDate.now();
 
-                // Calculate task duration in days
-                LocalDate taskStart = task.getStartDate() != null ? task.getStartDate() :
-                        task.getCreatedAt().toLocalDate();
-                LocalDate taskEnd = task.getCompletedDate() != null ? task.getCompletedDate() :
-                        (task.getDeadline() != null ? task.getDeadline() : endDate);
-
-                // Ensure dates are within report period
-                if (taskStart.isBefore(startDate)) taskStart = startDate;
-                if (taskEnd.isAfter(endDate)) taskEnd = endDate;
-
-                // Calculate days between dates (simplified)
-                long days = ChronoUnit.DAYS.between(taskStart, taskEnd.plusDays(1));
-                // Simple adjustment for weekends (approximation)
-                long businessDays = days - (days * 2 / 7); // Subtract weekends
-                if (businessDays < 1) businessDays = 1; // At least 1 day
-
-                // Calculate hours for this task
-                double taskHours = businessDays * WORK_HOURS_PER_DAY * priorityMultiplier;
-                totalHours += taskHours;
-
-                // Determine if task is delayed
-                boolean isDelayed = false;
-                if (task.getDeadline() != null) {
-                    if (task.getCompletedDate() == null) {
-                        // Not completed yet, check if current date is past deadline
-                        isDelayed = currentDate.isAfter(task.getDeadline());
-                    } else {
-                        // Completed, check if completion date is past deadline
-                        isDelayed = task.getCompletedDate().isAfter(task.getDeadline());
-                    }
-                }
+        List<User> users;
+        if (userId == null) {
+            users = userRepository.findAll().stream()
+                    .filter(user -> !"administrator".equalsIgnoreCase(user.getRole()))
+                    .collect(Collectors.toList());
+        } else {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+            users = List.of(user);
+        }
 
-                // Add task details
-                TaskDetailDTO detail = new TaskDetailDTO();
-                detail.setTaskId(task.getId());
-                detail.setTaskName(task.getTitle());
-                detail.setStatus(status);
-                detail.setPriority(task.getPriority() != null ? task.getPriority().getName() : "Standardowy");
-                detail.setStartDate(task.getStartDate());
-                detail.setDeadlineDate(task.getDeadline());
-                detail.setCompletedDate(task.getCompletedDate());
-                detail.setEstimatedHours(taskHours);
-                detail.setDelayed(isDelayed);
-
-                taskDetails.add(detail);
+        long workingDays = calculateWorkingDays(startDate, endDate);
+        LocalDate archiveFrom = archiveFrom(startDate);
+        Iterator<User> userIterator = users.iterator();
+
+        EmployeeLoadReportStreamDTO reportStream = new EmployeeLoadReportStreamDTO();
+        reportStream.setDateFrom(dateFrom);
+        reportStream.setDateTo(dateTo);
+        reportStream.setWorkingDays((int) workingDays);
+        reportStream.setEmployeeCount(users.size());
+        reportStream.setItems(new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return userIterator.hasNext();
             }
 
-            // Ensure we have status data - if not, create a default
-            if (tasksByStatus.isEmpty()) {
-                tasksByStatus.put("Brak zadań", 0);
+            @Override
+            public EmployeeLoadItemDTO next() {
+                User user = userIterator.next();
+                List<Task> userTasks = streamUserTasksOverlappingPeriod(user, startDate, endDate, currentDate,
+                        archiveFrom);
+                EmployeeLoadItemDTO item = buildEmployeeLoadItem(user, userTasks, startDate, endDate, currentDate,
+                        workingDays);
+                // Release the user's tasks before the next user's tasks are read
+                entityManager.clear();
+                return item;
             }
+        });
 
-            // Calculate FTE equivalent (based on 8-hour workday)
-            double totalPossibleHours = workingDays * WORK_HOURS_PER_DAY;
-            double fteEquivalent;
+        return writer.write(reportStream);
+    }
 
-            if (totalPossibleHours > 0) {
-                fteEquivalent = totalHours / totalPossibleHours;
-            } else {
-                // Fallback if calculation fails
-                fteEquivalent = totalHours / 160.0; // Assume standard month workload
+    /**
+     * Czyta strumieniowo zadania zespołów pracownika (wraz z zarchiwizowanymi, zakończonymi od
+     * {@code archiveFrom}) i zatrzymuje tylko te, które nakładają się na okres raportu.
+     */
+    private List<Task> streamUserTasksOverlappingPeriod(User user, LocalDate startDate, LocalDate endDate,
+                                                        LocalDate currentDate, LocalDate archiveFrom) {
+        LocalDateTime createdBefore = endDate.plusDays(1).atStartOfDay();
+        List<Task> tasks;
+        try (Stream<Task> stream = taskRepository.streamUserTeamTasksStartedOrCreatedBefore(
+                user.getId(), endDate, createdBefore)) {
+            tasks = stream
+                    .filter(task -> overlapsPeriod(task, startDate, endDate, currentDate))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+        if (archiveFrom != null) {
+            try (Stream<ArchivedTask> stream = archivedTaskRepository
+                    .streamUserTeamTasksCompletedFromStartedOrCreatedBefore(
+                            user.getId(), archiveFrom, endDate, createdBefore)) {
+                stream.map(ArchivedTask::toTask)
+                        .filter(task -> overlapsPeriod(task, startDate, endDate, currentDate))
+                        .forEach(tasks::add);
             }
+        }
+        return tasks;
+    }
 
-            // Guard against NaN or infinity
-            if (Double.isNaN(fteEquivalent) || Double.isInfinite(fteEquivalent)) {
-                fteEquivalent = 0.0;
-            }
+    /**
+     * Buduje raport obciążenia pracowników. Źródło zadań użytkownika jest przekazywane z zewnątrz,
+     * dzięki czemu ta sama logika działa zarówno dla zapytań per użytkownik, jak i dla wspólnego zestawu danych.
+     */
+    private EmployeeLoadReportDTO buildEmployeeLoadReport(List<User> users,
+                                                          Function<User, List<Task>> userTasksProvider,
+                                                          String dateFrom, String dateTo) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        LocalDate startDate = LocalDate.parse(dateFrom, formatter);
+        LocalDate endDate = LocalDate.parse(dateTo, formatter);
+        LocalDate currentDate = LocalDate.now();
 
-            // Create and add the employee load item
-            EmployeeLoadItemDTO item = new EmployeeLoadItemDTO();
-            item.setEmployeeId(user.getId());
-            item.setEmployeeName(user.getFirstName() + " " + user.getLastName());
-            item.setTaskCount(userTasks.size());
-            item.setTotalHours(totalHours);
-            item.setFteEquivalent(fteEquivalent);
-            item.setTasks(taskDetails);
-            item.setTasksByStatus(tasksByStatus);
+        // Create data items
+        List<EmployeeLoadItemDTO> items = new ArrayList<>();
 
-            items.add(item);
+        long workingDays = calculateWorkingDays(startDate, endDate);
+
+        for (User user : users) {
+            // Get tasks from user's teams instead of created by user
+            items.add(buildEmployeeLoadItem(user, userTasksProvider.apply(user),
+                    startDate, endDate, currentDate, workingDays));
         }
 
         // Create report DTO
@@ -330,14 +401,147 @@ public class ReportDataService {
         return reportDTO;
     }
 
+    /**
+     * Wylicza obciążenie pojedynczego pracownika na podstawie zadań jego zespołów.
+     */
+    private EmployeeLoadItemDTO buildEmployeeLoadItem(User user, List<Task> userTasks,
+                                                      LocalDate startDate, LocalDate endDate,
+                                                      LocalDate currentDate, long workingDays) {
+
+        // Always create item for user (even without tasks)
+        double totalHours = 0.0;
+        Map<String, Integer> tasksByStatus = new HashMap<>();
+        List<TaskDetailDTO> taskDetails = new ArrayList<>();
+
+        for (Task task : userTasks) {
+            // Collect status information - ensure it's never null
+            String status = task.getStatus() != null ? task.getStatus().getName() : "Nieznany";
+            tasksByStatus.merge(status, 1, Integer::sum);
+
+            // Calculate estimated hours based on priority
+            double priorityMultiplier = 1.0;
+            if (task.getPriority() != null) {
+                int priorityValue = task.getPriority().getValue();
+                priorityMultiplier = 0.5 + (priorityValue * 0.25); // Scale from 0.75 to 1.5 based on priority
+            }
+
+            // Calculate task duration in days
+            LocalDate taskStart = task.getStartDate() != null ? task.getStartDate() :
+                    task.getCreatedAt().toLocalDate();
+            LocalDate taskEnd = task.getCompletedDate() != null ? task.getCompletedDate() :
+                    (task.getDeadline() != null ? task.getDeadline() : endDate);
+
+            // Ensure dates are within report period
+            if (taskStart.isBefore(startDate)) taskStart = startDate;
+            if (taskEnd.isAfter(endDate)) taskEnd = endDate;
+
+            // Calculate days between dates (simplified)
+            long days = ChronoUnit.DAYS.between(taskStart, taskEnd.plusDays(1));
+            // Simple adjustment for weekends (approximation)
+            long businessDays = days - (days * 2 / 7); // Subtract weekends
+            if (businessDays < 1) businessDays = 1; // At least 1 day
+
+            // Calculate hours for this task
+            double taskHours = businessDays * WORK_HOURS_PER_DAY * priorityMultiplier;
+            totalHours += taskHours;
+
+            // Determine if task is delayed
+            boolean isDelayed = false;
+            if (task.getDeadline() != null) {
+                if (task.getCompletedDate() == null) {
+                    // Not completed yet, check if current date is past deadline
+                    isDelayed = currentDate.isAfter(task.getDeadline());
+                } else {
+                    // Completed, check if completion date is past deadline
+                    isDelayed = task.getCompletedDate().isAfter(task.getDeadline());
+                }
+            }
+
+            // Add task details
+            TaskDetailDTO detail = new TaskDetailDTO();
+            detail.setTaskId(task.getId());
+            detail.setTaskName(task.getTitle());
+            detail.setStatus(status);
+            detail.setPriority(task.getPriority() != null ? task.getPriority().getName() : "Standardowy");
+            detail.setStartDate(task.getStartDate());
+            detail.setDeadlineDate(task.getDeadline());
+            detail.setCompletedDate(task.getCompletedDate());
+            detail.setEstimatedHours(taskHours);
+            detail.setDelayed(isDelayed);
+
+            taskDetails.add(detail);
+        }
+
+        // Ensure we have status data - if not, create a default
+        if (tasksByStatus.isEmpty()) {
+            tasksByStatus.put("Brak zadań", 0);
+        }
+
+        // Calculate FTE equivalent (based on 8-hour workday)
+        double totalPossibleHours = workingDays * WORK_HOURS_PER_DAY;
+        double fteEquivalent;
+
+        if (totalPossibleHours > 0) {
+            fteEquivalent = totalHours / totalPossibleHours;
+        } else {
+            // Fallback if calculation fails
+            fteEquivalent = totalHours / 160.0; // Assume standard month workload
+        }
+
+        // Guard against NaN or infinity
+        if (Double.isNaN(fteEquivalent) || Double.isInfinite(fteEquivalent)) {
+            fteEquivalent = 0.0;
+        }
+
+        // Create the employee load item
+        EmployeeLoadItemDTO item = new EmployeeLoadItemDTO();
+        item.setEmployeeId(user.getId());
+        item.setEmployeeName(user.getFirstName() + " " + user.getLastName());
+        item.setTaskCount(userTasks.size());
+        item.setTotalHours(totalHours);
+        item.setFteEquivalent(fteEquivalent);
+        item.setTasks(taskDetails);
+        item.setTasksByStatus(tasksByStatus);
+
+        return item;
+    }
+
+    /**
+     * Liczba dni roboczych w okresie raportu (w przybliżeniu, bez weekendów), co najmniej 1.
+     */
+    private long calculateWorkingDays(LocalDate startDate, LocalDate endDate) {
+        // Number of working days in the period
+        long workingDays = ChronoUnit.DAYS.between(startDate, endDate.plusDays(1));
+        // Simple adjustment for weekends (approximation)
+        workingDays = workingDays - (workingDays * 2 / 7); // Subtract weekends
+
+        // Ensure at least 1 day
+        return Math.max(workingDays, 1);
+    }
+
+    @Transactional(readOnly = true)
     public TeamEfficiencyReportDTO collectTeamEfficiencyData(String dateFrom, String dateTo) {
+        // Get all teams
+        List<Team> teams = teamRepository.findAll();
+        LocalDate archiveFrom = archiveFrom(LocalDate.parse(dateFrom, DateTimeFormatter.ofPattern("yyyy-MM-dd")));
+
+        return buildTeamEfficiencyReport(teams,
+                team -> findTeamTasksForReport(team.getId(), archiveFrom),
+                team -> (int) teamMemberRepository.countByTeamAndIsActive(team, true),
+                dateFrom, dateTo);
+    }
+
+    /**
+     * Buduje raport efektywności zespołów na podstawie przekazanych źródeł zadań i liczby aktywnych członków.
+     */
+    private TeamEfficiencyReportDTO buildTeamEfficiencyReport(List<Team> teams,
+                                                              Function<Team, List<Task>> teamTasksProvider,
+                                                              ToIntFunction<Team> activeMembersProvider,
+                                                              String dateFrom, String dateTo) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         LocalDate startDate = LocalDate.parse(dateFrom, formatter);
         LocalDate endDate = LocalDate.parse(dateTo, formatter);
 
-        // Get all teams
-        List<Team> teams = teamRepository.findAll();
-
         // Create data items
         List<TeamEfficiencyItemDTO> items = new ArrayList<>();
 
@@ -348,7 +552,7 @@ public class ReportDataService {
 
         for (Team team : teams) {
             // Get tasks for the team
-            List<Task> teamTasks = taskRepository.findByTeam(team).stream()
+            List<Task> teamTasks = teamTasksProvider.apply(team).stream()
                     .filter(task -> {
                         LocalDate taskDate = task.getCreatedAt().toLocalDate();
                         return !taskDate.isBefore(startDate) && !taskDate.isAfter(endDate);
@@ -370,7 +574,7 @@ public class ReportDataService {
                 item.setOnTimeTasksCount(0);
                 item.setDelayedTasksCount(0);
                 item.setAvgDelayDays(0.0);
-                item.setActiveTeamMembersCount(teamMemberRepository.findByTeamAndIsActive(team, true).size());
+                item.setActiveTeamMembersCount(activeMembersProvider.applyAsInt(team));
                 item.setTasksPerMember(0.0);
                 item.setEfficiencyScore(0.0);
 
@@ -437,7 +641,7 @@ public class ReportDataService {
                         .orElse(0);
 
                 // Pobierz aktywnych członków zespołu
-                int activeMembers = teamMemberRepository.findByTeamAndIsActive(team, true).size();
+                int activeMembers = activeMembersProvider.applyAsInt(team);
 
                 // Zadania per członek zespołu
                 double tasksPerMember = activeMembers > 0 ?
@@ -511,10 +715,90 @@ public class ReportDataService {
         return reportDTO;
     }
 
+    /**
+     * Zbiera dane wszystkich trzech raportów (postęp budowy dla każdego zespołu, obciążenie wszystkich
+     * pracowników oraz efektywność zespołów) z jednego, wspólnego odczytu danych.
+     * <p>
+     * Użytkownicy, zespoły, aktywne członkostwa i zadania z okresu raportu są wczytywane raz,
+     * w stałej liczbie zapytań, niezależnie od liczby zespołów i pracowników.
+     *
+     * @param dateFrom Data początkowa zakresu raportu (yyyy-MM-dd)
+     * @param dateTo   Data końcowa zakresu raportu (yyyy-MM-dd)
+     * @return Pakiet z danymi wszystkich raportów
+     */
+    @Transactional(readOnly = true)
+    public ReportBundleDTO collectReportBundle(String dateFrom, String dateTo) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        LocalDate startDate = LocalDate.parse(dateFrom, formatter);
+        LocalDate endDate = LocalDate.parse(dateTo, formatter);
+        LocalDate currentDate = LocalDate.now();
+
+        ReportDataSnapshot snapshot = loadSnapshot(startDate, endDate);
+
+        Map<Integer, ConstructionProgressReportDTO> constructionProgress = new LinkedHashMap<>();
+        for (Team team : snapshot.teams) {
+            constructionProgress.put(team.getId(),
+                    buildConstructionProgressReport(snapshot.tasksOf(team), dateFrom, dateTo));
+        }
+
+        List<User> employees = snapshot.users.stream()
+                .filter(user -> !"administrator".equalsIgnoreCase(user.getRole()))
+                .collect(Collectors.toList());
+
+        ReportBundleDTO bundle = new ReportBundleDTO();
+        bundle.setDateFrom(dateFrom);
+        bundle.setDateTo(dateTo);
+        bundle.setConstructionProgressByTeam(constructionProgress);
+        bundle.setEmployeeLoad(buildEmployeeLoadReport(employees,
+                user -> filterTasksOverlappingPeriod(snapshot.tasksOfUser(user), startDate, endDate, currentDate),
+                dateFrom, dateTo));
+        bundle.setTeamEfficiency(buildTeamEfficiencyReport(snapshot.teams,
+                snapshot::tasksOf, snapshot::activeMembersOf, dateFrom, dateTo));
+
+        return bundle;
+    }
+
+    /**
+     * Wczytuje wspólny zestaw danych dla pakietu raportów: cztery zapytania niezależnie od wielkości danych
+     * (oraz dwa dodatkowe, gdy okres raportu obejmuje zarchiwizowane zadania).
+     * Zadania są ograniczone do tych, które mogły rozpocząć się lub zostać utworzone do końca okresu raportu;
+     * dokładne filtrowanie dla każdego raportu odbywa się w pamięci.
+     */
+    private ReportDataSnapshot loadSnapshot(LocalDate startDate, LocalDate endDate) {
+        ReportDataSnapshot snapshot = new ReportDataSnapshot();
+        snapshot.users = userRepository.findAll();
+        snapshot.teams = teamRepository.findAll();
+
+        for (TeamMember membership : teamMemberRepository.findActiveWithTeamAndUser()) {
+            snapshot.activeTeamIdsByUser
+                    .computeIfAbsent(membership.getUser().getId(), id -> new ArrayList<>())
+                    .add(membership.getTeam().getId());
+            snapshot.activeMembersByTeam.merge(membership.getTeam().getId(), 1, Integer::sum);
+        }
+
+        List<Task> tasks = new ArrayList<>(
+                taskRepository.findTeamTasksStartedOrCreatedBefore(endDate, endDate.plusDays(1).atStartOfDay()));
+        LocalDate archiveFrom = archiveFrom(startDate);
+        if (archiveFrom != null) {
+            for (ArchivedTask archivedTask : archivedTaskRepository.findTeamTasksCompletedFromStartedOrCreatedBefore(
+                    archiveFrom, endDate, endDate.plusDays(1).atStartOfDay())) {
+                tasks.add(archivedTask.toTask());
+            }
+        }
+        for (Task task : tasks) {
+            snapshot.tasksByTeam
+                    .computeIfAbsent(task.getTeam().getId(), id -> new ArrayList<>())
+                    .add(task);
+        }
+
+        return snapshot;
+    }
+
     /**
      * Pobiera wszystkie zadania zespołów w których użytkownik jest członkiem
      */
-    private List<Task> getUserTeamTasks(User user, LocalDate startDate, LocalDate endDate, LocalDate currentDate) {
+    private List<Task> getUserTeamTasks(User user, LocalDate startDate, LocalDate endDate, LocalDate currentDate,
+                                        LocalDate archiveFrom) {
         List<Task> allUserTasks = new ArrayList<>();
 
         // Znajdź wszystkie zespoły użytkownika
@@ -523,31 +807,64 @@ public class ReportDataService {
         for (TeamMember membership : userTeamMemberships) {
             if (membership.getIsActive()) {
                 // Pobierz wszystkie zadania zespołu
-                List<Task> teamTasks = taskRepository.findByTeam(membership.getTeam());
-
-                // Filtruj zadania według dat
-                List<Task> filteredTasks = teamTasks.stream()
-                        .filter(task -> {
-                            // Task is relevant if it overlaps with the date range
-                            LocalDate taskStartDate = task.getStartDate() != null ?
-                                    task.getStartDate() :
-                                    task.getCreatedAt().toLocalDate();
-                            LocalDate taskEndDate = task.getCompletedDate() != null ?
-                                    task.getCompletedDate() : currentDate;
-
-                            // Task is relevant if it overlaps with the date range
-                            return (taskStartDate == null || !taskStartDate.isAfter(endDate)) &&
-                                    (taskEndDate == null || !taskEndDate.isBefore(startDate));
-                        })
-                        .collect(Collectors.toList());
-
-                allUserTasks.addAll(filteredTasks);
+                allUserTasks.addAll(findTeamTasksForReport(membership.getTeam().getId(), archiveFrom));
             }
         }
 
-        // Usuń duplikaty (jeśli użytkownik jest w wielu zespołach z tym samym zadaniem)
-        return allUserTasks.stream()
+        return filterTasksOverlappingPeriod(allUserTasks, startDate, endDate, currentDate);
+    }
+
+    /**
+     * Filtruje zadania, które nakładają się na okres raportu, i usuwa duplikaty
+     * (jeśli użytkownik jest w wielu zespołach z tym samym zadaniem).
+     */
+    private List<Task> filterTasksOverlappingPeriod(List<Task> tasks, LocalDate startDate, LocalDate endDate,
+                                                    LocalDate currentDate) {
+        return tasks.stream()
+                .filter(task -> overlapsPeriod(task, startDate, endDate, currentDate))
                 .distinct()
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    /**
+     * Sprawdza, czy zadanie nakłada się na okres raportu.
+     */
+    private boolean overlapsPeriod(Task task, LocalDate startDate, LocalDate endDate, LocalDate currentDate) {
+        // Task is relevant if it overlaps with the date range
+        LocalDate taskStartDate = task.getStartDate() != null ?
+                task.getStartDate() :
+                task.getCreatedAt().toLocalDate();
+        LocalDate taskEndDate = task.getCompletedDate() != null ?
+                task.getCompletedDate() : currentDate;
+
+        return (taskStartDate == null || !taskStartDate.isAfter(endDate)) &&
+                (taskEndDate == null || !taskEndDate.isBefore(startDate));
+    }
+
+    /**
+     * Wspólny, jednorazowo wczytany zestaw danych, z którego wyprowadzane są wszystkie raporty pakietu.
+     */
+    private static final class ReportDataSnapshot {
+        private List<User> users;
+        private List<Team> teams;
+        private final Map<Integer, List<Task>> tasksByTeam = new HashMap<>();
+        private final Map<Integer, List<Integer>> activeTeamIdsByUser = new HashMap<>();
+        private final Map<Integer, Integer> activeMembersByTeam = new HashMap<>();
+
+        private List<Task> tasksOf(Team team) {
+            return tasksByTeam.getOrDefault(team.getId(), List.of());
+        }
+
+        private int activeMembersOf(Team team) {
+            return activeMembersByTeam.getOrDefault(team.getId(), 0);
+        }
+
+        private List<Task> tasksOfUser(User user) {
+            List<Task> tasks = new ArrayList<>();
+            for (Integer teamId : activeTeamIdsByUser.getOrDefault(user.getId(), List.of())) {
+                tasks.addAll(tasksByTeam.getOrDefault(teamId, List.of()));
+            }
+            return tasks;
+        }
+    }
+}
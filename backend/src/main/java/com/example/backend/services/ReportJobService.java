@@ -0,0 +1,247 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.ReportJobDTO;
+import com.example.backend.dto.reports.ReportJobRequestDTO;
+import com.example.backend.models.Report;
+import com.example.backend.models.ReportJob;
+import com.example.backend.models.User;
+import com.example.backend.repository.ReportJobRepository;
+import com.example.backend.repository.ReportRepository;
+import com.example.backend.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Serwis obsługujący kolejkę zleceń generowania raportów ({@link ReportJob}).
+ * <p>
+ * Węzły API jedynie zapisują zlecenie w tabeli {@code report_jobs}. Procesy robocze pobierają
+ * zlecenia metodą {@link #claimJobs(String, int)}, która blokuje wiersze z pominięciem już
+ * zablokowanych ({@code SKIP LOCKED}), więc kilka procesów może działać równolegle na tej samej bazie.
+ * <p>
+ * Proces roboczy okresowo przedłuża rezerwację przetwarzanych zleceń ({@link #renewLease(Integer, String)}),
+ * a zlecenia bez przedłużenia przez {@code app.reports.jobs.lease-minutes} wracają do kolejki. Wynik
+ * przetwarzania jest zapisywany warunkowo - tylko jeśli zlecenie nadal należy do danego procesu - więc
+ * proces, któremu odebrano zlecenie, nie nadpisze wyniku nowego właściciela.
+ */
+@Service
+@Transactional
+public class ReportJobService {
+
+    /**
+     * Obsługiwane rodzaje raportów.
+     */
+    public static final Set<String> SUPPORTED_TYPES =
+            Set.of("construction-progress", "employee-load", "team-efficiency");
+
+    private final ReportJobRepository reportJobRepository;
+    private final ReportRepository reportRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.reports.jobs.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.reports.jobs.lease-minutes:15}")
+    private long leaseMinutes;
+
+    /**
+     * Konstruktor wstrzykujący zależności.
+     */
+    @Autowired
+    public ReportJobService(ReportJobRepository reportJobRepository,
+                            ReportRepository reportRepository,
+                            UserRepository userRepository,
+                            ObjectMapper objectMapper) {
+        this.reportJobRepository = reportJobRepository;
+        this.reportRepository = reportRepository;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Mapuje encję ReportJob na obiekt DTO.
+     */
+    public ReportJobDTO mapToDTO(ReportJob job) {
+        ReportJobDTO dto = new ReportJobDTO();
+        dto.setId(job.getId());
+        dto.setType(job.getType());
+        dto.setParameters(job.getParameters());
+        dto.setStatus(job.getStatus().name());
+        dto.setRequestedById(job.getRequestedBy() != null ? job.getRequestedBy().getId() : null);
+        dto.setReportId(job.getReport() != null ? job.getReport().getId() : null);
+        dto.setWorkerId(job.getWorkerId());
+        dto.setAttempts(job.getAttempts());
+        dto.setErrorMessage(job.getErrorMessage());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setClaimedAt(job.getClaimedAt());
+        dto.setHeartbeatAt(job.getHeartbeatAt());
+        dto.setFinishedAt(job.getFinishedAt());
+        return dto;
+    }
+
+    /**
+     * Zapisuje nowe zlecenie wygenerowania raportu w kolejce.
+     *
+     * @param request Parametry raportu
+     * @return Utworzone zlecenie w stanie {@code PENDING}
+     * @throws IllegalArgumentException gdy rodzaj raportu jest nieobsługiwany lub brakuje wymaganych parametrów
+     */
+    public ReportJobDTO enqueue(ReportJobRequestDTO request) {
+        if (request.getType() == null || !SUPPORTED_TYPES.contains(request.getType())) {
+            throw new IllegalArgumentException("Unsupported report type: " + request.getType());
+        }
+        if (request.getDateFrom() == null || request.getDateTo() == null) {
+            throw new IllegalArgumentException("dateFrom and dateTo are required");
+        }
+        if ("construction-progress".equals(request.getType()) && request.getTargetId() == null) {
+            throw new IllegalArgumentException("targetId (team) is required for construction-progress");
+        }
+        if (request.getUserId() == null) {
+            throw new IllegalArgumentException("userId is required");
+        }
+
+        User user = userRepository.findById(request.getUserId())
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+        ReportJob job = new ReportJob();
+        job.setType(request.getType());
+        job.setRequestedBy(user);
+        job.setStatus(ReportJob.Status.PENDING);
+        job.setAttempts(0);
+        job.setCreatedAt(LocalDateTime.now());
+        try {
+            job.setParameters(objectMapper.writeValueAsString(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid report parameters", e);
+        }
+
+        return mapToDTO(reportJobRepository.save(job));
+    }
+
+    /**
+     * Pobiera zlecenie po ID jako DTO.
+     */
+    public Optional<ReportJobDTO> getJobById(Integer id) {
+        return reportJobRepository.findById(id)
+                .map(this::mapToDTO);
+    }
+
+    /**
+     * Pobiera i rezerwuje najstarsze oczekujące zlecenia dla procesu roboczego.
+     * Zlecenia zablokowane przez inne procesy są pomijane, a pobrane przechodzą w stan {@code RUNNING}.
+     *
+     * @param workerId  Identyfikator procesu roboczego
+     * @param batchSize Maksymalna liczba pobieranych zleceń
+     * @return Lista zarezerwowanych zleceń
+     */
+    public List<ReportJobDTO> claimJobs(String workerId, int batchSize) {
+        List<ReportJob> jobs = reportJobRepository.findAndLockByStatus(
+                ReportJob.Status.PENDING, PageRequest.of(0, batchSize));
+
+        LocalDateTime now = LocalDateTime.now();
+        for (ReportJob job : jobs) {
+            job.setStatus(ReportJob.Status.RUNNING);
+            job.setWorkerId(workerId);
+            job.setClaimedAt(now);
+            job.setHeartbeatAt(now);
+            job.setAttempts(job.getAttempts() + 1);
+        }
+
+        return reportJobRepository.saveAll(jobs).stream()
+                .map(this::mapToDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Odczytuje parametry zlecenia zapisane w formacie JSON.
+     *
+     * @param job Zlecenie
+     * @return Parametry raportu
+     */
+    public ReportJobRequestDTO readParameters(ReportJobDTO job) {
+        try {
+            return objectMapper.readValue(job.getParameters(), ReportJobRequestDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid parameters of report job " + job.getId(), e);
+        }
+    }
+
+    /**
+     * Przedłuża rezerwację zlecenia przetwarzanego przez proces roboczy.
+     *
+     * @param jobId    ID zlecenia
+     * @param workerId Identyfikator procesu roboczego
+     * @return {@code false}, jeśli zlecenie nie jest już przetwarzane przez ten proces
+     */
+    public boolean renewLease(Integer jobId, String workerId) {
+        return reportJobRepository.renewLease(jobId, workerId, LocalDateTime.now()) > 0;
+    }
+
+    /**
+     * Oznacza zlecenie jako zakończone i wiąże je z wygenerowanym raportem. Zlecenie, które nie jest
+     * już przetwarzane przez podany proces (np. wróciło do kolejki po wygaśnięciu rezerwacji), pozostaje bez zmian.
+     *
+     * @param jobId    ID zlecenia
+     * @param workerId Identyfikator procesu roboczego
+     * @param reportId ID wygenerowanego raportu
+     * @return {@code false}, jeśli zlecenie nie jest już przetwarzane przez ten proces
+     */
+    public boolean markCompleted(Integer jobId, String workerId, Integer reportId) {
+        Report report = reportRepository.getReferenceById(reportId);
+        return reportJobRepository.markCompleted(jobId, workerId, report, LocalDateTime.now()) > 0;
+    }
+
+    /**
+     * Rejestruje nieudaną próbę przetworzenia zlecenia. Zlecenie wraca do kolejki,
+     * dopóki nie zostanie przekroczona dopuszczalna liczba prób. Zlecenie, które nie jest już
+     * przetwarzane przez podany proces, pozostaje bez zmian.
+     *
+     * @param jobId        ID zlecenia
+     * @param workerId     Identyfikator procesu roboczego
+     * @param errorMessage Opis błędu
+     * @return {@code false}, jeśli zlecenie nie jest już przetwarzane przez ten proces
+     */
+    public boolean markFailed(Integer jobId, String workerId, String errorMessage) {
+        String message = errorMessage != null && errorMessage.length() > 1000 ?
+                errorMessage.substring(0, 1000) : errorMessage;
+        return reportJobRepository.requeueFailed(jobId, workerId, message, maxAttempts) > 0
+                || reportJobRepository.markFailed(jobId, workerId, message, LocalDateTime.now()) > 0;
+    }
+
+    /**
+     * Przywraca do kolejki zlecenia, których proces roboczy nie przedłużył rezerwacji w wyznaczonym czasie
+     * (np. z powodu awarii procesu). Zlecenia zablokowane przez inne procesy są pomijane.
+     *
+     * @return Liczba przywróconych zleceń
+     */
+    public int requeueStaleJobs() {
+        List<ReportJob> staleJobs = reportJobRepository.findAndLockStale(
+                LocalDateTime.now().minusMinutes(leaseMinutes));
+
+        for (ReportJob job : staleJobs) {
+            if (job.getAttempts() < maxAttempts) {
+                job.setStatus(ReportJob.Status.PENDING);
+                job.setWorkerId(null);
+                job.setClaimedAt(null);
+                job.setHeartbeatAt(null);
+            } else {
+                job.setStatus(ReportJob.Status.FAILED);
+                job.setErrorMessage("Worker lease expired");
+                job.setFinishedAt(LocalDateTime.now());
+            }
+        }
+        reportJobRepository.saveAll(staleJobs);
+        return staleJobs.size();
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.ReportJobDTO;
+import com.example.backend.dto.reports.ConstructionProgressReportDTO;
+import com.example.backend.dto.reports.ReportJobRequestDTO;
+import com.example.backend.dto.reports.TeamEfficiencyReportDTO;
+import com.example.backend.models.Report;
+import com.example.backend.models.User;
+import com.example.backend.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Proces roboczy generujący raporty z kolejki {@code report_jobs}.
+ * <p>
+ * Aktywny wyłącznie w profilu {@code worker}, dzięki czemu ten sam plik jar może działać jako węzeł API
+ * lub jako proces roboczy. Dowolna liczba procesów roboczych może korzystać z tej samej bazy danych,
+ * ponieważ zlecenia są pobierane z blokadą {@code SKIP LOCKED}. W trakcie generowania raportu proces
+ * co {@code app.reports.jobs.heartbeat-interval-ms} przedłuża rezerwację przetwarzanych zleceń.
+ */
+@Component
+@Profile("worker")
+public class ReportJobWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportJobWorker.class);
+
+    private final ReportJobService reportJobService;
+    private final ReportDataService reportDataService;
+    private final PdfReportService pdfReportService;
+    private final UserRepository userRepository;
+    private final String workerId = ManagementFactory.getRuntimeMXBean().getName();
+    private final Set<Integer> activeJobIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.reports.jobs.batch-size:1}")
+    private int batchSize;
+
+    @Autowired
+    public ReportJobWorker(ReportJobService reportJobService,
+                           ReportDataService reportDataService,
+                           PdfReportService pdfReportService,
+                           UserRepository userRepository) {
+        this.reportJobService = reportJobService;
+        this.reportDataService = reportDataService;
+        this.pdfReportService = pdfReportService;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Pobiera oczekujące zlecenia i generuje dla nich raporty.
+     */
+    @Scheduled(fixedDelayString = "${app.reports.jobs.poll-interval-ms:2000}")
+    public void pollJobs() {
+        List<ReportJobDTO> jobs = reportJobService.claimJobs(workerId, batchSize);
+        for (ReportJobDTO job : jobs) {
+            processJob(job);
+        }
+    }
+
+    /**
+     * Przywraca do kolejki zlecenia porzucone przez procesy robocze, które przestały działać.
+     */
+    @Scheduled(fixedDelayString = "${app.reports.jobs.requeue-interval-ms:60000}")
+    public void requeueStaleJobs() {
+        int requeued = reportJobService.requeueStaleJobs();
+        if (requeued > 0) {
+            logger.warn("Przywrócono do kolejki {} porzuconych zleceń raportów", requeued);
+        }
+    }
+
+    /**
+     * Przedłuża rezerwację zleceń, dla których trwa generowanie raportu.
+     */
+    @Scheduled(fixedDelayString = "${app.reports.jobs.heartbeat-interval-ms:60000}")
+    public void renewLeases() {
+        for (Integer jobId : activeJobIds) {
+            if (!reportJobService.renewLease(jobId, workerId)) {
+                logger.warn("Rezerwacja zlecenia raportu {} wygasła; wynik przetwarzania zostanie pominięty", jobId);
+            }
+        }
+    }
+
+    /**
+     * Generuje raport dla pojedynczego zlecenia i zapisuje wynik przetwarzania.
+     *
+     * @param job Zarezerwowane zlecenie
+     */
+    public void processJob(ReportJobDTO job) {
+        activeJobIds.add(job.getId());
+        try {
+            Report report = render(reportJobService.readParameters(job));
+            if (reportJobService.markCompleted(job.getId(), workerId, report.getId())) {
+                logger.info("Zlecenie raportu {} ({}) zakończone, raport {}", job.getId(), job.getType(), report.getId());
+            } else {
+                logger.warn("Zlecenie raportu {} nie należy już do tego procesu; raport {} nie został z nim powiązany",
+                        job.getId(), report.getId());
+            }
+        } catch (Exception e) {
+            logger.error("Błąd podczas przetwarzania zlecenia raportu {}", job.getId(), e);
+            reportJobService.markFailed(job.getId(), workerId, e.getMessage());
+        } finally {
+            activeJobIds.remove(job.getId());
+        }
+    }
+
+    private Report render(ReportJobRequestDTO request) throws Exception {
+        User user = userRepository.findById(request.getUserId())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        switch (request.getType()) {
+            case "construction-progress": {
+                ConstructionProgressReportDTO reportDTO = reportDataService.collectConstructionProgressData(
+                        request.getTargetId(), request.getDateFrom(), request.getDateTo());
+                return pdfReportService.generateConstructionProgressReport(reportDTO, user);
+            }
+            case "employee-load": {
+                return pdfReportService.generateEmployeeLoadReportStreaming(
+                        request.getTargetId(), request.getDateFrom(), request.getDateTo(), user);
+            }
+            case "team-efficiency": {
+                TeamEfficiencyReportDTO reportDTO = reportDataService.collectTeamEfficiencyData(
+                        request.getDateFrom(), request.getDateTo());
+                return pdfReportService.generateTeamEfficiencyReport(reportDTO, user);
+            }
+            default:
+                throw new IllegalArgumentException("Unsupported report type: " + request.getType());
+        }
+    }
+}
@@ -179,7 +179,7 @@ public class ReportService {
      * @return Lista wszystkich raportów jako DTO
      */
     public List<ReportDTO> getAllReports() {
-        return reportRepository.findAll().stream()
+        return reportRepository.findAllWithTypeAndCreator().stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
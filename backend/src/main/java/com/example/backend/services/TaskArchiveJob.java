@@ -0,0 +1,32 @@
+package com.example.backend.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Codziennie archiwizuje dawno zakończone zadania ({@link TaskArchiveService#archiveExpired()}).
+ * <p>
+ * Uruchamiany w węźle API (wyłączony w profilu {@code worker}), ponieważ usuwane zadania muszą zostać
+ * usunięte także z indeksów utrzymywanych w pamięci tego węzła.
+ */
+@Component
+@ConditionalOnProperty(name = "app.tasks.archive.enabled", havingValue = "true")
+public class TaskArchiveJob {
+
+    private final TaskArchiveService taskArchiveService;
+
+    @Autowired
+    public TaskArchiveJob(TaskArchiveService taskArchiveService) {
+        this.taskArchiveService = taskArchiveService;
+    }
+
+    /**
+     * Przenosi do archiwum zadania zakończone przed okresem retencji.
+     */
+    @Scheduled(cron = "${app.tasks.archive.cron:0 30 2 * * *}")
+    public void archive() {
+        taskArchiveService.archiveExpired();
+    }
+}
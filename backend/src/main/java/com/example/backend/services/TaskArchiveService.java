@@ -0,0 +1,134 @@
+package com.example.backend.services;
+
+import com.example.backend.models.Task;
+import com.example.backend.repository.ArchivedTaskCommentRepository;
+import com.example.backend.repository.ArchivedTaskHistoryRepository;
+import com.example.backend.repository.ArchivedTaskRepository;
+import com.example.backend.repository.TaskCommentRepository;
+import com.example.backend.repository.TaskHistoryRepository;
+import com.example.backend.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Przenosi dawno zakończone zadania wraz z komentarzami i historią zmian do tabel archiwum
+ * ({@code archived_tasks}, {@code archived_task_comments}, {@code archived_task_history}).
+ * <p>
+ * Dzięki temu tabele bieżących zadań pozostają małe, a zapytania list, wyszukiwania i terminów nie
+ * przeglądają lat zakończonej pracy. Raporty obejmujące okresy sprzed archiwizacji odczytują archiwum
+ * jawnie ({@link ReportDataService}).
+ * <p>
+ * Zadania są przenoszone porcjami po {@code app.tasks.archive.chunk-size}, każda porcja w osobnej transakcji,
+ * więc blokady obejmują tylko przenoszone wiersze, a przerwana archiwizacja może być po prostu wznowiona.
+ * Archiwizowane są wyłącznie zadania spoza hierarchii i grafu zależności; pozostałe zostają w tabeli
+ * bieżących zadań, aby nie zrywać powiązań z otwartą pracą.
+ */
+@Service
+public class TaskArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskArchiveService.class);
+
+    private final TaskRepository taskRepository;
+    private final TaskCommentRepository taskCommentRepository;
+    private final TaskHistoryRepository taskHistoryRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final ArchivedTaskCommentRepository archivedTaskCommentRepository;
+    private final ArchivedTaskHistoryRepository archivedTaskHistoryRepository;
+    private final TeamTaskCounterService teamTaskCounterService;
+    private final TaskVersionTracker taskVersionTracker;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+    private final int retentionDays;
+
+    @Autowired
+    public TaskArchiveService(TaskRepository taskRepository,
+                              TaskCommentRepository taskCommentRepository,
+                              TaskHistoryRepository taskHistoryRepository,
+                              ArchivedTaskRepository archivedTaskRepository,
+                              ArchivedTaskCommentRepository archivedTaskCommentRepository,
+                              ArchivedTaskHistoryRepository archivedTaskHistoryRepository,
+                              TeamTaskCounterService teamTaskCounterService,
+                              TaskVersionTracker taskVersionTracker,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.tasks.archive.chunk-size:500}") int chunkSize,
+                              @Value("${app.tasks.archive.retention-days:365}") int retentionDays) {
+        if (chunkSize < 1 || retentionDays < 0) {
+            throw new IllegalArgumentException("Nieprawidłowa konfiguracja archiwizacji zadań");
+        }
+        this.taskRepository = taskRepository;
+        this.taskCommentRepository = taskCommentRepository;
+        this.taskHistoryRepository = taskHistoryRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.archivedTaskCommentRepository = archivedTaskCommentRepository;
+        this.archivedTaskHistoryRepository = archivedTaskHistoryRepository;
+        this.teamTaskCounterService = teamTaskCounterService;
+        this.taskVersionTracker = taskVersionTracker;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * Archiwizuje zadania zakończone wcześniej niż {@code app.tasks.archive.retention-days} dni temu.
+     *
+     * @return Liczba zarchiwizowanych zadań
+     */
+    public int archiveExpired() {
+        return archiveCompletedBefore(LocalDate.now().minusDays(retentionDays));
+    }
+
+    /**
+     * Archiwizuje zadania zakończone przed podanym dniem.
+     *
+     * @param cutoff Pierwszy dzień, którego zakończone zadania pozostają w tabeli bieżących zadań
+     * @return Liczba zarchiwizowanych zadań
+     */
+    public int archiveCompletedBefore(LocalDate cutoff) {
+        int archived = 0;
+        int moved;
+        do {
+            moved = chunkTransaction.execute(status -> archiveChunk(cutoff));
+            archived += moved;
+        } while (moved == chunkSize);
+        if (archived > 0) {
+            logger.info("Zarchiwizowano {} zadań zakończonych przed {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    /**
+     * Przenosi jedną porcję zadań. Zadania są blokowane przed kopiowaniem, więc równoległa edycja
+     * zadania czeka na koniec porcji i kończy się błędem wersji zamiast zapisem do usuniętego wiersza.
+     */
+    private int archiveChunk(LocalDate cutoff) {
+        List<Task> tasks = taskRepository.findLockedArchivableCompletedBefore(cutoff, PageRequest.of(0, chunkSize));
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        List<Integer> taskIds = tasks.stream().map(Task::getId).toList();
+
+        archivedTaskRepository.copyFromTasks(taskIds, LocalDateTime.now());
+        archivedTaskCommentRepository.copyFromTaskComments(taskIds);
+        archivedTaskHistoryRepository.copyFromTaskHistory(taskIds);
+
+        taskCommentRepository.deleteByTaskIdIn(taskIds);
+        taskHistoryRepository.deleteByTaskIdIn(taskIds);
+        // Entity deletes keep the search index, version tracker and dependency graph cache in step
+        taskRepository.deleteAll(tasks);
+        teamTaskCounterService.tasksRemoved(tasks);
+        taskVersionTracker.tasksChanged(tasks, List.of());
+        return tasks.size();
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.TaskDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Ograniczona pamięć podręczna zadań ({@link TaskDTO}) według ID, z której korzysta
+ * {@link TaskService#getTaskById(Integer)}.
+ * <p>
+ * Zadanie trafia do pamięci przy pierwszym odczycie, a po przekroczeniu {@code app.tasks.cache.max-size}
+ * usuwane są najdawniej odczytane zadania. Każdy zapis i usunięcie zadania przez JPA (zgłaszane przez
+ * {@link TaskCacheListener}, także przy usuwaniu zadań razem z zespołem) oraz zapytania zbiorcze usuwają
+ * zadanie z pamięci po zatwierdzeniu transakcji. Odczyt, który rozpoczął się przed zatwierdzeniem takiej
+ * zmiany, nie zapisuje swojego wyniku, więc w pamięci nie zostaje nieaktualna wersja zadania.
+ * <p>
+ * Zmiany zatwierdzone na innych instancjach aplikacji nie usuwają zadania z tej pamięci, dlatego zadanie
+ * jest przechowywane najwyżej przez {@code app.tasks.cache.ttl-ms} od odczytu z bazy - tyle może trwać
+ * odczytywanie nieaktualnej kopii zmienionej na innej instancji. Trafienia nie odwołują się do bazy. Przy
+ * jednej instancji aplikacji wartość 0 wyłącza wygasanie, a zadanie pozostaje w pamięci do zmiany lub
+ * usunięcia z powodu rozmiaru.
+ * <p>
+ * Z pamięci korzystają tylko odczyty poza transakcją lub w transakcji tylko do odczytu; transakcja, która
+ * zmienia dane, zawsze odczytuje zadanie z bazy. Liczby trafień, chybień i usunięć z powodu rozmiaru są
+ * publikowane jako metryki {@code cache.gets}, {@code cache.evictions} i {@code cache.size}
+ * z etykietą {@code cache=tasks}.
+ */
+@Component
+public class TaskCache {
+
+    private static final String CACHE_NAME = "tasks";
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final Map<Integer, Entry> tasks;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    /**
+     * Zadanie w pamięci wraz z chwilą, po której należy je odczytać z bazy od nowa.
+     */
+    private record Entry(TaskDTO task, long expiresAt) {
+    }
+
+    /**
+     * Konstruktor wstrzykujący zależności.
+     *
+     * @param maxSize       Największa liczba zadań w pamięci (0 wyłącza pamięć podręczną)
+     * @param ttlMillis     Czas przechowywania zadania od odczytu z bazy (0 wyłącza wygasanie)
+     * @param meterRegistry Rejestr metryk
+     */
+    @Autowired
+    public TaskCache(@Value("${app.tasks.cache.max-size:10000}") int maxSize,
+                     @Value("${app.tasks.cache.ttl-ms:30000}") long ttlMillis,
+                     MeterRegistry meterRegistry) {
+        this(maxSize, ttlMillis, Clock.systemUTC(), meterRegistry);
+    }
+
+    TaskCache(int maxSize, long ttlMillis, Clock clock, MeterRegistry meterRegistry) {
+        if (maxSize < 0 || ttlMillis < 0) {
+            throw new IllegalArgumentException("Nieprawidłowa konfiguracja pamięci podręcznej zadań");
+        }
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.tasks = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+                if (size() > TaskCache.this.maxSize) {
+                    TaskCache.this.evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.hits = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit")
+                .description("Odczyty zadań obsłużone z pamięci").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss")
+                .description("Odczyty zadań wymagające zapytania do bazy").register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", CACHE_NAME)
+                .description("Zadania usunięte z pamięci z powodu jej rozmiaru").register(meterRegistry);
+    }
+
+    /**
+     * Rejestruje metrykę rozmiaru pamięci po utworzeniu obiektu.
+     */
+    @PostConstruct
+    public void registerSizeGauge() {
+        Gauge.builder("cache.size", this, TaskCache::size).tag("cache", CACHE_NAME)
+                .description("Liczba zadań w pamięci").register(meterRegistry);
+    }
+
+    /**
+     * Zwraca zadanie z pamięci, jeśli nie wygasło, albo odczytuje je funkcją {@code loader} i zapamiętuje.
+     * Nieistniejące zadania nie są zapamiętywane.
+     *
+     * @param id     ID zadania
+     * @param loader Odczyt zadania z bazy
+     * @return Kopia zadania lub pusty Optional, jeśli zadanie nie istnieje
+     */
+    public Optional<TaskDTO> get(Integer id, Function<Integer, Optional<TaskDTO>> loader) {
+        if (maxSize == 0 || !readsCommittedState()) {
+            return loader.apply(id);
+        }
+        synchronized (tasks) {
+            Entry cached = tasks.get(id);
+            if (cached != null) {
+                if (ttlMillis == 0 || clock.millis() < cached.expiresAt()) {
+                    hits.increment();
+                    return Optional.of(copy(cached.task()));
+                }
+                // Possibly changed on another instance
+                tasks.remove(id);
+            }
+        }
+
+        misses.increment();
+        // Any invalidation after this point means the loaded task may already be out of date
+        long stamp = invalidations.get();
+        long expiresAt = clock.millis() + ttlMillis;
+        Optional<TaskDTO> loaded = loader.apply(id);
+        loaded.ifPresent(task -> {
+            synchronized (tasks) {
+                if (invalidations.get() == stamp) {
+                    tasks.put(id, new Entry(copy(task), expiresAt));
+                }
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * Usuwa zadanie z pamięci po zatwierdzeniu bieżącej transakcji (lub od razu, gdy transakcji nie ma).
+     *
+     * @param id ID zmienionego lub usuniętego zadania
+     */
+    public void evict(Integer id) {
+        Runnable evict = () -> {
+            synchronized (tasks) {
+                invalidations.incrementAndGet();
+                tasks.remove(id);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict.run();
+            }
+        });
+    }
+
+    /**
+     * Zwraca liczbę zadań w pamięci.
+     */
+    public int size() {
+        synchronized (tasks) {
+            return tasks.size();
+        }
+    }
+
+    /**
+     * Sprawdza, czy bieżący odczyt widzi wyłącznie zatwierdzone dane - jest wykonywany poza transakcją
+     * lub w transakcji tylko do odczytu.
+     */
+    private static boolean readsCommittedState() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static TaskDTO copy(TaskDTO task) {
+        TaskDTO copy = new TaskDTO();
+        BeanUtils.copyProperties(task, copy);
+        return copy;
+    }
+}
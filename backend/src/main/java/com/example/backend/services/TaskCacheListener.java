@@ -0,0 +1,27 @@
+package com.example.backend.services;
+
+import com.example.backend.models.Task;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Obserwator zmian encji {@link Task}, usuwający zmienione i usunięte zadania z {@link TaskCache}.
+ * Obejmuje wszystkie ścieżki zapisu przez JPA, również usuwanie zadań razem z zespołem.
+ */
+public class TaskCacheListener {
+
+    private final ObjectProvider<TaskCache> taskCache;
+
+    @Autowired
+    public TaskCacheListener(ObjectProvider<TaskCache> taskCache) {
+        this.taskCache = taskCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void taskChanged(Task task) {
+        taskCache.ifAvailable(cache -> cache.evict(task.getId()));
+    }
+}
@@ -113,7 +113,7 @@ public class TaskCommentService {
      * @return Lista wszystkich komentarzy jako DTO
      */
     public List<TaskCommentDTO> getAllTaskComments() {
-        return taskCommentRepository.findAll().stream()
+        return taskCommentRepository.findAllWithUser().stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
@@ -141,6 +141,18 @@ public class TaskCommentService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Pobiera komentarze zadania wraz z autorami jednym zapytaniem, od najstarszego, jako DTO.
+     *
+     * @param taskId ID zadania
+     * @return Lista komentarzy do zadania jako DTO
+     */
+    public List<TaskCommentDTO> getCommentsByTaskId(Integer taskId) {
+        return taskCommentRepository.findWithUserByTaskId(taskId).stream()
+                .map(this::mapToDTO)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Pobiera wszystkie komentarze dodane przez określonego użytkownika jako DTO.
      *
@@ -0,0 +1,204 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.TaskCountGroupDTO;
+import com.example.backend.dto.TaskDashboardDTO;
+import com.example.backend.models.Priority;
+import com.example.backend.models.TaskStatus;
+import com.example.backend.models.Team;
+import com.example.backend.repository.PriorityRepository;
+import com.example.backend.repository.TaskRepository;
+import com.example.backend.repository.TaskStatusRepository;
+import com.example.backend.repository.TeamRepository;
+import com.example.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serwis zestawienia zadań dla panelu głównego ({@link TaskDashboardDTO}).
+ * <p>
+ * Liczby zadań są wyznaczane jednym zapytaniem {@code GROUP BY} według zespołu, statusu i priorytetu,
+ * a nazwy grup pochodzą z małych tabel słownikowych. Wynik jest przechowywany w pamięci przez
+ * {@code app.tasks.dashboard.cache-ttl-ms} i unieważniany przez każdą zatwierdzoną zmianę zadań
+ * (znacznik {@link TaskVersionTracker}) oraz zmianę dnia. Znacznik jest odczytywany z jednego wiersza
+ * licznika wersji, zwiększanego w transakcji zapisu zadań, więc odczyt z pamięci nie odwołuje się do tabeli
+ * zadań, a zmiana zapisana przez inną instancję aplikacji unieważnia wynik bez czekania na upływ czasu
+ * ważności. Zestawienia dla zespołów użytkownika są wyliczane z tego samego wyniku, więc nie wymagają
+ * dodatkowych zapytań o zadania.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TaskDashboardService {
+
+    private final TaskRepository taskRepository;
+    private final TaskStatusRepository taskStatusRepository;
+    private final PriorityRepository priorityRepository;
+    private final TeamRepository teamRepository;
+    private final UserRepository userRepository;
+    private final TaskVersionTracker taskVersionTracker;
+    private final long cacheTtlMillis;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Konstruktor wstrzykujący zależności.
+     */
+    @Autowired
+    public TaskDashboardService(TaskRepository taskRepository,
+                                TaskStatusRepository taskStatusRepository,
+                                PriorityRepository priorityRepository,
+                                TeamRepository teamRepository,
+                                UserRepository userRepository,
+                                TaskVersionTracker taskVersionTracker,
+                                @Value("${app.tasks.dashboard.cache-ttl-ms:30000}") long cacheTtlMillis) {
+        this.taskRepository = taskRepository;
+        this.taskStatusRepository = taskStatusRepository;
+        this.priorityRepository = priorityRepository;
+        this.teamRepository = teamRepository;
+        this.userRepository = userRepository;
+        this.taskVersionTracker = taskVersionTracker;
+        this.cacheTtlMillis = cacheTtlMillis;
+    }
+
+    /**
+     * Zwraca zestawienie wszystkich zadań.
+     *
+     * @return Zestawienie zadań
+     */
+    public TaskDashboardDTO getDashboard() {
+        return snapshot().toDashboard(null);
+    }
+
+    /**
+     * Zwraca zestawienie zadań zespołów użytkownika: zespołów, którymi kieruje, i tych, do których należy.
+     *
+     * @param userId ID użytkownika
+     * @return Zestawienie zadań lub pusty Optional, jeśli użytkownik nie istnieje
+     */
+    public Optional<TaskDashboardDTO> getDashboardForUser(Integer userId) {
+        if (!userRepository.existsById(userId)) {
+            return Optional.empty();
+        }
+        Set<Integer> teamIds = new HashSet<>(teamRepository.findIdsByManagerOrActiveMember(userId));
+        return Optional.of(snapshot().toDashboard(teamIds));
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null && current.isValid(taskVersionTracker.globalETag(), LocalDate.now())) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            // The version is read before the data, so a write committed meanwhile invalidates the result
+            String version = taskVersionTracker.globalETag();
+            LocalDate today = LocalDate.now();
+            if (current == null || !current.isValid(version, today)) {
+                current = load(version, today);
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private Snapshot load(String version, LocalDate today) {
+        LocalDate weekEnd = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        List<TaskCountGroupDTO> groups = taskRepository.countGroupedByTeamStatusAndPriority(today, weekEnd);
+        Map<Integer, String> statuses = names(taskStatusRepository.findAll(Sort.by("displayOrder", "id")),
+                TaskStatus::getId, TaskStatus::getName);
+        Map<Integer, String> priorities = names(priorityRepository.findAll(Sort.by("value", "id")),
+                Priority::getId, Priority::getName);
+        Map<Integer, String> teams = names(teamRepository.findAll(Sort.by("name", "id")),
+                Team::getId, Team::getName);
+        return new Snapshot(version, today, weekEnd, System.currentTimeMillis() + cacheTtlMillis,
+                LocalDateTime.now(), groups, statuses, priorities, teams);
+    }
+
+    private static <E> Map<Integer, String> names(Collection<E> entities, Function<E, Integer> id,
+                                                  Function<E, String> name) {
+        return entities.stream().collect(Collectors.toMap(id, name, (first, second) -> first, LinkedHashMap::new));
+    }
+
+    /**
+     * Wynik zapytania {@code GROUP BY} wraz z nazwami grup, ważny dla jednej wersji zadań i jednego dnia.
+     */
+    private record Snapshot(String version, LocalDate today, LocalDate weekEnd, long expiresAt,
+                            LocalDateTime generatedAt, List<TaskCountGroupDTO> groups,
+                            Map<Integer, String> statuses, Map<Integer, String> priorities,
+                            Map<Integer, String> teams) {
+
+        boolean isValid(String currentVersion, LocalDate currentDay) {
+            return version.equals(currentVersion) && today.equals(currentDay)
+                    && System.currentTimeMillis() < expiresAt;
+        }
+
+        /**
+         * Sumuje grupy zadań podanych zespołów ({@code null} - wszystkich zadań, także bez zespołu).
+         */
+        TaskDashboardDTO toDashboard(Set<Integer> teamIds) {
+            Map<Integer, TaskDashboardDTO.GroupCount> byStatus = emptyCounts(statuses, null);
+            Map<Integer, TaskDashboardDTO.GroupCount> byPriority = emptyCounts(priorities, null);
+            Map<Integer, TaskDashboardDTO.GroupCount> byTeam = emptyCounts(teams, teamIds);
+            TaskDashboardDTO.GroupCount total = new TaskDashboardDTO.GroupCount();
+
+            for (TaskCountGroupDTO group : groups) {
+                if (teamIds != null && !teamIds.contains(group.getTeamId())) {
+                    continue;
+                }
+                add(total, group);
+                add(byStatus.computeIfAbsent(group.getStatusId(), id -> emptyCount(id, null)), group);
+                add(byPriority.computeIfAbsent(group.getPriorityId(), id -> emptyCount(id, null)), group);
+                add(byTeam.computeIfAbsent(group.getTeamId(), id -> emptyCount(id, null)), group);
+            }
+
+            TaskDashboardDTO dashboard = new TaskDashboardDTO();
+            dashboard.setDate(today);
+            dashboard.setWeekEnd(weekEnd);
+            dashboard.setTotalCount(total.getCount());
+            dashboard.setOverdueCount(total.getOverdueCount());
+            dashboard.setDueThisWeekCount(total.getDueThisWeekCount());
+            dashboard.setByStatus(List.copyOf(byStatus.values()));
+            dashboard.setByPriority(List.copyOf(byPriority.values()));
+            dashboard.setByTeam(List.copyOf(byTeam.values()));
+            dashboard.setGeneratedAt(generatedAt);
+            return dashboard;
+        }
+
+        private static Map<Integer, TaskDashboardDTO.GroupCount> emptyCounts(Map<Integer, String> names,
+                                                                            Set<Integer> ids) {
+            Map<Integer, TaskDashboardDTO.GroupCount> counts = new LinkedHashMap<>();
+            names.forEach((id, name) -> {
+                if (ids == null || ids.contains(id)) {
+                    counts.put(id, emptyCount(id, name));
+                }
+            });
+            return counts;
+        }
+
+        private static TaskDashboardDTO.GroupCount emptyCount(Integer id, String name) {
+            return new TaskDashboardDTO.GroupCount(id, name, 0, 0, 0);
+        }
+
+        private static void add(TaskDashboardDTO.GroupCount count, TaskCountGroupDTO group) {
+            count.setCount(count.getCount() + group.getCount());
+            count.setOverdueCount(count.getOverdueCount() + group.getOverdueCount());
+            count.setDueThisWeekCount(count.getDueThisWeekCount() + group.getDueThisWeekCount());
+        }
+    }
+}
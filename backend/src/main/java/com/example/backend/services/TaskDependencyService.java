@@ -0,0 +1,163 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.TaskDependencyDTO;
+import com.example.backend.dto.TeamScheduleDTO;
+import com.example.backend.exceptions.TaskDependencyCycleException;
+import com.example.backend.models.Task;
+import com.example.backend.models.TaskDependency;
+import com.example.backend.repository.TaskDependencyRepository;
+import com.example.backend.repository.TaskRepository;
+import com.example.backend.repository.TeamRepository;
+import com.example.backend.scheduling.TaskDependencyGraph;
+import com.example.backend.scheduling.TaskDependencyGraphCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Serwis obsługujący zależności między zadaniami i harmonogram zespołu wyznaczany metodą
+ * ścieżki krytycznej.
+ * <p>
+ * Zależności mogą łączyć tylko zadania tego samego zespołu. Cykl jest wykrywany w bazie, więc
+ * uwzględnia zależności dodane przez inne instancje aplikacji; harmonogram jest wyznaczany z grafu
+ * zespołu przechowywanego w pamięci ({@link TaskDependencyGraphCache}).
+ */
+@Service
+@Transactional
+public class TaskDependencyService {
+
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final TaskRepository taskRepository;
+    private final TeamRepository teamRepository;
+    private final TaskDependencyGraphCache graphCache;
+
+    @Autowired
+    public TaskDependencyService(TaskDependencyRepository taskDependencyRepository,
+                                 TaskRepository taskRepository,
+                                 TeamRepository teamRepository,
+                                 TaskDependencyGraphCache graphCache) {
+        this.taskDependencyRepository = taskDependencyRepository;
+        this.taskRepository = taskRepository;
+        this.teamRepository = teamRepository;
+        this.graphCache = graphCache;
+    }
+
+    /**
+     * Pobiera zależności między zadaniami zespołu.
+     */
+    public List<TaskDependencyDTO> getTeamDependencies(Integer teamId) {
+        return taskDependencyRepository.findAsDTOByTeamId(teamId);
+    }
+
+    /**
+     * Pobiera zależności, w których zadanie jest poprzednikiem lub następnikiem.
+     */
+    public List<TaskDependencyDTO> getTaskDependencies(Integer taskId) {
+        return taskDependencyRepository.findAsDTOByTaskId(taskId);
+    }
+
+    /**
+     * Zwraca harmonogram zespołu wyznaczony z grafu zależności przechowywanego w pamięci.
+     *
+     * @param teamId ID zespołu
+     * @return Harmonogram lub pusty Optional, jeśli zespół nie istnieje
+     */
+    @Transactional(readOnly = true)
+    public Optional<TeamScheduleDTO> getTeamSchedule(Integer teamId) {
+        if (!teamRepository.existsById(teamId)) {
+            return Optional.empty();
+        }
+        return Optional.of(graphCache.withGraph(teamId, graph -> graph.schedule(teamId)));
+    }
+
+    /**
+     * Dodaje zależność "zakończ, aby rozpocząć" między zadaniami.
+     * <p>
+     * Zmiany zależności zespołu są wykonywane kolejno (blokada wiersza zespołu), a cykl jest
+     * sprawdzany w bazie po uzyskaniu blokady. Transakcja działa na poziomie {@code READ COMMITTED},
+     * aby to sprawdzenie widziało zależności zatwierdzone przez poprzedniego właściciela blokady,
+     * także na innej instancji, więc dwie równoległe zależności nie mogą razem utworzyć cyklu.
+     * Graf w pamięci jest aktualizowany po zatwierdzeniu transakcji.
+     *
+     * @param dependencyDTO Zadanie poprzedzające i następujące
+     * @return Zapisana zależność
+     * @throws IllegalArgumentException     gdy zadania nie istnieją, należą do różnych zespołów
+     *                                      lub zależność już istnieje
+     * @throws TaskDependencyCycleException gdy zależność utworzyłaby cykl
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public TaskDependencyDTO addDependency(TaskDependencyDTO dependencyDTO) {
+        Integer predecessorId = dependencyDTO.getPredecessorId();
+        Integer successorId = dependencyDTO.getSuccessorId();
+        if (Objects.equals(predecessorId, successorId)) {
+            throw new IllegalArgumentException("Zadanie nie może zależeć od samego siebie");
+        }
+        Task predecessor = findTask(predecessorId);
+        Task successor = findTask(successorId);
+        Integer teamId = predecessor.getTeam() != null ? predecessor.getTeam().getId() : null;
+        Integer successorTeamId = successor.getTeam() != null ? successor.getTeam().getId() : null;
+        if (teamId == null || !teamId.equals(successorTeamId)) {
+            throw new IllegalArgumentException("Zależności można tworzyć tylko między zadaniami tego samego zespołu");
+        }
+
+        teamRepository.findLockedById(teamId);
+        if (taskDependencyRepository.existsByPredecessorIdAndSuccessorId(predecessorId, successorId)) {
+            throw new IllegalArgumentException("Zależność " + predecessorId + " -> " + successorId + " już istnieje");
+        }
+        if (taskDependencyRepository.countPathsBetween(successorId, predecessorId) > 0) {
+            throw new TaskDependencyCycleException(predecessorId, successorId);
+        }
+
+        TaskDependency dependency = new TaskDependency();
+        dependency.setPredecessor(predecessor);
+        dependency.setSuccessor(successor);
+        TaskDependency saved = taskDependencyRepository.save(dependency);
+        graphCache.updateAfterCommit(teamId, graph -> {
+            ensureTask(graph, predecessor);
+            ensureTask(graph, successor);
+            graph.addDependency(predecessorId, successorId);
+        });
+        return new TaskDependencyDTO(saved.getId(), predecessorId, successorId);
+    }
+
+    /**
+     * Usuwa zależność. Graf zespołu jest aktualizowany po zatwierdzeniu transakcji.
+     *
+     * @param id ID zależności
+     * @return {@code true}, jeśli zależność istniała
+     */
+    public boolean deleteDependency(Integer id) {
+        Optional<TaskDependency> dependency = taskDependencyRepository.findById(id);
+        if (dependency.isEmpty()) {
+            return false;
+        }
+        Task predecessor = dependency.get().getPredecessor();
+        Integer predecessorId = predecessor.getId();
+        Integer successorId = dependency.get().getSuccessor().getId();
+        taskDependencyRepository.delete(dependency.get());
+        if (predecessor.getTeam() != null) {
+            graphCache.updateAfterCommit(predecessor.getTeam().getId(),
+                    graph -> graph.removeDependency(predecessorId, successorId));
+        }
+        return true;
+    }
+
+    private Task findTask(Integer taskId) {
+        return taskRepository.findById(taskId)
+                .orElseThrow(() -> new IllegalArgumentException("Nie znaleziono zadania o ID: " + taskId));
+    }
+
+    /**
+     * Dodaje do grafu zadanie, którego przypisanie do zespołu nie zostało jeszcze w nim uwzględnione.
+     */
+    private void ensureTask(TaskDependencyGraph graph, Task task) {
+        if (!graph.contains(task.getId())) {
+            graph.putTask(task.getId(), task.getStartDate(), task.getDeadline());
+        }
+    }
+}
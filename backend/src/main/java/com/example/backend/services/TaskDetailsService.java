@@ -0,0 +1,125 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.TaskDTO;
+import com.example.backend.dto.TaskDetailsDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Serwis szczegółów zadania ({@link TaskDetailsDTO}) - zadania wraz z komentarzami, historią zmian
+ * i danymi słownikowymi potrzebnymi do jego wyświetlenia lub edycji, zwracanych w jednej odpowiedzi.
+ * <p>
+ * Każda część jest odczytywana stałą liczbą zapytań niezależnie od liczby komentarzy i wpisów historii:
+ * komentarze razem z autorami, historia razem z użytkownikami, którzy dokonali zmian, a zadanie
+ * najczęściej z pamięci podręcznej {@link TaskCache}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TaskDetailsService {
+
+    /**
+     * Części szczegółów zadania, które można wskazać w parametrze {@code include}.
+     */
+    public enum Part {
+        COMMENTS, HISTORY, TEAM, TEAMS, PRIORITIES, STATUSES;
+
+        /**
+         * Odczytuje części z ich nazw (bez rozróżniania wielkości liter).
+         *
+         * @param names Nazwy części lub {@code null} dla wszystkich części
+         * @return Zbiór części
+         * @throws IllegalArgumentException gdy nazwa nie odpowiada żadnej części
+         */
+        public static Set<Part> parse(Collection<String> names) {
+            if (names == null) {
+                return EnumSet.allOf(Part.class);
+            }
+            Set<Part> parts = EnumSet.noneOf(Part.class);
+            for (String name : names) {
+                if (name == null || name.isBlank()) {
+                    continue;
+                }
+                try {
+                    parts.add(valueOf(name.trim().toUpperCase(Locale.ROOT)));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Nieznana część szczegółów zadania: " + name.trim());
+                }
+            }
+            return parts;
+        }
+    }
+
+    private final TaskService taskService;
+    private final TaskCommentService taskCommentService;
+    private final TaskHistoryService taskHistoryService;
+    private final TeamService teamService;
+    private final PriorityService priorityService;
+    private final TaskStatusService taskStatusService;
+
+    /**
+     * Konstruktor wstrzykujący zależności.
+     */
+    @Autowired
+    public TaskDetailsService(TaskService taskService,
+                              TaskCommentService taskCommentService,
+                              TaskHistoryService taskHistoryService,
+                              TeamService teamService,
+                              PriorityService priorityService,
+                              TaskStatusService taskStatusService) {
+        this.taskService = taskService;
+        this.taskCommentService = taskCommentService;
+        this.taskHistoryService = taskHistoryService;
+        this.teamService = teamService;
+        this.priorityService = priorityService;
+        this.taskStatusService = taskStatusService;
+    }
+
+    /**
+     * Pobiera zadanie wraz ze wskazanymi częściami szczegółów.
+     *
+     * @param id    ID zadania
+     * @param parts Części szczegółów do dołączenia
+     * @return Szczegóły zadania lub pusty Optional, jeśli zadanie nie istnieje
+     */
+    public Optional<TaskDetailsDTO> getTaskDetails(Integer id, Set<Part> parts) {
+        Optional<TaskDTO> task = taskService.getTaskById(id);
+        if (task.isEmpty()) {
+            return Optional.empty();
+        }
+
+        TaskDetailsDTO details = new TaskDetailsDTO();
+        details.setTask(task.get());
+        if (parts.contains(Part.COMMENTS)) {
+            details.setComments(taskCommentService.getCommentsByTaskId(id));
+        }
+        if (parts.contains(Part.HISTORY)) {
+            details.setHistory(taskHistoryService.getHistoryByTaskId(id));
+        }
+        if (parts.contains(Part.TEAMS)) {
+            details.setTeams(teamService.getAllTeams());
+        }
+        Integer teamId = task.get().getTeamId();
+        if (parts.contains(Part.TEAM) && teamId != null) {
+            // The team is taken from the team list when both are requested
+            details.setTeam(details.getTeams() != null
+                    ? details.getTeams().stream().filter(team -> Objects.equals(team.getId(), teamId))
+                            .findFirst().orElse(null)
+                    : teamService.getTeamById(teamId).orElse(null));
+        }
+        if (parts.contains(Part.PRIORITIES)) {
+            details.setPriorities(priorityService.getAllPriorities());
+        }
+        if (parts.contains(Part.STATUSES)) {
+            details.setStatuses(taskStatusService.getAllTaskStatusesSorted());
+        }
+        return Optional.of(details);
+    }
+}
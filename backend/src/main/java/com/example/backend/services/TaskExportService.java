@@ -0,0 +1,80 @@
+package com.example.backend.services;
+
+import com.example.backend.models.Task;
+import com.example.backend.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Serwis eksportujący wszystkie zadania w formacie NDJSON (jeden obiekt JSON na wiersz).
+ * <p>
+ * Zadania są czytane strumieniowo z bazy i zapisywane generatorem Jacksona bezpośrednio do
+ * strumienia odpowiedzi. Co {@link #CLEAR_INTERVAL} wierszy kontekst utrwalania jest czyszczony,
+ * a bufor wyjściowy opróżniany, więc zużycie pamięci nie zależy od liczby eksportowanych zadań.
+ */
+@Service
+@Transactional
+public class TaskExportService {
+
+    /**
+     * Liczba zadań, po której czyszczony jest kontekst utrwalania i opróżniany bufor wyjściowy.
+     */
+    public static final int CLEAR_INTERVAL = TaskRepository.EXPORT_FETCH_SIZE;
+
+    private final TaskRepository taskRepository;
+    private final TaskService taskService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Konstruktor wstrzykujący zależności.
+     */
+    @Autowired
+    public TaskExportService(TaskRepository taskRepository,
+                             TaskService taskService,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.taskService = taskService;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Zapisuje wszystkie zadania, posortowane po ID, do strumienia w formacie NDJSON.
+     * Strumień wyjściowy nie jest zamykany.
+     *
+     * @param out Strumień, do którego zapisywane są zadania
+     * @return Liczba wyeksportowanych zadań
+     * @throws IOException w przypadku błędu zapisu
+     */
+    @Transactional(readOnly = true)
+    public long exportTasks(OutputStream out) throws IOException {
+        long count = 0;
+        try (Stream<Task> tasks = taskRepository.streamAllOrderedById();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(taskService.mapToDTO(iterator.next()));
+                generator.writeRaw('\n');
+
+                if (++count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                    generator.flush();
+                }
+            }
+        }
+        return count;
+    }
+}
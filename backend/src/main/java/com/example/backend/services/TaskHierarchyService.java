@@ -0,0 +1,314 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.TaskDTO;
+import com.example.backend.dto.TaskProgressDTO;
+import com.example.backend.models.Task;
+import com.example.backend.models.TaskRollup;
+import com.example.backend.repository.TaskRepository;
+import com.example.backend.repository.TaskRollupRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serwis obsługujący hierarchię zadań i podzadań.
+ * <p>
+ * Zadanie nadrzędne jest przechowywane w kolumnie {@code task_id} tabeli {@code tasks}, a położenie zadania
+ * w hierarchii i sumy postępu jego podzadań w {@link TaskRollup}. Zmiana statusu, daty zakończenia
+ * lub terminu zadania zmienia sumy wszystkich jego przodków o różnicę względem poprzedniego stanu,
+ * więc odczyt postępu zadania nadrzędnego nie wymaga przeglądania podzadań. Zadania bez rodzica nie mają
+ * przodków, dlatego ich zapis nie odwołuje się do {@link TaskRollup} - stan samego zadania jest uzupełniany
+ * przy odczycie postępu i przy dołączeniu zadania do rodzica.
+ * <p>
+ * Definicje zadania zakończonego i opóźnionego są takie same jak w raportach ({@link ReportDataService}).
+ */
+@Service
+@Transactional
+public class TaskHierarchyService {
+
+    /**
+     * Maksymalna długość ścieżki zadania w hierarchii (rozmiar kolumny {@code path}).
+     */
+    public static final int MAX_PATH_LENGTH = 500;
+
+    /**
+     * Nazwa statusu oznaczającego zakończone zadanie (bez rozróżniania wielkości liter).
+     */
+    public static final String COMPLETED_STATUS_NAME = "zakończone";
+
+    private final TaskRepository taskRepository;
+    private final TaskRollupRepository taskRollupRepository;
+    private final TaskVersionTracker taskVersionTracker;
+
+    /**
+     * Konstruktor wstrzykujący zależności.
+     */
+    @Autowired
+    public TaskHierarchyService(TaskRepository taskRepository, TaskRollupRepository taskRollupRepository,
+                                TaskVersionTracker taskVersionTracker) {
+        this.taskRepository = taskRepository;
+        this.taskRollupRepository = taskRollupRepository;
+        this.taskVersionTracker = taskVersionTracker;
+    }
+
+    /**
+     * Pobiera bezpośrednie podzadania zadania.
+     *
+     * @param taskId ID zadania
+     * @return Lista podzadań lub pusty Optional, jeśli zadanie nie istnieje
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<TaskDTO>> getSubtasks(Integer taskId) {
+        if (!taskRepository.existsById(taskId)) {
+            return Optional.empty();
+        }
+        return Optional.of(taskRepository.findAsDTOByParentId(taskId));
+    }
+
+    /**
+     * Pobiera wszystkie podzadania zadania (na dowolnym poziomie) jednym zapytaniem,
+     * w kolejności przejścia drzewa w głąb.
+     *
+     * @param taskId ID zadania
+     * @return Lista potomków zadania lub pusty Optional, jeśli zadanie nie istnieje
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<TaskDTO>> getSubtree(Integer taskId) {
+        if (!taskRepository.existsById(taskId)) {
+            return Optional.empty();
+        }
+        return Optional.of(taskRollupRepository.findProgressByTaskId(taskId)
+                .map(rollup -> taskRepository.findAsDTOInSubtree(rollup.getPath()))
+                .orElseGet(List::of));
+    }
+
+    /**
+     * Pobiera postęp zadania zagregowany z jego podzadań.
+     *
+     * @param taskId ID zadania
+     * @return Postęp zadania lub pusty Optional, jeśli zadanie nie istnieje
+     */
+    @Transactional(readOnly = true)
+    public Optional<TaskProgressDTO> getProgress(Integer taskId) {
+        Optional<TaskProgressDTO> progress = taskRollupRepository.findProgressByTaskId(taskId);
+        if (progress.isPresent() && progress.get().getDepth() > 0) {
+            return progress;
+        }
+        // Own state of tasks without a parent is not kept up to date in their rollup row
+        LocalDate today = LocalDate.now();
+        return taskRepository.findById(taskId).map(task -> {
+            TaskProgressDTO result = progress.orElseGet(() -> new TaskProgressDTO(task.getId(),
+                    rootPath(task.getId()), 0, 0, false, false, 0, 0, 0, 0));
+            result.setProgress(progressOf(task));
+            result.setCompleted(isCompleted(task));
+            result.setLate(isLate(task, today));
+            return result;
+        });
+    }
+
+    /**
+     * Ustawia zadanie nadrzędne, przenosząc zadanie wraz z jego podzadaniami.
+     *
+     * @param taskId   ID zadania
+     * @param parentId ID nowego zadania nadrzędnego lub {@code null}, aby odłączyć zadanie od rodzica
+     * @return Zaktualizowane zadanie lub pusty Optional, jeśli zadanie nie istnieje
+     * @throws IllegalArgumentException gdy rodzic nie istnieje lub zmiana utworzyłaby cykl
+     */
+    public Optional<TaskDTO> setParent(Integer taskId, Integer parentId) {
+        if (Objects.equals(taskId, parentId)) {
+            throw new IllegalArgumentException("Zadanie nie może być swoim własnym podzadaniem");
+        }
+        List<Integer> ids = parentId != null ? List.of(taskId, parentId) : List.of(taskId);
+        Map<Integer, Task> tasks = taskRepository.findLockedByIdIn(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        Task task = tasks.get(taskId);
+        if (task == null) {
+            return Optional.empty();
+        }
+        Task parent = null;
+        if (parentId != null) {
+            parent = tasks.get(parentId);
+            if (parent == null) {
+                throw new IllegalArgumentException("Nie znaleziono zadania nadrzędnego o ID: " + parentId);
+            }
+        }
+
+        Integer currentParentId = task.getTask() != null ? task.getTask().getId() : null;
+        if (!Objects.equals(currentParentId, parentId)) {
+            move(task, parent);
+        }
+        taskRepository.flush();
+        return taskRepository.findAsDTOById(taskId);
+    }
+
+    /**
+     * Uwzględnia w sumach przodków zmiany zapisanych zadań. Zadania bez rodzica są pomijane
+     * bez odwołania do bazy.
+     *
+     * @param tasks Zapisane zadania
+     */
+    public void tasksChanged(Collection<Task> tasks) {
+        Map<Integer, Task> byId = tasks.stream()
+                .filter(task -> task.getTask() != null)
+                .collect(Collectors.toMap(Task::getId, Function.identity(), (first, second) -> second));
+        if (byId.isEmpty()) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        for (TaskProgressDTO rollup : lockRollups(byId.keySet()).values()) {
+            Task task = byId.get(rollup.getTaskId());
+            int progress = progressOf(task);
+            boolean completed = isCompleted(task);
+            boolean late = isLate(task, today);
+            if (progress == rollup.getProgress() && completed == rollup.isCompleted() && late == rollup.isLate()) {
+                continue;
+            }
+            taskRollupRepository.updateOwnProgress(task.getId(), progress, completed, late);
+            List<Integer> ancestorIds = rollup.getAncestorIds();
+            if (!ancestorIds.isEmpty()) {
+                taskRollupRepository.addToSubtaskTotals(ancestorIds, 0,
+                        toInt(completed) - toInt(rollup.isCompleted()),
+                        toInt(late) - toInt(rollup.isLate()),
+                        progress - rollup.getProgress());
+            }
+        }
+    }
+
+    /**
+     * Przygotowuje usunięcie zadania: jego podzadania są przenoszone do rodzica usuwanego zadania,
+     * a samo zadanie jest odejmowane od sum przodków. Wiersz {@link TaskRollup} zadania jest usuwany
+     * przez bazę razem z zadaniem.
+     *
+     * @param task Usuwane zadanie
+     */
+    public void taskRemoved(Task task) {
+        Task parent = task.getTask();
+        for (Task subtask : taskRepository.findLockedByParentId(task.getId())) {
+            move(subtask, parent);
+        }
+
+        if (parent != null) {
+            TaskProgressDTO rollup = lockRollups(List.of(task.getId())).get(task.getId());
+            taskRollupRepository.addToSubtaskTotals(rollup.getAncestorIds(), -1,
+                    -toInt(rollup.isCompleted()), -toInt(rollup.isLate()), -rollup.getProgress());
+        }
+    }
+
+    /**
+     * Przenosi zadanie wraz z poddrzewem pod nowego rodzica: sumy poddrzewa są odejmowane od dotychczasowych
+     * przodków i dodawane do nowych, a ścieżki wszystkich zadań poddrzewa są aktualizowane jednym zapytaniem.
+     */
+    private void move(Task task, Task parent) {
+        List<Integer> ids = parent != null ? List.of(task.getId(), parent.getId()) : List.of(task.getId());
+        Map<Integer, TaskProgressDTO> rollups = lockRollups(ids);
+        TaskProgressDTO moved = rollups.computeIfAbsent(task.getId(), id -> createRollup(task));
+        if (moved.getDepth() == 0) {
+            refreshOwnProgress(task, moved);
+        }
+
+        String newPath = rootPath(task.getId());
+        List<Integer> newAncestorIds = List.of();
+        if (parent != null) {
+            TaskProgressDTO newParent = rollups.computeIfAbsent(parent.getId(), id -> createRollup(parent));
+            if (newParent.getPath().startsWith(moved.getPath())) {
+                throw new IllegalArgumentException("Zadanie nie może zostać podzadaniem własnego podzadania");
+            }
+            newPath = newParent.getPath() + task.getId() + "/";
+            newAncestorIds = new ArrayList<>(newParent.getAncestorIds());
+            newAncestorIds.add(parent.getId());
+        }
+        int longestPath = taskRollupRepository.findMaxPathLengthInSubtree(moved.getPath());
+        if (longestPath - moved.getPath().length() + newPath.length() > MAX_PATH_LENGTH) {
+            throw new IllegalArgumentException("Przekroczono maksymalną głębokość hierarchii zadań");
+        }
+
+        int count = 1 + moved.getSubtaskCount();
+        int completed = toInt(moved.isCompleted()) + moved.getCompletedSubtasks();
+        int late = toInt(moved.isLate()) + moved.getLateSubtasks();
+        long progress = moved.getProgress() + moved.getSubtaskProgress();
+        if (!moved.getAncestorIds().isEmpty()) {
+            taskRollupRepository.addToSubtaskTotals(moved.getAncestorIds(), -count, -completed, -late, -progress);
+        }
+        if (!newAncestorIds.isEmpty()) {
+            taskRollupRepository.addToSubtaskTotals(newAncestorIds, count, completed, late, progress);
+        }
+        taskRollupRepository.moveSubtree(moved.getPath(), newPath, newAncestorIds.size() - moved.getDepth());
+        task.setTask(parent);
+        taskVersionTracker.tasksChanged(List.of(task), List.of());
+    }
+
+    /**
+     * Dołącza do hierarchii zadanie, które jeszcze do niej nie należy, jako zadanie bez rodzica.
+     */
+    private TaskProgressDTO createRollup(Task task) {
+        LocalDate today = LocalDate.now();
+        TaskRollup rollup = new TaskRollup();
+        rollup.setTask(task);
+        rollup.setPath(rootPath(task.getId()));
+        rollup.setProgress(progressOf(task));
+        rollup.setCompleted(isCompleted(task));
+        rollup.setLate(isLate(task, today));
+        taskRollupRepository.save(rollup);
+        return new TaskProgressDTO(task.getId(), rollup.getPath(), 0, rollup.getProgress(),
+                rollup.isCompleted(), rollup.isLate(), 0, 0, 0, 0);
+    }
+
+    /**
+     * Uzupełnia zapisany stan zadania bez rodzica, które nie było śledzone przy jego zmianach.
+     */
+    private void refreshOwnProgress(Task task, TaskProgressDTO rollup) {
+        int progress = progressOf(task);
+        boolean completed = isCompleted(task);
+        boolean late = isLate(task, LocalDate.now());
+        if (progress != rollup.getProgress() || completed != rollup.isCompleted() || late != rollup.isLate()) {
+            taskRollupRepository.updateOwnProgress(task.getId(), progress, completed, late);
+            rollup.setProgress(progress);
+            rollup.setCompleted(completed);
+            rollup.setLate(late);
+        }
+    }
+
+    private Map<Integer, TaskProgressDTO> lockRollups(Collection<Integer> taskIds) {
+        return taskRollupRepository.findLockedProgressByTaskIdIn(taskIds).stream()
+                .collect(Collectors.toMap(TaskProgressDTO::getTaskId, Function.identity()));
+    }
+
+    private static String rootPath(Integer taskId) {
+        return "/" + taskId + "/";
+    }
+
+    private static boolean isCompleted(Task task) {
+        return task.getCompletedDate() != null
+                || (task.getStatus() != null && COMPLETED_STATUS_NAME.equalsIgnoreCase(task.getStatus().getName()));
+    }
+
+    private static int progressOf(Task task) {
+        if (isCompleted(task)) {
+            return 100;
+        }
+        return task.getStatus() != null ? task.getStatus().getProgressMin() : 0;
+    }
+
+    private static boolean isLate(Task task, LocalDate today) {
+        if (task.getDeadline() == null) {
+            return false;
+        }
+        return task.getCompletedDate() == null
+                ? today.isAfter(task.getDeadline())
+                : task.getCompletedDate().isAfter(task.getDeadline());
+    }
+
+    private static int toInt(boolean value) {
+        return value ? 1 : 0;
+    }
+}
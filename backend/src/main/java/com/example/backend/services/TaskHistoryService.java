@@ -133,6 +133,17 @@ public class TaskHistoryService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Pobiera historię zmian zadania wraz z danymi użytkowników jednym zapytaniem, od najstarszej
+     * zmiany, jako DTO.
+     *
+     * @param taskId ID zadania
+     * @return Lista wpisów historii dla zadania jako DTO
+     */
+    public List<TaskHistoryDTO> getHistoryByTaskId(Integer taskId) {
+        return taskHistoryRepository.findWithUserByTaskId(taskId);
+    }
+
     /**
      * Pobiera historię zmian dokonanych przez określonego użytkownika jako DTO.
      *
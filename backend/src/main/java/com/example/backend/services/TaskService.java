@@ -1,16 +1,40 @@
 package com.example.backend.services;
 
+import com.example.backend.dto.TaskBulkResultDTO;
 import com.example.backend.dto.TaskDTO;
+import com.example.backend.dto.TaskFilterDTO;
+import com.example.backend.dto.TaskFilterPageDTO;
+import com.example.backend.dto.TaskPageDTO;
+import com.example.backend.dto.TaskSliceDTO;
+import com.example.backend.exceptions.TaskVersionConflictException;
 import com.example.backend.models.*;
+import com.example.backend.reminders.TaskReminderScheduler;
 import com.example.backend.repository.*;
+import com.example.backend.search.PolishTextAnalyzer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -20,11 +44,53 @@ import java.util.stream.Collectors;
 @Transactional
 public class TaskService {
 
+    /**
+     * Domyślna liczba zadań na stronie.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    /**
+     * Maksymalna liczba zadań na stronie.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Domyślna liczba zadań na stronie wyszukiwania po prefiksie tytułu.
+     */
+    public static final int DEFAULT_TITLE_PREFIX_PAGE_SIZE = 10;
+
+    /**
+     * Maksymalna liczba zadań na stronie wyszukiwania po prefiksie tytułu.
+     */
+    public static final int MAX_TITLE_PREFIX_PAGE_SIZE = 50;
+
+    /**
+     * Pola, po których można sortować przefiltrowaną listę zadań, wraz z odpowiadającymi im
+     * atrybutami encji.
+     */
+    public static final Map<String, String> FILTER_SORT_FIELDS = Map.of(
+            "id", "id",
+            "title", "title",
+            "deadline", "deadline",
+            "startDate", "startDate",
+            "createdAt", "createdAt",
+            "updatedAt", "updatedAt",
+            "priority", "priority.value",
+            "status", "status.id");
+
+    private static final String CURSOR_PREFIX = "id:";
+
     private final TaskRepository taskRepository;
     private final TeamRepository teamRepository;
     private final PriorityRepository priorityRepository;
     private final TaskStatusRepository taskStatusRepository;
     private final UserRepository userRepository;
+    private final TaskHierarchyService taskHierarchyService;
+    private final OverdueTaskService overdueTaskService;
+    private final TaskReminderScheduler taskReminderScheduler;
+    private final TeamTaskCounterService teamTaskCounterService;
+    private final TaskCache taskCache;
+    private final TaskVersionTracker taskVersionTracker;
 
     /**
      * Konstruktor wstrzykujący zależności.
@@ -34,12 +100,24 @@ public class TaskService {
                        TeamRepository teamRepository,
                        PriorityRepository priorityRepository,
                        TaskStatusRepository taskStatusRepository,
-                       UserRepository userRepository) {
+                       UserRepository userRepository,
+                       TaskHierarchyService taskHierarchyService,
+                       OverdueTaskService overdueTaskService,
+                       TaskReminderScheduler taskReminderScheduler,
+                       TeamTaskCounterService teamTaskCounterService,
+                       TaskCache taskCache,
+                       TaskVersionTracker taskVersionTracker) {
         this.taskRepository = taskRepository;
         this.teamRepository = teamRepository;
         this.priorityRepository = priorityRepository;
         this.taskStatusRepository = taskStatusRepository;
         this.userRepository = userRepository;
+        this.taskHierarchyService = taskHierarchyService;
+        this.overdueTaskService = overdueTaskService;
+        this.taskReminderScheduler = taskReminderScheduler;
+        this.teamTaskCounterService = teamTaskCounterService;
+        this.taskCache = taskCache;
+        this.taskVersionTracker = taskVersionTracker;
     }
 
     /**
@@ -53,6 +131,10 @@ public class TaskService {
         dto.setTitle(task.getTitle());
         dto.setDescription(task.getDescription());
 
+        if (task.getTask() != null) {
+            dto.setParentTaskId(task.getTask().getId());
+        }
+
         if (task.getTeam() != null) {
             dto.setTeamId(task.getTeam().getId());
         }
@@ -74,6 +156,7 @@ public class TaskService {
         dto.setCompletedDate(task.getCompletedDate());
         dto.setCreatedAt(task.getCreatedAt());
         dto.setUpdatedAt(task.getUpdatedAt());
+        dto.setVersion(task.getVersion());
 
         return dto;
     }
@@ -82,6 +165,18 @@ public class TaskService {
      * Mapuje obiekt DTO na encję Task, zachowując istniejące wartości dla pól, które są null w DTO.
      */
     public Task mapToEntity(TaskDTO dto, Task existingTask) {
+        return mapToEntity(dto, existingTask, teamRepository::findById, priorityRepository::findById,
+                taskStatusRepository::findById, userRepository::findById);
+    }
+
+    /**
+     * Mapuje obiekt DTO na encję Task, pobierając powiązane encje za pomocą przekazanych funkcji.
+     */
+    private Task mapToEntity(TaskDTO dto, Task existingTask,
+                             Function<Integer, Optional<Team>> teams,
+                             Function<Integer, Optional<Priority>> priorities,
+                             Function<Integer, Optional<TaskStatus>> statuses,
+                             Function<Integer, Optional<User>> users) {
         if (dto == null) return null;
 
         Task task = existingTask != null ? existingTask : new Task();
@@ -97,17 +192,17 @@ public class TaskService {
 
         // Aktualizujemy zespół tylko jeśli teamId jest ustawione w DTO
         if (dto.getTeamId() != null) {
-            teamRepository.findById(dto.getTeamId())
+            teams.apply(dto.getTeamId())
                     .ifPresent(task::setTeam);
         }
 
         if (dto.getPriorityId() != null) {
-            priorityRepository.findById(dto.getPriorityId())
+            priorities.apply(dto.getPriorityId())
                     .ifPresent(task::setPriority);
         }
 
         if (dto.getStatusId() != null) {
-            taskStatusRepository.findById(dto.getStatusId())
+            statuses.apply(dto.getStatusId())
                     .ifPresent(task::setStatus);
         }
 
@@ -126,7 +221,7 @@ public class TaskService {
         }
 
         if (dto.getCreatedById() != null) {
-            userRepository.findById(dto.getCreatedById())
+            users.apply(dto.getCreatedById())
                     .ifPresent(task::setCreatedBy);
         }
 
@@ -152,26 +247,134 @@ public class TaskService {
 
     /**
      * Pobiera wszystkie zadania jako DTO.
+     * <p>
+     * Metody list zadań budują DTO bezpośrednio w zapytaniu ({@code SELECT new TaskDTO(...)}),
+     * bez wczytywania encji {@link Task} i ich powiązań.
      */
+    @Transactional(readOnly = true)
     public List<TaskDTO> getAllTasks() {
-        return taskRepository.findAll().stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return taskRepository.findAllAsDTO();
+    }
+
+    /**
+     * Pobiera stronę zadań posortowanych po ID, zaczynając za pozycją wskazaną kursorem.
+     * <p>
+     * Strona jest wyznaczana warunkiem {@code id > ostatnie ID} zamiast przesunięcia, więc koszt
+     * zapytania zależy tylko od rozmiaru strony, a nie od liczby zadań w tabeli.
+     *
+     * @param cursor Kursor zwrócony z poprzedniej strony lub {@code null} dla pierwszej strony
+     * @param limit  Rozmiar strony; {@code null} oznacza {@link #DEFAULT_PAGE_SIZE}, większe wartości
+     *               są przycinane do {@link #MAX_PAGE_SIZE}
+     * @return Strona zadań z kursorem następnej strony
+     * @throws IllegalArgumentException gdy kursor jest nieprawidłowy lub limit nie jest dodatni
+     */
+    @Transactional(readOnly = true)
+    public TaskPageDTO getTasksPage(String cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        pageSize = Math.min(pageSize, MAX_PAGE_SIZE);
+
+        int afterId = cursor == null || cursor.isEmpty() ? 0 : decodeCursor(cursor);
+
+        // One extra row tells whether another page exists
+        List<TaskDTO> tasks = taskRepository.findAsDTOByIdGreaterThan(afterId, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = tasks.size() > pageSize;
+        List<TaskDTO> items = hasNext ? tasks.subList(0, pageSize) : tasks;
+
+        String next = hasNext ? encodeCursor(items.get(items.size() - 1).getId()) : null;
+        return new TaskPageDTO(items, next, pageSize);
+    }
+
+    private String encodeCursor(Integer lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private int decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return Integer.parseInt(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            // Covers malformed Base64 as well as NumberFormatException
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Pobiera stronę zadań spełniających wszystkie podane kryteria.
+     * <p>
+     * Sortowanie podaje się w postaci {@code pole} lub {@code pole,asc|desc}; dozwolone pola to
+     * klucze {@link #FILTER_SORT_FIELDS}. Wynik jest zawsze dodatkowo sortowany po ID, aby kolejne
+     * strony były stabilne przy równych wartościach pola sortowania.
+     *
+     * @param filter Kryteria filtrowania
+     * @param page   Numer strony, liczony od zera
+     * @param size   Rozmiar strony; {@code null} oznacza {@link #DEFAULT_PAGE_SIZE}, większe wartości
+     *               są przycinane do {@link #MAX_PAGE_SIZE}
+     * @param sort   Pole i kierunek sortowania; {@code null} oznacza sortowanie po ID
+     * @return Strona przefiltrowanych zadań
+     * @throws IllegalArgumentException gdy numer lub rozmiar strony albo sortowanie są nieprawidłowe
+     */
+    @Transactional(readOnly = true)
+    public TaskFilterPageDTO filterTasks(TaskFilterDTO filter, int page, Integer size, String sort) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        if (filter.getDeadlineFrom() != null && filter.getDeadlineTo() != null
+                && filter.getDeadlineFrom().isAfter(filter.getDeadlineTo())) {
+            throw new IllegalArgumentException("deadlineFrom must not be after deadlineTo");
+        }
+        pageSize = Math.min(pageSize, MAX_PAGE_SIZE);
+
+        PageRequest pageRequest = PageRequest.of(page, pageSize, parseSort(sort));
+        Page<Task> tasks = taskRepository.findAll(TaskSpecifications.matching(filter), pageRequest);
+        return new TaskFilterPageDTO(
+                tasks.getContent().stream().map(this::mapToDTO).collect(Collectors.toList()),
+                page, pageSize, tasks.getTotalElements(), tasks.getTotalPages());
+    }
+
+    private Sort parseSort(String sort) {
+        Sort byId = Sort.by(Sort.Direction.ASC, "id");
+        if (sort == null || sort.isBlank()) {
+            return byId;
+        }
+
+        String[] parts = sort.split(",");
+        String property = FILTER_SORT_FIELDS.get(parts[0].trim());
+        if (property == null || parts.length > 2) {
+            throw new IllegalArgumentException("Unsupported sort: " + sort);
+        }
+        Sort.Direction direction = parts.length == 2
+                ? Sort.Direction.fromOptionalString(parts[1].trim())
+                        .orElseThrow(() -> new IllegalArgumentException("Unsupported sort direction: " + parts[1]))
+                : Sort.Direction.ASC;
+        return "id".equals(property) ? Sort.by(direction, "id") : Sort.by(direction, property).and(byId);
     }
 
     /**
-     * Pobiera zadanie po ID jako DTO.
+     * Pobiera zadanie po ID jako DTO. Często odczytywane zadania są zwracane z {@link TaskCache}
+     * po sprawdzeniu, że ich wersja w bazie się nie zmieniła.
      */
+    @Transactional(readOnly = true)
     public Optional<TaskDTO> getTaskById(Integer id) {
-        return taskRepository.findById(id)
-                .map(this::mapToDTO);
+        return taskCache.get(id, taskId -> taskRepository.findById(taskId).map(this::mapToDTO));
     }
 
     /**
-     * Pobiera encję zadania po ID.
+     * Pobiera encję zadania po ID wraz z zespołem, statusem, priorytetem, twórcą i zadaniem nadrzędnym,
+     * tak aby zwrócona encja była kompletna również poza transakcją.
      */
     public Optional<Task> getTaskEntityById(Integer id) {
-        return taskRepository.findById(id);
+        return taskRepository.findDetailedById(id);
     }
 
     /**
@@ -186,6 +389,10 @@ public class TaskService {
         }
 
         Task savedTask = taskRepository.save(task);
+        overdueTaskService.tasksCreated(List.of(savedTask));
+        taskReminderScheduler.tasksChanged(List.of(savedTask));
+        teamTaskCounterService.tasksCreated(List.of(savedTask));
+        taskVersionTracker.tasksChanged(List.of(savedTask), List.of());
         return mapToDTO(savedTask);
     }
 
@@ -193,11 +400,28 @@ public class TaskService {
      * Aktualizuje istniejące zadanie jako DTO.
      */
     public TaskDTO updateTask(TaskDTO taskDTO) {
+        return updateTask(taskDTO, null);
+    }
+
+    /**
+     * Aktualizuje istniejące zadanie jako DTO, o ile nie zmieniło się ono od wersji, na podstawie
+     * której klient przygotował zmianę.
+     *
+     * @param taskDTO         Nowe dane zadania
+     * @param expectedVersion Oczekiwana wersja zadania lub {@code null}, aby pominąć sprawdzenie
+     * @return Zaktualizowane zadanie z nową wersją
+     * @throws TaskVersionConflictException gdy bieżąca wersja zadania jest inna niż oczekiwana
+     */
+    public TaskDTO updateTask(TaskDTO taskDTO, Long expectedVersion) {
         // Pobieramy istniejące zadanie, aby zachować wartości które nie zostały zmienione
         Optional<Task> existingTaskOpt = taskRepository.findById(taskDTO.getId());
 
         if (existingTaskOpt.isPresent()) {
             Task existingTask = existingTaskOpt.get();
+            checkVersion(existingTask, expectedVersion);
+            LocalDate previousDeadline = existingTask.getDeadline();
+            LocalDate previousCompletedDate = existingTask.getCompletedDate();
+            TeamTaskCounterService.TaskState previousState = TeamTaskCounterService.TaskState.of(existingTask);
 
             // Zachowujemy relację do zespołu, jeśli nie jest ustawiona w DTO
             if (taskDTO.getTeamId() == null && existingTask.getTeam() != null) {
@@ -231,6 +455,15 @@ public class TaskService {
             task.setUpdatedAt(LocalDateTime.now());
 
             Task updatedTask = taskRepository.save(task);
+            // Wersja jest zwiększana dopiero przy zapisie do bazy - zwracamy już nową
+            taskRepository.flush();
+            taskHierarchyService.tasksChanged(List.of(updatedTask));
+            if (deadlineStateChanged(updatedTask, previousDeadline, previousCompletedDate)) {
+                overdueTaskService.tasksChanged(List.of(updatedTask));
+                taskReminderScheduler.tasksChanged(List.of(updatedTask));
+            }
+            teamTaskCounterService.taskChanged(previousState, updatedTask);
+            taskVersionTracker.tasksChanged(List.of(updatedTask), Collections.singletonList(previousState.teamId()));
             return mapToDTO(updatedTask);
         } else {
             // Jeśli zadanie nie istnieje, traktujemy to jako utworzenie nowego
@@ -239,10 +472,321 @@ public class TaskService {
     }
 
     /**
-     * Usuwa zadanie po ID.
+     * Częściowo aktualizuje zadanie, zmieniając tylko pola przekazane w mapie.
+     * <p>
+     * Zadanie jest wczytywane jednym zapytaniem bez powiązanych encji. Niezmienione powiązania
+     * pozostają nietknięte, a zmienione są ustawiane jako referencje ({@code getReferenceById})
+     * bez odczytu z bazy. Zmienione kolumny zapisuje mechanizm wykrywania zmian Hibernate przy
+     * zatwierdzeniu transakcji. Pola {@code createdById} i {@code createdAt} nie podlegają zmianie,
+     * a nieznane klucze są ignorowane.
+     *
+     * @param id      ID zadania
+     * @param updates Nowe wartości pól (np. {@code statusId}, {@code deadline})
+     * @return Zaktualizowane zadanie lub pusty Optional, jeśli zadanie nie istnieje
+     * @throws IllegalArgumentException gdy wartość pola jest nieprawidłowa
+     */
+    public Optional<TaskDTO> patchTask(Integer id, Map<String, Object> updates) {
+        return patchTask(id, updates, null);
+    }
+
+    /**
+     * Częściowo aktualizuje zadanie, o ile nie zmieniło się ono od wersji, na podstawie której
+     * klient przygotował zmianę (zob. {@link #patchTask(Integer, Map)}).
+     *
+     * @param id              ID zadania
+     * @param updates         Nowe wartości pól
+     * @param expectedVersion Oczekiwana wersja zadania lub {@code null}, aby pominąć sprawdzenie
+     * @return Zaktualizowane zadanie z nową wersją lub pusty Optional, jeśli zadanie nie istnieje
+     * @throws IllegalArgumentException     gdy wartość pola jest nieprawidłowa
+     * @throws TaskVersionConflictException gdy bieżąca wersja zadania jest inna niż oczekiwana
+     */
+    public Optional<TaskDTO> patchTask(Integer id, Map<String, Object> updates, Long expectedVersion) {
+        return taskRepository.findById(id).map(task -> {
+            checkVersion(task, expectedVersion);
+            LocalDate previousDeadline = task.getDeadline();
+            LocalDate previousCompletedDate = task.getCompletedDate();
+            TeamTaskCounterService.TaskState previousState = TeamTaskCounterService.TaskState.of(task);
+            for (Map.Entry<String, Object> entry : updates.entrySet()) {
+                Object value = entry.getValue();
+                switch (entry.getKey()) {
+                    case "title" -> {
+                        if (value == null || value.toString().isBlank()) {
+                            throw new IllegalArgumentException("Tytuł zadania nie może być pusty");
+                        }
+                        task.setTitle(value.toString());
+                    }
+                    case "description" -> task.setDescription(value != null ? value.toString() : null);
+                    case "teamId" -> {
+                        Integer teamId = toInteger(value);
+                        Integer currentTeamId = task.getTeam() != null ? task.getTeam().getId() : null;
+                        if (!Objects.equals(teamId, currentTeamId)) {
+                            task.setTeam(teamId != null ? teamRepository.getReferenceById(teamId) : null);
+                        }
+                    }
+                    case "priorityId" -> {
+                        Integer priorityId = requireId(toInteger(value), "Priorytet zadania jest wymagany");
+                        if (!priorityId.equals(task.getPriority().getId())) {
+                            task.setPriority(priorityRepository.getReferenceById(priorityId));
+                        }
+                    }
+                    case "statusId" -> {
+                        Integer statusId = requireId(toInteger(value), "Status zadania jest wymagany");
+                        if (!statusId.equals(task.getStatus().getId())) {
+                            task.setStatus(taskStatusRepository.getReferenceById(statusId));
+                        }
+                    }
+                    case "startDate" -> {
+                        if (value != null) {
+                            task.setStartDate(toDate(value));
+                        }
+                    }
+                    case "deadline" -> {
+                        if (value != null) {
+                            task.setDeadline(toDate(value));
+                        }
+                    }
+                    case "completedDate" -> task.setCompletedDate(value != null ? toDate(value) : null);
+                    default -> {
+                        // Nie pozwalamy na aktualizację createdById, createdAt i version
+                    }
+                }
+            }
+            // Wersja jest zwiększana dopiero przy zapisie do bazy - zwracamy już nową
+            taskRepository.flush();
+            taskHierarchyService.tasksChanged(List.of(task));
+            if (deadlineStateChanged(task, previousDeadline, previousCompletedDate)) {
+                overdueTaskService.tasksChanged(List.of(task));
+                taskReminderScheduler.tasksChanged(List.of(task));
+            }
+            teamTaskCounterService.taskChanged(previousState, task);
+            taskVersionTracker.tasksChanged(List.of(task), Collections.singletonList(previousState.teamId()));
+            return mapToDTO(task);
+        });
+    }
+
+    /**
+     * Sprawdza, czy zmienił się termin lub data zakończenia zadania, od których zależy,
+     * czy zadanie jest po terminie.
+     */
+    private boolean deadlineStateChanged(Task task, LocalDate previousDeadline, LocalDate previousCompletedDate) {
+        return !Objects.equals(task.getDeadline(), previousDeadline)
+                || !Objects.equals(task.getCompletedDate(), previousCompletedDate);
+    }
+
+    /**
+     * Sprawdza, czy zadanie ma oczekiwaną wersję.
+     *
+     * @throws TaskVersionConflictException gdy wersje się różnią
+     */
+    private void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new TaskVersionConflictException(expectedVersion, mapToDTO(task));
+        }
+    }
+
+    private Integer toInteger(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        return Integer.parseInt(value.toString());
+    }
+
+    private Integer requireId(Integer id, String message) {
+        if (id == null) {
+            throw new IllegalArgumentException(message);
+        }
+        return id;
+    }
+
+    private LocalDate toDate(Object value) {
+        try {
+            return LocalDate.parse(value.toString());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Nieprawidłowa data: " + value, e);
+        }
+    }
+
+    /**
+     * Zapisuje zbiorczo listę zadań: pozycje bez ID są tworzone, a pozycje z ID aktualizowane.
+     * <p>
+     * Zespoły, priorytety, statusy, użytkownicy i aktualizowane zadania są pobierane jednym zapytaniem
+     * na typ, a nowe zadania są wstawiane wsadowo (JDBC batch) w jednej transakcji. Pozycje, których
+     * nie można zapisać (np. brak wymaganego pola lub nieistniejące powiązanie), są pomijane
+     * i zgłaszane w wyniku wraz z indeksem w przesłanej liście.
+     *
+     * @param taskDTOs Lista zadań do zapisania
+     * @return Wynik zapisu z zapisanymi zadaniami i błędami poszczególnych pozycji
+     */
+    public TaskBulkResultDTO saveTasksBulk(List<TaskDTO> taskDTOs) {
+        Map<Integer, Team> teams = findAllById(taskDTOs, TaskDTO::getTeamId,
+                teamRepository::findAllById, Team::getId);
+        Map<Integer, Priority> priorities = findAllById(taskDTOs, TaskDTO::getPriorityId,
+                priorityRepository::findAllById, Priority::getId);
+        Map<Integer, TaskStatus> statuses = findAllById(taskDTOs, TaskDTO::getStatusId,
+                taskStatusRepository::findAllById, TaskStatus::getId);
+        Map<Integer, User> users = findAllById(taskDTOs, TaskDTO::getCreatedById,
+                userRepository::findAllById, User::getId);
+        Map<Integer, Task> existingTasks = findAllById(taskDTOs, TaskDTO::getId,
+                taskRepository::findAllById, Task::getId);
+
+        TaskBulkResultDTO result = new TaskBulkResultDTO();
+        List<Task> tasksToSave = new ArrayList<>(taskDTOs.size());
+        List<Task> createdTasks = new ArrayList<>();
+        List<Task> rescheduledTasks = new ArrayList<>();
+        Map<Integer, TeamTaskCounterService.TaskState> previousStates = new HashMap<>();
+        for (int i = 0; i < taskDTOs.size(); i++) {
+            TaskDTO dto = taskDTOs.get(i);
+            if (dto == null) {
+                result.getErrors().add(new TaskBulkResultDTO.ItemError(i, null, "Brak danych zadania"));
+                continue;
+            }
+
+            Task existingTask = dto.getId() != null ? existingTasks.get(dto.getId()) : null;
+            String error = validateBulkItem(dto, existingTask, teams, priorities, statuses, users);
+            if (error != null) {
+                result.getErrors().add(new TaskBulkResultDTO.ItemError(i, dto.getId(), error));
+                continue;
+            }
+
+            LocalDate previousDeadline = existingTask != null ? existingTask.getDeadline() : null;
+            LocalDate previousCompletedDate = existingTask != null ? existingTask.getCompletedDate() : null;
+            if (existingTask != null) {
+                previousStates.put(existingTask.getId(), TeamTaskCounterService.TaskState.of(existingTask));
+            }
+            Task task = mapToEntity(dto, existingTask,
+                    id -> Optional.ofNullable(teams.get(id)),
+                    id -> Optional.ofNullable(priorities.get(id)),
+                    id -> Optional.ofNullable(statuses.get(id)),
+                    id -> Optional.ofNullable(users.get(id)));
+            tasksToSave.add(task);
+            if (existingTask == null) {
+                createdTasks.add(task);
+                result.setCreatedCount(result.getCreatedCount() + 1);
+            } else {
+                if (deadlineStateChanged(task, previousDeadline, previousCompletedDate)) {
+                    rescheduledTasks.add(task);
+                }
+                result.setUpdatedCount(result.getUpdatedCount() + 1);
+            }
+        }
+
+        List<Task> savedTasks = taskRepository.saveAll(tasksToSave);
+        taskRepository.flush();
+        taskHierarchyService.tasksChanged(savedTasks);
+        overdueTaskService.tasksCreated(createdTasks);
+        taskReminderScheduler.tasksChanged(createdTasks);
+        if (!rescheduledTasks.isEmpty()) {
+            overdueTaskService.tasksChanged(rescheduledTasks);
+            taskReminderScheduler.tasksChanged(rescheduledTasks);
+        }
+        teamTaskCounterService.tasksCreated(createdTasks);
+        teamTaskCounterService.tasksChanged(previousStates, savedTasks);
+        if (!savedTasks.isEmpty()) {
+            taskVersionTracker.tasksChanged(savedTasks, previousStates.values().stream()
+                    .map(TeamTaskCounterService.TaskState::teamId)
+                    .toList());
+        }
+        result.setTasks(savedTasks.stream()
+                .map(this::mapToDTO)
+                .collect(Collectors.toList()));
+        return result;
+    }
+
+    /**
+     * Sprawdza, czy pozycja zapisu zbiorczego może zostać zapisana.
+     *
+     * @return Opis błędu lub {@code null}, jeśli pozycja jest poprawna
+     */
+    private String validateBulkItem(TaskDTO dto, Task existingTask,
+                                    Map<Integer, Team> teams,
+                                    Map<Integer, Priority> priorities,
+                                    Map<Integer, TaskStatus> statuses,
+                                    Map<Integer, User> users) {
+        if (dto.getId() != null && existingTask == null) {
+            return "Nie znaleziono zadania o ID: " + dto.getId();
+        }
+        if (existingTask != null && dto.getVersion() != null && !dto.getVersion().equals(existingTask.getVersion())) {
+            return "Zadanie zostało zmienione (bieżąca wersja: " + existingTask.getVersion() + ")";
+        }
+        if (existingTask == null) {
+            if (dto.getTitle() == null || dto.getTitle().isBlank()) {
+                return "Tytuł zadania nie może być pusty";
+            }
+            if (dto.getPriorityId() == null) {
+                return "Priorytet zadania jest wymagany";
+            }
+            if (dto.getStatusId() == null) {
+                return "Status zadania jest wymagany";
+            }
+            if (dto.getCreatedById() == null) {
+                return "Informacja o twórcy zadania jest wymagana";
+            }
+        } else if (dto.getTitle() != null && dto.getTitle().isBlank()) {
+            return "Tytuł zadania nie może być pusty";
+        }
+        if (dto.getTeamId() != null && !teams.containsKey(dto.getTeamId())) {
+            return "Nie znaleziono zespołu o ID: " + dto.getTeamId();
+        }
+        if (dto.getPriorityId() != null && !priorities.containsKey(dto.getPriorityId())) {
+            return "Nie znaleziono priorytetu o ID: " + dto.getPriorityId();
+        }
+        if (dto.getStatusId() != null && !statuses.containsKey(dto.getStatusId())) {
+            return "Nie znaleziono statusu o ID: " + dto.getStatusId();
+        }
+        if (dto.getCreatedById() != null && !users.containsKey(dto.getCreatedById())) {
+            return "Nie znaleziono użytkownika o ID: " + dto.getCreatedById();
+        }
+        return null;
+    }
+
+    /**
+     * Pobiera jednym zapytaniem wszystkie encje, do których odwołują się przekazane zadania.
+     */
+    private <E> Map<Integer, E> findAllById(List<TaskDTO> taskDTOs,
+                                            Function<TaskDTO, Integer> idGetter,
+                                            Function<Set<Integer>, Collection<E>> finder,
+                                            Function<E, Integer> entityId) {
+        Set<Integer> ids = taskDTOs.stream()
+                .filter(Objects::nonNull)
+                .map(idGetter)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return finder.apply(ids).stream()
+                .collect(Collectors.toMap(entityId, Function.identity()));
+    }
+
+    /**
+     * Usuwa zadanie po ID. Podzadania usuwanego zadania są przenoszone do jego rodzica.
      */
     public void deleteTask(Integer id) {
-        taskRepository.deleteById(id);
+        taskRepository.findById(id).ifPresent(task -> {
+            taskHierarchyService.taskRemoved(task);
+            taskRepository.delete(task);
+            taskReminderScheduler.taskRemoved(id);
+            teamTaskCounterService.tasksRemoved(List.of(task));
+            taskVersionTracker.tasksChanged(List.of(task), List.of());
+        });
+    }
+
+    /**
+     * Pobiera zadania po terminie jako DTO, posortowane od najdawniej przekroczonego terminu.
+     * Lista obejmuje zadania oznaczone przez ostatnie przeszukiwanie {@link OverdueTaskService#scan()}.
+     */
+    public List<TaskDTO> getOverdueTasks() {
+        return taskRepository.findOverdueAsDTO();
+    }
+
+    /**
+     * Pobiera zadania zespołu po terminie jako DTO.
+     */
+    public List<TaskDTO> getOverdueTasksByTeamId(Integer teamId) {
+        return taskRepository.findOverdueAsDTOByTeamId(teamId);
     }
 
     /**
@@ -275,44 +819,73 @@ public class TaskService {
     /**
      * Pobiera zadania z terminem przed podaną datą jako DTO.
      */
+    @Transactional(readOnly = true)
     public List<TaskDTO> getTasksWithDeadlineBefore(LocalDate date) {
-        return taskRepository.findByDeadlineBefore(date).stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return taskRepository.findAsDTOByDeadlineBefore(date);
     }
 
     /**
      * Pobiera zadanie po tytule jako DTO.
      */
+    @Transactional(readOnly = true)
     public Optional<TaskDTO> getTaskByTitle(String title) {
-        return taskRepository.findByTitle(title)
-                .map(this::mapToDTO);
+        return taskRepository.findAsDTOByTitle(title);
+    }
+
+    /**
+     * Pobiera stronę zadań, których tytuł zaczyna się od podanego prefiksu, bez względu na wielkość liter
+     * i znaki diakrytyczne (np. "lacz" pasuje do "Łączenie rur"), posortowaną alfabetycznie.
+     * Wyszukiwanie korzysta z indeksu znormalizowanych tytułów i nie zlicza wszystkich wyników.
+     *
+     * @param prefix Początek tytułu
+     * @param page   Numer strony, liczony od zera
+     * @param size   Rozmiar strony; {@code null} oznacza {@link #DEFAULT_TITLE_PREFIX_PAGE_SIZE}, większe
+     *               wartości są przycinane do {@link #MAX_TITLE_PREFIX_PAGE_SIZE}
+     * @return Strona zadań
+     * @throws IllegalArgumentException gdy prefiks jest pusty albo numer lub rozmiar strony są nieprawidłowe
+     */
+    @Transactional(readOnly = true)
+    public TaskSliceDTO findTasksByTitlePrefix(String prefix, int page, Integer size) {
+        String normalized = PolishTextAnalyzer.normalize(prefix);
+        if (normalized == null || normalized.isEmpty()) {
+            throw new IllegalArgumentException("prefix must not be blank");
+        }
+        int pageSize = size == null ? DEFAULT_TITLE_PREFIX_PAGE_SIZE : size;
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        pageSize = Math.min(pageSize, MAX_TITLE_PREFIX_PAGE_SIZE);
+
+        // '!' escapes LIKE wildcards typed by the user; it needs no quoting in any SQL dialect
+        String pattern = normalized.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+        Slice<TaskDTO> tasks = taskRepository.findAsDTOByNormalizedTitleLike(pattern, PageRequest.of(page, pageSize));
+        return new TaskSliceDTO(tasks.getContent(), page, pageSize, tasks.hasNext());
     }
 
     /**
      * Pobiera zadania dla zespołu po ID jako DTO.
      */
+    @Transactional(readOnly = true)
     public List<TaskDTO> getTasksByTeamId(Integer teamId) {
-        return taskRepository.findByTeamId(teamId).stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return taskRepository.findAsDTOByTeamId(teamId);
     }
 
     /**
      * Pobiera zadania o określonym statusie po ID jako DTO.
      */
+    @Transactional(readOnly = true)
     public List<TaskDTO> getTasksByStatusId(Integer statusId) {
-        return taskRepository.findByStatusId(statusId).stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return taskRepository.findAsDTOByStatusId(statusId);
     }
 
     /**
      * Pobiera zadania o określonym priorytecie po ID jako DTO.
      */
+    @Transactional(readOnly = true)
     public List<TaskDTO> getTasksByPriorityId(Integer priorityId) {
-        return taskRepository.findByPriorityId(priorityId).stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return taskRepository.findAsDTOByPriorityId(priorityId);
     }
 }
\ No newline at end of file
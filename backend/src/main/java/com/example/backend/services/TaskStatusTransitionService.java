@@ -0,0 +1,207 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.TaskBulkResultDTO;
+import com.example.backend.dto.TaskStatusTransitionDTO;
+import com.example.backend.models.Task;
+import com.example.backend.models.TaskStatus;
+import com.example.backend.reminders.TaskReminderScheduler;
+import com.example.backend.repository.TaskHistoryRepository;
+import com.example.backend.repository.TaskRepository;
+import com.example.backend.repository.TaskStatusRepository;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.search.TaskSearchIndexer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serwis zbiorczej zmiany statusu zadań, np. zamknięcia wszystkich zadań etapu budowy.
+ * <p>
+ * Zadania są sprawdzane i blokowane jednym zapytaniem, status zmieniany jednym zapytaniem {@code UPDATE},
+ * a wpisy historii zmian zapisywane zapytaniami {@code INSERT ... SELECT}, niezależnie od liczby zadań.
+ * Zapytania zbiorcze pomijają obserwatorów encji {@link Task}, dlatego serwis sam zgłasza zmiany
+ * do indeksu wyszukiwania, liczników wersji list, sum postępu zadań nadrzędnych, zadań po terminie,
+ * przypomnień o terminach, liczników zadań zespołów i pamięci podręcznej zadań. Harmonogramy zespołów zależą tylko od dat rozpoczęcia i terminów,
+ * więc zmiana statusu ich nie dotyczy.
+ */
+@Service
+@Transactional
+public class TaskStatusTransitionService {
+
+    /**
+     * Maksymalna liczba zadań w jednym żądaniu.
+     */
+    public static final int MAX_TASKS = 1000;
+
+    private final TaskRepository taskRepository;
+    private final TaskStatusRepository taskStatusRepository;
+    private final UserRepository userRepository;
+    private final TaskHistoryRepository taskHistoryRepository;
+    private final TaskService taskService;
+    private final TaskSearchIndexer taskSearchIndexer;
+    private final TaskHierarchyService taskHierarchyService;
+    private final OverdueTaskService overdueTaskService;
+    private final TaskReminderScheduler taskReminderScheduler;
+    private final TeamTaskCounterService teamTaskCounterService;
+    private final TaskCache taskCache;
+    private final TaskVersionTracker taskVersionTracker;
+
+    /**
+     * Konstruktor wstrzykujący zależności.
+     */
+    @Autowired
+    public TaskStatusTransitionService(TaskRepository taskRepository,
+                                       TaskStatusRepository taskStatusRepository,
+                                       UserRepository userRepository,
+                                       TaskHistoryRepository taskHistoryRepository,
+                                       TaskService taskService,
+                                       TaskSearchIndexer taskSearchIndexer,
+                                       TaskHierarchyService taskHierarchyService,
+                                       OverdueTaskService overdueTaskService,
+                                       TaskReminderScheduler taskReminderScheduler,
+                                       TeamTaskCounterService teamTaskCounterService,
+                                       TaskCache taskCache,
+                                       TaskVersionTracker taskVersionTracker) {
+        this.taskRepository = taskRepository;
+        this.taskStatusRepository = taskStatusRepository;
+        this.userRepository = userRepository;
+        this.taskHistoryRepository = taskHistoryRepository;
+        this.taskService = taskService;
+        this.taskSearchIndexer = taskSearchIndexer;
+        this.taskHierarchyService = taskHierarchyService;
+        this.overdueTaskService = overdueTaskService;
+        this.taskReminderScheduler = taskReminderScheduler;
+        this.teamTaskCounterService = teamTaskCounterService;
+        this.taskCache = taskCache;
+        this.taskVersionTracker = taskVersionTracker;
+    }
+
+    /**
+     * Zmienia status podanych zadań. Przejście do statusu „Zakończone” ustawia datę zakończenia
+     * zadaniom, które jej nie mają. Każda zmiana statusu i daty zakończenia jest zapisywana w historii zmian.
+     * <p>
+     * Zadania, które mają już docelowy status (i datę zakończenia, jeśli jest wymagana), są pomijane.
+     * Nieistniejące zadania są zgłaszane w wyniku wraz z indeksem w przesłanej liście.
+     *
+     * @param transition Zadania, docelowy status i użytkownik zmieniający status
+     * @return Wynik z liczbą i listą zmienionych zadań oraz błędami poszczególnych pozycji
+     * @throws IllegalArgumentException gdy żądanie jest niepełne, za duże, a status lub użytkownik nie istnieje
+     */
+    public TaskBulkResultDTO transitionStatus(TaskStatusTransitionDTO transition) {
+        List<Integer> taskIds = transition.getTaskIds();
+        if (taskIds == null || taskIds.isEmpty()) {
+            throw new IllegalArgumentException("Lista zadań nie może być pusta");
+        }
+        if (taskIds.size() > MAX_TASKS) {
+            throw new IllegalArgumentException("Można zmienić status najwyżej " + MAX_TASKS + " zadań naraz");
+        }
+        if (transition.getStatusId() == null) {
+            throw new IllegalArgumentException("Status zadania jest wymagany");
+        }
+        if (transition.getChangedById() == null) {
+            throw new IllegalArgumentException("Informacja o użytkowniku zmieniającym status jest wymagana");
+        }
+        TaskStatus status = taskStatusRepository.findById(transition.getStatusId())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Nie znaleziono statusu o ID: " + transition.getStatusId()));
+        if (!userRepository.existsById(transition.getChangedById())) {
+            throw new IllegalArgumentException("Nie znaleziono użytkownika o ID: " + transition.getChangedById());
+        }
+
+        Set<Integer> uniqueIds = taskIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Integer, Task> tasks = taskRepository.findLockedByIdIn(uniqueIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        TaskBulkResultDTO result = new TaskBulkResultDTO();
+        for (int i = 0; i < taskIds.size(); i++) {
+            Integer taskId = taskIds.get(i);
+            if (taskId == null || !tasks.containsKey(taskId)) {
+                result.getErrors().add(new TaskBulkResultDTO.ItemError(i, taskId,
+                        taskId == null ? "Brak ID zadania" : "Nie znaleziono zadania o ID: " + taskId));
+            }
+        }
+
+        boolean completes = TaskHierarchyService.COMPLETED_STATUS_NAME.equalsIgnoreCase(status.getName());
+        LocalDate today = LocalDate.now();
+        List<Task> statusChanged = new ArrayList<>();
+        List<Task> completedNow = new ArrayList<>();
+        List<Task> changed = new ArrayList<>();
+        for (Integer taskId : uniqueIds) {
+            Task task = tasks.get(taskId);
+            if (task == null) {
+                continue;
+            }
+            boolean changesStatus = !status.getId().equals(task.getStatus().getId());
+            boolean setsCompletedDate = completes && task.getCompletedDate() == null;
+            if (changesStatus) {
+                statusChanged.add(task);
+            }
+            if (setsCompletedDate) {
+                completedNow.add(task);
+            }
+            if (changesStatus || setsCompletedDate) {
+                changed.add(task);
+            }
+        }
+        if (changed.isEmpty()) {
+            return result;
+        }
+
+        // History reads the current values, so it is written before the update
+        LocalDateTime now = LocalDateTime.now();
+        if (!statusChanged.isEmpty()) {
+            taskHistoryRepository.insertStatusChanges(ids(statusChanged), transition.getChangedById(),
+                    status.getName(), now);
+        }
+        if (!completedNow.isEmpty()) {
+            taskHistoryRepository.insertCompletedDateChanges(ids(completedNow), transition.getChangedById(),
+                    today.toString(), now);
+        }
+        taskRepository.updateStatusByIdIn(ids(changed), status, completes ? today : null, now);
+
+        Map<Integer, TeamTaskCounterService.TaskState> previousStates = completedNow.stream()
+                .collect(Collectors.toMap(Task::getId, TeamTaskCounterService.TaskState::of));
+
+        // The update cleared the persistence context - mirror it on the detached tasks for the listeners' work
+        for (Task task : changed) {
+            task.setStatus(status);
+            if (completes && task.getCompletedDate() == null) {
+                task.setCompletedDate(today);
+            }
+            task.setVersion(task.getVersion() + 1);
+            task.setUpdatedAt(now);
+            taskSearchIndexer.taskSaved(task);
+            taskCache.evict(task.getId());
+        }
+        taskHierarchyService.tasksChanged(changed);
+        if (!completedNow.isEmpty()) {
+            overdueTaskService.tasksChanged(completedNow);
+            taskReminderScheduler.tasksChanged(completedNow);
+            teamTaskCounterService.tasksChanged(previousStates, completedNow);
+        }
+        taskVersionTracker.tasksChanged(changed, List.of());
+
+        result.setUpdatedCount(changed.size());
+        result.setTasks(changed.stream()
+                .map(taskService::mapToDTO)
+                .collect(Collectors.toList()));
+        return result;
+    }
+
+    private static List<Integer> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).toList();
+    }
+}
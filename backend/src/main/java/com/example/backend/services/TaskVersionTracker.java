@@ -0,0 +1,123 @@
+package com.example.backend.services;
+
+import com.example.backend.models.Task;
+import com.example.backend.models.TaskListVersion;
+import com.example.backend.models.TeamTaskCounter;
+import com.example.backend.repository.TaskListVersionRepository;
+import com.example.backend.repository.TeamTaskCounterRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Znaczniki wersji list zadań: globalnej oraz osobnej dla każdego zespołu.
+ * <p>
+ * Znacznik jest budowany z licznika wersji zapisanego w bazie: dla listy wszystkich zadań z wiersza
+ * {@link TaskListVersion} o nazwie {@link #GLOBAL_LIST_NAME}, a dla listy zespołu z kolumny
+ * {@code list_version} jego wiersza {@link TeamTaskCounter}. Serwisy zapisujące zadania zgłaszają zmianę
+ * ({@link #tasksChanged(Collection, Collection)}) w swojej transakcji, więc liczniki zmieniają się razem z zadaniami
+ * niezależnie od tego, która instancja aplikacji zapisała zmianę, a wycofana transakcja wycofuje również
+ * ich zmianę. Na podstawie znaczników klient może ponownie pobrać listę zadań warunkowo
+ * ({@code If-None-Match}) i otrzymać odpowiedź 304 po odczycie jednego wiersza zamiast wczytania listy.
+ * <p>
+ * Wiersz licznika globalnego jest zmieniany przez każdą zmianę zadań, więc zapisy zadań czekają na siebie
+ * od tej chwili do zatwierdzenia transakcji. Zgłoszenie jest dlatego wykonywane na końcu zapisu.
+ */
+@Component
+@Transactional(readOnly = true)
+public class TaskVersionTracker {
+
+    /**
+     * Nazwa licznika wersji listy wszystkich zadań.
+     */
+    public static final String GLOBAL_LIST_NAME = "tasks";
+
+    private final TaskListVersionRepository taskListVersionRepository;
+    private final TeamTaskCounterRepository teamTaskCounterRepository;
+    private final TeamTaskCounterService teamTaskCounterService;
+
+    /**
+     * Konstruktor wstrzykujący zależności.
+     */
+    @Autowired
+    public TaskVersionTracker(TaskListVersionRepository taskListVersionRepository,
+                              TeamTaskCounterRepository teamTaskCounterRepository,
+                              TeamTaskCounterService teamTaskCounterService) {
+        this.taskListVersionRepository = taskListVersionRepository;
+        this.teamTaskCounterRepository = teamTaskCounterRepository;
+        this.teamTaskCounterService = teamTaskCounterService;
+    }
+
+    /**
+     * Zgłasza zmianę zadań (zapis, usunięcie lub przeniesienie do innego zespołu).
+     *
+     * @param tasks           Zmienione zadania
+     * @param previousTeamIds ID zespołów zadań przed zmianą (wartości {@code null} są pomijane)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void tasksChanged(Collection<Task> tasks, Collection<Integer> previousTeamIds) {
+        List<Integer> teamIds = new ArrayList<>(previousTeamIds);
+        tasks.forEach(task -> teamIds.add(task.getTeam() != null ? task.getTeam().getId() : null));
+        taskListsChanged(teamIds);
+    }
+
+    /**
+     * Zgłasza zmianę zadań: zwiększa wersje list podanych zespołów (przy przeniesieniu zadania - zespołu
+     * przed zmianą i po niej) oraz wersję listy wszystkich zadań. Musi być wywołana w transakcji zapisu zadań.
+     *
+     * @param teamIds ID zespołów, których listy zadań uległy zmianie (wartości {@code null} są pomijane)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void taskListsChanged(Collection<Integer> teamIds) {
+        teamTaskCounterService.listVersionsChanged(teamIds);
+        if (taskListVersionRepository.increment(GLOBAL_LIST_NAME) == 0) {
+            taskListVersionRepository.save(new TaskListVersion(GLOBAL_LIST_NAME, 1));
+        }
+    }
+
+    /**
+     * Zwraca znacznik wersji listy wszystkich zadań.
+     */
+    public String globalETag() {
+        long version = taskListVersionRepository.findVersionByName(GLOBAL_LIST_NAME).orElse(0L);
+        return "W/\"" + Long.toString(version, 36) + "\"";
+    }
+
+    /**
+     * Zwraca znacznik wersji listy zadań zespołu.
+     *
+     * @param teamId ID zespołu
+     */
+    public String teamETag(Integer teamId) {
+        long version = teamTaskCounterRepository.findListVersionByTeamId(teamId).orElse(0L);
+        return "W/\"t" + teamId + "-" + Long.toString(version, 36) + "\"";
+    }
+
+    /**
+     * Sprawdza, czy nagłówek {@code If-None-Match} zawiera podany znacznik. Znaczniki są
+     * porównywane słabo, tzn. bez uwzględnienia prefiksu {@code W/}.
+     *
+     * @param ifNoneMatch Wartość nagłówka {@code If-None-Match} (może być {@code null})
+     * @param etag        Bieżący znacznik zasobu
+     * @return {@code true}, jeśli klient ma aktualną wersję zasobu
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String current = stripWeakPrefix(etag);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> candidate.equals("*") || stripWeakPrefix(candidate).equals(current));
+    }
+
+    private static String stripWeakPrefix(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
@@ -1,20 +1,28 @@
 package com.example.backend.services;
 
 import com.example.backend.dto.TeamDTO;
+import com.example.backend.dto.TeamTaskCountsDTO;
 import com.example.backend.dto.UserDTO;
 import com.example.backend.dto.UserResponseDTO;
 import com.example.backend.models.Team;
+import com.example.backend.models.TeamTaskCounter;
 import com.example.backend.models.User;
+import com.example.backend.repository.ArchivedTaskCommentRepository;
+import com.example.backend.repository.ArchivedTaskHistoryRepository;
+import com.example.backend.repository.ArchivedTaskRepository;
 import com.example.backend.repository.TaskRepository;
 import com.example.backend.repository.TeamMemberRepository;
 import com.example.backend.repository.TeamRepository;
+import com.example.backend.repository.TeamTaskCounterRepository;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +36,11 @@ public class TeamService {
     private final TeamMemberRepository teamMemberRepository;
     private final TaskRepository taskRepository;
     private final UserService userService;
+    private final TeamTaskCounterRepository teamTaskCounterRepository;
+    private final TaskVersionTracker taskVersionTracker;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final ArchivedTaskCommentRepository archivedTaskCommentRepository;
+    private final ArchivedTaskHistoryRepository archivedTaskHistoryRepository;
 
     /**
      * Konstruktor wstrzykujący zależności.
@@ -36,11 +49,21 @@ public class TeamService {
     public TeamService(TeamRepository teamRepository,
                        UserService userService,
                        TaskRepository taskRepository,
-                       TeamMemberRepository teamMemberRepository) {
+                       TeamMemberRepository teamMemberRepository,
+                       TeamTaskCounterRepository teamTaskCounterRepository,
+                       TaskVersionTracker taskVersionTracker,
+                       ArchivedTaskRepository archivedTaskRepository,
+                       ArchivedTaskCommentRepository archivedTaskCommentRepository,
+                       ArchivedTaskHistoryRepository archivedTaskHistoryRepository) {
         this.teamRepository = teamRepository;
         this.userService = userService;
         this.taskRepository = taskRepository;
         this.teamMemberRepository = teamMemberRepository;
+        this.teamTaskCounterRepository = teamTaskCounterRepository;
+        this.taskVersionTracker = taskVersionTracker;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.archivedTaskCommentRepository = archivedTaskCommentRepository;
+        this.archivedTaskHistoryRepository = archivedTaskHistoryRepository;
     }
 
     /**
@@ -58,6 +81,44 @@ public class TeamService {
         return dto;
     }
 
+    /**
+     * Mapuje zespoły na obiekty DTO wraz z liczbami ich zadań, odczytanymi jednym zapytaniem z tabeli
+     * liczników {@code team_task_counters}. Liczby zespołów, które nie mają jeszcze wiersza liczników,
+     * są wyliczane z zadań.
+     */
+    private List<TeamDTO> mapToDTOsWithTaskCounts(List<Team> teams) {
+        List<TeamDTO> dtos = teams.stream()
+                .map(this::mapToDTO)
+                .collect(Collectors.toList());
+        if (dtos.isEmpty()) {
+            return dtos;
+        }
+        List<Integer> teamIds = dtos.stream().map(TeamDTO::getId).toList();
+        Map<Integer, TeamTaskCounter> counters = teamTaskCounterRepository.findByTeamIdIn(teamIds).stream()
+                .collect(Collectors.toMap(TeamTaskCounter::getTeamId, Function.identity()));
+        List<Integer> missingTeamIds = teamIds.stream()
+                .filter(teamId -> !counters.containsKey(teamId))
+                .toList();
+        Map<Integer, TeamTaskCountsDTO> counts = missingTeamIds.isEmpty() ? Map.of()
+                : teamTaskCounterRepository.countTasksByTeamIdIn(missingTeamIds).stream()
+                .collect(Collectors.toMap(TeamTaskCountsDTO::getTeamId, Function.identity()));
+
+        for (TeamDTO dto : dtos) {
+            TeamTaskCounter counter = counters.get(dto.getId());
+            TeamTaskCountsDTO teamCounts = counts.get(dto.getId());
+            if (counter != null) {
+                dto.setOpenTaskCount(counter.getOpenCount());
+                dto.setCompletedTaskCount(counter.getCompletedCount());
+                dto.setOverdueTaskCount(counter.getOverdueCount());
+            } else if (teamCounts != null) {
+                dto.setOpenTaskCount(Math.toIntExact(teamCounts.getOpenCount()));
+                dto.setCompletedTaskCount(Math.toIntExact(teamCounts.getCompletedCount()));
+                dto.setOverdueTaskCount(Math.toIntExact(teamCounts.getOverdueCount()));
+            }
+        }
+        return dtos;
+    }
+
     /**
      * Mapuje obiekt DTO na encję Team.
      */
@@ -95,9 +156,7 @@ public class TeamService {
      * Pobiera wszystkie zespoły jako DTO.
      */
     public List<TeamDTO> getAllTeams() {
-        return teamRepository.findAll().stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return mapToDTOsWithTaskCounts(teamRepository.findAll());
     }
 
     /**
@@ -105,32 +164,28 @@ public class TeamService {
      */
     public Optional<TeamDTO> getTeamById(Integer id) {
         return teamRepository.findById(id)
-                .map(this::mapToDTO);
+                .map(team -> mapToDTOsWithTaskCounts(List.of(team)).get(0));
     }
 
     /**
-     * Pobiera encję zespołu po ID.
+     * Pobiera encję zespołu po ID wraz z kierownikiem.
      */
     public Optional<Team> getTeamEntityById(Integer id) {
-        return teamRepository.findById(id);
+        return teamRepository.findDetailedById(id);
     }
 
     /**
      * Pobiera aktywne zespoły jako DTO.
      */
     public List<TeamDTO> getActiveTeams() {
-        return teamRepository.findByIsActiveTrue().stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return mapToDTOsWithTaskCounts(teamRepository.findByIsActiveTrue());
     }
 
     /**
      * Pobiera zespoły o określonym statusie aktywności jako DTO.
      */
     public List<TeamDTO> getTeamsByActiveStatus(boolean isActive) {
-        return teamRepository.findByIsActive(isActive).stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return mapToDTOsWithTaskCounts(teamRepository.findByIsActive(isActive));
     }
 
     /**
@@ -138,7 +193,7 @@ public class TeamService {
      */
     public Optional<TeamDTO> getTeamByName(String teamName) {
         return teamRepository.findByName(teamName)
-                .map(this::mapToDTO);
+                .map(team -> mapToDTOsWithTaskCounts(List.of(team)).get(0));
     }
 
     /**
@@ -164,11 +219,13 @@ public class TeamService {
     }
 
     /**
-     * Zapisuje nowy zespół.
+     * Zapisuje nowy zespół wraz z pustym wierszem liczników zadań, tak aby pierwsze zapisy zadań
+     * zespołu jedynie zmieniały liczniki i nie tworzyły wiersza równolegle.
      */
     public TeamDTO saveTeam(TeamDTO teamDTO) {
         Team team = mapToEntity(teamDTO);
         Team savedTeam = teamRepository.save(team);
+        teamTaskCounterRepository.save(new TeamTaskCounter(savedTeam.getId(), 0, 0, 0));
         return mapToDTO(savedTeam);
     }
 
@@ -198,6 +255,13 @@ public class TeamService {
 
         // Najpierw usuń wszystkie zadania zespołu
         taskRepository.deleteAllByTeam(team);
+        // The team's own list version goes with its counter row
+        taskVersionTracker.taskListsChanged(List.of());
+
+        // Usuń zarchiwizowane zadania zespołu wraz z ich komentarzami i historią zmian
+        archivedTaskCommentRepository.deleteByArchivedTaskTeamId(id);
+        archivedTaskHistoryRepository.deleteByArchivedTaskTeamId(id);
+        archivedTaskRepository.deleteByTeamId(id);
 
         // Następnie usuń wszystkich członków zespołu
         teamMemberRepository.deleteAllByTeam(team);
@@ -220,7 +284,7 @@ public class TeamService {
      * @return Opcjonalne dane kierownika zespołu, jeśli zespół istnieje
      */
     public Optional<UserResponseDTO> getTeamManager(Integer teamId) {
-        return teamRepository.findById(teamId)
+        return teamRepository.findDetailedById(teamId)
                 .map(team -> mapUserToResponseDTO(team.getManager()));
     }
 
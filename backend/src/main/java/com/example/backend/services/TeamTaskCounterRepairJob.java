@@ -0,0 +1,36 @@
+package com.example.backend.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Codziennie porównuje liczniki zadań zespołów z zadaniami i poprawia rozbieżności
+ * ({@link TeamTaskCounterService#repairOncePerDay(LocalDate)}).
+ * <p>
+ * Włączony domyślnie na każdym węźle API (wyłączony w profilu {@code worker}). Naprawa jest wykonywana
+ * z blokadą wspólnego znacznika w bazie, więc węzły uruchamiające ją równocześnie wykonują ją kolejno,
+ * a tylko pierwszy z nich przelicza liczniki danego dnia.
+ */
+@Component
+@ConditionalOnProperty(name = "app.tasks.counters.repair-enabled", havingValue = "true")
+public class TeamTaskCounterRepairJob {
+
+    private final TeamTaskCounterService teamTaskCounterService;
+
+    @Autowired
+    public TeamTaskCounterRepairJob(TeamTaskCounterService teamTaskCounterService) {
+        this.teamTaskCounterService = teamTaskCounterService;
+    }
+
+    /**
+     * Poprawia liczniki zadań zespołów, które rozminęły się z zadaniami.
+     */
+    @Scheduled(cron = "${app.tasks.counters.repair-cron:0 0 3 * * *}")
+    public void repair() {
+        teamTaskCounterService.repairOncePerDay(LocalDate.now());
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.TeamTaskCountsDTO;
+import com.example.backend.models.ScanWatermark;
+import com.example.backend.models.Task;
+import com.example.backend.models.TeamTaskCounter;
+import com.example.backend.repository.ScanWatermarkRepository;
+import com.example.backend.repository.TeamTaskCounterRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serwis utrzymujący liczniki zadań zespołów ({@link TeamTaskCounter}), z których korzystają listy
+ * i szczegóły zespołów zamiast zliczać zadania przy każdym odczycie.
+ * <p>
+ * Liczniki otwartych i zakończonych zadań są zmieniane w transakcji zapisu zadania: {@link TaskService},
+ * {@link TaskStatusTransitionService} i {@link TaskArchiveService} zgłaszają stan zadań przed i po zmianie,
+ * a serwis zmienia liczniki zapytaniem {@code UPDATE ... SET open_count = open_count + ?} - osobno dla
+ * każdego zespołu, w kolejności ID, aby równoległe transakcje nie blokowały się nawzajem. Zadanie jest
+ * zakończone, gdy ma datę zakończenia.
+ * <p>
+ * Zadanie staje się zadaniem po terminie z upływem czasu, dlatego licznik zadań po terminie odpowiada
+ * liczbie oznaczeń {@link OverdueTaskService} i jest przeliczany z tabeli oznaczeń, gdy się ona zmienia.
+ * Wiersz liczników jest tworzony razem z zespołem ({@link TeamService#saveTeam}). Zespół bez wiersza
+ * (np. utworzony z pominięciem serwisów) otrzymuje go przy pierwszej zmianie, wyliczony bezpośrednio
+ * z zadań, a cykliczna naprawa ({@link #repairOncePerDay(LocalDate)}) poprawia liczniki, które rozminęły
+ * się z zadaniami po zmianach wykonanych z pominięciem serwisów.
+ */
+@Service
+@Transactional
+public class TeamTaskCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TeamTaskCounterService.class);
+
+    /**
+     * Nazwa znacznika {@link ScanWatermark} z dniem, od którego należy ponownie wykonać naprawę liczników.
+     */
+    public static final String REPAIR_WATERMARK_NAME = "team-task-counters-repair";
+
+    private final TeamTaskCounterRepository teamTaskCounterRepository;
+    private final ScanWatermarkRepository scanWatermarkRepository;
+
+    /**
+     * Konstruktor wstrzykujący zależności.
+     */
+    @Autowired
+    public TeamTaskCounterService(TeamTaskCounterRepository teamTaskCounterRepository,
+                                  ScanWatermarkRepository scanWatermarkRepository) {
+        this.teamTaskCounterRepository = teamTaskCounterRepository;
+        this.scanWatermarkRepository = scanWatermarkRepository;
+    }
+
+    /**
+     * Stan zadania, od którego zależą liczniki jego zespołu.
+     *
+     * @param teamId    ID zespołu zadania lub {@code null}
+     * @param completed Czy zadanie jest zakończone
+     * @param overdue   Czy zadanie jest po terminie
+     */
+    public record TaskState(Integer teamId, boolean completed, boolean overdue) {
+
+        /**
+         * Odczytuje stan zadania.
+         *
+         * @param task Zadanie
+         * @return Stan zadania
+         */
+        public static TaskState of(Task task) {
+            return new TaskState(task.getTeam() != null ? task.getTeam().getId() : null,
+                    task.getCompletedDate() != null, OverdueTaskService.isOverdue(task, LocalDate.now()));
+        }
+    }
+
+    /**
+     * Uwzględnia nowo utworzone zadania.
+     *
+     * @param tasks Utworzone zadania
+     */
+    public void tasksCreated(Collection<Task> tasks) {
+        Map<Integer, int[]> deltas = new TreeMap<>();
+        for (Task task : tasks) {
+            add(deltas, TaskState.of(task), 1);
+        }
+        apply(deltas, Set.of());
+    }
+
+    /**
+     * Uwzględnia zmianę zadania.
+     *
+     * @param previousState Stan zadania przed zmianą
+     * @param task          Zmienione zadanie
+     */
+    public void taskChanged(TaskState previousState, Task task) {
+        tasksChanged(Map.of(task.getId(), previousState), List.of(task));
+    }
+
+    /**
+     * Uwzględnia zmiany zadań.
+     *
+     * @param previousStates Stany zadań przed zmianą według ID zadań
+     * @param tasks          Zmienione zadania
+     */
+    public void tasksChanged(Map<Integer, TaskState> previousStates, Collection<Task> tasks) {
+        Map<Integer, int[]> deltas = new TreeMap<>();
+        Set<Integer> overdueTeamIds = new TreeSet<>();
+        for (Task task : tasks) {
+            TaskState previous = previousStates.get(task.getId());
+            TaskState current = TaskState.of(task);
+            if (previous == null || previous.equals(current)) {
+                continue;
+            }
+            add(deltas, previous, -1);
+            add(deltas, current, 1);
+            // A marked task moved to another team takes its mark along
+            if (!Objects.equals(previous.teamId(), current.teamId()) && (previous.overdue() || current.overdue())) {
+                addTeam(overdueTeamIds, previous.teamId());
+                addTeam(overdueTeamIds, current.teamId());
+            }
+        }
+        apply(deltas, overdueTeamIds);
+    }
+
+    /**
+     * Uwzględnia usunięte zadania. Oznaczenia zadań po terminie są usuwane razem z zadaniami.
+     *
+     * @param tasks Usunięte zadania
+     */
+    public void tasksRemoved(Collection<Task> tasks) {
+        Map<Integer, int[]> deltas = new TreeMap<>();
+        Set<Integer> overdueTeamIds = new TreeSet<>();
+        for (Task task : tasks) {
+            TaskState state = TaskState.of(task);
+            add(deltas, state, -1);
+            if (state.overdue()) {
+                addTeam(overdueTeamIds, state.teamId());
+            }
+        }
+        apply(deltas, overdueTeamIds);
+    }
+
+    /**
+     * Przelicza liczniki zadań po terminie podanych zespołów po zmianie ich oznaczeń.
+     *
+     * @param teamIds ID zespołów ({@code null} jest pomijany)
+     */
+    public void overdueChanged(Collection<Integer> teamIds) {
+        Set<Integer> ids = new TreeSet<>();
+        teamIds.forEach(teamId -> addTeam(ids, teamId));
+        if (!ids.isEmpty()) {
+            teamTaskCounterRepository.recountOverdueByTeamIdIn(ids);
+        }
+    }
+
+    /**
+     * Przelicza liczniki zadań po terminie wszystkich zespołów, np. po cyklicznym przeszukiwaniu terminów.
+     */
+    public void overdueChangedForAllTeams() {
+        teamTaskCounterRepository.recountOverdue();
+    }
+
+    /**
+     * Zwiększa wersje list zadań podanych zespołów ({@link TeamTaskCounter#getListVersion()}). Zespołom bez
+     * wiersza liczników jest on tworzony z wartościami wyliczonymi z zadań i pierwszą wersją listy.
+     *
+     * @param teamIds ID zespołów ({@code null} jest pomijany)
+     */
+    public void listVersionsChanged(Collection<Integer> teamIds) {
+        Set<Integer> ids = new TreeSet<>();
+        teamIds.forEach(teamId -> addTeam(ids, teamId));
+        if (ids.isEmpty() || teamTaskCounterRepository.incrementListVersions(ids) == ids.size()) {
+            return;
+        }
+        Set<Integer> missingTeamIds = new TreeSet<>(ids);
+        teamTaskCounterRepository.findByTeamIdIn(ids).forEach(counter -> missingTeamIds.remove(counter.getTeamId()));
+        teamTaskCounterRepository.saveAll(teamTaskCounterRepository.countTasksByTeamIdIn(missingTeamIds).stream()
+                .map(counts -> {
+                    TeamTaskCounter counter = toCounter(counts);
+                    counter.setListVersion(1);
+                    return counter;
+                })
+                .toList());
+    }
+
+    /**
+     * Wykonuje naprawę liczników ({@link #repair()}), o ile nie wykonała jej już danego dnia inna instancja
+     * aplikacji. Znacznik {@link #REPAIR_WATERMARK_NAME} jest blokowany na czas naprawy, więc instancje
+     * uruchamiające ją o tej samej porze wykonują ją kolejno, a każda następna ją pomija.
+     *
+     * @param today Bieżący dzień
+     * @return Liczba poprawionych lub utworzonych wierszy liczników (0, jeśli naprawa została pominięta)
+     */
+    public int repairOncePerDay(LocalDate today) {
+        ScanWatermark watermark = scanWatermarkRepository.findLockedByName(REPAIR_WATERMARK_NAME)
+                .orElseGet(() -> scanWatermarkRepository.save(new ScanWatermark(REPAIR_WATERMARK_NAME)));
+        if (watermark.getWatermark() != null && watermark.getWatermark().isAfter(today)) {
+            return 0;
+        }
+        int repaired = repair();
+        watermark.setWatermark(today.plusDays(1));
+        return repaired;
+    }
+
+    /**
+     * Porównuje liczniki wszystkich zespołów z zadaniami i poprawia te, które się rozminęły, a zespołom
+     * bez wiersza liczników go tworzy. Liczniki są blokowane na czas przeliczenia, więc równoległe zmiany
+     * zadań czekają na jego koniec i zmieniają już poprawione wartości.
+     *
+     * @return Liczba poprawionych lub utworzonych wierszy liczników
+     */
+    public int repair() {
+        Map<Integer, TeamTaskCounter> counters = teamTaskCounterRepository.findAllLocked().stream()
+                .collect(Collectors.toMap(TeamTaskCounter::getTeamId, Function.identity()));
+        List<TeamTaskCounter> missing = new ArrayList<>();
+        int repaired = 0;
+        for (TeamTaskCountsDTO counts : teamTaskCounterRepository.countTasksOfAllTeams()) {
+            TeamTaskCounter counter = counters.get(counts.getTeamId());
+            if (counter == null) {
+                missing.add(toCounter(counts));
+            } else if (counter.getOpenCount() != counts.getOpenCount()
+                    || counter.getCompletedCount() != counts.getCompletedCount()
+                    || counter.getOverdueCount() != counts.getOverdueCount()) {
+                logger.warn("Poprawiono liczniki zadań zespołu {}: otwarte {} -> {}, zakończone {} -> {}, po terminie {} -> {}",
+                        counts.getTeamId(), counter.getOpenCount(), counts.getOpenCount(),
+                        counter.getCompletedCount(), counts.getCompletedCount(),
+                        counter.getOverdueCount(), counts.getOverdueCount());
+                counter.setOpenCount(Math.toIntExact(counts.getOpenCount()));
+                counter.setCompletedCount(Math.toIntExact(counts.getCompletedCount()));
+                counter.setOverdueCount(Math.toIntExact(counts.getOverdueCount()));
+                repaired++;
+            }
+        }
+        teamTaskCounterRepository.saveAll(missing);
+        return repaired + missing.size();
+    }
+
+    /**
+     * Zmienia liczniki zespołów. Zespołom bez wiersza liczników jest on tworzony z wartościami
+     * wyliczonymi z zadań, które obejmują już zgłaszaną zmianę.
+     */
+    private void apply(Map<Integer, int[]> deltas, Set<Integer> overdueTeamIds) {
+        List<Integer> missingTeamIds = new ArrayList<>();
+        deltas.forEach((teamId, delta) -> {
+            if ((delta[0] != 0 || delta[1] != 0)
+                    && teamTaskCounterRepository.addToCounts(teamId, delta[0], delta[1]) == 0) {
+                missingTeamIds.add(teamId);
+            }
+        });
+        if (!overdueTeamIds.isEmpty()) {
+            teamTaskCounterRepository.recountOverdueByTeamIdIn(overdueTeamIds);
+        }
+        if (!missingTeamIds.isEmpty()) {
+            teamTaskCounterRepository.saveAll(teamTaskCounterRepository.countTasksByTeamIdIn(missingTeamIds).stream()
+                    .map(TeamTaskCounterService::toCounter)
+                    .toList());
+        }
+    }
+
+    private static void add(Map<Integer, int[]> deltas, TaskState state, int sign) {
+        if (state.teamId() == null) {
+            return;
+        }
+        int[] delta = deltas.computeIfAbsent(state.teamId(), teamId -> new int[2]);
+        delta[state.completed() ? 1 : 0] += sign;
+    }
+
+    private static void addTeam(Set<Integer> teamIds, Integer teamId) {
+        if (teamId != null) {
+            teamIds.add(teamId);
+        }
+    }
+
+    private static TeamTaskCounter toCounter(TeamTaskCountsDTO counts) {
+        return new TeamTaskCounter(counts.getTeamId(), Math.toIntExact(counts.getOpenCount()),
+                Math.toIntExact(counts.getCompletedCount()), Math.toIntExact(counts.getOverdueCount()));
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.backend.controllers;
+
+import com.example.backend.dto.reports.ReportBundleDTO;
+import com.example.backend.models.Report;
+import com.example.backend.models.User;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.services.PdfReportService;
+import com.example.backend.services.ReportDataService;
+import com.example.backend.services.ReportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PdfReportControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private PdfReportService pdfReportService;
+
+    @Mock
+    private ReportDataService reportDataService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ReportService reportService;
+
+    @InjectMocks
+    private PdfReportController pdfReportController;
+
+    private User user;
+
+    @BeforeEach
+    public void setup() {
+        mockMvc = MockMvcBuilders.standaloneSetup(pdfReportController).build();
+
+        user = new User();
+        user.setId(1);
+        user.setUsername("manager1");
+    }
+
+    private Report report(int id, String name, String fileName) {
+        Report report = new Report();
+        report.setId(id);
+        report.setName(name);
+        report.setFileName(fileName);
+        return report;
+    }
+
+    @Test
+    public void generateReportBundle_ShouldCollectDataOnceAndReturnGeneratedReports() throws Exception {
+        ReportBundleDTO bundle = new ReportBundleDTO();
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(reportDataService.collectReportBundle("2024-03-01", "2024-03-31")).thenReturn(bundle);
+        when(pdfReportService.generateReportBundle(bundle, user)).thenReturn(List.of(
+                report(11, "Raport postępu budowy", "construction-progress-1.pdf"),
+                report(12, "Raport obciążenia pracownika", "employee-load-1.pdf"),
+                report(13, "Raport efektywności zespołów", "team-efficiency-1.pdf")));
+
+        mockMvc.perform(post("/api/generate-report/bundle")
+                        .param("dateFrom", "2024-03-01")
+                        .param("dateTo", "2024-03-31")
+                        .param("userId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Report bundle generated successfully"))
+                .andExpect(jsonPath("$.reports.length()").value(3))
+                .andExpect(jsonPath("$.reports[0].reportId").value(11))
+                .andExpect(jsonPath("$.reports[1].name").value("Raport obciążenia pracownika"))
+                .andExpect(jsonPath("$.reports[2].fileName").value("team-efficiency-1.pdf"));
+
+        verify(reportDataService).collectReportBundle("2024-03-01", "2024-03-31");
+        verify(pdfReportService).generateReportBundle(bundle, user);
+    }
+
+    @Test
+    public void generateReportBundle_WhenUserNotFound_ShouldReturnErrorWithoutGeneratingReports() throws Exception {
+        when(userRepository.findById(99)).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/api/generate-report/bundle")
+                        .param("dateFrom", "2024-03-01")
+                        .param("dateTo", "2024-03-31")
+                        .param("userId", "99"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(content().string(containsString("User not found")));
+
+        verifyNoInteractions(reportDataService, pdfReportService);
+    }
+
+    @Test
+    public void generateReportBundle_WhenGenerationFails_ShouldReturnError() throws Exception {
+        ReportBundleDTO bundle = new ReportBundleDTO();
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(reportDataService.collectReportBundle("2024-03-01", "2024-03-31")).thenReturn(bundle);
+        when(pdfReportService.generateReportBundle(any(ReportBundleDTO.class), any(User.class)))
+                .thenThrow(new RuntimeException("Report type not found"));
+
+        mockMvc.perform(post("/api/generate-report/bundle")
+                        .param("dateFrom", "2024-03-01")
+                        .param("dateTo", "2024-03-31")
+                        .param("userId", "1"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(content().string("Error generating report bundle: Report type not found"));
+    }
+
+    @Test
+    public void generateEmployeeLoadReport_WhenStreamingAndParallel_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/generate-report/employee-load")
+                        .param("dateFrom", "2024-03-01")
+                        .param("dateTo", "2024-03-31")
+                        .param("userId", "1")
+                        .param("streaming", "true")
+                        .param("parallel", "true"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Streaming and parallel rendering cannot be combined"));
+
+        verifyNoInteractions(userRepository, reportDataService, pdfReportService);
+    }
+}
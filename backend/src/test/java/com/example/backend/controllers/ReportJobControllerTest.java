@@ -0,0 +1,99 @@
+package com.example.backend.controllers;
+
+import com.example.backend.dto.ReportJobDTO;
+import com.example.backend.dto.reports.ReportJobRequestDTO;
+import com.example.backend.services.ReportJobService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReportJobControllerTest {
+
+    private MockMvc mockMvc;
+    private ObjectMapper objectMapper;
+
+    @Mock
+    private ReportJobService reportJobService;
+
+    @InjectMocks
+    private ReportJobController reportJobController;
+
+    private ReportJobRequestDTO request;
+    private ReportJobDTO jobDTO;
+
+    @BeforeEach
+    public void setup() {
+        mockMvc = MockMvcBuilders.standaloneSetup(reportJobController).build();
+        objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+
+        request = new ReportJobRequestDTO();
+        request.setType("team-efficiency");
+        request.setDateFrom("2025-01-01");
+        request.setDateTo("2025-01-31");
+        request.setUserId(1);
+
+        jobDTO = new ReportJobDTO();
+        jobDTO.setId(5);
+        jobDTO.setType("team-efficiency");
+        jobDTO.setStatus("PENDING");
+        jobDTO.setRequestedById(1);
+        jobDTO.setAttempts(0);
+    }
+
+    @Test
+    public void testEnqueueReportJob() throws Exception {
+        when(reportJobService.enqueue(any(ReportJobRequestDTO.class))).thenReturn(jobDTO);
+
+        mockMvc.perform(post("/api/report-jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(5))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    public void testEnqueueReportJobInvalidType() throws Exception {
+        when(reportJobService.enqueue(any(ReportJobRequestDTO.class)))
+                .thenThrow(new IllegalArgumentException("Unsupported report type: unknown"));
+
+        mockMvc.perform(post("/api/report-jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unsupported report type: unknown"));
+    }
+
+    @Test
+    public void testGetReportJob() throws Exception {
+        when(reportJobService.getJobById(5)).thenReturn(Optional.of(jobDTO));
+
+        mockMvc.perform(get("/api/report-jobs/5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.type").value("team-efficiency"));
+    }
+
+    @Test
+    public void testGetReportJobNotFound() throws Exception {
+        when(reportJobService.getJobById(99)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/report-jobs/99"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -1,7 +1,21 @@
 package com.example.backend.controllers;
 
+import com.example.backend.dto.TaskBulkResultDTO;
 import com.example.backend.dto.TaskDTO;
+import com.example.backend.dto.TaskCommentDTO;
+import com.example.backend.dto.TaskDashboardDTO;
+import com.example.backend.dto.TaskDetailsDTO;
+import com.example.backend.dto.TaskFilterDTO;
+import com.example.backend.dto.TaskFilterPageDTO;
+import com.example.backend.dto.TaskPageDTO;
+import com.example.backend.dto.TaskSliceDTO;
+import com.example.backend.dto.TaskStatusTransitionDTO;
+import com.example.backend.exceptions.TaskVersionConflictException;
+import com.example.backend.services.TaskDashboardService;
+import com.example.backend.services.TaskDetailsService;
 import com.example.backend.services.TaskService;
+import com.example.backend.services.TaskStatusTransitionService;
+import com.example.backend.services.TaskVersionTracker;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,6 +24,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -17,7 +32,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -34,6 +51,18 @@ public class TaskControllerTest {
     @Mock
     private TaskService taskService;
 
+    @Mock
+    private TaskVersionTracker taskVersionTracker;
+
+    @Mock
+    private TaskStatusTransitionService taskStatusTransitionService;
+
+    @Mock
+    private TaskDashboardService taskDashboardService;
+
+    @Mock
+    private TaskDetailsService taskDetailsService;
+
     @InjectMocks
     private TaskController taskController;
 
@@ -43,6 +72,8 @@ public class TaskControllerTest {
     @BeforeEach
     public void setup() {
         mockMvc = MockMvcBuilders.standaloneSetup(taskController).build();
+        lenient().when(taskVersionTracker.globalETag()).thenReturn("W/\"e-7\"");
+        lenient().when(taskVersionTracker.teamETag(anyInt())).thenReturn("W/\"e-t1-3\"");
         objectMapper = new ObjectMapper();
         objectMapper.findAndRegisterModules(); // For LocalDate and LocalDateTime serialization
 
@@ -80,12 +111,106 @@ public class TaskControllerTest {
         when(taskService.getAllTasks()).thenReturn(taskDTOList);
 
         // Act & Assert
-        mockMvc.perform(get("/database/tasks"))
+        mockMvc.perform(get("/database/tasks").param("unpaged", "true"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].title").value("Build Foundation"))
                 .andExpect(jsonPath("$[1].title").value("Install Plumbing"));
     }
 
+    @Test
+    public void getAllTasks_ByDefault_ShouldReturnFirstPage() throws Exception {
+        // Arrange
+        when(taskService.getTasksPage(null, null)).thenReturn(new TaskPageDTO(taskDTOList, "aWQ6Mg", 100));
+
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value("Build Foundation"))
+                .andExpect(jsonPath("$.next").value("aWQ6Mg"))
+                .andExpect(jsonPath("$.limit").value(100));
+        verify(taskService, never()).getAllTasks();
+    }
+
+    @Test
+    public void getAllTasks_ShouldReturnWeakETag() throws Exception {
+        // Arrange
+        when(taskService.getTasksPage(null, null)).thenReturn(new TaskPageDTO(taskDTOList, null, 100));
+
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks").header("If-None-Match", "W/\"e-6\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"e-7\""))
+                .andExpect(header().string("Cache-Control", "no-cache"));
+    }
+
+    @Test
+    public void getAllTasks_WithCurrentETag_ShouldReturnNotModifiedWithoutReadingTasks() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks").param("unpaged", "true").header("If-None-Match", "W/\"e-7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "W/\"e-7\""))
+                .andExpect(content().string(""));
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    public void getAllTasks_WithInvalidCursor_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(taskService.getTasksPage("bad", 10)).thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks").param("cursor", "bad").param("limit", "10"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid cursor"));
+    }
+
+    @Test
+    public void filterTasks_ShouldPassAllCriteriaToService() throws Exception {
+        // Arrange
+        TaskFilterDTO expectedFilter = new TaskFilterDTO(1, 2, 3,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), "fundament", List.of(1, 4));
+        when(taskService.filterTasks(expectedFilter, 1, 20, "deadline,desc"))
+                .thenReturn(new TaskFilterPageDTO(List.of(taskDTO), 1, 20, 21, 2));
+
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks/filter")
+                        .param("teamId", "1")
+                        .param("statusId", "2")
+                        .param("priorityId", "3")
+                        .param("deadlineFrom", "2025-01-01")
+                        .param("deadlineTo", "2025-12-31")
+                        .param("q", "fundament")
+                        .param("teamIds", "1,4")
+                        .param("page", "1")
+                        .param("size", "20")
+                        .param("sort", "deadline,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value("Build Foundation"))
+                .andExpect(jsonPath("$.totalElements").value(21))
+                .andExpect(jsonPath("$.totalPages").value(2));
+    }
+
+    @Test
+    public void filterTasks_WithInvalidDate_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks/filter").param("deadlineFrom", "2025-13-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").exists());
+        verify(taskService, never()).filterTasks(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    public void filterTasks_WithUnsupportedSort_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(taskService.filterTasks(any(TaskFilterDTO.class), eq(0), isNull(), eq("password")))
+                .thenThrow(new IllegalArgumentException("Unsupported sort: password"));
+
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks/filter").param("sort", "password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unsupported sort: password"));
+    }
+
     @Test
     public void getTaskById_WhenExists_ShouldReturnTask() throws Exception {
         // Arrange
@@ -134,6 +259,144 @@ public class TaskControllerTest {
                 .andExpect(status().isInternalServerError());
     }
 
+    @Test
+    public void saveTasksBulk_ShouldReturnSavedTasksAndItemErrors() throws Exception {
+        // Arrange
+        TaskBulkResultDTO result = new TaskBulkResultDTO(1, 0, List.of(taskDTO),
+                List.of(new TaskBulkResultDTO.ItemError(1, 99, "Nie znaleziono zadania o ID: 99")));
+        when(taskService.saveTasksBulk(anyList())).thenReturn(result);
+
+        // Act & Assert
+        mockMvc.perform(post("/database/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(taskDTOList)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdCount").value(1))
+                .andExpect(jsonPath("$.tasks[0].title").value("Build Foundation"))
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[0].id").value(99));
+    }
+
+    @Test
+    public void saveTasksBulk_WithEmptyList_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/database/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").exists());
+
+        verify(taskService, never()).saveTasksBulk(anyList());
+    }
+
+    @Test
+    public void getDashboard_ShouldReturnCountsForAllOrUserTeams() throws Exception {
+        // Arrange
+        TaskDashboardDTO all = new TaskDashboardDTO();
+        all.setTotalCount(12);
+        all.setByStatus(List.of(new TaskDashboardDTO.GroupCount(1, "W trakcie", 12, 2, 3)));
+        TaskDashboardDTO mine = new TaskDashboardDTO();
+        mine.setTotalCount(4);
+        when(taskDashboardService.getDashboard()).thenReturn(all);
+        when(taskDashboardService.getDashboardForUser(1)).thenReturn(Optional.of(mine));
+        when(taskDashboardService.getDashboardForUser(99)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks/dashboard"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(12))
+                .andExpect(jsonPath("$.byStatus[0].overdueCount").value(2));
+        mockMvc.perform(get("/database/tasks/dashboard").param("userId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(4));
+        mockMvc.perform(get("/database/tasks/dashboard").param("userId", "99"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void findTasksByTitlePrefix_ShouldReturnPageOrBadRequest() throws Exception {
+        // Arrange
+        when(taskService.findTasksByTitlePrefix("bui", 0, 5))
+                .thenReturn(new TaskSliceDTO(List.of(taskDTO), 0, 5, false));
+        when(taskService.findTasksByTitlePrefix(isNull(), eq(0), isNull()))
+                .thenThrow(new IllegalArgumentException("prefix must not be blank"));
+
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks/titles").param("prefix", "bui").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value("Build Foundation"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+        mockMvc.perform(get("/database/tasks/titles"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("prefix must not be blank"));
+    }
+
+    @Test
+    public void getTaskDetails_ShouldReturnRequestedPartsOnly() throws Exception {
+        // Arrange
+        taskDTO.setVersion(3L);
+        TaskDetailsDTO details = new TaskDetailsDTO();
+        details.setTask(taskDTO);
+        details.setComments(List.of(new TaskCommentDTO(5, 1, 1, "Beton zamówiony", null, "jan", "Jan Kowalski")));
+        when(taskDetailsService.getTaskDetails(1, EnumSet.of(TaskDetailsService.Part.COMMENTS,
+                TaskDetailsService.Part.TEAM))).thenReturn(Optional.of(details));
+
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks/1/details").param("include", "comments,Team"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.task.title").value("Build Foundation"))
+                .andExpect(jsonPath("$.comments[0].userFullName").value("Jan Kowalski"))
+                .andExpect(jsonPath("$.history").doesNotExist())
+                .andExpect(jsonPath("$.statuses").doesNotExist());
+    }
+
+    @Test
+    public void getTaskDetails_WithoutIncludeOrForMissingTask_ShouldRequestAllPartsOrReturnNotFound() throws Exception {
+        // Arrange
+        when(taskDetailsService.getTaskDetails(99, EnumSet.allOf(TaskDetailsService.Part.class)))
+                .thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks/99/details"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/database/tasks/1/details").param("include", "comments,attachments"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Nieznana część szczegółów zadania: attachments"));
+        verify(taskDetailsService, never()).getTaskDetails(eq(1), any());
+    }
+
+    @Test
+    public void transitionTasksStatus_ShouldReturnUpdatedTasksAndItemErrors() throws Exception {
+        // Arrange
+        TaskBulkResultDTO result = new TaskBulkResultDTO(0, 1, List.of(taskDTO),
+                List.of(new TaskBulkResultDTO.ItemError(1, 99, "Nie znaleziono zadania o ID: 99")));
+        when(taskStatusTransitionService.transitionStatus(any(TaskStatusTransitionDTO.class))).thenReturn(result);
+
+        // Act & Assert
+        mockMvc.perform(post("/database/tasks/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskStatusTransitionDTO(List.of(1, 99), 3, 1))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedCount").value(1))
+                .andExpect(jsonPath("$.tasks[0].id").value(1))
+                .andExpect(jsonPath("$.errors[0].id").value(99));
+    }
+
+    @Test
+    public void transitionTasksStatus_WithUnknownStatus_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(taskStatusTransitionService.transitionStatus(any(TaskStatusTransitionDTO.class)))
+                .thenThrow(new IllegalArgumentException("Nie znaleziono statusu o ID: 42"));
+
+        // Act & Assert
+        mockMvc.perform(post("/database/tasks/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskStatusTransitionDTO(List.of(1), 42, 1))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Nie znaleziono statusu o ID: 42"));
+    }
+
     @Test
     public void updateTask_WhenTaskExists_ShouldReturnUpdatedTask() throws Exception {
         // Arrange
@@ -149,7 +412,7 @@ public class TaskControllerTest {
         updatedTask.setCreatedById(1);
 
         // Mock dla metody updateTask
-        when(taskService.updateTask(any(TaskDTO.class))).thenReturn(updatedTask);
+        when(taskService.updateTask(any(TaskDTO.class), isNull())).thenReturn(updatedTask);
 
         // Act & Assert
         mockMvc.perform(put("/database/tasks/1")
@@ -158,7 +421,7 @@ public class TaskControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title").value("Updated Foundation Build"));
         System.out.println("Updated task: " + updatedTask);
-        verify(taskService).updateTask(argThat(dto -> dto.getId() == 1));
+        verify(taskService).updateTask(argThat(dto -> dto.getId() == 1), isNull());
     }
 
     @Test
@@ -177,7 +440,7 @@ public class TaskControllerTest {
     public void updateTask_WhenServiceThrowsException_ShouldReturnInternalServerError() throws Exception {
         // Arrange
         when(taskService.getTaskById(1)).thenReturn(Optional.of(taskDTO));
-        when(taskService.updateTask(any(TaskDTO.class))).thenThrow(new RuntimeException("Database error"));
+        when(taskService.updateTask(any(TaskDTO.class), isNull())).thenThrow(new RuntimeException("Database error"));
 
         // Act & Assert
         mockMvc.perform(put("/database/tasks/1")
@@ -208,6 +471,143 @@ public class TaskControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    public void partialUpdateTask_ShouldDelegateToSinglePatchOperation() throws Exception {
+        // Arrange
+        taskDTO.setStatusId(3);
+        when(taskService.patchTask(eq(1), eq(Map.of("statusId", 3)), isNull())).thenReturn(Optional.of(taskDTO));
+
+        // Act & Assert
+        mockMvc.perform(patch("/database/tasks/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"statusId\":3}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statusId").value(3));
+        verify(taskService, never()).getTaskById(anyInt());
+        verify(taskService, never()).updateTask(any(TaskDTO.class), any());
+    }
+
+    @Test
+    public void partialUpdateTask_WhenTaskDoesNotExist_ShouldReturnNotFound() throws Exception {
+        // Arrange
+        when(taskService.patchTask(eq(99), anyMap(), isNull())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(patch("/database/tasks/99")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Nowy\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void partialUpdateTask_WithInvalidValue_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(taskService.patchTask(eq(1), anyMap(), isNull()))
+                .thenThrow(new IllegalArgumentException("Nieprawidłowa data: jutro"));
+
+        // Act & Assert
+        mockMvc.perform(patch("/database/tasks/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"deadline\":\"jutro\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Nieprawidłowa data: jutro"));
+    }
+
+    @Test
+    public void getTaskById_ShouldReturnVersionAsETag() throws Exception {
+        // Arrange
+        taskDTO.setVersion(4L);
+        when(taskService.getTaskById(1)).thenReturn(Optional.of(taskDTO));
+
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.version").value(4));
+    }
+
+    @Test
+    public void updateTask_WithIfMatch_ShouldPassExpectedVersion() throws Exception {
+        // Arrange
+        when(taskService.getTaskById(1)).thenReturn(Optional.of(taskDTO));
+        TaskDTO updatedTask = new TaskDTO();
+        updatedTask.setId(1);
+        updatedTask.setTitle("Build Foundation");
+        updatedTask.setVersion(5L);
+        when(taskService.updateTask(any(TaskDTO.class), eq(4L))).thenReturn(updatedTask);
+
+        // Act & Assert
+        mockMvc.perform(put("/database/tasks/1")
+                        .header("If-Match", "\"4\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(taskDTO)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"5\""));
+    }
+
+    @Test
+    public void updateTask_WithStaleIfMatch_ShouldReturnPreconditionFailedWithCurrentTask() throws Exception {
+        // Arrange
+        when(taskService.getTaskById(1)).thenReturn(Optional.of(taskDTO));
+        TaskDTO currentTask = new TaskDTO();
+        currentTask.setId(1);
+        currentTask.setTitle("Changed by someone else");
+        currentTask.setVersion(6L);
+        when(taskService.updateTask(any(TaskDTO.class), eq(4L)))
+                .thenThrow(new TaskVersionConflictException(4L, currentTask));
+
+        // Act & Assert
+        mockMvc.perform(put("/database/tasks/1")
+                        .header("If-Match", "\"4\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(taskDTO)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string("ETag", "\"6\""))
+                .andExpect(jsonPath("$.title").value("Changed by someone else"));
+    }
+
+    @Test
+    public void partialUpdateTask_WithStaleIfMatch_ShouldReturnPreconditionFailed() throws Exception {
+        // Arrange
+        taskDTO.setVersion(6L);
+        when(taskService.patchTask(eq(1), anyMap(), eq(4L)))
+                .thenThrow(new TaskVersionConflictException(4L, taskDTO));
+
+        // Act & Assert
+        mockMvc.perform(patch("/database/tasks/1")
+                        .header("If-Match", "\"4\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"statusId\":3}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string("ETag", "\"6\""))
+                .andExpect(jsonPath("$.version").value(6));
+    }
+
+    @Test
+    public void partialUpdateTask_WithMalformedIfMatch_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(patch("/database/tasks/1")
+                        .header("If-Match", "W/\"4\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"statusId\":3}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Nieprawidłowy nagłówek If-Match"));
+        verify(taskService, never()).patchTask(anyInt(), anyMap(), any());
+    }
+
+    @Test
+    public void partialUpdateTask_WhenIfMatchRequiredAndMissing_ShouldReturnPreconditionRequired() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(taskController, "requireIfMatch", true);
+
+        // Act & Assert
+        mockMvc.perform(patch("/database/tasks/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"statusId\":3}"))
+                .andExpect(status().isPreconditionRequired());
+        verify(taskService, never()).patchTask(anyInt(), anyMap(), any());
+    }
+
     @Test
     public void getTasksByTeamId_ShouldReturnTasksForTeam() throws Exception {
         // Arrange
@@ -219,6 +619,14 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$[0].title").value("Build Foundation"));
     }
 
+    @Test
+    public void getTasksByTeamId_WithCurrentETag_ShouldReturnNotModified() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks/team/1").header("If-None-Match", "\"x\", W/\"e-t1-3\""))
+                .andExpect(status().isNotModified());
+        verify(taskService, never()).getTasksByTeamId(anyInt());
+    }
+
     @Test
     public void getTasksByStatusId_ShouldReturnTasksWithStatus() throws Exception {
         // Arrange
@@ -284,4 +692,19 @@ public class TaskControllerTest {
         mockMvc.perform(get("/database/tasks/deadline-before/invalid-date"))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getOverdueTasks_ShouldReturnOverdueTasks() throws Exception {
+        // Arrange
+        when(taskService.getOverdueTasks()).thenReturn(taskDTOList);
+        when(taskService.getOverdueTasksByTeamId(1)).thenReturn(List.of(taskDTOList.get(1)));
+
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks/overdue"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Build Foundation"));
+        mockMvc.perform(get("/database/tasks/team/1/overdue"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Install Plumbing"));
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.backend.controllers;
+
+import com.example.backend.dto.TaskDependencyDTO;
+import com.example.backend.dto.TaskScheduleDTO;
+import com.example.backend.dto.TeamScheduleDTO;
+import com.example.backend.exceptions.TaskDependencyCycleException;
+import com.example.backend.services.TaskDependencyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskDependencyControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private TaskDependencyService taskDependencyService;
+
+    @InjectMocks
+    private TaskDependencyController taskDependencyController;
+
+    @BeforeEach
+    public void setup() {
+        mockMvc = MockMvcBuilders.standaloneSetup(taskDependencyController).build();
+    }
+
+    @Test
+    public void addDependency_ShouldReturnCreatedDependency() throws Exception {
+        // Arrange
+        when(taskDependencyService.addDependency(new TaskDependencyDTO(null, 1, 2)))
+                .thenReturn(new TaskDependencyDTO(5, 1, 2));
+
+        // Act & Assert
+        mockMvc.perform(post("/database/task-dependencies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"predecessorId\":1,\"successorId\":2}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(5));
+    }
+
+    @Test
+    public void addDependency_WhenCycle_ShouldReturnConflict() throws Exception {
+        // Arrange
+        when(taskDependencyService.addDependency(any(TaskDependencyDTO.class)))
+                .thenThrow(new TaskDependencyCycleException(2, 1));
+
+        // Act & Assert
+        mockMvc.perform(post("/database/task-dependencies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"predecessorId\":2,\"successorId\":1}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Zależność utworzyłaby cykl"));
+    }
+
+    @Test
+    public void addDependency_WhenTasksInDifferentTeams_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(taskDependencyService.addDependency(any(TaskDependencyDTO.class)))
+                .thenThrow(new IllegalArgumentException("Zależności można tworzyć tylko między zadaniami tego samego zespołu"));
+
+        // Act & Assert
+        mockMvc.perform(post("/database/task-dependencies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"predecessorId\":1,\"successorId\":3}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Zależności można tworzyć tylko między zadaniami tego samego zespołu"));
+    }
+
+    @Test
+    public void addDependency_WithoutSuccessor_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/database/task-dependencies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"predecessorId\":1}"))
+                .andExpect(status().isBadRequest());
+        verify(taskDependencyService, never()).addDependency(any());
+    }
+
+    @Test
+    public void getTeamSchedule_ShouldReturnScheduleWithCriticalPath() throws Exception {
+        // Arrange
+        LocalDate start = LocalDate.of(2025, 3, 3);
+        TaskScheduleDTO task = new TaskScheduleDTO(1, 5, start, start.plusDays(4), start, start.plusDays(4), 0, true);
+        when(taskDependencyService.getTeamSchedule(7))
+                .thenReturn(Optional.of(new TeamScheduleDTO(7, start, start.plusDays(4), List.of(1), List.of(task))));
+
+        // Act & Assert
+        mockMvc.perform(get("/database/task-dependencies/team/7/schedule"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.criticalPath[0]").value(1))
+                .andExpect(jsonPath("$.tasks[0].critical").value(true))
+                .andExpect(jsonPath("$.tasks[0].slackDays").value(0));
+    }
+
+    @Test
+    public void getTeamSchedule_WhenTeamDoesNotExist_ShouldReturnNotFound() throws Exception {
+        // Arrange
+        when(taskDependencyService.getTeamSchedule(99)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/database/task-dependencies/team/99/schedule"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void deleteDependency_ShouldReturnNoContentOrNotFound() throws Exception {
+        // Arrange
+        when(taskDependencyService.deleteDependency(5)).thenReturn(true);
+        when(taskDependencyService.deleteDependency(6)).thenReturn(false);
+
+        // Act & Assert
+        mockMvc.perform(delete("/database/task-dependencies/5")).andExpect(status().isNoContent());
+        mockMvc.perform(delete("/database/task-dependencies/6")).andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.backend.controllers;
+
+import com.example.backend.dto.TaskDTO;
+import com.example.backend.dto.TaskProgressDTO;
+import com.example.backend.services.TaskHierarchyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskHierarchyControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private TaskHierarchyService taskHierarchyService;
+
+    @InjectMocks
+    private TaskHierarchyController taskHierarchyController;
+
+    @BeforeEach
+    public void setup() {
+        mockMvc = MockMvcBuilders.standaloneSetup(taskHierarchyController).build();
+    }
+
+    @Test
+    public void getSubtasks_ShouldReturnDirectSubtasks() throws Exception {
+        // Arrange
+        TaskDTO subtask = new TaskDTO();
+        subtask.setId(2);
+        subtask.setParentTaskId(1);
+        when(taskHierarchyService.getSubtasks(1)).thenReturn(Optional.of(List.of(subtask)));
+
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks/1/subtasks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[0].parentTaskId").value(1));
+    }
+
+    @Test
+    public void getSubtree_WhenTaskDoesNotExist_ShouldReturnNotFound() throws Exception {
+        // Arrange
+        when(taskHierarchyService.getSubtree(99)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks/99/subtree"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void getProgress_ShouldReturnRolledUpProgress() throws Exception {
+        // Arrange
+        when(taskHierarchyService.getProgress(3)).thenReturn(Optional.of(
+                new TaskProgressDTO(3, "/1/3/", 1, 35, false, false, 4, 1, 1, 190)));
+
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks/3/progress"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completionPercentage").value(48))
+                .andExpect(jsonPath("$.subtaskCount").value(4))
+                .andExpect(jsonPath("$.lateSubtasks").value(1))
+                .andExpect(jsonPath("$.ancestorIds", contains(1)))
+                .andExpect(jsonPath("$.path").doesNotExist());
+    }
+
+    @Test
+    public void setParent_ShouldReturnUpdatedTask() throws Exception {
+        // Arrange
+        TaskDTO task = new TaskDTO();
+        task.setId(2);
+        task.setParentTaskId(1);
+        when(taskHierarchyService.setParent(2, 1)).thenReturn(Optional.of(task));
+
+        // Act & Assert
+        mockMvc.perform(put("/database/tasks/2/parent")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"parentTaskId\":1}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parentTaskId").value(1));
+    }
+
+    @Test
+    public void setParent_WhenCycle_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(taskHierarchyService.setParent(eq(1), eq(3)))
+                .thenThrow(new IllegalArgumentException("Zadanie nie może zostać podzadaniem własnego podzadania"));
+
+        // Act & Assert
+        mockMvc.perform(put("/database/tasks/1/parent")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"parentTaskId\":3}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Nieprawidłowe zadanie nadrzędne"));
+    }
+
+    @Test
+    public void setParent_WithNullParent_ShouldDetachTask() throws Exception {
+        // Arrange
+        when(taskHierarchyService.setParent(2, null)).thenReturn(Optional.of(new TaskDTO()));
+
+        // Act & Assert
+        mockMvc.perform(put("/database/tasks/2/parent")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"parentTaskId\":null}"))
+                .andExpect(status().isOk());
+        verify(taskHierarchyService).setParent(2, null);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.backend.controllers;
+
+import com.example.backend.dto.TaskDTO;
+import com.example.backend.dto.TaskSearchHitDTO;
+import com.example.backend.dto.TaskSearchResultDTO;
+import com.example.backend.search.TaskSearchIndex;
+import com.example.backend.services.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskSearchControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @InjectMocks
+    private TaskSearchController taskSearchController;
+
+    @BeforeEach
+    public void setup() {
+        mockMvc = MockMvcBuilders.standaloneSetup(taskSearchController).build();
+    }
+
+    @Test
+    public void searchTasks_ShouldReturnRankedHits() throws Exception {
+        // Arrange
+        TaskDTO task = new TaskDTO();
+        task.setId(7);
+        task.setTitle("Wylanie fundamentów");
+        when(taskSearchIndex.search("fundamenty", 1, 5))
+                .thenReturn(new TaskSearchResultDTO(List.of(new TaskSearchHitDTO(task, 2.5)), 6, 1, 5));
+
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks/search").param("q", "fundamenty").param("page", "1").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits[0].task.id").value(7))
+                .andExpect(jsonPath("$.hits[0].score").value(2.5))
+                .andExpect(jsonPath("$.totalHits").value(6));
+    }
+
+    @Test
+    public void searchTasks_ShouldCapPageSize() throws Exception {
+        // Arrange
+        when(taskSearchIndex.search("dach", 0, TaskService.MAX_PAGE_SIZE))
+                .thenReturn(new TaskSearchResultDTO(List.of(), 0, 0, TaskService.MAX_PAGE_SIZE));
+
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks/search").param("q", "dach").param("size", "100000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(TaskService.MAX_PAGE_SIZE));
+    }
+
+    @Test
+    public void searchTasks_WithBlankQuery_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/database/tasks/search").param("q", " "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").exists());
+        verify(taskSearchIndex, never()).search(anyString(), anyInt(), anyInt());
+    }
+}
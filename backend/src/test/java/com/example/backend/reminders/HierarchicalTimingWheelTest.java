@@ -0,0 +1,117 @@
+package com.example.backend.reminders;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void advanceTo_ShouldFireEntriesAtTheirTickAcrossLevels() {
+        HierarchicalTimingWheel<String, Long> wheel = new HierarchicalTimingWheel<>(3, 1000);
+        wheel.schedule("soon", 1005L, 1005);
+        wheel.schedule("level1", 1700L, 1700);
+        wheel.schedule("level2", 200_000L, 200_000);
+        List<Long> fired = new ArrayList<>();
+
+        wheel.advanceTo(1699, (key, tick) -> fired.add(tick));
+        assertEquals(List.of(1005L), fired);
+
+        wheel.advanceTo(1700, (key, tick) -> fired.add(wheel.currentTick()));
+        assertEquals(List.of(1005L, 1700L), fired);
+
+        wheel.advanceTo(199_999, (key, tick) -> fired.add(tick));
+        assertEquals(1, wheel.size());
+        wheel.advanceTo(250_000, (key, tick) -> fired.add(wheel.currentTick()));
+        assertEquals(List.of(1005L, 1700L, 200_000L), fired);
+        assertEquals(250_000, wheel.currentTick());
+    }
+
+    @Test
+    void schedule_ShouldReplaceAndCancelEntriesOfTheSameKey() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(2, 0);
+        wheel.schedule("task", "first", 100);
+        wheel.schedule("task", "second", 50);
+        wheel.schedule("other", "other", 10);
+        assertTrue(wheel.cancel("other"));
+        assertFalse(wheel.cancel("other"));
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(200, (key, value) -> fired.add(value));
+
+        assertEquals(List.of("second"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void schedule_InThePastShouldFireOnNextTickAndBeyondHorizonShouldBeRejected() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(2, 500);
+        wheel.schedule("late", "late", 10);
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule("far", "far", 500 + wheel.horizon()));
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(501, (key, value) -> fired.add(value));
+        assertEquals(List.of("late"), fired);
+    }
+
+    @Test
+    void expiredAction_MayCancelAndRescheduleEntries() {
+        HierarchicalTimingWheel<Integer, Integer> wheel = new HierarchicalTimingWheel<>(2, 0);
+        wheel.schedule(1, 1, 5);
+        wheel.schedule(2, 2, 5);
+        wheel.schedule(3, 3, 5);
+        List<Integer> fired = new ArrayList<>();
+
+        wheel.advanceTo(20, (key, value) -> {
+            fired.add(key);
+            if (fired.size() == 1) {
+                // Cancel one neighbour in the same slot and move the other one later
+                int other = key == 1 ? 2 : 1;
+                wheel.cancel(other);
+                wheel.schedule(6 - key - other, 0, 12);
+            }
+        });
+
+        assertEquals(2, fired.size());
+        assertEquals(0, wheel.size());
+        assertEquals(20, wheel.currentTick());
+    }
+
+    @Test
+    void randomOperations_ShouldMatchExpiryOrder() {
+        Random random = new Random(7);
+        HierarchicalTimingWheel<Integer, Long> wheel = new HierarchicalTimingWheel<>(4, 0);
+        Map<Integer, Long> expected = new HashMap<>();
+        long now = 0;
+
+        for (int step = 0; step < 20_000; step++) {
+            int key = random.nextInt(2000);
+            int operation = random.nextInt(10);
+            if (operation < 6) {
+                long expiry = now + 1 + (long) Math.pow(random.nextInt(1000), random.nextInt(3) + 1) % 5_000_000;
+                wheel.schedule(key, expiry, expiry);
+                expected.put(key, expiry);
+            } else if (operation < 8) {
+                assertEquals(expected.remove(key) != null, wheel.cancel(key));
+            } else {
+                long target = now + random.nextInt(50_000);
+                long from = now;
+                wheel.advanceTo(target, (firedKey, expiry) -> {
+                    assertEquals(expected.remove(firedKey), expiry);
+                    assertEquals(expiry.longValue(), wheel.currentTick());
+                    assertTrue(expiry > from && expiry <= target);
+                });
+                now = target;
+                long current = now;
+                assertTrue(expected.values().stream().allMatch(expiry -> expiry > current));
+            }
+            assertEquals(expected.size(), wheel.size());
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.backend.reminders;
+
+import com.example.backend.dto.TaskReminderDTO;
+import com.example.backend.models.Task;
+import com.example.backend.models.TaskReminderDelivery;
+import com.example.backend.repository.TaskReminderDeliveryRepository;
+import com.example.backend.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskReminderSchedulerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 3);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskReminderDeliveryRepository deliveryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final MutableClock clock = new MutableClock(TODAY.atTime(9, 30).toInstant(ZoneOffset.UTC));
+    private final List<TaskReminderDTO> delivered = new ArrayList<>();
+    private final List<TaskReminderDTO> openTasks = new ArrayList<>();
+    private TaskReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new TaskReminderScheduler(taskRepository, deliveryRepository, List.of(delivered::add),
+                transactionManager, clock, true, 1, 7);
+        // Reminders are checked against the current deadlines in the database before delivery
+        lenient().when(taskRepository.findOpenAsReminderByIdIn(anyCollection())).thenReturn(openTasks);
+    }
+
+    private Task task(int id, LocalDate deadline, LocalDate completedDate) {
+        Task task = new Task();
+        task.setId(id);
+        task.setDeadline(deadline);
+        task.setCompletedDate(completedDate);
+        return task;
+    }
+
+    @Test
+    void start_ShouldLoadWindowAndDeliverRemindersTheDayBeforeDeadline() {
+        // Arrange
+        TaskReminderDTO dueTomorrow = new TaskReminderDTO(1, TODAY.plusDays(1));
+        TaskReminderDTO dueInFiveDays = new TaskReminderDTO(2, TODAY.plusDays(5));
+        openTasks.addAll(List.of(dueTomorrow, dueInFiveDays));
+        when(taskRepository.findOpenAsReminderByDeadlineBetween(TODAY, TODAY.plusDays(7)))
+                .thenReturn(List.of(dueTomorrow, dueInFiveDays));
+
+        // Act - reminders that are already due go out on the next tick
+        scheduler.start();
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.tick();
+
+        // Assert - the reminder for tomorrow's deadline was due at midnight today
+        assertEquals(List.of(dueTomorrow), delivered);
+        assertEquals(1, scheduler.scheduledCount());
+
+        clock.advance(Duration.ofDays(3));
+        scheduler.tick();
+        assertEquals(List.of(dueTomorrow), delivered);
+        clock.advance(Duration.ofDays(1));
+        scheduler.tick();
+        assertEquals(List.of(dueTomorrow, dueInFiveDays), delivered);
+    }
+
+    @Test
+    void tick_ShouldLoadNextWindowTheDayBeforeItsFirstReminder() {
+        // Arrange
+        when(taskRepository.findOpenAsReminderByDeadlineBetween(any(), any())).thenReturn(List.of());
+        scheduler.start();
+
+        // Act - window [today, today+7) needs no extension until its reminders run out
+        clock.advance(Duration.ofDays(4));
+        scheduler.tick();
+        verify(taskRepository, never()).findOpenAsReminderByDeadlineBetween(TODAY.plusDays(7), TODAY.plusDays(14));
+        clock.advance(Duration.ofDays(1));
+        scheduler.tick();
+
+        // Assert
+        verify(taskRepository).findOpenAsReminderByDeadlineBetween(TODAY.plusDays(7), TODAY.plusDays(14));
+    }
+
+    @Test
+    void tasksChanged_ShouldRescheduleOrCancelInsideLoadedWindowOnly() {
+        // Arrange
+        when(taskRepository.findOpenAsReminderByDeadlineBetween(TODAY, TODAY.plusDays(7)))
+                .thenReturn(List.of(new TaskReminderDTO(1, TODAY.plusDays(3)), new TaskReminderDTO(2, TODAY.plusDays(4))));
+        scheduler.start();
+
+        // Act
+        scheduler.tasksChanged(List.of(
+                task(1, TODAY.plusDays(30), null),
+                task(2, TODAY.plusDays(4), TODAY),
+                task(3, TODAY.plusDays(2), null)));
+
+        // Assert
+        assertFalse(scheduler.isScheduled(1));
+        assertFalse(scheduler.isScheduled(2));
+        assertTrue(scheduler.isScheduled(3));
+        scheduler.taskRemoved(3);
+        assertEquals(0, scheduler.scheduledCount());
+    }
+
+    @Test
+    void tick_WhenDeadlineChangedElsewhere_ShouldFollowCurrentDeadline() {
+        // Arrange
+        when(taskRepository.findOpenAsReminderByDeadlineBetween(TODAY, TODAY.plusDays(7)))
+                .thenReturn(List.of(new TaskReminderDTO(1, TODAY.plusDays(1))));
+        openTasks.add(new TaskReminderDTO(1, TODAY.plusDays(3)));
+        scheduler.start();
+
+        // Act
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.tick();
+
+        // Assert
+        assertTrue(delivered.isEmpty());
+        assertTrue(scheduler.isScheduled(1));
+        clock.advance(Duration.ofDays(2));
+        scheduler.tick();
+        assertEquals(List.of(new TaskReminderDTO(1, TODAY.plusDays(3))), delivered);
+    }
+
+    @Test
+    void tick_WhenAnotherInstanceRecordedDelivery_ShouldNotDeliverAgain() {
+        // Arrange
+        TaskReminderDTO dueTomorrow = new TaskReminderDTO(1, TODAY.plusDays(1));
+        TaskReminderDTO alsoDueTomorrow = new TaskReminderDTO(2, TODAY.plusDays(1));
+        openTasks.addAll(List.of(dueTomorrow, alsoDueTomorrow));
+        when(taskRepository.findOpenAsReminderByDeadlineBetween(TODAY, TODAY.plusDays(7)))
+                .thenReturn(List.of(dueTomorrow, alsoDueTomorrow));
+        when(taskRepository.getReferenceById(anyInt())).thenAnswer(invocation ->
+                task(invocation.getArgument(0), null, null));
+        // Task 1's reminder has already been recorded by another instance
+        when(deliveryRepository.saveAndFlush(any(TaskReminderDelivery.class))).thenAnswer(invocation -> {
+            TaskReminderDelivery delivery = invocation.getArgument(0);
+            if (delivery.getTask().getId() == 1) {
+                throw new DataIntegrityViolationException("uk_task_reminder_deliveries_task_deadline");
+            }
+            return delivery;
+        });
+        scheduler.start();
+
+        // Act
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.tick();
+
+        // Assert
+        assertEquals(List.of(alsoDueTomorrow), delivered);
+        verify(deliveryRepository, times(2)).saveAndFlush(any(TaskReminderDelivery.class));
+        verify(deliveryRepository).deleteByDeadlineBefore(TODAY);
+    }
+
+    @Test
+    void disabledScheduler_ShouldNotTouchDatabase() {
+        // Arrange
+        TaskReminderScheduler disabled = new TaskReminderScheduler(taskRepository, deliveryRepository,
+                List.of(delivered::add), transactionManager, clock, false, 1, 7);
+
+        // Act
+        disabled.start();
+        disabled.tick();
+        disabled.tasksChanged(List.of(task(1, TODAY.plusDays(1), null)));
+
+        // Assert
+        verifyNoInteractions(taskRepository, deliveryRepository);
+        assertEquals(0, disabled.scheduledCount());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.backend.reporting;
+
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.PdfWriter;
+import com.itextpdf.text.pdf.SimpleBookmark;
+import com.itextpdf.text.pdf.parser.PdfTextExtractor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelPdfSectionRendererTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ExecutorService executor;
+    private ParallelPdfSectionRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+        renderer = new ParallelPdfSectionRenderer(executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Sekcja testowa: nazwa, liczba stron i opóźnienie renderowania.
+     */
+    private record Section(String name, int pages, long delayMillis) {
+    }
+
+    private void writeSection(Section section, OutputStream out) throws DocumentException {
+        try {
+            // Earlier sections finish last, so completion order differs from report order
+            Thread.sleep(section.delayMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Document document = new Document(PageSize.A4);
+        PdfWriter.getInstance(document, out);
+        document.open();
+        for (int page = 1; page <= section.pages(); page++) {
+            if (page > 1) {
+                document.newPage();
+            }
+            document.add(new Paragraph(section.name() + " strona " + page));
+        }
+        document.close();
+    }
+
+    @Test
+    void render_ShouldMergeSectionsInGivenOrderAfterTableOfContents() throws Exception {
+        List<Section> sections = List.of(
+                new Section("Sekcja A", 2, 300),
+                new Section("Sekcja B", 1, 150),
+                new Section("Sekcja C", 3, 0));
+        Path output = tempDir.resolve("reports").resolve("merged.pdf");
+
+        renderer.render("Raport testowy", List.of("Okres: 2024-03-01 - 2024-03-31"), sections,
+                Section::name, this::writeSection, PageSize.A4, output);
+
+        assertTrue(Files.exists(output));
+        PdfReader reader = new PdfReader(output.toString());
+        try {
+            assertEquals(1 + 2 + 1 + 3, reader.getNumberOfPages());
+
+            String toc = PdfTextExtractor.getTextFromPage(reader, 1);
+            assertTrue(toc.contains("Raport testowy"));
+            assertTrue(toc.indexOf("Sekcja A") < toc.indexOf("Sekcja B"));
+            assertTrue(toc.indexOf("Sekcja B") < toc.indexOf("Sekcja C"));
+
+            List<String> pages = new ArrayList<>();
+            for (int page = 2; page <= reader.getNumberOfPages(); page++) {
+                pages.add(PdfTextExtractor.getTextFromPage(reader, page).trim());
+            }
+            assertEquals(List.of("Sekcja A strona 1", "Sekcja A strona 2", "Sekcja B strona 1",
+                    "Sekcja C strona 1", "Sekcja C strona 2", "Sekcja C strona 3"), pages);
+
+            List<HashMap<String, Object>> bookmarks = SimpleBookmark.getBookmark(reader);
+            assertEquals(List.of("Sekcja A", "Sekcja B", "Sekcja C"),
+                    bookmarks.stream().map(bookmark -> bookmark.get("Title")).toList());
+            assertEquals(List.of("2", "4", "5"), bookmarks.stream()
+                    .map(bookmark -> ((String) bookmark.get("Page")).split(" ")[0]).toList());
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    void render_WhenSectionFails_ShouldReportErrorWithoutWritingFile() {
+        List<Section> sections = List.of(new Section("Sekcja A", 1, 0), new Section("Sekcja B", 1, 0));
+        Path output = tempDir.resolve("failed.pdf");
+
+        IOException error = assertThrows(IOException.class, () -> renderer.render("Raport testowy", List.of(),
+                sections, Section::name, (section, out) -> {
+                    if (section.name().equals("Sekcja B")) {
+                        throw new IOException("Brak danych sekcji");
+                    }
+                    writeSection(section, out);
+                }, PageSize.A4, output));
+
+        assertEquals("Brak danych sekcji", error.getCause().getMessage());
+        assertFalse(Files.exists(output));
+    }
+}
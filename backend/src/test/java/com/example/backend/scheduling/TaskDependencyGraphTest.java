@@ -0,0 +1,182 @@
+package com.example.backend.scheduling;
+
+import com.example.backend.dto.TaskDTO;
+import com.example.backend.dto.TaskDependencyDTO;
+import com.example.backend.dto.TaskScheduleDTO;
+import com.example.backend.dto.TeamScheduleDTO;
+import com.example.backend.exceptions.TaskDependencyCycleException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskDependencyGraphTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 3, 3);
+
+    private List<TaskDTO> tasks;
+    private List<TaskDependencyDTO> dependencies;
+
+    @BeforeEach
+    void setUp() {
+        // Foundation (5 days) -> walls (10) -> roof (4); installations (3) can run alongside the walls
+        tasks = new ArrayList<>(List.of(
+                task(1, START, START.plusDays(4)),
+                task(2, START, START.plusDays(9)),
+                task(3, START, START.plusDays(3)),
+                task(4, START, START.plusDays(2))));
+        dependencies = new ArrayList<>(List.of(
+                new TaskDependencyDTO(null, 1, 2),
+                new TaskDependencyDTO(null, 2, 3),
+                new TaskDependencyDTO(null, 1, 4),
+                new TaskDependencyDTO(null, 4, 3)));
+    }
+
+    @Test
+    void schedule_ShouldComputeEarliestAndLatestDatesSlackAndCriticalPath() {
+        TeamScheduleDTO schedule = TaskDependencyGraph.build(tasks, dependencies, START).schedule(7);
+        Map<Integer, TaskScheduleDTO> byTask = byTask(schedule);
+
+        assertEquals(7, schedule.getTeamId());
+        assertEquals(START, schedule.getProjectStart());
+        assertEquals(START.plusDays(18), schedule.getProjectFinish());
+        assertEquals(List.of(1, 2, 3), schedule.getCriticalPath());
+
+        TaskScheduleDTO walls = byTask.get(2);
+        assertEquals(START.plusDays(5), walls.getEarliestStart());
+        assertEquals(START.plusDays(14), walls.getEarliestFinish());
+        assertEquals(0, walls.getSlackDays());
+        assertTrue(walls.isCritical());
+
+        TaskScheduleDTO installations = byTask.get(4);
+        assertEquals(START.plusDays(5), installations.getEarliestStart());
+        assertEquals(START.plusDays(12), installations.getLatestStart());
+        assertEquals(START.plusDays(14), installations.getLatestFinish());
+        assertEquals(7, installations.getSlackDays());
+        assertFalse(installations.isCritical());
+    }
+
+    @Test
+    void addDependency_ShouldRejectCyclesAndKeepGraphUnchanged() {
+        TaskDependencyGraph graph = TaskDependencyGraph.build(tasks, dependencies, START);
+        TeamScheduleDTO before = graph.schedule(7);
+
+        assertTrue(graph.wouldCreateCycle(3, 1));
+        assertTrue(graph.wouldCreateCycle(2, 2));
+        assertFalse(graph.wouldCreateCycle(4, 2));
+        assertThrows(TaskDependencyCycleException.class, () -> graph.addDependency(3, 1));
+        assertThrows(TaskDependencyCycleException.class, () -> graph.addDependency(4, 4));
+
+        assertEquals(before, graph.schedule(7));
+    }
+
+    @Test
+    void addDependency_AgainstTopologicalOrder_ShouldReorderAndPropagate() {
+        // Task 5 is appended last; making it a predecessor of the foundation forces a reorder
+        TaskDependencyGraph graph = TaskDependencyGraph.build(tasks, dependencies, START);
+        graph.putTask(5, START, START.plusDays(1));
+        graph.addDependency(5, 1);
+
+        TeamScheduleDTO schedule = graph.schedule(7);
+        assertEquals(List.of(5, 1, 2, 3), schedule.getCriticalPath());
+        assertEquals(START.plusDays(20), schedule.getProjectFinish());
+        assertEquals(List.of(5, 1), schedule.getTasks().stream().limit(2).map(TaskScheduleDTO::getTaskId).toList());
+        assertThrows(TaskDependencyCycleException.class, () -> graph.addDependency(3, 5));
+    }
+
+    @Test
+    void putTask_WithNewDates_ShouldShiftDependentTasks() {
+        TaskDependencyGraph graph = TaskDependencyGraph.build(tasks, dependencies, START);
+
+        // Installations grow to 12 days and take over the critical path
+        graph.putTask(4, START.plusDays(5), START.plusDays(16));
+
+        TeamScheduleDTO schedule = graph.schedule(7);
+        assertEquals(List.of(1, 4, 3), schedule.getCriticalPath());
+        assertEquals(START.plusDays(20), schedule.getProjectFinish());
+        assertEquals(2, byTask(schedule).get(2).getSlackDays());
+    }
+
+    @Test
+    void incrementalUpdates_ShouldMatchFullRebuild() {
+        Random random = new Random(42);
+        int size = 2000;
+        List<TaskDTO> randomTasks = new ArrayList<>();
+        for (int id = 1; id <= size; id++) {
+            randomTasks.add(randomTask(random, id));
+        }
+        List<TaskDependencyDTO> randomDependencies = new ArrayList<>();
+        TaskDependencyGraph graph = TaskDependencyGraph.build(randomTasks, List.of(), START);
+
+        for (int step = 0; step < 3000; step++) {
+            int from = 1 + random.nextInt(size);
+            int to = 1 + random.nextInt(size);
+            if (random.nextInt(4) == 0) {
+                TaskDTO changed = randomTask(random, from);
+                randomTasks.set(from - 1, changed);
+                graph.putTask(from, changed.getStartDate(), changed.getDeadline());
+            } else if (!graph.wouldCreateCycle(from, to)) {
+                graph.addDependency(from, to);
+                randomDependencies.add(new TaskDependencyDTO(null, from, to));
+            } else {
+                assertThrows(TaskDependencyCycleException.class, () -> graph.addDependency(from, to));
+            }
+        }
+        TaskDependencyDTO removed = randomDependencies.remove(randomDependencies.size() / 2);
+        graph.removeDependency(removed.getPredecessorId(), removed.getSuccessorId());
+
+        TeamScheduleDTO incremental = graph.schedule(1);
+        TeamScheduleDTO rebuilt = TaskDependencyGraph.build(randomTasks, randomDependencies, START).schedule(1);
+        assertEquals(rebuilt.getProjectStart(), incremental.getProjectStart());
+        assertEquals(rebuilt.getProjectFinish(), incremental.getProjectFinish());
+        assertEquals(byTask(rebuilt), byTask(incremental));
+
+        // The maintained order must still be topological
+        Map<Integer, Integer> positions = new HashMap<>();
+        List<TaskScheduleDTO> ordered = incremental.getTasks();
+        for (int i = 0; i < ordered.size(); i++) {
+            positions.put(ordered.get(i).getTaskId(), i);
+        }
+        for (TaskDependencyDTO dependency : randomDependencies) {
+            assertTrue(positions.get(dependency.getPredecessorId()) < positions.get(dependency.getSuccessorId()));
+        }
+    }
+
+    @Test
+    void emptyGraph_ShouldReturnEmptySchedule() {
+        TeamScheduleDTO schedule = TaskDependencyGraph.build(List.of(), List.of(), START).schedule(7);
+
+        assertNull(schedule.getProjectStart());
+        assertTrue(schedule.getTasks().isEmpty());
+        assertTrue(schedule.getCriticalPath().isEmpty());
+    }
+
+    private TaskDTO randomTask(Random random, int id) {
+        if (random.nextInt(3) == 0) {
+            return task(id, null, null);
+        }
+        LocalDate start = START.plusDays(random.nextInt(60));
+        return task(id, start, start.plusDays(random.nextInt(15)));
+    }
+
+    private TaskDTO task(int id, LocalDate startDate, LocalDate deadline) {
+        TaskDTO task = new TaskDTO();
+        task.setId(id);
+        task.setStartDate(startDate);
+        task.setDeadline(deadline);
+        return task;
+    }
+
+    private Map<Integer, TaskScheduleDTO> byTask(TeamScheduleDTO schedule) {
+        return schedule.getTasks().stream().collect(Collectors.toMap(TaskScheduleDTO::getTaskId, Function.identity()));
+    }
+}
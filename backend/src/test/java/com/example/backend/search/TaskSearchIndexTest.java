@@ -0,0 +1,144 @@
+package com.example.backend.search;
+
+import com.example.backend.dto.TaskDTO;
+import com.example.backend.dto.TaskSearchHitDTO;
+import com.example.backend.dto.TaskSearchResultDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskSearchIndexTest {
+
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskSearchIndex();
+    }
+
+    private TaskDTO task(int id, String title, String description) {
+        TaskDTO task = new TaskDTO();
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        return task;
+    }
+
+    private List<Integer> ids(TaskSearchResultDTO result) {
+        return result.getHits().stream().map(hit -> hit.getTask().getId()).toList();
+    }
+
+    @Test
+    void analyze_ShouldLowercaseFoldDiacriticsAndStem() {
+        PolishTextAnalyzer analyzer = new PolishTextAnalyzer();
+
+        assertEquals(List.of("fundament", "scian", "zolt"),
+                analyzer.analyze("Fundamentów i ŚCIANY żółte"));
+        assertEquals(analyzer.analyze("fundamenty"), analyzer.analyze("fundamentu"));
+        assertEquals(List.of("dach"), analyzer.analyze("dach"));
+        assertEquals(List.of("b12"), analyzer.analyze("B12"));
+        assertTrue(analyzer.analyze("  ").isEmpty());
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesAboveDescriptionMatches() {
+        index.index(task(1, "Zamówienie materiałów", "Beton na fundamenty"));
+        index.index(task(2, "Wylanie fundamentów", "Szalunek i zbrojenie"));
+        index.index(task(3, "Montaż okien", "Okna na parterze"));
+
+        TaskSearchResultDTO result = index.search("fundament", 0, 10);
+
+        assertEquals(2, result.getTotalHits());
+        assertEquals(List.of(2, 1), ids(result));
+        assertTrue(result.getHits().get(0).getScore() > result.getHits().get(1).getScore());
+    }
+
+    @Test
+    void search_ShouldMatchAnyTermAndPreferDocumentsMatchingMore() {
+        index.index(task(1, "Montaż okien", null));
+        index.index(task(2, "Montaż drzwi", null));
+        index.index(task(3, "Montaż okien i drzwi", null));
+
+        TaskSearchResultDTO result = index.search("okien drzwi", 0, 10);
+
+        assertEquals(3, result.getTotalHits());
+        assertEquals(3, ids(result).get(0));
+    }
+
+    @Test
+    void search_ShouldPaginateRankedHits() {
+        IntStream.rangeClosed(1, 25).forEach(i -> index.index(task(i, "Ściana " + i, null)));
+
+        TaskSearchResultDTO secondPage = index.search("ściany", 1, 10);
+        TaskSearchResultDTO lastPage = index.search("ściany", 2, 10);
+
+        assertEquals(25, secondPage.getTotalHits());
+        assertEquals(IntStream.rangeClosed(11, 20).boxed().toList(), ids(secondPage));
+        assertEquals(5, lastPage.getHits().size());
+    }
+
+    @Test
+    void indexAndRemove_ShouldUpdateIndexIncrementally() {
+        index.index(task(1, "Wylanie fundamentów", null));
+        index.index(task(1, "Montaż dachu", null));
+
+        assertEquals(0, index.search("fundament", 0, 10).getTotalHits());
+        assertEquals(List.of(1), ids(index.search("dach", 0, 10)));
+
+        index.remove(1);
+
+        assertEquals(0, index.size());
+        assertEquals(0, index.search("dach", 0, 10).getTotalHits());
+    }
+
+    @Test
+    void rebuild_ShouldReplaceIndexContents() {
+        index.index(task(1, "Stare zadanie", null));
+
+        int count = index.rebuild(() -> IntStream.rangeClosed(10, 1009)
+                .mapToObj(i -> task(i, "Zadanie " + i, i % 2 == 0 ? "Instalacja elektryczna" : "Instalacja wodna"))
+                .toList());
+
+        assertEquals(1000, count);
+        assertEquals(1000, index.size());
+        assertEquals(0, index.search("stare", 0, 10).getTotalHits());
+        assertEquals(500, index.search("elektryczna", 0, 10).getTotalHits());
+        TaskSearchHitDTO best = index.search("1009", 0, 1).getHits().get(0);
+        assertEquals(1009, best.getTask().getId());
+    }
+
+    @Test
+    void rebuild_ShouldReapplyChangesMadeWhileTasksWereBeingLoaded() {
+        index.rebuild(() -> {
+            // The first chunk was read before these changes were committed
+            List<TaskDTO> firstChunk = List.of(task(1, "Wylanie fundamentów", null), task(2, "Montaż okien", null));
+            index.index(task(1, "Montaż dachu", null));
+            index.remove(2);
+            index.index(task(3, "Ocieplenie ścian", null));
+            return firstChunk;
+        });
+
+        assertEquals(2, index.size());
+        assertEquals(0, index.search("fundament", 0, 10).getTotalHits());
+        assertEquals(List.of(1), ids(index.search("dach", 0, 10)));
+        assertEquals(0, index.search("okien", 0, 10).getTotalHits());
+        assertEquals(List.of(3), ids(index.search("ocieplenie", 0, 10)));
+    }
+
+    @Test
+    void rebuild_WhenLoadingFails_ShouldKeepIndexAndStopBufferingChanges() {
+        index.index(task(1, "Wylanie fundamentów", null));
+
+        assertThrows(IllegalStateException.class, () -> index.rebuild(() -> {
+            throw new IllegalStateException("Brak połączenia z bazą");
+        }));
+        index.index(task(2, "Montaż okien", null));
+        index.rebuild(List::of);
+
+        assertEquals(0, index.size());
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.backend.services;
+
+import com.example.backend.models.ScanWatermark;
+import com.example.backend.models.Task;
+import com.example.backend.models.Team;
+import com.example.backend.repository.OverdueTaskRepository;
+import com.example.backend.repository.ScanWatermarkRepository;
+import com.example.backend.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OverdueTaskServiceTest {
+
+    @Mock
+    private OverdueTaskRepository overdueTaskRepository;
+
+    @Mock
+    private ScanWatermarkRepository scanWatermarkRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskHierarchyService taskHierarchyService;
+
+    @Mock
+    private TeamTaskCounterService teamTaskCounterService;
+
+    @InjectMocks
+    private OverdueTaskService overdueTaskService;
+
+    private final LocalDate today = LocalDate.now();
+
+    private Task task(int id, LocalDate deadline, LocalDate completedDate) {
+        Task task = new Task();
+        task.setId(id);
+        task.setDeadline(deadline);
+        task.setCompletedDate(completedDate);
+        return task;
+    }
+
+    private ScanWatermark watermark(LocalDate date) {
+        ScanWatermark watermark = new ScanWatermark(OverdueTaskService.WATERMARK_NAME);
+        watermark.setWatermark(date);
+        return watermark;
+    }
+
+    @Test
+    void scan_ShouldOnlyLookAtDeadlinesSinceWatermarkAndAdvanceIt() {
+        // Arrange
+        ScanWatermark watermark = watermark(today.minusDays(2));
+        Task subtask = task(5, today.minusDays(1), null);
+        when(scanWatermarkRepository.findLockedByName(OverdueTaskService.WATERMARK_NAME))
+                .thenReturn(Optional.of(watermark));
+        when(overdueTaskRepository.insertOpenTasksWithDeadlineBetween(eq(today.minusDays(2)), eq(today),
+                any(LocalDateTime.class))).thenReturn(3);
+        when(taskRepository.findOpenSubtasksWithDeadlineBetween(today.minusDays(2), today))
+                .thenReturn(List.of(subtask));
+
+        // Act
+        int added = overdueTaskService.scan();
+
+        // Assert
+        assertEquals(3, added);
+        assertEquals(today, watermark.getWatermark());
+        verify(overdueTaskRepository).deleteResolved(today);
+        verify(taskHierarchyService).tasksChanged(List.of(subtask));
+        verify(teamTaskCounterService).overdueChangedForAllTeams();
+    }
+
+    @Test
+    void scan_WhenAlreadyScannedToday_ShouldDoNothing() {
+        // Arrange
+        when(scanWatermarkRepository.findLockedByName(OverdueTaskService.WATERMARK_NAME))
+                .thenReturn(Optional.of(watermark(today)));
+
+        // Act & Assert
+        assertEquals(0, overdueTaskService.scan());
+        verifyNoInteractions(overdueTaskRepository, taskRepository, taskHierarchyService, teamTaskCounterService);
+    }
+
+    @Test
+    void scan_WithoutWatermark_ShouldCreateItAndScanFromEarliestDate() {
+        // Arrange
+        when(scanWatermarkRepository.findLockedByName(OverdueTaskService.WATERMARK_NAME)).thenReturn(Optional.empty());
+        when(scanWatermarkRepository.save(any(ScanWatermark.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        overdueTaskService.scan();
+
+        // Assert
+        verify(overdueTaskRepository).insertOpenTasksWithDeadlineBetween(eq(OverdueTaskService.EARLIEST_DEADLINE),
+                eq(today), any(LocalDateTime.class));
+    }
+
+    @Test
+    void tasksChanged_ShouldUnmarkResolvedTasksAndLowerWatermarkForOverdueOnes() {
+        // Arrange
+        Team team = new Team();
+        team.setId(7);
+        Task completed = task(1, today.minusDays(3), today);
+        completed.setTeam(team);
+        when(overdueTaskRepository.deleteByTaskIdIn(List.of(1, 2))).thenReturn(1);
+
+        // Act
+        overdueTaskService.tasksChanged(List.of(
+                completed,
+                task(2, today.plusDays(3), null),
+                task(3, today.minusDays(5), null),
+                task(4, today.minusDays(1), null)));
+
+        // Assert
+        verify(overdueTaskRepository).deleteByTaskIdIn(List.of(1, 2));
+        verify(scanWatermarkRepository).lowerWatermark(OverdueTaskService.WATERMARK_NAME, today.minusDays(5));
+        verify(teamTaskCounterService).overdueChanged(Arrays.asList(7, null));
+    }
+
+    @Test
+    void tasksCreated_ShouldNeverDeleteAndSkipTasksThatAreNotOverdue() {
+        // Act
+        overdueTaskService.tasksCreated(List.of(task(1, today, null), task(2, null, null)));
+
+        // Assert
+        verify(overdueTaskRepository, never()).deleteByTaskIdIn(anyList());
+        verifyNoInteractions(scanWatermarkRepository);
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.reports.ConstructionProgressItemDTO;
+import com.example.backend.dto.reports.EmployeeLoadItemDTO;
+import com.example.backend.dto.reports.ReportBundleDTO;
+import com.example.backend.dto.reports.TeamEfficiencyItemDTO;
+import com.example.backend.models.*;
+import com.example.backend.repository.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReportDataServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private TeamMemberRepository teamMemberRepository;
+
+    @Mock
+    private TaskCommentRepository taskCommentRepository;
+
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private ReportDataService reportDataService;
+
+    private User manager;
+    private User worker;
+    private User administrator;
+    private Team alpha;
+    private Team beta;
+    private TaskStatus inProgress;
+
+    @BeforeEach
+    void setUp() {
+        manager = user(1, "Jan", "Kowalski", "kierownik");
+        worker = user(2, "Anna", "Nowak", "pracownik");
+        administrator = user(3, "Adam", "Admin", "administrator");
+
+        alpha = team(10, "Alpha");
+        beta = team(20, "Beta");
+
+        inProgress = new TaskStatus();
+        inProgress.setId(1);
+        inProgress.setName("W trakcie");
+        inProgress.setProgressMin(40);
+
+        when(userRepository.findAll()).thenReturn(List.of(manager, worker, administrator));
+        when(teamRepository.findAll()).thenReturn(List.of(alpha, beta));
+        when(teamMemberRepository.findActiveWithTeamAndUser()).thenReturn(List.of(
+                membership(manager, alpha), membership(manager, beta), membership(worker, beta)));
+    }
+
+    private User user(int id, String firstName, String lastName, String role) {
+        User user = new User();
+        user.setId(id);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setRole(role);
+        return user;
+    }
+
+    private Team team(int id, String name) {
+        Team team = new Team();
+        team.setId(id);
+        team.setName(name);
+        return team;
+    }
+
+    private TeamMember membership(User user, Team team) {
+        TeamMember membership = new TeamMember();
+        membership.setUser(user);
+        membership.setTeam(team);
+        return membership;
+    }
+
+    private Task task(int id, String title, Team team, LocalDate startDate, LocalDate completedDate) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(title);
+        task.setTeam(team);
+        task.setStatus(inProgress);
+        task.setStartDate(startDate);
+        task.setDeadline(startDate.plusDays(10));
+        task.setCompletedDate(completedDate);
+        task.setCreatedAt(startDate.atStartOfDay());
+        return task;
+    }
+
+    @Test
+    void collectReportBundle_ShouldBuildAllReportsFromOneDataLoad() {
+        when(archivedTaskRepository.findLatestCompletedDate()).thenReturn(Optional.empty());
+        when(taskRepository.findTeamTasksStartedOrCreatedBefore(LocalDate.of(2024, 3, 31),
+                LocalDateTime.of(2024, 4, 1, 0, 0))).thenReturn(List.of(
+                task(100, "Fundamenty", alpha, LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 8)),
+                task(101, "Ściany nośne", alpha, LocalDate.of(2024, 3, 11), null),
+                task(102, "Dach", beta, LocalDate.of(2024, 3, 18), null),
+                // Started before the period: counted in the employee load, not in the progress report
+                task(103, "Wykop", beta, LocalDate.of(2024, 2, 20), LocalDate.of(2024, 3, 2))));
+
+        ReportBundleDTO bundle = reportDataService.collectReportBundle("2024-03-01", "2024-03-31");
+
+        assertEquals("2024-03-01", bundle.getDateFrom());
+        assertEquals("2024-03-31", bundle.getDateTo());
+
+        assertEquals(List.of(10, 20), List.copyOf(bundle.getConstructionProgressByTeam().keySet()));
+        assertEquals(List.of("Fundamenty", "Ściany nośne"), bundle.getConstructionProgressByTeam().get(10)
+                .getItems().stream().map(ConstructionProgressItemDTO::getTaskName).toList());
+        assertEquals(70, bundle.getConstructionProgressByTeam().get(10).getCompletedPercentage());
+        assertEquals(List.of("Dach"), bundle.getConstructionProgressByTeam().get(20)
+                .getItems().stream().map(ConstructionProgressItemDTO::getTaskName).toList());
+
+        List<EmployeeLoadItemDTO> employees = bundle.getEmployeeLoad().getItems();
+        assertEquals(List.of(1, 2), employees.stream().map(EmployeeLoadItemDTO::getEmployeeId).toList());
+        assertEquals(4, employees.get(0).getTaskCount());
+        assertEquals(2, employees.get(1).getTaskCount());
+
+        List<TeamEfficiencyItemDTO> teams = bundle.getTeamEfficiency().getItems();
+        assertEquals(List.of("Alpha", "Beta"), teams.stream().map(TeamEfficiencyItemDTO::getTeamName).toList());
+        assertEquals(List.of(1, 2), teams.stream().map(TeamEfficiencyItemDTO::getActiveTeamMembersCount).toList());
+        assertEquals(List.of(2, 1), teams.stream().map(TeamEfficiencyItemDTO::getTotalTasksCount).toList());
+
+        verify(taskRepository).findTeamTasksStartedOrCreatedBefore(any(), any());
+        verify(taskRepository, never()).findForReportByTeamId(any());
+        verify(teamMemberRepository, never()).findByUser(any());
+        verify(teamMemberRepository, never()).countByTeamAndIsActive(any(), anyBoolean());
+        verify(archivedTaskRepository, never()).findTeamTasksCompletedFromStartedOrCreatedBefore(any(), any(), any());
+    }
+
+    @Test
+    void collectReportBundle_WhenPeriodIsArchived_ShouldIncludeArchivedTasks() {
+        ArchivedTask archived = new ArchivedTask();
+        archived.setId(200);
+        archived.setTitle("Instalacja gazowa");
+        archived.setTeam(alpha);
+        archived.setStatus(inProgress);
+        archived.setStartDate(LocalDate.of(2024, 3, 5));
+        archived.setCompletedDate(LocalDate.of(2024, 3, 15));
+        archived.setCreatedAt(LocalDateTime.of(2024, 3, 5, 8, 0));
+        when(archivedTaskRepository.findLatestCompletedDate()).thenReturn(Optional.of(LocalDate.of(2024, 3, 15)));
+        when(archivedTaskRepository.findTeamTasksCompletedFromStartedOrCreatedBefore(LocalDate.of(2024, 3, 1),
+                LocalDate.of(2024, 3, 31), LocalDateTime.of(2024, 4, 1, 0, 0))).thenReturn(List.of(archived));
+        when(taskRepository.findTeamTasksStartedOrCreatedBefore(any(), any())).thenReturn(List.of(
+                task(100, "Fundamenty", alpha, LocalDate.of(2024, 3, 4), null)));
+
+        ReportBundleDTO bundle = reportDataService.collectReportBundle("2024-03-01", "2024-03-31");
+
+        assertEquals(List.of("Fundamenty", "Instalacja gazowa"), bundle.getConstructionProgressByTeam().get(10)
+                .getItems().stream().map(ConstructionProgressItemDTO::getTaskName).toList());
+        assertEquals(2, bundle.getEmployeeLoad().getItems().get(0).getTaskCount());
+        assertEquals(0, bundle.getEmployeeLoad().getItems().get(1).getTaskCount());
+        assertEquals(1, bundle.getTeamEfficiency().getItems().get(0).getClosedIssues());
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.ReportJobDTO;
+import com.example.backend.dto.reports.ReportJobRequestDTO;
+import com.example.backend.models.ReportJob;
+import com.example.backend.models.User;
+import com.example.backend.repository.ReportJobRepository;
+import com.example.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test integracyjny kolejki zleceń raportów na bazie H2.
+ * <p>
+ * Sprawdza, że kolejne procesy robocze otrzymują różne zlecenia, nieudane zlecenie wraca do kolejki,
+ * a zlecenie bez przedłużonej rezerwacji przechodzi do innego procesu bez możliwości nadpisania
+ * go przez poprzedni.
+ * H2 ignoruje {@code SKIP LOCKED}, więc równoczesne pobieranie bez oczekiwania na blokadę
+ * jest dostępne dopiero na MariaDB 10.6+.
+ */
+@SpringBootTest
+@ActiveProfiles("deploy")
+class ReportJobServiceIntegrationTest {
+
+    @Autowired
+    private ReportJobService reportJobService;
+
+    @Autowired
+    private ReportJobRepository reportJobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUsername("report-job-user");
+        user.setPassword("secret");
+        user.setEmail("report-job-user@example.com");
+        user.setFirstName("Report");
+        user.setLastName("Worker");
+        user.setRole("kierownik");
+        user.setIsActive(true);
+        user = userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportJobRepository.deleteAll();
+        userRepository.delete(user);
+    }
+
+    private ReportJobDTO enqueue() {
+        ReportJobRequestDTO request = new ReportJobRequestDTO();
+        request.setType("team-efficiency");
+        request.setDateFrom("2025-01-01");
+        request.setDateTo("2025-01-31");
+        request.setUserId(user.getId());
+        return reportJobService.enqueue(request);
+    }
+
+    @Test
+    void workers_ShouldClaimEachJobOnlyOnce() {
+        ReportJobDTO first = enqueue();
+        ReportJobDTO second = enqueue();
+
+        List<ReportJobDTO> claimedByA = reportJobService.claimJobs("worker-a", 1);
+        List<ReportJobDTO> claimedByB = reportJobService.claimJobs("worker-b", 1);
+
+        assertEquals(1, claimedByA.size());
+        assertEquals(1, claimedByB.size());
+        assertEquals(first.getId(), claimedByA.get(0).getId());
+        assertEquals(second.getId(), claimedByB.get(0).getId());
+        assertEquals("worker-b", claimedByB.get(0).getWorkerId());
+        assertTrue(reportJobService.claimJobs("worker-c", 1).isEmpty());
+    }
+
+    @Test
+    void failedJob_ShouldReturnToQueueForAnotherAttempt() {
+        ReportJobDTO job = enqueue();
+
+        reportJobService.claimJobs("worker-a", 1);
+        assertTrue(reportJobService.markFailed(job.getId(), "worker-a", "Renderowanie nie powiodło się"));
+        List<ReportJobDTO> retried = reportJobService.claimJobs("worker-b", 1);
+
+        assertEquals(1, retried.size());
+        assertEquals(job.getId(), retried.get(0).getId());
+        assertEquals(2, retried.get(0).getAttempts());
+        assertEquals("RUNNING", reportJobService.getJobById(job.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void expiredLease_ShouldRequeueJobAndIgnoreLateResultOfPreviousWorker() {
+        ReportJobDTO job = enqueue();
+        reportJobService.claimJobs("worker-a", 1);
+        assertTrue(reportJobService.renewLease(job.getId(), "worker-a"));
+
+        // worker-a stops renewing its lease
+        ReportJob running = reportJobRepository.findById(job.getId()).orElseThrow();
+        running.setHeartbeatAt(LocalDateTime.now().minusHours(1));
+        reportJobRepository.save(running);
+        assertEquals(1, reportJobService.requeueStaleJobs());
+        assertEquals(job.getId(), reportJobService.claimJobs("worker-b", 1).get(0).getId());
+
+        assertFalse(reportJobService.renewLease(job.getId(), "worker-a"));
+        assertFalse(reportJobService.markFailed(job.getId(), "worker-a", "Przekroczono czas"));
+        ReportJobDTO current = reportJobService.getJobById(job.getId()).orElseThrow();
+        assertEquals("RUNNING", current.getStatus());
+        assertEquals("worker-b", current.getWorkerId());
+        assertNull(current.getErrorMessage());
+        assertEquals(0, reportJobService.requeueStaleJobs());
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.ReportJobDTO;
+import com.example.backend.dto.reports.ReportJobRequestDTO;
+import com.example.backend.models.Report;
+import com.example.backend.models.ReportJob;
+import com.example.backend.models.User;
+import com.example.backend.repository.ReportJobRepository;
+import com.example.backend.repository.ReportRepository;
+import com.example.backend.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReportJobServiceTest {
+
+    @Mock
+    private ReportJobRepository reportJobRepository;
+
+    @Mock
+    private ReportRepository reportRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ReportJobService reportJobService;
+
+    private User user;
+    private ReportJob job;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reportJobService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(reportJobService, "leaseMinutes", 15L);
+
+        user = new User();
+        user.setId(1);
+        user.setUsername("manager1");
+
+        job = new ReportJob();
+        job.setId(10);
+        job.setType("team-efficiency");
+        job.setParameters("{\"type\":\"team-efficiency\",\"dateFrom\":\"2025-01-01\",\"dateTo\":\"2025-01-31\",\"userId\":1}");
+        job.setRequestedBy(user);
+        job.setStatus(ReportJob.Status.PENDING);
+        job.setAttempts(0);
+    }
+
+    private ReportJobRequestDTO request(String type) {
+        ReportJobRequestDTO request = new ReportJobRequestDTO();
+        request.setType(type);
+        request.setDateFrom("2025-01-01");
+        request.setDateTo("2025-01-31");
+        request.setUserId(1);
+        return request;
+    }
+
+    @Test
+    void enqueue_ShouldStorePendingJobWithSerializedParameters() {
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(reportJobRepository.save(any(ReportJob.class))).thenAnswer(invocation -> {
+            ReportJob saved = invocation.getArgument(0);
+            saved.setId(10);
+            return saved;
+        });
+
+        ReportJobDTO result = reportJobService.enqueue(request("team-efficiency"));
+
+        assertEquals(10, result.getId());
+        assertEquals("PENDING", result.getStatus());
+        assertEquals(1, result.getRequestedById());
+        assertTrue(result.getParameters().contains("\"dateFrom\":\"2025-01-01\""));
+    }
+
+    @Test
+    void enqueue_WithUnsupportedType_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> reportJobService.enqueue(request("unknown")));
+        verify(reportJobRepository, never()).save(any());
+    }
+
+    @Test
+    void enqueue_ConstructionProgressWithoutTeam_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> reportJobService.enqueue(request("construction-progress")));
+    }
+
+    @Test
+    void claimJobs_ShouldMarkJobsAsRunning() {
+        when(reportJobRepository.findAndLockByStatus(eq(ReportJob.Status.PENDING), any(Pageable.class)))
+                .thenReturn(List.of(job));
+        when(reportJobRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<ReportJobDTO> result = reportJobService.claimJobs("worker-1", 5);
+
+        assertEquals(1, result.size());
+        assertEquals("RUNNING", result.get(0).getStatus());
+        assertEquals("worker-1", result.get(0).getWorkerId());
+        assertEquals(1, result.get(0).getAttempts());
+        assertNotNull(result.get(0).getClaimedAt());
+    }
+
+    @Test
+    void readParameters_ShouldDeserializeRequest() {
+        ReportJobRequestDTO parameters = reportJobService.readParameters(reportJobService.mapToDTO(job));
+
+        assertEquals("team-efficiency", parameters.getType());
+        assertEquals("2025-01-31", parameters.getDateTo());
+        assertEquals(1, parameters.getUserId());
+    }
+
+    @Test
+    void markCompleted_ShouldLinkReportOnlyForCurrentWorker() {
+        Report report = new Report();
+        report.setId(7);
+        when(reportRepository.getReferenceById(7)).thenReturn(report);
+        when(reportJobRepository.markCompleted(eq(10), eq("worker-1"), same(report), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        assertTrue(reportJobService.markCompleted(10, "worker-1", 7));
+        assertFalse(reportJobService.markCompleted(10, "worker-2", 7));
+        verify(reportJobRepository, never()).save(any());
+    }
+
+    @Test
+    void markFailed_BelowMaxAttempts_ShouldRequeue() {
+        when(reportJobRepository.requeueFailed(10, "worker-1", "boom", 3)).thenReturn(1);
+
+        assertTrue(reportJobService.markFailed(10, "worker-1", "boom"));
+
+        verify(reportJobRepository, never()).markFailed(any(), any(), any(), any());
+    }
+
+    @Test
+    void markFailed_AtMaxAttempts_ShouldFail() {
+        when(reportJobRepository.markFailed(eq(10), eq("worker-1"), eq("boom"), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        assertTrue(reportJobService.markFailed(10, "worker-1", "boom"));
+
+        verify(reportJobRepository).requeueFailed(10, "worker-1", "boom", 3);
+    }
+
+    @Test
+    void markFailed_WhenJobTakenOver_ShouldChangeNothing() {
+        assertFalse(reportJobService.markFailed(10, "worker-1", "x".repeat(1500)));
+
+        verify(reportJobRepository).requeueFailed(10, "worker-1", "x".repeat(1000), 3);
+    }
+
+    @Test
+    void requeueStaleJobs_ShouldReturnExpiredJobsToQueue() {
+        job.setStatus(ReportJob.Status.RUNNING);
+        job.setAttempts(1);
+        job.setClaimedAt(LocalDateTime.now().minusHours(1));
+        job.setHeartbeatAt(LocalDateTime.now().minusMinutes(20));
+        when(reportJobRepository.findAndLockStale(any(LocalDateTime.class))).thenReturn(List.of(job));
+
+        int requeued = reportJobService.requeueStaleJobs();
+
+        assertEquals(1, requeued);
+        assertEquals(ReportJob.Status.PENDING, job.getStatus());
+        assertNull(job.getClaimedAt());
+        assertNull(job.getHeartbeatAt());
+    }
+}
@@ -242,7 +242,7 @@ class ReportServiceTest {
     @Test
     void getAllReports_ShouldReturnAllReports() {
         // Arrange
-        when(reportRepository.findAll()).thenReturn(Arrays.asList(report));
+        when(reportRepository.findAllWithTypeAndCreator()).thenReturn(Arrays.asList(report));
 
         // Act
         List<ReportDTO> result = reportService.getAllReports();
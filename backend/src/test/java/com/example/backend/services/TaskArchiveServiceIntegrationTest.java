@@ -0,0 +1,290 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.reports.ConstructionProgressItemDTO;
+import com.example.backend.dto.reports.ConstructionProgressReportDTO;
+import com.example.backend.dto.reports.EmployeeLoadItemDTO;
+import com.example.backend.dto.reports.EmployeeLoadReportDTO;
+import com.example.backend.dto.reports.TaskDetailDTO;
+import com.example.backend.models.*;
+import com.example.backend.repository.*;
+import com.example.backend.search.TaskSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test integracyjny archiwizacji zadań na bazie H2.
+ * <p>
+ * Sprawdza, że dawno zakończone zadania wraz z komentarzami i historią zmian są przenoszone do tabel
+ * archiwum, zadania należące do hierarchii pozostają w tabeli bieżących zadań, a raporty obejmujące
+ * okres sprzed archiwizacji nadal uwzględniają zarchiwizowane zadania, a zespół z zarchiwizowanymi zadaniami
+ * można usunąć.
+ */
+@SpringBootTest
+@ActiveProfiles("deploy")
+class TaskArchiveServiceIntegrationTest {
+
+    private static final LocalDate CUTOFF = LocalDate.of(2021, 1, 1);
+
+    @Autowired
+    private TaskArchiveService taskArchiveService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private ReportDataService reportDataService;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCommentRepository taskCommentRepository;
+
+    @Autowired
+    private TaskHistoryRepository taskHistoryRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private ArchivedTaskCommentRepository archivedTaskCommentRepository;
+
+    @Autowired
+    private ArchivedTaskHistoryRepository archivedTaskHistoryRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PriorityRepository priorityRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    private User user;
+    private Team team;
+    private Priority priority;
+    private TaskStatus status;
+    private Task oldTask;
+    private Task oldUnassignedTask;
+    private Task oldParent;
+    private Task oldChild;
+    private Task recentTask;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUsername("task-archive-user");
+        user.setPassword("secret");
+        user.setEmail("task-archive-user@example.com");
+        user.setFirstName("Task");
+        user.setLastName("Archiver");
+        user.setRole("kierownik");
+        user = userRepository.save(user);
+
+        team = new Team();
+        team.setName("Zespół archiwum");
+        team.setManager(user);
+        team = teamRepository.save(team);
+
+        priority = new Priority();
+        priority.setName("Priorytet archiwum");
+        priority.setValue(1);
+        priority = priorityRepository.save(priority);
+
+        status = new TaskStatus();
+        status.setName("Status archiwum");
+        status.setProgressMin(0);
+        status.setProgressMax(100);
+        status.setDisplayOrder(1);
+        status = taskStatusRepository.save(status);
+
+        oldTask = taskRepository.save(task("Odbiór instalacji gazowej", team, LocalDate.of(2020, 3, 20)));
+        oldUnassignedTask = taskRepository.save(task("Rozliczenie kontenerów", null, LocalDate.of(2020, 4, 10)));
+        oldParent = taskRepository.save(task("Etap stanu surowego", team, LocalDate.of(2020, 5, 1)));
+        Task child = task("Strop nad parterem", team, LocalDate.of(2020, 4, 15));
+        child.setTask(oldParent);
+        oldChild = taskRepository.save(child);
+        recentTask = taskRepository.save(task("Odbiór elewacji", team, CUTOFF));
+
+        TaskComment comment = new TaskComment();
+        comment.setTask(oldTask);
+        comment.setUser(user);
+        comment.setComment("Protokół odbioru w segregatorze");
+        taskCommentRepository.save(comment);
+
+        TaskHistory history = new TaskHistory();
+        history.setTask(oldTask);
+        history.setChangedBy(user.getId());
+        history.setFieldName("status");
+        history.setOldValue("W trakcie");
+        history.setNewValue("Zakończone");
+        history.setChangedAt(LocalDateTime.of(2020, 3, 20, 12, 0));
+        taskHistoryRepository.save(history);
+    }
+
+    @AfterEach
+    void tearDown() {
+        archivedTaskCommentRepository.deleteAll();
+        archivedTaskHistoryRepository.deleteAll();
+        archivedTaskRepository.deleteAll();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            taskCommentRepository.deleteByTaskIdIn(List.of(oldTask.getId()));
+            taskHistoryRepository.deleteByTaskIdIn(List.of(oldTask.getId()));
+        });
+        taskRepository.deleteAllById(List.of(oldChild.getId()));
+        taskRepository.deleteAllById(List.of(
+                oldTask.getId(), oldUnassignedTask.getId(), oldParent.getId(), recentTask.getId()));
+        teamRepository.delete(team);
+        priorityRepository.delete(priority);
+        taskStatusRepository.delete(status);
+        userRepository.delete(user);
+    }
+
+    private Task task(String title, Team assignedTeam, LocalDate completedDate) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setTeam(assignedTeam);
+        task.setPriority(priority);
+        task.setStatus(status);
+        task.setCreatedBy(user);
+        task.setStartDate(completedDate.minusDays(30));
+        task.setDeadline(completedDate);
+        task.setCompletedDate(completedDate);
+        return task;
+    }
+
+    @Test
+    void archiveCompletedBefore_ShouldMoveTasksWithCommentsAndHistory() {
+        int archived = taskArchiveService.archiveCompletedBefore(CUTOFF);
+
+        assertEquals(2, archived);
+        assertFalse(taskRepository.existsById(oldTask.getId()));
+        assertFalse(taskRepository.existsById(oldUnassignedTask.getId()));
+        assertTrue(taskRepository.existsById(recentTask.getId()));
+        // Hierarchy members stay with the open work they belong to
+        assertTrue(taskRepository.existsById(oldParent.getId()));
+        assertTrue(taskRepository.existsById(oldChild.getId()));
+
+        ArchivedTask archivedTask = archivedTaskRepository.findById(oldTask.getId()).orElseThrow();
+        assertEquals("Odbiór instalacji gazowej", archivedTask.getTitle());
+        assertEquals(LocalDate.of(2020, 3, 20), archivedTask.getCompletedDate());
+        assertNotNull(archivedTask.getArchivedAt());
+        assertNull(archivedTaskRepository.findById(oldUnassignedTask.getId()).orElseThrow().getTeam());
+
+        assertEquals(List.of("Protokół odbioru w segregatorze"),
+                archivedTaskCommentRepository.findByTaskId(oldTask.getId()).stream()
+                        .map(ArchivedTaskComment::getComment).toList());
+        assertEquals(List.of("Zakończone"),
+                archivedTaskHistoryRepository.findByTaskId(oldTask.getId()).stream()
+                        .map(ArchivedTaskHistory::getNewValue).toList());
+        assertTrue(taskCommentRepository.findAllWithUser().stream()
+                .noneMatch(comment -> comment.getTask().getId().equals(oldTask.getId())));
+
+        assertEquals(0, taskSearchIndex.search("gazowej", 0, 10).getTotalHits());
+        assertEquals(0, taskArchiveService.archiveCompletedBefore(CUTOFF));
+    }
+
+    @Test
+    void reports_ShouldIncludeArchivedTasksOfTheirPeriod() {
+        taskArchiveService.archiveCompletedBefore(CUTOFF);
+
+        ConstructionProgressReportDTO report =
+                reportDataService.collectConstructionProgressData(team.getId(), "2020-01-01", "2020-12-31");
+
+        assertEquals(List.of("Etap stanu surowego", "Odbiór elewacji", "Odbiór instalacji gazowej", "Strop nad parterem"),
+                report.getItems().stream().map(ConstructionProgressItemDTO::getTaskName).sorted().toList());
+        assertEquals(100, report.getCompletedPercentage());
+    }
+
+    @Test
+    void streamEmployeeLoadData_ShouldReadArchivedAndCurrentTasksLikeCollectedReport() throws Exception {
+        TeamMember membership = new TeamMember();
+        membership.setTeam(team);
+        membership.setUser(user);
+        membership = teamMemberRepository.save(membership);
+        try {
+            taskArchiveService.archiveCompletedBefore(CUTOFF);
+
+            EmployeeLoadReportDTO collected =
+                    reportDataService.collectEmployeeLoadData(user.getId(), "2020-01-01", "2020-12-31");
+            List<EmployeeLoadItemDTO> streamed = reportDataService.streamEmployeeLoadData(
+                    user.getId(), "2020-01-01", "2020-12-31", reportStream -> {
+                        List<EmployeeLoadItemDTO> items = new ArrayList<>();
+                        reportStream.getItems().forEachRemaining(items::add);
+                        return items;
+                    });
+
+            assertEquals(1, streamed.size());
+            List<String> streamedTasks = streamed.get(0).getTasks().stream()
+                    .map(TaskDetailDTO::getTaskName).sorted().toList();
+            assertEquals(List.of("Etap stanu surowego", "Odbiór elewacji", "Odbiór instalacji gazowej",
+                    "Strop nad parterem"), streamedTasks);
+            assertEquals(collected.getItems().get(0).getTasks().stream()
+                    .map(TaskDetailDTO::getTaskName).sorted().toList(), streamedTasks);
+            assertEquals(collected.getItems().get(0).getTotalHours(), streamed.get(0).getTotalHours());
+        } finally {
+            teamMemberRepository.delete(membership);
+        }
+    }
+
+    @Test
+    void deleteTeam_AfterArchiving_ShouldRemoveArchivedTasksWithCommentsAndHistory() {
+        Team deletedTeam = new Team();
+        deletedTeam.setName("Zespół rozwiązany");
+        deletedTeam.setManager(user);
+        deletedTeam = teamRepository.save(deletedTeam);
+        Task archivedTask = taskRepository.save(task("Demontaż rusztowań", deletedTeam, LocalDate.of(2020, 6, 30)));
+        TaskComment comment = new TaskComment();
+        comment.setTask(archivedTask);
+        comment.setUser(user);
+        comment.setComment("Rusztowania zwrócone do wypożyczalni");
+        taskCommentRepository.save(comment);
+        TaskHistory history = new TaskHistory();
+        history.setTask(archivedTask);
+        history.setChangedBy(user.getId());
+        history.setFieldName("status");
+        history.setOldValue("W trakcie");
+        history.setNewValue("Zakończone");
+        history.setChangedAt(LocalDateTime.of(2020, 6, 30, 12, 0));
+        taskHistoryRepository.save(history);
+
+        taskArchiveService.archiveCompletedBefore(CUTOFF);
+        assertTrue(archivedTaskRepository.existsById(archivedTask.getId()));
+
+        teamService.deleteTeam(deletedTeam.getId());
+
+        assertFalse(teamRepository.existsById(deletedTeam.getId()));
+        assertFalse(archivedTaskRepository.existsById(archivedTask.getId()));
+        assertTrue(archivedTaskCommentRepository.findByTaskId(archivedTask.getId()).isEmpty());
+        assertTrue(archivedTaskHistoryRepository.findByTaskId(archivedTask.getId()).isEmpty());
+        // Archived tasks of other teams stay in the archive
+        assertTrue(archivedTaskRepository.existsById(oldTask.getId()));
+        assertEquals(1, archivedTaskCommentRepository.findByTaskId(oldTask.getId()).size());
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.backend.services;
+
+import com.example.backend.models.Task;
+import com.example.backend.repository.ArchivedTaskCommentRepository;
+import com.example.backend.repository.ArchivedTaskHistoryRepository;
+import com.example.backend.repository.ArchivedTaskRepository;
+import com.example.backend.repository.TaskCommentRepository;
+import com.example.backend.repository.TaskHistoryRepository;
+import com.example.backend.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskArchiveServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskCommentRepository taskCommentRepository;
+
+    @Mock
+    private TaskHistoryRepository taskHistoryRepository;
+
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Mock
+    private ArchivedTaskCommentRepository archivedTaskCommentRepository;
+
+    @Mock
+    private ArchivedTaskHistoryRepository archivedTaskHistoryRepository;
+
+    @Mock
+    private TeamTaskCounterService teamTaskCounterService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskVersionTracker taskVersionTracker;
+
+    private TaskArchiveService taskArchiveService;
+
+    private final LocalDate cutoff = LocalDate.of(2024, 1, 1);
+
+    @BeforeEach
+    void setUp() {
+        taskArchiveService = new TaskArchiveService(taskRepository, taskCommentRepository, taskHistoryRepository,
+                archivedTaskRepository, archivedTaskCommentRepository, archivedTaskHistoryRepository,
+                teamTaskCounterService, taskVersionTracker, transactionManager, 2, 365);
+    }
+
+    private Task task(int id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setCompletedDate(LocalDate.of(2023, 5, 1));
+        return task;
+    }
+
+    @Test
+    void archiveCompletedBefore_ShouldCopyThenDeleteEachChunkInItsOwnTransaction() {
+        List<Task> firstChunk = List.of(task(1), task(2));
+        List<Task> lastChunk = List.of(task(3));
+        when(taskRepository.findLockedArchivableCompletedBefore(eq(cutoff), any(Pageable.class)))
+                .thenReturn(firstChunk)
+                .thenReturn(lastChunk);
+
+        int archived = taskArchiveService.archiveCompletedBefore(cutoff);
+
+        assertEquals(3, archived);
+        verify(transactionManager, times(2)).getTransaction(any());
+        InOrder inOrder = inOrder(archivedTaskRepository, archivedTaskCommentRepository, archivedTaskHistoryRepository,
+                taskCommentRepository, taskHistoryRepository, taskRepository, teamTaskCounterService);
+        inOrder.verify(archivedTaskRepository).copyFromTasks(eq(List.of(1, 2)), any(LocalDateTime.class));
+        inOrder.verify(archivedTaskCommentRepository).copyFromTaskComments(List.of(1, 2));
+        inOrder.verify(archivedTaskHistoryRepository).copyFromTaskHistory(List.of(1, 2));
+        inOrder.verify(taskCommentRepository).deleteByTaskIdIn(List.of(1, 2));
+        inOrder.verify(taskHistoryRepository).deleteByTaskIdIn(List.of(1, 2));
+        inOrder.verify(taskRepository).deleteAll(firstChunk);
+        inOrder.verify(teamTaskCounterService).tasksRemoved(firstChunk);
+        inOrder.verify(archivedTaskRepository).copyFromTasks(eq(List.of(3)), any(LocalDateTime.class));
+        inOrder.verify(taskRepository).deleteAll(lastChunk);
+        inOrder.verify(teamTaskCounterService).tasksRemoved(lastChunk);
+    }
+
+    @Test
+    void archiveCompletedBefore_ShouldStopAfterEmptyChunk() {
+        when(taskRepository.findLockedArchivableCompletedBefore(eq(cutoff), any(Pageable.class)))
+                .thenReturn(List.of(task(1), task(2)))
+                .thenReturn(List.of());
+
+        assertEquals(2, taskArchiveService.archiveCompletedBefore(cutoff));
+        verify(taskRepository, times(2)).findLockedArchivableCompletedBefore(eq(cutoff), any(Pageable.class));
+        verify(archivedTaskRepository, times(1)).copyFromTasks(any(), any());
+    }
+
+    @Test
+    void archiveExpired_ShouldUseRetentionPeriod() {
+        when(taskRepository.findLockedArchivableCompletedBefore(any(), any(Pageable.class))).thenReturn(List.of());
+
+        assertEquals(0, taskArchiveService.archiveExpired());
+        verify(taskRepository).findLockedArchivableCompletedBefore(eq(LocalDate.now().minusDays(365)), any(Pageable.class));
+        verifyNoInteractions(archivedTaskRepository, taskCommentRepository, taskHistoryRepository);
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new TaskArchiveService(taskRepository,
+                taskCommentRepository, taskHistoryRepository, archivedTaskRepository, archivedTaskCommentRepository,
+                archivedTaskHistoryRepository, teamTaskCounterService, taskVersionTracker, transactionManager, 0, 365));
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.TaskDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskCacheTest {
+
+    private static final long TTL_MILLIS = 30_000;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-03-01T09:30:00Z"));
+    private SimpleMeterRegistry meterRegistry;
+    private TaskCache taskCache;
+    private AtomicInteger loads;
+    private Function<Integer, Optional<TaskDTO>> loader;
+
+    /**
+     * Current task versions in the database; tasks that were never changed have version 1.
+     */
+    private final Map<Integer, Long> versions = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        taskCache = new TaskCache(2, TTL_MILLIS, clock, meterRegistry);
+        taskCache.registerSizeGauge();
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            if (id <= 0) {
+                return Optional.empty();
+            }
+            long version = versions.getOrDefault(id, 1L);
+            return Optional.of(task(id, "Zadanie " + id + " v" + version, version));
+        };
+    }
+
+    private TaskDTO task(int id, String title, long version) {
+        TaskDTO task = new TaskDTO();
+        task.setId(id);
+        task.setTitle(title);
+        task.setVersion(version);
+        return task;
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "tasks").tag("result", result).counter().count();
+    }
+
+    @Test
+    void get_ShouldLoadOnceAndCountHitsAndMisses() {
+        assertEquals("Zadanie 1 v1", taskCache.get(1, loader).orElseThrow().getTitle());
+        assertEquals("Zadanie 1 v1", taskCache.get(1, loader).orElseThrow().getTitle());
+
+        assertEquals(1, loads.get());
+        assertEquals(1, gets("hit"));
+        assertEquals(1, gets("miss"));
+        assertEquals(1, meterRegistry.get("cache.size").tag("cache", "tasks").gauge().value());
+    }
+
+    @Test
+    void get_ShouldNotRememberMissingTasks() {
+        assertTrue(taskCache.get(-1, loader).isEmpty());
+        assertTrue(taskCache.get(-1, loader).isEmpty());
+
+        assertEquals(2, loads.get());
+        assertEquals(0, taskCache.size());
+    }
+
+    @Test
+    void get_ShouldReturnCopiesSoCallersCannotChangeCachedTask() {
+        taskCache.get(1, loader).orElseThrow().setTitle("Zmienione");
+
+        assertEquals("Zadanie 1 v1", taskCache.get(1, loader).orElseThrow().getTitle());
+    }
+
+    @Test
+    void get_WhenFull_ShouldEvictLeastRecentlyReadTask() {
+        taskCache.get(1, loader);
+        taskCache.get(2, loader);
+        taskCache.get(1, loader);
+        taskCache.get(3, loader);
+
+        assertEquals(2, taskCache.size());
+        assertEquals(1, meterRegistry.get("cache.evictions").tag("cache", "tasks").counter().count());
+        loads.set(0);
+        taskCache.get(1, loader);
+        taskCache.get(2, loader);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_WhenTaskChangedElsewhere_ShouldServeCachedCopyOnlyUntilTtlExpires() {
+        taskCache.get(1, loader);
+
+        // Another instance commits a change; no eviction reaches this cache
+        versions.put(1, 2L);
+        clock.advance(Duration.ofMillis(TTL_MILLIS - 1));
+        assertEquals("Zadanie 1 v1", taskCache.get(1, loader).orElseThrow().getTitle());
+        assertEquals(1, loads.get());
+
+        clock.advance(Duration.ofMillis(1));
+        assertEquals("Zadanie 1 v2", taskCache.get(1, loader).orElseThrow().getTitle());
+        assertEquals(2, loads.get());
+        assertEquals(1, gets("hit"));
+    }
+
+    @Test
+    void get_WithZeroTtl_ShouldKeepTasksUntilEvicted() {
+        TaskCache unbounded = new TaskCache(2, 0, clock, new SimpleMeterRegistry());
+        unbounded.get(1, loader);
+
+        clock.advance(Duration.ofDays(1));
+        unbounded.get(1, loader);
+        assertEquals(1, loads.get());
+
+        unbounded.evict(1);
+        unbounded.get(1, loader);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evict_ShouldDropTaskSoNextReadLoadsIt() {
+        taskCache.get(1, loader);
+
+        taskCache.evict(1);
+        taskCache.get(1, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_WhenTaskChangesDuringLoad_ShouldNotRememberLoadedVersion() {
+        Optional<TaskDTO> loaded = taskCache.get(1, id -> {
+            // A write commits while the old version is being read
+            taskCache.evict(id);
+            return Optional.of(task(id, "Stara wersja", 1));
+        });
+
+        assertEquals("Stara wersja", loaded.orElseThrow().getTitle());
+        assertEquals(0, taskCache.size());
+    }
+
+    @Test
+    void constructor_WithZeroSize_ShouldDisableCaching() {
+        TaskCache disabled = new TaskCache(0, TTL_MILLIS, new SimpleMeterRegistry());
+
+        disabled.get(1, loader);
+        disabled.get(1, loader);
+
+        assertEquals(2, loads.get());
+        assertThrows(IllegalArgumentException.class, () -> new TaskCache(-1, TTL_MILLIS, new SimpleMeterRegistry()));
+        assertThrows(IllegalArgumentException.class, () -> new TaskCache(10, -1, new SimpleMeterRegistry()));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -76,7 +76,7 @@ class TaskCommentServiceTest {
     @Test
     void getAllTaskComments_ShouldReturnAllComments() {
         // Arrange
-        when(taskCommentRepository.findAll()).thenReturn(Arrays.asList(taskComment));
+        when(taskCommentRepository.findAllWithUser()).thenReturn(Arrays.asList(taskComment));
 
         // Act
         List<TaskCommentDTO> result = taskCommentService.getAllTaskComments();
@@ -0,0 +1,154 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.TaskCountGroupDTO;
+import com.example.backend.dto.TaskDashboardDTO;
+import com.example.backend.models.Priority;
+import com.example.backend.models.TaskStatus;
+import com.example.backend.models.Team;
+import com.example.backend.repository.PriorityRepository;
+import com.example.backend.repository.TaskRepository;
+import com.example.backend.repository.TaskStatusRepository;
+import com.example.backend.repository.TeamRepository;
+import com.example.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskDashboardServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskStatusRepository taskStatusRepository;
+
+    @Mock
+    private PriorityRepository priorityRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TaskVersionTracker taskVersionTracker;
+
+    private TaskDashboardService taskDashboardService;
+
+    @BeforeEach
+    void setUp() {
+        taskDashboardService = new TaskDashboardService(taskRepository, taskStatusRepository, priorityRepository,
+                teamRepository, userRepository, taskVersionTracker, 60_000);
+
+        TaskStatus open = new TaskStatus();
+        open.setId(1);
+        open.setName("W trakcie");
+        TaskStatus done = new TaskStatus();
+        done.setId(2);
+        done.setName("Zakończone");
+        Priority high = new Priority();
+        high.setId(5);
+        high.setName("Wysoki");
+        Team north = new Team();
+        north.setId(10);
+        north.setName("Północ");
+        Team south = new Team();
+        south.setId(20);
+        south.setName("Południe");
+
+        lenient().when(taskStatusRepository.findAll(any(Sort.class))).thenReturn(List.of(open, done));
+        lenient().when(priorityRepository.findAll(any(Sort.class))).thenReturn(List.of(high));
+        lenient().when(teamRepository.findAll(any(Sort.class))).thenReturn(List.of(south, north));
+        lenient().when(taskRepository.countGroupedByTeamStatusAndPriority(any(), any())).thenReturn(List.of(
+                new TaskCountGroupDTO(10, 1, 5, 4, 1, 2),
+                new TaskCountGroupDTO(20, 1, 5, 3, 2, 0),
+                new TaskCountGroupDTO(20, 2, 5, 5, 0, 0),
+                new TaskCountGroupDTO(null, 1, 5, 1, 0, 1)));
+        lenient().when(taskVersionTracker.globalETag()).thenReturn("W/\"e-1\"");
+    }
+
+    @Test
+    void getDashboard_ShouldSumGroupsPerStatusPriorityAndTeam() {
+        TaskDashboardDTO dashboard = taskDashboardService.getDashboard();
+
+        LocalDate today = LocalDate.now();
+        verify(taskRepository).countGroupedByTeamStatusAndPriority(eq(today), eq(dashboard.getWeekEnd()));
+        assertEquals(DayOfWeek.SUNDAY, dashboard.getWeekEnd().getDayOfWeek());
+        assertEquals(13, dashboard.getTotalCount());
+        assertEquals(3, dashboard.getOverdueCount());
+        assertEquals(3, dashboard.getDueThisWeekCount());
+
+        assertEquals(List.of(new TaskDashboardDTO.GroupCount(1, "W trakcie", 8, 3, 3),
+                new TaskDashboardDTO.GroupCount(2, "Zakończone", 5, 0, 0)), dashboard.getByStatus());
+        assertEquals(List.of(new TaskDashboardDTO.GroupCount(5, "Wysoki", 13, 3, 3)), dashboard.getByPriority());
+        // Teams keep the name order, tasks without a team come last
+        assertEquals(List.of(new TaskDashboardDTO.GroupCount(20, "Południe", 8, 2, 0),
+                new TaskDashboardDTO.GroupCount(10, "Północ", 4, 1, 2),
+                new TaskDashboardDTO.GroupCount(null, null, 1, 0, 1)), dashboard.getByTeam());
+    }
+
+    @Test
+    void getDashboardForUser_ShouldOnlyCountTasksOfUserTeams() {
+        when(userRepository.existsById(3)).thenReturn(true);
+        when(teamRepository.findIdsByManagerOrActiveMember(3)).thenReturn(List.of(10));
+
+        TaskDashboardDTO dashboard = taskDashboardService.getDashboardForUser(3).orElseThrow();
+
+        assertEquals(4, dashboard.getTotalCount());
+        assertEquals(1, dashboard.getOverdueCount());
+        assertEquals(List.of(new TaskDashboardDTO.GroupCount(10, "Północ", 4, 1, 2)), dashboard.getByTeam());
+        assertEquals(List.of(new TaskDashboardDTO.GroupCount(1, "W trakcie", 4, 1, 2),
+                new TaskDashboardDTO.GroupCount(2, "Zakończone", 0, 0, 0)), dashboard.getByStatus());
+    }
+
+    @Test
+    void getDashboardForUser_WhenUserDoesNotExist_ShouldReturnEmpty() {
+        when(userRepository.existsById(3)).thenReturn(false);
+
+        assertTrue(taskDashboardService.getDashboardForUser(3).isEmpty());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getDashboard_ShouldServeCachedCountsUntilTasksChange() {
+        taskDashboardService.getDashboard();
+        when(userRepository.existsById(3)).thenReturn(true);
+        when(teamRepository.findIdsByManagerOrActiveMember(3)).thenReturn(List.of(20));
+        taskDashboardService.getDashboardForUser(3);
+        verify(taskRepository, times(1)).countGroupedByTeamStatusAndPriority(any(), any());
+        // Cache hits only read the persisted list version
+        verifyNoMoreInteractions(taskRepository);
+        verify(taskVersionTracker, times(2)).globalETag();
+        verifyNoMoreInteractions(taskVersionTracker);
+
+        when(taskVersionTracker.globalETag()).thenReturn("W/\"e-2\"");
+        taskDashboardService.getDashboard();
+        verify(taskRepository, times(2)).countGroupedByTeamStatusAndPriority(any(), any());
+    }
+
+    @Test
+    void getDashboard_ShouldReloadAfterTtl() {
+        taskDashboardService = new TaskDashboardService(taskRepository, taskStatusRepository, priorityRepository,
+                teamRepository, userRepository, taskVersionTracker, 0);
+
+        taskDashboardService.getDashboard();
+        taskDashboardService.getDashboard();
+
+        verify(taskRepository, times(2)).countGroupedByTeamStatusAndPriority(any(), any());
+    }
+}
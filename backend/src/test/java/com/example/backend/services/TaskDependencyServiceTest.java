@@ -0,0 +1,167 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.TaskDependencyDTO;
+import com.example.backend.exceptions.TaskDependencyCycleException;
+import com.example.backend.models.Task;
+import com.example.backend.models.TaskDependency;
+import com.example.backend.models.Team;
+import com.example.backend.repository.TaskDependencyRepository;
+import com.example.backend.repository.TaskRepository;
+import com.example.backend.repository.TeamRepository;
+import com.example.backend.scheduling.TaskDependencyGraph;
+import com.example.backend.scheduling.TaskDependencyGraphCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskDependencyServiceTest {
+
+    @Mock
+    private TaskDependencyRepository taskDependencyRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private TaskDependencyGraphCache graphCache;
+
+    @InjectMocks
+    private TaskDependencyService taskDependencyService;
+
+    private Team team;
+    private Task foundation;
+    private Task walls;
+    private TaskDependencyGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        team = new Team();
+        team.setId(7);
+        foundation = task(1, team);
+        walls = task(2, team);
+        graph = new TaskDependencyGraph(LocalDate.of(2025, 3, 3));
+
+        lenient().when(taskRepository.findById(1)).thenReturn(Optional.of(foundation));
+        lenient().when(taskRepository.findById(2)).thenReturn(Optional.of(walls));
+        lenient().when(graphCache.withGraph(eq(7), any())).thenAnswer(invocation -> {
+            Function<TaskDependencyGraph, ?> action = invocation.getArgument(1);
+            return action.apply(graph);
+        });
+    }
+
+    private Task task(int id, Team assignedTeam) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTeam(assignedTeam);
+        task.setStartDate(LocalDate.of(2025, 3, 3));
+        task.setDeadline(LocalDate.of(2025, 3, 7));
+        return task;
+    }
+
+    @Test
+    void addDependency_ShouldLockTeamCheckDatabaseSaveAndUpdateGraphAfterCommit() {
+        // Arrange
+        when(taskDependencyRepository.save(any(TaskDependency.class))).thenAnswer(invocation -> {
+            TaskDependency dependency = invocation.getArgument(0);
+            dependency.setId(11);
+            return dependency;
+        });
+        doAnswer(invocation -> {
+            Consumer<TaskDependencyGraph> action = invocation.getArgument(1);
+            action.accept(graph);
+            return null;
+        }).when(graphCache).updateAfterCommit(eq(7), any());
+
+        // Act
+        TaskDependencyDTO result = taskDependencyService.addDependency(new TaskDependencyDTO(null, 1, 2));
+
+        // Assert
+        assertEquals(new TaskDependencyDTO(11, 1, 2), result);
+        assertTrue(graph.wouldCreateCycle(2, 1));
+        InOrder inOrder = inOrder(teamRepository, taskDependencyRepository);
+        inOrder.verify(teamRepository).findLockedById(7);
+        inOrder.verify(taskDependencyRepository).countPathsBetween(2, 1);
+        inOrder.verify(taskDependencyRepository).save(any(TaskDependency.class));
+    }
+
+    @Test
+    void addDependency_WhenDatabaseHasReversePath_ShouldNotSave() {
+        // Arrange: the path exists in the database but not in this instance's graph
+        when(taskDependencyRepository.countPathsBetween(2, 1)).thenReturn(1L);
+
+        // Act & Assert
+        assertThrows(TaskDependencyCycleException.class,
+                () -> taskDependencyService.addDependency(new TaskDependencyDTO(null, 1, 2)));
+        verify(taskDependencyRepository, never()).save(any());
+        verify(graphCache, never()).updateAfterCommit(any(), any());
+    }
+
+    @Test
+    void addDependency_BetweenTeams_ShouldBeRejected() {
+        // Arrange
+        Team otherTeam = new Team();
+        otherTeam.setId(8);
+        when(taskRepository.findById(3)).thenReturn(Optional.of(task(3, otherTeam)));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> taskDependencyService.addDependency(new TaskDependencyDTO(null, 1, 3)));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskDependencyService.addDependency(new TaskDependencyDTO(null, 1, 1)));
+        verifyNoInteractions(graphCache);
+        verify(taskDependencyRepository, never()).save(any());
+    }
+
+    @Test
+    void deleteDependency_ShouldUpdateGraphAfterCommit() {
+        // Arrange
+        TaskDependency dependency = new TaskDependency();
+        dependency.setId(11);
+        dependency.setPredecessor(foundation);
+        dependency.setSuccessor(walls);
+        when(taskDependencyRepository.findById(11)).thenReturn(Optional.of(dependency));
+
+        // Act & Assert
+        assertTrue(taskDependencyService.deleteDependency(11));
+        verify(taskDependencyRepository).delete(dependency);
+        verify(graphCache).updateAfterCommit(eq(7), any());
+    }
+
+    @Test
+    void getTeamSchedule_WhenTeamDoesNotExist_ShouldReturnEmpty() {
+        // Arrange
+        when(teamRepository.existsById(99)).thenReturn(false);
+
+        // Act & Assert
+        assertTrue(taskDependencyService.getTeamSchedule(99).isEmpty());
+        verify(graphCache, never()).withGraph(any(), any());
+    }
+
+    @Test
+    void getTeamDependencies_ShouldUseProjection() {
+        // Arrange
+        when(taskDependencyRepository.findAsDTOByTeamId(7)).thenReturn(List.of(new TaskDependencyDTO(11, 1, 2)));
+
+        // Act & Assert
+        assertEquals(1, taskDependencyService.getTeamDependencies(7).size());
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.PriorityDTO;
+import com.example.backend.dto.TaskCommentDTO;
+import com.example.backend.dto.TaskDTO;
+import com.example.backend.dto.TaskDetailsDTO;
+import com.example.backend.dto.TaskHistoryDTO;
+import com.example.backend.dto.TaskStatusDTO;
+import com.example.backend.dto.TeamDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskDetailsServiceTest {
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private TaskCommentService taskCommentService;
+
+    @Mock
+    private TaskHistoryService taskHistoryService;
+
+    @Mock
+    private TeamService teamService;
+
+    @Mock
+    private PriorityService priorityService;
+
+    @Mock
+    private TaskStatusService taskStatusService;
+
+    @InjectMocks
+    private TaskDetailsService taskDetailsService;
+
+    private TaskDTO task;
+    private TeamDTO team;
+
+    @BeforeEach
+    void setUp() {
+        task = new TaskDTO();
+        task.setId(1);
+        task.setTitle("Wylanie fundamentów");
+        task.setTeamId(7);
+        team = new TeamDTO();
+        team.setId(7);
+        team.setName("Zespół budowlany");
+        lenient().when(taskService.getTaskById(1)).thenReturn(Optional.of(task));
+    }
+
+    @Test
+    void getTaskDetails_WithAllParts_ShouldTakeTeamFromTeamList() {
+        TeamDTO other = new TeamDTO();
+        other.setId(8);
+        when(taskCommentService.getCommentsByTaskId(1)).thenReturn(List.of(new TaskCommentDTO()));
+        when(taskHistoryService.getHistoryByTaskId(1)).thenReturn(List.of(new TaskHistoryDTO()));
+        when(teamService.getAllTeams()).thenReturn(List.of(other, team));
+        when(priorityService.getAllPriorities()).thenReturn(List.of(new PriorityDTO()));
+        when(taskStatusService.getAllTaskStatusesSorted()).thenReturn(List.of(new TaskStatusDTO()));
+
+        TaskDetailsDTO details = taskDetailsService.getTaskDetails(1, EnumSet.allOf(TaskDetailsService.Part.class))
+                .orElseThrow();
+
+        assertSame(task, details.getTask());
+        assertEquals(1, details.getComments().size());
+        assertEquals(1, details.getHistory().size());
+        assertEquals(2, details.getTeams().size());
+        assertSame(team, details.getTeam());
+        assertEquals(1, details.getPriorities().size());
+        assertEquals(1, details.getStatuses().size());
+        verify(teamService, never()).getTeamById(anyInt());
+    }
+
+    @Test
+    void getTaskDetails_WithSomeParts_ShouldLoadOnlyThoseParts() {
+        when(teamService.getTeamById(7)).thenReturn(Optional.of(team));
+
+        TaskDetailsDTO details = taskDetailsService.getTaskDetails(1,
+                EnumSet.of(TaskDetailsService.Part.TEAM)).orElseThrow();
+
+        assertSame(team, details.getTeam());
+        assertNull(details.getComments());
+        assertNull(details.getTeams());
+        verifyNoInteractions(taskCommentService, taskHistoryService, priorityService, taskStatusService);
+    }
+
+    @Test
+    void getTaskDetails_WhenTaskDoesNotExist_ShouldNotLoadParts() {
+        when(taskService.getTaskById(99)).thenReturn(Optional.empty());
+
+        assertTrue(taskDetailsService.getTaskDetails(99, EnumSet.allOf(TaskDetailsService.Part.class)).isEmpty());
+        verifyNoInteractions(taskCommentService, taskHistoryService, teamService, priorityService, taskStatusService);
+    }
+
+    @Test
+    void partParse_ShouldIgnoreCaseAndBlankNamesAndRejectUnknownOnes() {
+        assertEquals(EnumSet.allOf(TaskDetailsService.Part.class), TaskDetailsService.Part.parse(null));
+        assertEquals(Set.of(TaskDetailsService.Part.HISTORY, TaskDetailsService.Part.STATUSES),
+                TaskDetailsService.Part.parse(Arrays.asList(" History", "statuses", "")));
+        assertTrue(TaskDetailsService.Part.parse(List.of()).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> TaskDetailsService.Part.parse(List.of("files")));
+        verify(taskService, never()).getTaskById(any());
+    }
+}
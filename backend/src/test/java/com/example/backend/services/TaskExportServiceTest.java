@@ -0,0 +1,102 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.TaskDTO;
+import com.example.backend.models.Task;
+import com.example.backend.repository.TaskRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private ObjectMapper objectMapper;
+
+    private TaskExportService taskExportService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        taskExportService = new TaskExportService(taskRepository, taskService, entityManager, objectMapper);
+
+        when(taskService.mapToDTO(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            TaskDTO dto = new TaskDTO();
+            dto.setId(task.getId());
+            dto.setTitle(task.getTitle());
+            dto.setDeadline(LocalDate.of(2025, 6, 30));
+            return dto;
+        });
+    }
+
+    private Task task(int id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Zadanie " + id);
+        return task;
+    }
+
+    @Test
+    void exportTasks_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        // Arrange
+        when(taskRepository.streamAllOrderedById()).thenReturn(Stream.of(task(1), task(2)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long count = taskExportService.exportTasks(out);
+
+        // Assert
+        assertEquals(2, count);
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals(1, first.get("id").asInt());
+        assertEquals("Zadanie 1", first.get("title").asText());
+        assertEquals("2025-06-30", first.get("deadline").asText());
+        assertEquals(2, objectMapper.readTree(lines.get(1)).get("id").asInt());
+        verify(entityManager, never()).clear();
+    }
+
+    @Test
+    void exportTasks_ShouldClearPersistenceContextPeriodically() throws Exception {
+        // Arrange
+        int total = TaskExportService.CLEAR_INTERVAL * 2 + 1;
+        when(taskRepository.streamAllOrderedById()).thenReturn(IntStream.rangeClosed(1, total).mapToObj(this::task));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long count = taskExportService.exportTasks(out);
+
+        // Assert
+        assertEquals(total, count);
+        assertEquals(total, out.toString(StandardCharsets.UTF_8).lines().count());
+        verify(entityManager, times(2)).clear();
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.TaskDTO;
+import com.example.backend.dto.TaskProgressDTO;
+import com.example.backend.models.Task;
+import com.example.backend.models.TaskRollup;
+import com.example.backend.models.TaskStatus;
+import com.example.backend.repository.TaskRepository;
+import com.example.backend.repository.TaskRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskHierarchyServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskRollupRepository taskRollupRepository;
+
+    @Mock
+    private TaskVersionTracker taskVersionTracker;
+
+    @InjectMocks
+    private TaskHierarchyService taskHierarchyService;
+
+    private TaskStatus inProgress;
+    private Task stage;
+    private Task roof;
+
+    @BeforeEach
+    void setUp() {
+        inProgress = new TaskStatus();
+        inProgress.setId(3);
+        inProgress.setName("W toku");
+        inProgress.setProgressMin(35);
+        stage = task(1, null);
+        roof = task(2, stage);
+    }
+
+    @Test
+    void tasksChanged_ShouldAddOwnDifferenceToAllAncestors() {
+        // Arrange
+        Task truss = task(3, roof);
+        truss.setCompletedDate(LocalDate.now());
+        when(taskRollupRepository.findLockedProgressByTaskIdIn(Set.of(3)))
+                .thenReturn(List.of(rollup(3, "/1/2/3/", 2, 35, false)));
+
+        // Act
+        taskHierarchyService.tasksChanged(List.of(truss));
+
+        // Assert
+        verify(taskRollupRepository).updateOwnProgress(3, 100, true, false);
+        verify(taskRollupRepository).addToSubtaskTotals(List.of(1, 2), 0, 1, 0, 65L);
+    }
+
+    @Test
+    void tasksChanged_WithoutParentOrChange_ShouldNotUpdateTotals() {
+        // Arrange
+        when(taskRollupRepository.findLockedProgressByTaskIdIn(Set.of(2)))
+                .thenReturn(List.of(rollup(2, "/1/2/", 1, 35, false)));
+
+        // Act
+        taskHierarchyService.tasksChanged(List.of(stage, roof));
+
+        // Assert
+        verify(taskRollupRepository, never()).updateOwnProgress(anyInt(), anyInt(), anyBoolean(), anyBoolean());
+        verify(taskRollupRepository, never()).addToSubtaskTotals(anyCollection(), anyInt(), anyInt(), anyInt(), anyLong());
+    }
+
+    @Test
+    void setParent_ShouldMoveSubtreeTotalsAndPaths() {
+        // Arrange
+        Task site = task(5, null);
+        TaskProgressDTO roofRollup = rollup(2, "/1/2/", 1, 35, false);
+        roofRollup.setSubtaskCount(1);
+        roofRollup.setCompletedSubtasks(1);
+        roofRollup.setSubtaskProgress(100);
+        when(taskRepository.findLockedByIdIn(List.of(2, 5))).thenReturn(List.of(roof, site));
+        when(taskRollupRepository.findLockedProgressByTaskIdIn(List.of(2, 5))).thenReturn(List.of(roofRollup));
+        when(taskRollupRepository.findMaxPathLengthInSubtree("/1/2/")).thenReturn(7);
+        TaskDTO moved = new TaskDTO();
+        moved.setParentTaskId(5);
+        when(taskRepository.findAsDTOById(2)).thenReturn(Optional.of(moved));
+
+        // Act
+        Optional<TaskDTO> result = taskHierarchyService.setParent(2, 5);
+
+        // Assert
+        assertEquals(5, result.orElseThrow().getParentTaskId());
+        assertSame(site, roof.getTask());
+        verify(taskRollupRepository).save(any(TaskRollup.class));
+        verify(taskRollupRepository).addToSubtaskTotals(List.of(1), -2, -1, 0, -135L);
+        verify(taskRollupRepository).addToSubtaskTotals(List.of(5), 2, 1, 0, 135L);
+        verify(taskRollupRepository).moveSubtree("/1/2/", "/5/2/", 0);
+    }
+
+    @Test
+    void setParent_UnderOwnSubtask_ShouldBeRejected() {
+        // Arrange
+        Task truss = task(3, roof);
+        when(taskRepository.findLockedByIdIn(List.of(1, 3))).thenReturn(List.of(stage, truss));
+        when(taskRollupRepository.findLockedProgressByTaskIdIn(List.of(1, 3)))
+                .thenReturn(List.of(rollup(1, "/1/", 0, 35, false), rollup(3, "/1/2/3/", 2, 35, false)));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskHierarchyService.setParent(1, 3));
+        verify(taskRollupRepository, never()).moveSubtree(anyString(), anyString(), anyInt());
+        assertNull(stage.getTask());
+    }
+
+    @Test
+    void setParent_ToItself_ShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> taskHierarchyService.setParent(1, 1));
+        verifyNoInteractions(taskRepository, taskRollupRepository);
+    }
+
+    @Test
+    void getProgress_ForTaskOutsideHierarchy_ShouldUseOwnStatus() {
+        // Arrange
+        when(taskRollupRepository.findProgressByTaskId(1)).thenReturn(Optional.empty());
+        when(taskRepository.findById(1)).thenReturn(Optional.of(stage));
+
+        // Act
+        TaskProgressDTO progress = taskHierarchyService.getProgress(1).orElseThrow();
+
+        // Assert
+        assertEquals(0, progress.getSubtaskCount());
+        assertEquals(35, progress.getCompletionPercentage());
+        assertTrue(progress.getAncestorIds().isEmpty());
+    }
+
+    private Task task(int id, Task parent) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTask(parent);
+        task.setStatus(inProgress);
+        task.setDeadline(LocalDate.now().plusMonths(1));
+        return task;
+    }
+
+    private TaskProgressDTO rollup(int taskId, String path, int depth, int progress, boolean completed) {
+        return new TaskProgressDTO(taskId, path, depth, progress, completed, false, 0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,964 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.TaskBulkResultDTO;
+import com.example.backend.dto.TaskDTO;
+import com.example.backend.dto.TaskDashboardDTO;
+import com.example.backend.dto.TaskDetailsDTO;
+import com.example.backend.dto.TaskDependencyDTO;
+import com.example.backend.dto.TaskFilterDTO;
+import com.example.backend.dto.TaskFilterPageDTO;
+import com.example.backend.dto.TaskPageDTO;
+import com.example.backend.dto.TaskProgressDTO;
+import com.example.backend.dto.TaskSliceDTO;
+import com.example.backend.dto.TaskStatusTransitionDTO;
+import com.example.backend.dto.TeamDTO;
+import com.example.backend.dto.TeamScheduleDTO;
+import com.example.backend.exceptions.TaskDependencyCycleException;
+import com.example.backend.exceptions.TaskVersionConflictException;
+import com.example.backend.models.*;
+import com.example.backend.reminders.TaskReminderScheduler;
+import com.example.backend.repository.*;
+import com.example.backend.search.TaskSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test integracyjny ścieżek odczytu zadań na bazie H2.
+ * <p>
+ * Sprawdza, że listy zadań są budowane bezpośrednio z kolumn tabeli {@code tasks}
+ * jednym zapytaniem, bez wczytywania encji zadań ani powiązanych encji, oraz że szczegóły
+ * zadania są wczytywane według grafu encji {@link Task#GRAPH_DETAIL}. Sprawdza również,
+ * że zbiorczy zapis wstawia nowe zadania wsadowo, filtrowanie łączy wszystkie kryteria,
+ * eksport NDJSON odczytuje zadania strumieniowo, a indeks wyszukiwania i znaczniki wersji list
+ * zadań śledzą zatwierdzone zmiany. Częściowa aktualizacja zadania wykonuje jeden odczyt i jeden zapis,
+ * a zapis na podstawie nieaktualnej wersji zadania jest odrzucany. Harmonogram zespołu wyznaczany
+ * z zależności między zadaniami śledzi zatwierdzone zmiany dat, postęp zadania nadrzędnego
+ * jest aktualizowany przy zmianach podzadań, a przeszukiwanie terminów oznacza zadania po terminie
+ * tylko raz i uwzględnia późniejsze zmiany zadań. Przypomnienia o terminach śledzą zatwierdzone
+ * zmiany terminów i zakończenie zadań. Zbiorcza zmiana statusu wykonuje stałą liczbę zapytań
+ * i aktualizuje historię zmian oraz indeksy w pamięci. Zestawienie zadań panelu głównego jest liczone
+ * zapytaniem {@code GROUP BY} i odświeżane po zmianach zadań. Liczniki zadań zespołów są zmieniane
+ * razem z zadaniami, a naprawa liczników poprawia wartości, które rozminęły się z zadaniami. Powtórny
+ * odczyt zadania jest obsługiwany z pamięci podręcznej bez zapytań, a zmiana i usunięcie zadania
+ * (także razem z zespołem) usuwają je z tej pamięci. Szczegóły zadania z komentarzami, historią
+ * i danymi słownikowymi są odczytywane stałą liczbą zapytań niezależnie od liczby komentarzy i wpisów historii.
+ * Wyszukiwanie po prefiksie tytułu pomija wielkość liter i znaki diakrytyczne oraz śledzi zmiany tytułów.
+ */
+@SpringBootTest
+@ActiveProfiles("deploy")
+class TaskServiceIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private TaskVersionTracker taskVersionTracker;
+
+    @Autowired
+    private TaskDependencyService taskDependencyService;
+
+    @Autowired
+    private TaskHierarchyService taskHierarchyService;
+
+    @Autowired
+    private OverdueTaskService overdueTaskService;
+
+    @Autowired
+    private TaskReminderScheduler taskReminderScheduler;
+
+    @Autowired
+    private TaskStatusTransitionService taskStatusTransitionService;
+
+    @Autowired
+    private TaskHistoryRepository taskHistoryRepository;
+
+    @Autowired
+    private TaskCommentRepository taskCommentRepository;
+
+    @Autowired
+    private TaskDetailsService taskDetailsService;
+
+    @Autowired
+    private TaskDashboardService taskDashboardService;
+
+    @Autowired
+    private TeamTaskCounterService teamTaskCounterService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PriorityRepository priorityRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScanWatermarkRepository scanWatermarkRepository;
+
+    @Autowired
+    private TeamTaskCounterRepository teamTaskCounterRepository;
+
+    @Autowired
+    private TaskDependencyRepository taskDependencyRepository;
+
+    @Autowired
+    private TaskReminderDeliveryRepository taskReminderDeliveryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private Team team;
+    private Priority priority;
+    private TaskStatus status;
+    private Task teamTask;
+    private Task unassignedTask;
+    private final List<Integer> bulkTaskIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUsername("task-read-user");
+        user.setPassword("secret");
+        user.setEmail("task-read-user@example.com");
+        user.setFirstName("Task");
+        user.setLastName("Reader");
+        user.setRole("kierownik");
+        user = userRepository.save(user);
+
+        team = new Team();
+        team.setName("Zespół odczytu");
+        team.setManager(user);
+        team = teamRepository.save(team);
+
+        priority = new Priority();
+        priority.setName("Priorytet testowy");
+        priority.setValue(1);
+        priority = priorityRepository.save(priority);
+
+        status = new TaskStatus();
+        status.setName("Status testowy");
+        status.setProgressMin(0);
+        status.setProgressMax(100);
+        status.setDisplayOrder(1);
+        status = taskStatusRepository.save(status);
+
+        teamTask = taskRepository.save(task("Wylanie fundamentów", team));
+        unassignedTask = taskRepository.save(task("Zamówienie materiałów", null));
+        teamTaskCounterRepository.save(new TeamTaskCounter(team.getId(), 1, 0, 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllById(bulkTaskIds);
+        taskRepository.deleteAllById(List.of(teamTask.getId(), unassignedTask.getId()));
+        teamRepository.delete(team);
+        priorityRepository.delete(priority);
+        taskStatusRepository.delete(status);
+        userRepository.delete(user);
+    }
+
+    private Task task(String title, Team assignedTeam) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setTeam(assignedTeam);
+        task.setPriority(priority);
+        task.setStatus(status);
+        task.setCreatedBy(user);
+        task.setDeadline(LocalDate.of(2025, 6, 30));
+        return task;
+    }
+
+    @Test
+    void listingTasks_ShouldNotLoadAnyEntities() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            List<TaskDTO> tasks = taskService.getAllTasks();
+
+            assertEquals(0, statistics.getEntityLoadCount());
+            assertEquals(1, statistics.getPrepareStatementCount());
+
+            TaskDTO withTeam = tasks.stream().filter(t -> t.getId().equals(teamTask.getId())).findFirst().orElseThrow();
+            assertEquals(team.getId(), withTeam.getTeamId());
+            assertEquals(priority.getId(), withTeam.getPriorityId());
+            assertEquals(status.getId(), withTeam.getStatusId());
+            assertEquals(user.getId(), withTeam.getCreatedById());
+            assertEquals(LocalDate.of(2025, 6, 30), withTeam.getDeadline());
+
+            // Tasks without a team must not be dropped by an implicit inner join
+            TaskDTO withoutTeam = tasks.stream().filter(t -> t.getId().equals(unassignedTask.getId())).findFirst().orElseThrow();
+            assertNull(withoutTeam.getTeamId());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    void filteredListsAndPages_ShouldUseProjection() {
+        assertEquals(List.of(teamTask.getId()),
+                taskService.getTasksByTeamId(team.getId()).stream().map(TaskDTO::getId).toList());
+        assertEquals(2, taskService.getTasksByStatusId(status.getId()).size());
+        assertEquals(2, taskService.getTasksByPriorityId(priority.getId()).size());
+        assertEquals(2, taskService.getTasksWithDeadlineBefore(LocalDate.of(2025, 7, 1)).size());
+        assertEquals(unassignedTask.getId(), taskService.getTaskByTitle("Zamówienie materiałów").orElseThrow().getId());
+
+        TaskPageDTO firstPage = taskService.getTasksPage(null, 1);
+        TaskPageDTO secondPage = taskService.getTasksPage(firstPage.getNext(), 1);
+        assertEquals(teamTask.getId(), firstPage.getItems().get(0).getId());
+        assertEquals(unassignedTask.getId(), secondPage.getItems().get(0).getId());
+    }
+
+    @Test
+    void taskDetail_ShouldLoadDetailGraphInOneQuery() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            Task detailed = taskService.getTaskEntityById(teamTask.getId()).orElseThrow();
+
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertTrue(Hibernate.isInitialized(detailed.getTeam()));
+            assertTrue(Hibernate.isInitialized(detailed.getTeam().getManager()));
+            assertTrue(Hibernate.isInitialized(detailed.getStatus()));
+            assertTrue(Hibernate.isInitialized(detailed.getPriority()));
+            assertTrue(Hibernate.isInitialized(detailed.getCreatedBy()));
+            assertEquals("Zespół odczytu", detailed.getTeam().getName());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    void plainLookup_ShouldLeaveAssociationsLazy() {
+        Task plain = taskRepository.findById(teamTask.getId()).orElseThrow();
+
+        assertFalse(Hibernate.isInitialized(plain.getTeam()));
+        assertFalse(Hibernate.isInitialized(plain.getCreatedBy()));
+    }
+
+    @Test
+    void bulkSave_ShouldInsertTasksInJdbcBatches() {
+        List<TaskDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            TaskDTO dto = new TaskDTO();
+            dto.setTitle("Zadanie zbiorcze " + i);
+            dto.setTeamId(team.getId());
+            dto.setPriorityId(priority.getId());
+            dto.setStatusId(status.getId());
+            dto.setCreatedById(user.getId());
+            dtos.add(dto);
+        }
+        TaskDTO update = new TaskDTO();
+        update.setId(teamTask.getId());
+        update.setTitle("Wylanie fundamentów - etap 2");
+        dtos.add(update);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        TaskBulkResultDTO result;
+        try {
+            result = taskService.saveTasksBulk(dtos);
+
+            // 5 lookups, at most 2 id-pool rounds, one insert batch, one update batch and one counter update
+            assertTrue(statistics.getPrepareStatementCount() <= 11,
+                    "Prepared statements: " + statistics.getPrepareStatementCount());
+            assertEquals(20, statistics.getEntityInsertCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+        result.getTasks().stream()
+                .map(TaskDTO::getId)
+                .filter(id -> !id.equals(teamTask.getId()))
+                .forEach(bulkTaskIds::add);
+
+        assertTrue(result.getErrors().isEmpty());
+        assertEquals(20, result.getCreatedCount());
+        assertEquals(1, result.getUpdatedCount());
+        assertEquals(20, bulkTaskIds.stream().distinct().count());
+        assertEquals("Wylanie fundamentów - etap 2",
+                taskRepository.findById(teamTask.getId()).orElseThrow().getTitle());
+        assertEquals(team.getId(), taskService.getTaskById(teamTask.getId()).orElseThrow().getTeamId());
+    }
+
+    @Test
+    void filterTasks_ShouldCombineCriteriaSortAndPage() {
+        TaskFilterDTO byTeamAndStatus = new TaskFilterDTO(team.getId(), status.getId(), priority.getId(),
+                LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30), null, null);
+        TaskFilterPageDTO teamPage = taskService.filterTasks(byTeamAndStatus, 0, 10, null);
+        assertEquals(List.of(teamTask.getId()), teamPage.getItems().stream().map(TaskDTO::getId).toList());
+        assertEquals(1, teamPage.getTotalElements());
+
+        TaskFilterDTO byText = new TaskFilterDTO(null, status.getId(), null, null, null, "MATERIA", null);
+        assertEquals(List.of(unassignedTask.getId()),
+                taskService.filterTasks(byText, 0, 10, null).getItems().stream().map(TaskDTO::getId).toList());
+
+        TaskFilterDTO byStatus = new TaskFilterDTO(null, status.getId(), null, null, null, null, null);
+        TaskFilterPageDTO firstPage = taskService.filterTasks(byStatus, 0, 1, "title,desc");
+        TaskFilterPageDTO secondPage = taskService.filterTasks(byStatus, 1, 1, "title,desc");
+        assertEquals(2, firstPage.getTotalElements());
+        assertEquals(2, firstPage.getTotalPages());
+        assertEquals(unassignedTask.getId(), firstPage.getItems().get(0).getId());
+        assertEquals(teamTask.getId(), secondPage.getItems().get(0).getId());
+        assertEquals(team.getId(), secondPage.getItems().get(0).getTeamId());
+
+        TaskFilterDTO outOfRange = new TaskFilterDTO(null, status.getId(), null, LocalDate.of(2025, 7, 1), null,
+                null, null);
+        assertEquals(0, taskService.filterTasks(outOfRange, 0, 10, "priority").getTotalElements());
+
+        // Tasks of the user's teams only; tasks without a team are left out
+        TaskFilterDTO byTeams = new TaskFilterDTO(null, status.getId(), null, null, null, null,
+                List.of(team.getId(), team.getId() + 1000));
+        assertEquals(List.of(teamTask.getId()), taskService.filterTasks(byTeams, 0, 10, "status,desc")
+                .getItems().stream().map(TaskDTO::getId).toList());
+    }
+
+    @Test
+    void exportTasks_ShouldStreamAllTasksAsNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = taskExportService.exportTasks(out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(count, lines.size());
+        assertTrue(lines.stream().anyMatch(line -> line.contains("\"id\":" + teamTask.getId() + ",")
+                && line.contains("\"teamId\":" + team.getId())
+                && line.contains("\"deadline\":\"2025-06-30\"")));
+        assertTrue(lines.stream().anyMatch(line -> line.contains("\"id\":" + unassignedTask.getId() + ",")));
+    }
+
+    @Test
+    void searchIndex_ShouldFollowCommittedChangesOnly() {
+        assertTrue(taskSearchIndex.search("fundamentów", 0, 10).getHits().stream()
+                .anyMatch(hit -> hit.getTask().getId().equals(teamTask.getId())));
+
+        TaskDTO dto = new TaskDTO();
+        dto.setTitle("Ocieplenie poddasza");
+        dto.setDescription("Wełna mineralna");
+        dto.setPriorityId(priority.getId());
+        dto.setStatusId(status.getId());
+        dto.setCreatedById(user.getId());
+        TaskDTO saved = taskService.saveTask(dto);
+        bulkTaskIds.add(saved.getId());
+        assertEquals(List.of(saved.getId()), taskSearchIndex.search("poddaszu", 0, 10).getHits().stream()
+                .map(hit -> hit.getTask().getId()).toList());
+
+        saved.setTitle("Ocieplenie dachu");
+        taskService.updateTask(saved);
+        assertEquals(0, taskSearchIndex.search("poddasze", 0, 10).getTotalHits());
+        assertEquals(1, taskSearchIndex.search("dach ocieplenie", 0, 10).getHits().stream()
+                .filter(hit -> hit.getTask().getId().equals(saved.getId())).count());
+
+        // A rolled back save must not reach the index
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(txStatus -> {
+            TaskDTO rolledBack = new TaskDTO();
+            rolledBack.setTitle("Wycofane tynkowanie");
+            rolledBack.setPriorityId(priority.getId());
+            rolledBack.setStatusId(status.getId());
+            rolledBack.setCreatedById(user.getId());
+            taskService.saveTask(rolledBack);
+            taskRepository.flush();
+            txStatus.setRollbackOnly();
+        });
+        assertEquals(0, taskSearchIndex.search("tynkowanie", 0, 10).getTotalHits());
+
+        taskService.deleteTask(saved.getId());
+        bulkTaskIds.remove(saved.getId());
+        assertEquals(0, taskSearchIndex.search("ocieplenie", 0, 10).getTotalHits());
+    }
+
+    @Test
+    void listETags_ShouldChangeForBothTeamsWhenTaskMovesAndIgnoreRollbacks() {
+        Team otherTeam = new Team();
+        otherTeam.setName("Zespół docelowy");
+        otherTeam.setManager(user);
+        otherTeam = teamRepository.save(otherTeam);
+        try {
+            String globalBefore = taskVersionTracker.globalETag();
+            String sourceBefore = taskVersionTracker.teamETag(team.getId());
+            String targetBefore = taskVersionTracker.teamETag(otherTeam.getId());
+
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.executeWithoutResult(txStatus -> {
+                Task task = taskRepository.findById(teamTask.getId()).orElseThrow();
+                task.setTitle("Zmiana wycofana");
+                taskRepository.flush();
+                txStatus.setRollbackOnly();
+            });
+            assertEquals(globalBefore, taskVersionTracker.globalETag());
+            assertEquals(sourceBefore, taskVersionTracker.teamETag(team.getId()));
+
+            TaskDTO moved = taskService.getTaskById(teamTask.getId()).orElseThrow();
+            moved.setTeamId(otherTeam.getId());
+            taskService.updateTask(moved);
+
+            assertNotEquals(globalBefore, taskVersionTracker.globalETag());
+            assertNotEquals(sourceBefore, taskVersionTracker.teamETag(team.getId()));
+            assertNotEquals(targetBefore, taskVersionTracker.teamETag(otherTeam.getId()));
+        } finally {
+            Task task = taskRepository.findById(teamTask.getId()).orElseThrow();
+            task.setTeam(team);
+            taskRepository.save(task);
+            teamRepository.delete(otherTeam);
+        }
+    }
+
+    @Test
+    void patchTask_ShouldIssueOneSelectAndOneUpdate() {
+        TaskStatus doneStatus = new TaskStatus();
+        doneStatus.setName("Status końcowy");
+        doneStatus.setProgressMin(100);
+        doneStatus.setProgressMax(100);
+        doneStatus.setDisplayOrder(2);
+        doneStatus = taskStatusRepository.save(doneStatus);
+        try {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+            try {
+                TaskDTO patched = taskService.patchTask(teamTask.getId(), Map.of("statusId", doneStatus.getId()))
+                        .orElseThrow();
+
+                assertEquals(doneStatus.getId(), patched.getStatusId());
+                assertEquals(team.getId(), patched.getTeamId());
+                assertEquals(1, statistics.getEntityLoadCount());
+                assertEquals(1, statistics.getEntityUpdateCount());
+                // The task select and update, then the team and global list versions
+                assertEquals(4, statistics.getPrepareStatementCount());
+            } finally {
+                statistics.setStatisticsEnabled(false);
+            }
+
+            TaskDTO reloaded = taskService.getTaskById(teamTask.getId()).orElseThrow();
+            assertEquals(doneStatus.getId(), reloaded.getStatusId());
+            assertEquals("Wylanie fundamentów", reloaded.getTitle());
+            assertEquals(priority.getId(), reloaded.getPriorityId());
+        } finally {
+            taskService.patchTask(teamTask.getId(), Map.of("statusId", status.getId()));
+            taskStatusRepository.delete(doneStatus);
+        }
+    }
+
+    @Test
+    void updates_WithStaleVersion_ShouldBeRejectedWithoutOverwriting() {
+        TaskDTO loaded = taskService.getTaskById(teamTask.getId()).orElseThrow();
+        Long loadedVersion = loaded.getVersion();
+        assertNotNull(loadedVersion);
+
+        // First writer succeeds and bumps the version
+        TaskDTO first = taskService.patchTask(teamTask.getId(), Map.of("title", "Pierwsza zmiana"), loadedVersion)
+                .orElseThrow();
+        assertEquals(loadedVersion + 1, first.getVersion());
+
+        // Second writer still holds the old version
+        TaskVersionConflictException patchConflict = assertThrows(TaskVersionConflictException.class,
+                () -> taskService.patchTask(teamTask.getId(), Map.of("title", "Druga zmiana"), loadedVersion));
+        assertEquals("Pierwsza zmiana", patchConflict.getCurrentTask().getTitle());
+        assertEquals(first.getVersion(), patchConflict.getCurrentTask().getVersion());
+
+        loaded.setTitle("Druga zmiana");
+        assertThrows(TaskVersionConflictException.class, () -> taskService.updateTask(loaded, loadedVersion));
+
+        TaskDTO reloaded = taskService.getTaskById(teamTask.getId()).orElseThrow();
+        assertEquals("Pierwsza zmiana", reloaded.getTitle());
+        assertEquals(first.getVersion(), reloaded.getVersion());
+    }
+
+    @Test
+    void concurrentWrite_ShouldSurfaceAsOptimisticLockingFailure() {
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        TransactionTemplate concurrent = new TransactionTemplate(transactionManager);
+        concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> outer.executeWithoutResult(txStatus -> {
+            Task stale = taskRepository.findById(teamTask.getId()).orElseThrow();
+            // Another writer commits in between
+            concurrent.executeWithoutResult(inner ->
+                    taskService.patchTask(teamTask.getId(), Map.of("title", "Zmiana równoległa")));
+            stale.setTitle("Zmiana nadpisująca");
+            taskRepository.flush();
+        }));
+
+        assertEquals("Zmiana równoległa", taskService.getTaskById(teamTask.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void dependencies_ShouldDriveTeamScheduleAndFollowDateChanges() {
+        Task framing = task("Stawianie ścian", team);
+        framing.setStartDate(LocalDate.of(2025, 6, 1));
+        framing.setDeadline(LocalDate.of(2025, 6, 10));
+        framing = taskRepository.save(framing);
+        bulkTaskIds.add(framing.getId());
+        Integer framingId = framing.getId();
+        taskService.patchTask(teamTask.getId(), Map.of("startDate", "2025-06-01", "deadline", "2025-06-05"));
+
+        taskDependencyService.addDependency(new TaskDependencyDTO(null, teamTask.getId(), framingId));
+        TeamScheduleDTO schedule = taskDependencyService.getTeamSchedule(team.getId()).orElseThrow();
+        assertEquals(List.of(teamTask.getId(), framingId), schedule.getCriticalPath());
+        assertEquals(LocalDate.of(2025, 6, 15), schedule.getProjectFinish());
+        assertThrows(TaskDependencyCycleException.class,
+                () -> taskDependencyService.addDependency(new TaskDependencyDTO(null, framingId, teamTask.getId())));
+
+        // A dependency committed by another instance never reached this instance's graph
+        Task roof = taskRepository.save(task("Dach", team));
+        bulkTaskIds.add(roof.getId());
+        TaskDependency elsewhere = new TaskDependency();
+        elsewhere.setPredecessor(taskRepository.findById(framingId).orElseThrow());
+        elsewhere.setSuccessor(roof);
+        taskDependencyRepository.save(elsewhere);
+        assertThrows(TaskDependencyCycleException.class,
+                () -> taskDependencyService.addDependency(new TaskDependencyDTO(null, roof.getId(), teamTask.getId())));
+
+        // The cached graph picks up the committed date change
+        taskService.patchTask(teamTask.getId(), Map.of("deadline", "2025-06-07"));
+        assertEquals(LocalDate.of(2025, 6, 17),
+                taskDependencyService.getTeamSchedule(team.getId()).orElseThrow().getProjectFinish());
+
+        // Deleting a task removes its dependencies
+        taskService.deleteTask(framingId);
+        bulkTaskIds.remove(framingId);
+        assertTrue(taskDependencyService.getTeamDependencies(team.getId()).isEmpty());
+        assertEquals(List.of(teamTask.getId()),
+                taskDependencyService.getTeamSchedule(team.getId()).orElseThrow().getCriticalPath());
+    }
+
+    @Test
+    void subtasks_ShouldRollUpProgressIncrementallyAndMoveWithTheirSubtree() {
+        Integer rootId = teamTask.getId();
+        Integer roofId = subtask("Dach");
+        Integer trussId = subtask("Więźba dachowa");
+        Integer wallsId = subtask("Ściany");
+        taskHierarchyService.setParent(roofId, rootId);
+        taskHierarchyService.setParent(wallsId, rootId);
+        taskHierarchyService.setParent(trussId, roofId);
+
+        TaskProgressDTO root = taskHierarchyService.getProgress(rootId).orElseThrow();
+        assertEquals(3, root.getSubtaskCount());
+        assertEquals(0, root.getCompletionPercentage());
+        assertEquals(List.of(rootId, roofId), taskHierarchyService.getProgress(trussId).orElseThrow().getAncestorIds());
+        assertEquals(rootId, taskService.getTaskById(roofId).orElseThrow().getParentTaskId());
+
+        taskService.patchTask(trussId, Map.of("completedDate", LocalDate.now().toString()));
+        taskService.patchTask(wallsId, Map.of("deadline", "2025-01-31"));
+        root = taskHierarchyService.getProgress(rootId).orElseThrow();
+        assertEquals(1, root.getCompletedSubtasks());
+        assertEquals(1, root.getLateSubtasks());
+        assertEquals(33, root.getCompletionPercentage());
+        assertEquals(100, taskHierarchyService.getProgress(roofId).orElseThrow().getCompletionPercentage());
+
+        // The whole subtree comes back in one statement, parents before their subtasks
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            List<Integer> subtree = taskHierarchyService.getSubtree(rootId).orElseThrow().stream()
+                    .map(TaskDTO::getId).toList();
+            assertEquals(3, subtree.size());
+            assertEquals(subtree.indexOf(roofId) + 1, subtree.indexOf(trussId));
+            assertEquals(0, statistics.getEntityLoadCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> taskHierarchyService.setParent(rootId, trussId));
+
+        taskHierarchyService.setParent(trussId, wallsId);
+        assertEquals(0, taskHierarchyService.getProgress(roofId).orElseThrow().getSubtaskCount());
+        assertEquals(1, taskHierarchyService.getProgress(wallsId).orElseThrow().getCompletedSubtasks());
+        assertEquals(3, taskHierarchyService.getProgress(rootId).orElseThrow().getSubtaskCount());
+
+        // Deleting a task moves its subtasks up to its parent
+        taskService.deleteTask(wallsId);
+        bulkTaskIds.remove(wallsId);
+        assertEquals(rootId, taskService.getTaskById(trussId).orElseThrow().getParentTaskId());
+        root = taskHierarchyService.getProgress(rootId).orElseThrow();
+        assertEquals(2, root.getSubtaskCount());
+        assertEquals(1, root.getCompletedSubtasks());
+        assertEquals(0, root.getLateSubtasks());
+    }
+
+    @Test
+    void overdueScan_ShouldMarkEachPassedDeadlineOnceAndFollowTaskChanges() {
+        LocalDate today = LocalDate.now();
+        // Other tests may have scanned already; start from a watermark that was never set
+        scanWatermarkRepository.deleteById(OverdueTaskService.WATERMARK_NAME);
+
+        overdueTaskService.scan();
+        assertEquals(List.of(teamTask.getId()),
+                taskService.getOverdueTasksByTeamId(team.getId()).stream().map(TaskDTO::getId).toList());
+        assertEquals(today, scanWatermarkRepository.findById(OverdueTaskService.WATERMARK_NAME)
+                .orElseThrow().getWatermark());
+        assertEquals(0, overdueTaskService.scan());
+
+        // Completing the task unmarks it right away
+        taskService.patchTask(teamTask.getId(), Map.of("completedDate", today.toString()));
+        assertTrue(taskService.getOverdueTasksByTeamId(team.getId()).isEmpty());
+
+        // Reopening it with a passed deadline moves the watermark back for the next scan
+        Map<String, Object> reopen = new HashMap<>();
+        reopen.put("completedDate", null);
+        reopen.put("deadline", today.minusDays(3).toString());
+        taskService.patchTask(teamTask.getId(), reopen);
+        assertEquals(today.minusDays(3), scanWatermarkRepository.findById(OverdueTaskService.WATERMARK_NAME)
+                .orElseThrow().getWatermark());
+
+        assertEquals(1, overdueTaskService.scan());
+        assertEquals(List.of(teamTask.getId()),
+                taskService.getOverdueTasksByTeamId(team.getId()).stream().map(TaskDTO::getId).toList());
+    }
+
+    @Test
+    void reminders_ShouldFollowCommittedDeadlineChanges() {
+        Integer taskId = teamTask.getId();
+        assertFalse(taskReminderScheduler.isScheduled(taskId));
+
+        taskService.patchTask(taskId, Map.of("deadline", LocalDate.now().plusDays(2).toString()));
+        assertTrue(taskReminderScheduler.isScheduled(taskId));
+
+        taskService.patchTask(taskId, Map.of("completedDate", LocalDate.now().toString()));
+        assertFalse(taskReminderScheduler.isScheduled(taskId));
+    }
+
+    @Test
+    void reminderDeliveries_ShouldBeRecordedOncePerTaskAndDeadline() {
+        LocalDate deadline = LocalDate.now().plusDays(1);
+        taskReminderDeliveryRepository.saveAndFlush(new TaskReminderDelivery(teamTask, deadline));
+        try {
+            // A second instance trying to deliver the same reminder
+            assertThrows(DataIntegrityViolationException.class, () -> taskReminderDeliveryRepository.saveAndFlush(
+                    new TaskReminderDelivery(teamTask, deadline)));
+            taskReminderDeliveryRepository.saveAndFlush(new TaskReminderDelivery(teamTask, deadline.plusDays(1)));
+            assertEquals(2, taskReminderDeliveryRepository.count());
+        } finally {
+            new TransactionTemplate(transactionManager).executeWithoutResult(tx ->
+                    taskReminderDeliveryRepository.deleteByDeadlineBefore(deadline.plusDays(2)));
+        }
+        assertEquals(0, taskReminderDeliveryRepository.count());
+    }
+
+    @Test
+    void bulkStatusTransition_ShouldUseSetBasedWritesAndKeepIndexesInStep() {
+        TaskStatus completedStatus = new TaskStatus();
+        completedStatus.setName("Zakończone");
+        completedStatus.setProgressMin(100);
+        completedStatus.setProgressMax(100);
+        completedStatus.setDisplayOrder(3);
+        completedStatus = taskStatusRepository.save(completedStatus);
+        Integer teamTaskId = teamTask.getId();
+        Integer unassignedTaskId = unassignedTask.getId();
+        try {
+            taskService.patchTask(teamTaskId, Map.of("deadline", LocalDate.now().plusDays(2).toString()));
+            assertTrue(taskReminderScheduler.isScheduled(teamTaskId));
+            long version = taskRepository.findById(teamTaskId).orElseThrow().getVersion();
+            String teamETag = taskVersionTracker.teamETag(team.getId());
+
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+            TaskBulkResultDTO result;
+            try {
+                result = taskStatusTransitionService.transitionStatus(new TaskStatusTransitionDTO(
+                        List.of(teamTaskId, unassignedTaskId, -1), completedStatus.getId(), user.getId()));
+
+                // Status, user, locked tasks, two history inserts, one update, clearing overdue marks,
+                // one counter update per team and the team and global list versions, whatever the task count
+                assertEquals(0, statistics.getEntityUpdateCount());
+                assertEquals(10, statistics.getPrepareStatementCount());
+            } finally {
+                statistics.setStatisticsEnabled(false);
+            }
+
+            assertEquals(2, result.getUpdatedCount());
+            assertEquals(List.of(-1), result.getErrors().stream().map(TaskBulkResultDTO.ItemError::getId).toList());
+
+            Task reloaded = taskRepository.findById(teamTaskId).orElseThrow();
+            assertEquals(completedStatus.getId(), reloaded.getStatus().getId());
+            assertEquals(LocalDate.now(), reloaded.getCompletedDate());
+            assertEquals(version + 1, reloaded.getVersion());
+            assertEquals(version + 1, result.getTasks().get(0).getVersion());
+
+            List<TaskHistory> history = taskHistoryRepository.findByTask(reloaded);
+            assertEquals(Map.of("status", "Zakończone", "completedDate", LocalDate.now().toString()),
+                    history.stream().collect(Collectors.toMap(
+                            TaskHistory::getFieldName, TaskHistory::getNewValue)));
+            assertEquals("Status testowy", history.stream()
+                    .filter(entry -> entry.getFieldName().equals("status"))
+                    .findFirst().orElseThrow().getOldValue());
+
+            assertNotEquals(teamETag, taskVersionTracker.teamETag(team.getId()));
+            assertFalse(taskReminderScheduler.isScheduled(teamTaskId));
+            Integer finalStatusId = completedStatus.getId();
+            assertTrue(taskSearchIndex.search("fundamentów", 0, 10).getHits().stream()
+                    .anyMatch(hit -> hit.getTask().getId().equals(teamTaskId)
+                            && finalStatusId.equals(hit.getTask().getStatusId())));
+        } finally {
+            new TransactionTemplate(transactionManager).executeWithoutResult(tx ->
+                    taskHistoryRepository.deleteByTaskIdIn(List.of(teamTaskId, unassignedTaskId)));
+            taskService.patchTask(teamTaskId, Map.of("statusId", status.getId()));
+            taskService.patchTask(unassignedTaskId, Map.of("statusId", status.getId()));
+            taskStatusRepository.delete(completedStatus);
+        }
+    }
+
+    @Test
+    void dashboard_ShouldCountGroupsAndRefreshAfterTaskWrites() {
+        TaskDashboardDTO before = taskDashboardService.getDashboardForUser(user.getId()).orElseThrow();
+        // The user manages the team, and tasks without a team are outside every team scope
+        assertEquals(1, before.getTotalCount());
+        assertEquals(1, before.getOverdueCount());
+        assertEquals(List.of(new TaskDashboardDTO.GroupCount(team.getId(), "Zespół odczytu", 1, 1, 0)),
+                before.getByTeam());
+        assertEquals(1, before.getByStatus().stream()
+                .filter(count -> count.getId().equals(status.getId()))
+                .findFirst().orElseThrow().getCount());
+
+        TaskDashboardDTO all = taskDashboardService.getDashboard();
+        assertEquals(1, all.getByTeam().stream().filter(count -> count.getId() == null)
+                .findFirst().orElseThrow().getCount());
+
+        taskService.patchTask(teamTask.getId(), Map.of("deadline", LocalDate.now().toString()));
+
+        TaskDashboardDTO after = taskDashboardService.getDashboardForUser(user.getId()).orElseThrow();
+        assertEquals(0, after.getOverdueCount());
+        assertEquals(1, after.getDueThisWeekCount());
+    }
+
+    @Test
+    void teamTaskCounters_ShouldFollowTaskWritesAndBeRepaired() {
+        TaskDTO created = new TaskDTO();
+        created.setTitle("Odbiór zbrojenia");
+        created.setTeamId(team.getId());
+        created.setPriorityId(priority.getId());
+        created.setStatusId(status.getId());
+        created.setCreatedById(user.getId());
+        created.setCompletedDate(LocalDate.now());
+        Integer createdId = taskService.saveTask(created).getId();
+        bulkTaskIds.add(createdId);
+        assertCounters(1, 1);
+
+        taskService.patchTask(teamTask.getId(), Map.of("completedDate", LocalDate.now().toString()));
+        assertCounters(0, 2);
+
+        taskService.patchTask(unassignedTask.getId(), Map.of("teamId", team.getId()));
+        assertCounters(1, 2);
+
+        taskService.deleteTask(createdId);
+        assertCounters(1, 1);
+
+        TeamDTO dto = teamService.getTeamById(team.getId()).orElseThrow();
+        assertEquals(1, dto.getOpenTaskCount());
+        assertEquals(1, dto.getCompletedTaskCount());
+        assertEquals(0, dto.getOverdueTaskCount());
+
+        // A write that bypassed the services leaves the counters behind until the repair
+        TeamTaskCounter counter = teamTaskCounterRepository.findById(team.getId()).orElseThrow();
+        counter.setOpenCount(7);
+        teamTaskCounterRepository.save(counter);
+        assertTrue(teamTaskCounterService.repair() >= 1);
+        assertCounters(1, 1);
+        assertEquals(0, teamTaskCounterService.repair());
+    }
+
+    @Test
+    void taskCache_ShouldServeRepeatedReadsAndDropChangedTasks() {
+        Integer taskId = teamTask.getId();
+        taskService.getTaskById(taskId);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            assertEquals("Wylanie fundamentów", taskService.getTaskById(taskId).orElseThrow().getTitle());
+            assertEquals(0, statistics.getPrepareStatementCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        TaskDTO patched = taskService.patchTask(taskId, Map.of("title", "Wylanie fundamentów - poprawka"))
+                .orElseThrow();
+        TaskDTO reread = taskService.getTaskById(taskId).orElseThrow();
+        assertEquals("Wylanie fundamentów - poprawka", reread.getTitle());
+        assertEquals(patched.getVersion(), reread.getVersion());
+
+        TaskDTO created = new TaskDTO();
+        created.setTitle("Montaż szalunków");
+        created.setTeamId(team.getId());
+        created.setPriorityId(priority.getId());
+        created.setStatusId(status.getId());
+        created.setCreatedById(user.getId());
+        Integer createdId = taskService.saveTask(created).getId();
+        assertTrue(taskService.getTaskById(createdId).isPresent());
+        taskService.deleteTask(createdId);
+        assertTrue(taskService.getTaskById(createdId).isEmpty());
+
+        Team otherTeam = new Team();
+        otherTeam.setName("Zespół rozwiązywany");
+        otherTeam.setManager(user);
+        otherTeam = teamRepository.save(otherTeam);
+        Integer otherTaskId = taskRepository.save(task("Demontaż rusztowań", otherTeam)).getId();
+        assertTrue(taskService.getTaskById(otherTaskId).isPresent());
+        teamService.deleteTeam(otherTeam.getId());
+        assertTrue(taskService.getTaskById(otherTaskId).isEmpty());
+    }
+
+    @Test
+    void titlePrefixSearch_ShouldIgnoreCaseAndDiacriticsAndFollowTitleChanges() {
+        bulkTaskIds.add(taskRepository.save(task("Łączenie rur", team)).getId());
+        bulkTaskIds.add(taskRepository.save(task("ŁĄCZENIE KABLI", team)).getId());
+        bulkTaskIds.add(taskRepository.save(task("Łącz_100%", team)).getId());
+        bulkTaskIds.add(taskRepository.save(task("Zamówienie materiałów", null)).getId());
+
+        assertEquals(List.of("Łącz_100%", "ŁĄCZENIE KABLI", "Łączenie rur"), titles(
+                taskService.findTasksByTitlePrefix("lacz", 0, null)));
+        assertEquals(List.of("Łącz_100%"), titles(taskService.findTasksByTitlePrefix("ŁĄCZ_", 0, null)));
+        assertEquals(List.of("Łącz_100%"), titles(taskService.findTasksByTitlePrefix("łącz_100%", 0, null)));
+
+        TaskSliceDTO firstPage = taskService.findTasksByTitlePrefix("zamow", 0, 1);
+        TaskSliceDTO secondPage = taskService.findTasksByTitlePrefix("zamow", 1, 1);
+        assertTrue(firstPage.isHasNext());
+        assertFalse(secondPage.isHasNext());
+        assertEquals(unassignedTask.getId(), firstPage.getItems().get(0).getId());
+        // Duplicate titles resolve to the oldest task instead of failing
+        assertEquals(unassignedTask.getId(), taskService.getTaskByTitle("Zamówienie materiałów").orElseThrow().getId());
+
+        taskService.patchTask(teamTask.getId(), Map.of("title", "Zbrojenie ław fundamentowych"));
+        assertTrue(taskService.findTasksByTitlePrefix("wylanie", 0, null).getItems().isEmpty());
+        assertEquals(List.of(teamTask.getId()), taskService.findTasksByTitlePrefix("zbrojenie law", 0, null)
+                .getItems().stream().map(TaskDTO::getId).toList());
+    }
+
+    private List<String> titles(TaskSliceDTO page) {
+        return page.getItems().stream().map(TaskDTO::getTitle).toList();
+    }
+
+    @Test
+    void taskDetails_ShouldLoadCommentsAndHistoryWithUsersInFixedNumberOfQueries() {
+        Integer taskId = teamTask.getId();
+        List<TaskComment> comments = new ArrayList<>();
+        List<TaskHistory> history = new ArrayList<>();
+        addCommentsAndHistory(comments, history, 1);
+        // A history entry of a user who no longer exists
+        TaskHistory orphaned = new TaskHistory();
+        orphaned.setTask(teamTask);
+        orphaned.setChangedBy(-1);
+        orphaned.setFieldName("title");
+        orphaned.setNewValue("Wylanie fundamentów");
+        history.add(taskHistoryRepository.save(orphaned));
+        taskService.getTaskById(taskId);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            statistics.clear();
+            TaskDetailsDTO details = taskDetailsService.getTaskDetails(taskId,
+                    EnumSet.allOf(TaskDetailsService.Part.class)).orElseThrow();
+            long statementCount = statistics.getPrepareStatementCount();
+
+            assertEquals("Wylanie fundamentów", details.getTask().getTitle());
+            assertEquals(1, details.getComments().size());
+            assertEquals("Task Reader", details.getComments().get(0).getUserFullName());
+            assertEquals(2, details.getHistory().size());
+            assertEquals("task-read-user", details.getHistory().get(0).getChangedByUsername());
+            assertEquals("Task Reader", details.getHistory().get(0).getChangedByFullName());
+            assertEquals(taskId, details.getHistory().get(0).getTaskId());
+            assertNull(details.getHistory().get(1).getChangedByFullName());
+            assertEquals(team.getName(), details.getTeam().getName());
+            assertEquals(1, details.getTeam().getOpenTaskCount());
+            assertTrue(details.getTeams().stream().anyMatch(t -> t.getId().equals(team.getId())));
+            assertTrue(details.getPriorities().stream().anyMatch(p -> p.getId().equals(priority.getId())));
+            assertTrue(details.getStatuses().stream().anyMatch(s -> s.getId().equals(status.getId())));
+
+            addCommentsAndHistory(comments, history, 5);
+            statistics.clear();
+            details = taskDetailsService.getTaskDetails(taskId, EnumSet.allOf(TaskDetailsService.Part.class))
+                    .orElseThrow();
+
+            assertEquals(6, details.getComments().size());
+            assertEquals(7, details.getHistory().size());
+            assertEquals(statementCount, statistics.getPrepareStatementCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+            taskCommentRepository.deleteAll(comments);
+            taskHistoryRepository.deleteAll(history);
+        }
+    }
+
+    private void addCommentsAndHistory(List<TaskComment> comments, List<TaskHistory> history, int count) {
+        for (int i = 0; i < count; i++) {
+            TaskComment comment = new TaskComment();
+            comment.setTask(teamTask);
+            comment.setUser(user);
+            comment.setComment("Komentarz " + comments.size());
+            comments.add(taskCommentRepository.save(comment));
+
+            TaskHistory entry = new TaskHistory();
+            entry.setTask(teamTask);
+            entry.setChangedBy(user.getId());
+            entry.setFieldName("description");
+            entry.setNewValue("Opis " + history.size());
+            history.add(taskHistoryRepository.save(entry));
+        }
+    }
+
+    private void assertCounters(int openCount, int completedCount) {
+        TeamTaskCounter counter = teamTaskCounterRepository.findById(team.getId()).orElseThrow();
+        assertEquals(openCount, counter.getOpenCount());
+        assertEquals(completedCount, counter.getCompletedCount());
+    }
+
+    private Integer subtask(String title) {
+        Task subtask = task(title, team);
+        subtask.setDeadline(LocalDate.now().plusYears(1));
+        Integer id = taskRepository.save(subtask).getId();
+        // Subtasks are removed before the root task
+        bulkTaskIds.add(id);
+        return id;
+    }
+}
@@ -1,23 +1,42 @@
 package com.example.backend.services;
 
+import com.example.backend.dto.TaskBulkResultDTO;
 import com.example.backend.dto.TaskDTO;
+import com.example.backend.exceptions.TaskVersionConflictException;
+import com.example.backend.dto.TaskFilterDTO;
+import com.example.backend.dto.TaskFilterPageDTO;
+import com.example.backend.dto.TaskPageDTO;
+import com.example.backend.dto.TaskSliceDTO;
 import com.example.backend.models.*;
+import com.example.backend.reminders.TaskReminderScheduler;
 import com.example.backend.repository.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +57,24 @@ class TaskServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TaskHierarchyService taskHierarchyService;
+
+    @Mock
+    private OverdueTaskService overdueTaskService;
+
+    @Mock
+    private TaskReminderScheduler taskReminderScheduler;
+
+    @Mock
+    private TeamTaskCounterService teamTaskCounterService;
+
+    @Mock
+    private TaskVersionTracker taskVersionTracker;
+
+    @Spy
+    private TaskCache taskCache = new TaskCache(100, 30_000, new SimpleMeterRegistry());
+
     @InjectMocks
     private TaskService taskService;
 
@@ -96,7 +133,7 @@ class TaskServiceTest {
     @Test
     void getAllTasks_ShouldReturnListOfTasks() {
         // Arrange
-        when(taskRepository.findAll()).thenReturn(Arrays.asList(task));
+        when(taskRepository.findAllAsDTO()).thenReturn(Arrays.asList(taskDTO));
 
         // Act
         List<TaskDTO> result = taskService.getAllTasks();
@@ -107,6 +144,90 @@ class TaskServiceTest {
         assertEquals("Build Foundation", result.get(0).getTitle());
     }
 
+    @Test
+    void getTasksPage_WhenMoreRowsExist_ShouldReturnNextCursor() {
+        // Arrange
+        TaskDTO task2 = new TaskDTO();
+        task2.setId(2);
+        task2.setTitle("Install Plumbing");
+        when(taskRepository.findAsDTOByIdGreaterThan(0, PageRequest.of(0, 2)))
+                .thenReturn(Arrays.asList(taskDTO, task2));
+
+        // Act
+        TaskPageDTO page = taskService.getTasksPage(null, 1);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertEquals(1, page.getLimit());
+        assertNotNull(page.getNext());
+
+        // The cursor continues after the last returned id
+        when(taskRepository.findAsDTOByIdGreaterThan(1, PageRequest.of(0, 2)))
+                .thenReturn(List.of(task2));
+        TaskPageDTO nextPage = taskService.getTasksPage(page.getNext(), 1);
+        assertEquals("Install Plumbing", nextPage.getItems().get(0).getTitle());
+        assertNull(nextPage.getNext());
+    }
+
+    @Test
+    void getTasksPage_ShouldCapPageSize() {
+        // Arrange
+        when(taskRepository.findAsDTOByIdGreaterThan(0, PageRequest.of(0, TaskService.MAX_PAGE_SIZE + 1)))
+                .thenReturn(List.of(taskDTO));
+
+        // Act
+        TaskPageDTO page = taskService.getTasksPage(null, 100000);
+
+        // Assert
+        assertEquals(TaskService.MAX_PAGE_SIZE, page.getLimit());
+        assertNull(page.getNext());
+    }
+
+    @Test
+    void getTasksPage_WithInvalidCursor_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTasksPage("not-a-cursor", 10));
+        verify(taskRepository, never()).findAsDTOByIdGreaterThan(any(), any());
+    }
+
+    @Test
+    void filterTasks_ShouldSortByRequestedFieldWithIdTieBreaker() {
+        // Arrange
+        when(taskRepository.findAll(ArgumentMatchers.<Specification<Task>>any(), any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<>(List.of(task), invocation.getArgument(1), 41));
+
+        // Act
+        TaskFilterPageDTO result = taskService.filterTasks(new TaskFilterDTO(1, 1, null, null, null, "fund", null),
+                2, 20, "deadline,desc");
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        assertEquals("Build Foundation", result.getItems().get(0).getTitle());
+        assertEquals(41, result.getTotalElements());
+        assertEquals(3, result.getTotalPages());
+        verify(taskRepository).findAll(ArgumentMatchers.<Specification<Task>>any(), eq(PageRequest.of(2, 20,
+                Sort.by(Sort.Direction.DESC, "deadline").and(Sort.by(Sort.Direction.ASC, "id")))));
+    }
+
+    @Test
+    void filterTasks_ShouldCapPageSizeAndRejectInvalidArguments() {
+        // Arrange
+        when(taskRepository.findAll(ArgumentMatchers.<Specification<Task>>any(), any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<>(List.of(), invocation.getArgument(1), 0));
+
+        // Act
+        TaskFilterPageDTO result = taskService.filterTasks(new TaskFilterDTO(), 0, 10_000, null);
+
+        // Assert
+        assertEquals(TaskService.MAX_PAGE_SIZE, result.getSize());
+        TaskFilterDTO emptyFilter = new TaskFilterDTO();
+        assertThrows(IllegalArgumentException.class, () -> taskService.filterTasks(emptyFilter, 0, 10, "password"));
+        assertThrows(IllegalArgumentException.class, () -> taskService.filterTasks(emptyFilter, 0, 10, "title,sideways"));
+        assertThrows(IllegalArgumentException.class, () -> taskService.filterTasks(emptyFilter, -1, 10, null));
+        assertThrows(IllegalArgumentException.class, () -> taskService.filterTasks(
+                new TaskFilterDTO(null, null, null, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1), null, null),
+                0, 10, null));
+    }
+
     @Test
     void getTaskById_WhenTaskExists_ShouldReturnTask() {
         // Arrange
@@ -120,6 +241,21 @@ class TaskServiceTest {
         assertEquals("Build Foundation", result.get().getTitle());
     }
 
+    @Test
+    void getTaskById_WhenReadAgain_ShouldServeTaskFromCache() {
+        // Arrange
+        when(taskRepository.findById(1)).thenReturn(Optional.of(task));
+
+        // Act
+        taskService.getTaskById(1);
+        Optional<TaskDTO> result = taskService.getTaskById(1);
+
+        // Assert
+        assertEquals("Build Foundation", result.orElseThrow().getTitle());
+        verify(taskRepository, times(1)).findById(1);
+        verifyNoMoreInteractions(taskRepository);
+    }
+
     @Test
     void getTaskById_WhenTaskDoesNotExist_ShouldReturnEmpty() {
         // Arrange
@@ -135,7 +271,7 @@ class TaskServiceTest {
     @Test
     void getTaskEntityById_WhenTaskExists_ShouldReturnTaskEntity() {
         // Arrange
-        when(taskRepository.findById(1)).thenReturn(Optional.of(task));
+        when(taskRepository.findDetailedById(1)).thenReturn(Optional.of(task));
 
         // Act
         Optional<Task> result = taskService.getTaskEntityById(1);
@@ -188,13 +324,170 @@ class TaskServiceTest {
                 updatedTask.getTitle().equals("Updated Foundation Work")));
     }
 
+    @Test
+    void saveTasksBulk_ShouldResolveReferencesOncePerTypeAndReportInvalidItems() {
+        // Arrange
+        TaskDTO newTask = new TaskDTO();
+        newTask.setTitle("Install Plumbing");
+        newTask.setTeamId(1);
+        newTask.setPriorityId(1);
+        newTask.setStatusId(1);
+        newTask.setCreatedById(1);
+
+        TaskDTO missingTask = new TaskDTO();
+        missingTask.setId(99);
+        missingTask.setTitle("Missing");
+
+        TaskDTO unknownStatus = new TaskDTO();
+        unknownStatus.setTitle("Roofing");
+        unknownStatus.setPriorityId(1);
+        unknownStatus.setStatusId(5);
+        unknownStatus.setCreatedById(1);
+
+        taskDTO.setTitle("Updated Foundation Work");
+
+        when(teamRepository.findAllById(any())).thenReturn(List.of(team));
+        when(priorityRepository.findAllById(any())).thenReturn(List.of(priority));
+        when(taskStatusRepository.findAllById(any())).thenReturn(List.of(status));
+        when(userRepository.findAllById(any())).thenReturn(List.of(user));
+        when(taskRepository.findAllById(any())).thenReturn(List.of(task));
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        TaskBulkResultDTO result = taskService.saveTasksBulk(
+                Arrays.asList(taskDTO, newTask, missingTask, unknownStatus));
+
+        // Assert
+        assertEquals(1, result.getCreatedCount());
+        assertEquals(1, result.getUpdatedCount());
+        assertEquals(2, result.getTasks().size());
+        assertEquals("Updated Foundation Work", result.getTasks().get(0).getTitle());
+        assertEquals("Install Plumbing", result.getTasks().get(1).getTitle());
+
+        assertEquals(2, result.getErrors().size());
+        assertEquals(2, result.getErrors().get(0).getIndex());
+        assertEquals(99, result.getErrors().get(0).getId());
+        assertEquals(3, result.getErrors().get(1).getIndex());
+
+        verify(taskStatusRepository).findAllById(any());
+        verify(taskStatusRepository, never()).findById(any());
+        verify(taskRepository).saveAll(argThat(tasks -> ((List<Task>) tasks).size() == 2));
+    }
+
+    @Test
+    void patchTask_ShouldUseReferencesForChangedAssociationsOnly() {
+        // Arrange
+        TaskStatus doneStatus = new TaskStatus();
+        doneStatus.setId(2);
+        when(taskRepository.findById(1)).thenReturn(Optional.of(task));
+        when(taskStatusRepository.getReferenceById(2)).thenReturn(doneStatus);
+
+        Map<String, Object> updates = new HashMap<>();
+        updates.put("statusId", 2);
+        updates.put("priorityId", "1");
+        updates.put("teamId", 1);
+        updates.put("completedDate", "2025-06-30");
+        updates.put("createdById", 5);
+
+        // Act
+        Optional<TaskDTO> result = taskService.patchTask(1, updates);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(2, result.get().getStatusId());
+        assertEquals(LocalDate.of(2025, 6, 30), result.get().getCompletedDate());
+        assertEquals(1, result.get().getCreatedById());
+        verify(priorityRepository, never()).getReferenceById(any());
+        verify(teamRepository, never()).getReferenceById(any());
+        verifyNoMoreInteractions(teamRepository, priorityRepository, userRepository);
+        verify(taskStatusRepository, never()).findById(any());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(overdueTaskService).tasksChanged(List.of(task));
+        verify(taskReminderScheduler).tasksChanged(List.of(task));
+    }
+
+    @Test
+    void patchTask_WithInvalidValues_ShouldThrow() {
+        // Arrange
+        when(taskRepository.findById(1)).thenReturn(Optional.of(task));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskService.patchTask(1, Map.of("deadline", "jutro")));
+        assertThrows(IllegalArgumentException.class, () -> taskService.patchTask(1, Map.of("title", " ")));
+        Map<String, Object> nullStatus = new HashMap<>();
+        nullStatus.put("statusId", null);
+        assertThrows(IllegalArgumentException.class, () -> taskService.patchTask(1, nullStatus));
+    }
+
+    @Test
+    void patchTask_WhenTaskDoesNotExist_ShouldReturnEmpty() {
+        // Arrange
+        when(taskRepository.findById(99)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertTrue(taskService.patchTask(99, Map.of("statusId", 2)).isEmpty());
+    }
+
+    @Test
+    void patchTask_WithStaleVersion_ShouldThrowConflictWithCurrentTask() {
+        // Arrange
+        task.setVersion(3L);
+        when(taskRepository.findById(1)).thenReturn(Optional.of(task));
+
+        // Act
+        TaskVersionConflictException conflict = assertThrows(TaskVersionConflictException.class,
+                () -> taskService.patchTask(1, Map.of("title", "Nowy tytuł"), 2L));
+
+        // Assert
+        assertEquals(3L, conflict.getCurrentTask().getVersion());
+        assertEquals("Build Foundation", task.getTitle());
+        verify(taskRepository, never()).flush();
+    }
+
+    @Test
+    void updateTask_WithCurrentVersion_ShouldSaveAndFlush() {
+        // Arrange
+        task.setVersion(3L);
+        when(taskRepository.findById(1)).thenReturn(Optional.of(task));
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(teamRepository.findById(1)).thenReturn(Optional.of(team));
+        when(priorityRepository.findById(1)).thenReturn(Optional.of(priority));
+        when(taskStatusRepository.findById(1)).thenReturn(Optional.of(status));
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+
+        // Act
+        TaskDTO result = taskService.updateTask(taskDTO, 3L);
+
+        // Assert
+        assertEquals(3L, result.getVersion());
+        verify(taskRepository).flush();
+        verify(taskHierarchyService).tasksChanged(List.of(task));
+    }
+
     @Test
     void deleteTask_ShouldCallRepositoryDeleteMethod() {
+        // Arrange
+        when(taskRepository.findById(1)).thenReturn(Optional.of(task));
+
         // Act
         taskService.deleteTask(1);
 
         // Assert
-        verify(taskRepository).deleteById(1);
+        verify(taskHierarchyService).taskRemoved(task);
+        verify(taskRepository).delete(task);
+    }
+
+    @Test
+    void deleteTask_WhenTaskDoesNotExist_ShouldDoNothing() {
+        // Arrange
+        when(taskRepository.findById(99)).thenReturn(Optional.empty());
+
+        // Act
+        taskService.deleteTask(99);
+
+        // Assert
+        verifyNoInteractions(taskHierarchyService);
+        verify(taskRepository, never()).delete(any(Task.class));
     }
 
     @Test
@@ -243,7 +536,7 @@ class TaskServiceTest {
     void getTasksWithDeadlineBefore_ShouldReturnTasksWithEarlierDeadline() {
         // Arrange
         LocalDate deadlineDate = LocalDate.now().plusDays(10);
-        when(taskRepository.findByDeadlineBefore(deadlineDate)).thenReturn(Arrays.asList(task));
+        when(taskRepository.findAsDTOByDeadlineBefore(deadlineDate)).thenReturn(Arrays.asList(taskDTO));
 
         // Act
         List<TaskDTO> result = taskService.getTasksWithDeadlineBefore(deadlineDate);
@@ -257,7 +550,7 @@ class TaskServiceTest {
     @Test
     void getTaskByTitle_WhenTaskExists_ShouldReturnTask() {
         // Arrange
-        when(taskRepository.findByTitle("Build Foundation")).thenReturn(Optional.of(task));
+        when(taskRepository.findAsDTOByTitle("Build Foundation")).thenReturn(Optional.of(taskDTO));
 
         // Act
         Optional<TaskDTO> result = taskService.getTaskByTitle("Build Foundation");
@@ -270,7 +563,7 @@ class TaskServiceTest {
     @Test
     void getTaskByTitle_WhenTaskDoesNotExist_ShouldReturnEmpty() {
         // Arrange
-        when(taskRepository.findByTitle("Nonexistent Task")).thenReturn(Optional.empty());
+        when(taskRepository.findAsDTOByTitle("Nonexistent Task")).thenReturn(Optional.empty());
 
         // Act
         Optional<TaskDTO> result = taskService.getTaskByTitle("Nonexistent Task");
@@ -279,10 +572,36 @@ class TaskServiceTest {
         assertFalse(result.isPresent());
     }
 
+    @Test
+    void findTasksByTitlePrefix_ShouldNormalizeAndEscapePrefixAndCapPageSize() {
+        // Arrange
+        when(taskRepository.findAsDTOByNormalizedTitleLike("lacz!_100!%%",
+                PageRequest.of(2, TaskService.MAX_TITLE_PREFIX_PAGE_SIZE)))
+                .thenReturn(new SliceImpl<>(List.of(taskDTO), PageRequest.of(2, TaskService.MAX_TITLE_PREFIX_PAGE_SIZE), true));
+
+        // Act
+        TaskSliceDTO result = taskService.findTasksByTitlePrefix("  ŁĄCZ_100%", 2, 1000);
+
+        // Assert
+        assertEquals(List.of(taskDTO), result.getItems());
+        assertEquals(2, result.getPage());
+        assertEquals(TaskService.MAX_TITLE_PREFIX_PAGE_SIZE, result.getSize());
+        assertTrue(result.isHasNext());
+    }
+
+    @Test
+    void findTasksByTitlePrefix_WithBlankPrefixOrInvalidPage_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.findTasksByTitlePrefix(" ", 0, null));
+        assertThrows(IllegalArgumentException.class, () -> taskService.findTasksByTitlePrefix(null, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> taskService.findTasksByTitlePrefix("fund", -1, null));
+        assertThrows(IllegalArgumentException.class, () -> taskService.findTasksByTitlePrefix("fund", 0, 0));
+        verify(taskRepository, never()).findAsDTOByNormalizedTitleLike(any(), any());
+    }
+
     @Test
     void getTasksByTeamId_ShouldReturnTasksForTeamId() {
         // Arrange
-        when(taskRepository.findByTeamId(1)).thenReturn(Arrays.asList(task));
+        when(taskRepository.findAsDTOByTeamId(1)).thenReturn(Arrays.asList(taskDTO));
 
         // Act
         List<TaskDTO> result = taskService.getTasksByTeamId(1);
@@ -296,7 +615,7 @@ class TaskServiceTest {
     @Test
     void getTasksByStatusId_ShouldReturnTasksWithStatusId() {
         // Arrange
-        when(taskRepository.findByStatusId(1)).thenReturn(Arrays.asList(task));
+        when(taskRepository.findAsDTOByStatusId(1)).thenReturn(Arrays.asList(taskDTO));
 
         // Act
         List<TaskDTO> result = taskService.getTasksByStatusId(1);
@@ -310,7 +629,7 @@ class TaskServiceTest {
     @Test
     void getTasksByPriorityId_ShouldReturnTasksWithPriorityId() {
         // Arrange
-        when(taskRepository.findByPriorityId(1)).thenReturn(Arrays.asList(task));
+        when(taskRepository.findAsDTOByPriorityId(1)).thenReturn(Arrays.asList(taskDTO));
 
         // Act
         List<TaskDTO> result = taskService.getTasksByPriorityId(1);
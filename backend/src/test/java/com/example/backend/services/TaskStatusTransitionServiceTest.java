@@ -0,0 +1,203 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.TaskBulkResultDTO;
+import com.example.backend.dto.TaskDTO;
+import com.example.backend.dto.TaskStatusTransitionDTO;
+import com.example.backend.models.Task;
+import com.example.backend.models.TaskStatus;
+import com.example.backend.models.Team;
+import com.example.backend.reminders.TaskReminderScheduler;
+import com.example.backend.repository.TaskHistoryRepository;
+import com.example.backend.repository.TaskRepository;
+import com.example.backend.repository.TaskStatusRepository;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.search.TaskSearchIndexer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatusTransitionServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskStatusRepository taskStatusRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TaskHistoryRepository taskHistoryRepository;
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private TaskSearchIndexer taskSearchIndexer;
+
+    @Mock
+    private TaskHierarchyService taskHierarchyService;
+
+    @Mock
+    private OverdueTaskService overdueTaskService;
+
+    @Mock
+    private TaskReminderScheduler taskReminderScheduler;
+
+    @Mock
+    private TeamTaskCounterService teamTaskCounterService;
+
+    @Mock
+    private TaskCache taskCache;
+
+    @Mock
+    private TaskVersionTracker taskVersionTracker;
+
+    @InjectMocks
+    private TaskStatusTransitionService taskStatusTransitionService;
+
+    private TaskStatus inProgress;
+    private TaskStatus completed;
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        inProgress = status(2, "W trakcie");
+        completed = status(3, "Zakończone");
+        team = new Team();
+        team.setId(7);
+        lenient().when(userRepository.existsById(1)).thenReturn(true);
+        lenient().when(taskService.mapToDTO(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            TaskDTO dto = new TaskDTO();
+            dto.setId(task.getId());
+            dto.setStatusId(task.getStatus().getId());
+            dto.setCompletedDate(task.getCompletedDate());
+            dto.setVersion(task.getVersion());
+            return dto;
+        });
+    }
+
+    private TaskStatus status(int id, String name) {
+        TaskStatus status = new TaskStatus();
+        status.setId(id);
+        status.setName(name);
+        return status;
+    }
+
+    private Task task(int id, TaskStatus status, LocalDate completedDate) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTeam(team);
+        task.setStatus(status);
+        task.setCompletedDate(completedDate);
+        task.setVersion(4L);
+        return task;
+    }
+
+    @Test
+    void transitionStatus_ToCompleted_ShouldUpdateInOneQueryAndRecordHistory() {
+        Task open = task(1, inProgress, null);
+        Task done = task(2, completed, LocalDate.of(2025, 3, 1));
+        when(taskStatusRepository.findById(3)).thenReturn(Optional.of(completed));
+        when(taskRepository.findLockedByIdIn(any())).thenReturn(List.of(open, done));
+
+        TaskBulkResultDTO result = taskStatusTransitionService.transitionStatus(
+                new TaskStatusTransitionDTO(List.of(1, 2, 99), 3, 1));
+
+        // The task that is already completed is left untouched
+        verify(taskHistoryRepository).insertStatusChanges(eq(List.of(1)), eq(1), eq("Zakończone"),
+                any(LocalDateTime.class));
+        verify(taskHistoryRepository).insertCompletedDateChanges(eq(List.of(1)), eq(1),
+                eq(LocalDate.now().toString()), any(LocalDateTime.class));
+        verify(taskRepository).updateStatusByIdIn(eq(List.of(1)), eq(completed), eq(LocalDate.now()),
+                any(LocalDateTime.class));
+        verify(taskRepository, never()).save(any());
+
+        assertEquals(1, result.getUpdatedCount());
+        assertEquals(1, result.getTasks().size());
+        assertEquals(3, result.getTasks().get(0).getStatusId());
+        assertEquals(LocalDate.now(), result.getTasks().get(0).getCompletedDate());
+        assertEquals(5L, result.getTasks().get(0).getVersion());
+        assertEquals(1, result.getErrors().size());
+        assertEquals(2, result.getErrors().get(0).getIndex());
+        assertEquals(99, result.getErrors().get(0).getId());
+
+        verify(taskSearchIndexer).taskSaved(open);
+        verify(taskCache).evict(1);
+        verify(taskHierarchyService).tasksChanged(List.of(open));
+        verify(overdueTaskService).tasksChanged(List.of(open));
+        verify(taskReminderScheduler).tasksChanged(List.of(open));
+    }
+
+    @Test
+    void transitionStatus_ToOpenStatus_ShouldKeepCompletedDateAndDeadlineState() {
+        Task task = task(1, status(1, "Nowe"), null);
+        when(taskStatusRepository.findById(2)).thenReturn(Optional.of(inProgress));
+        when(taskRepository.findLockedByIdIn(any())).thenReturn(List.of(task));
+
+        TaskBulkResultDTO result = taskStatusTransitionService.transitionStatus(
+                new TaskStatusTransitionDTO(List.of(1, 1), 2, 1));
+
+        assertEquals(1, result.getUpdatedCount());
+        assertTrue(result.getErrors().isEmpty());
+        verify(taskRepository).updateStatusByIdIn(eq(List.of(1)), eq(inProgress), isNull(), any(LocalDateTime.class));
+        verify(taskHistoryRepository, never()).insertCompletedDateChanges(any(), any(), any(), any());
+        verify(taskHierarchyService).tasksChanged(List.of(task));
+        verifyNoInteractions(overdueTaskService, taskReminderScheduler);
+    }
+
+    @Test
+    void transitionStatus_WhenNothingChanges_ShouldNotWrite() {
+        when(taskStatusRepository.findById(2)).thenReturn(Optional.of(inProgress));
+        when(taskRepository.findLockedByIdIn(any())).thenReturn(List.of(task(1, inProgress, null)));
+
+        TaskBulkResultDTO result = taskStatusTransitionService.transitionStatus(
+                new TaskStatusTransitionDTO(List.of(1), 2, 1));
+
+        assertEquals(0, result.getUpdatedCount());
+        verify(taskRepository, never()).updateStatusByIdIn(any(), any(), any(), any());
+        verifyNoInteractions(taskHistoryRepository, taskSearchIndexer, taskCache);
+        verify(taskHierarchyService, never()).tasksChanged(anyList());
+    }
+
+    @Test
+    void transitionStatus_WithUnknownStatusOrUser_ShouldThrow() {
+        when(taskStatusRepository.findById(42)).thenReturn(Optional.empty());
+        assertThrows(IllegalArgumentException.class, () -> taskStatusTransitionService.transitionStatus(
+                new TaskStatusTransitionDTO(List.of(1), 42, 1)));
+
+        when(taskStatusRepository.findById(2)).thenReturn(Optional.of(inProgress));
+        assertThrows(IllegalArgumentException.class, () -> taskStatusTransitionService.transitionStatus(
+                new TaskStatusTransitionDTO(List.of(1), 2, 5)));
+
+        verify(taskRepository, never()).findLockedByIdIn(any());
+    }
+
+    @Test
+    void transitionStatus_WithEmptyOrTooLargeList_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> taskStatusTransitionService.transitionStatus(
+                new TaskStatusTransitionDTO(List.of(), 2, 1)));
+        assertThrows(IllegalArgumentException.class, () -> taskStatusTransitionService.transitionStatus(
+                new TaskStatusTransitionDTO(Collections.nCopies(TaskStatusTransitionService.MAX_TASKS + 1, 1), 2, 1)));
+
+        verifyNoInteractions(taskStatusRepository, taskRepository);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.backend.services;
+
+import com.example.backend.models.Task;
+import com.example.backend.models.TaskListVersion;
+import com.example.backend.models.Team;
+import com.example.backend.repository.TaskListVersionRepository;
+import com.example.backend.repository.TeamTaskCounterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskVersionTrackerTest {
+
+    @Mock
+    private TaskListVersionRepository taskListVersionRepository;
+
+    @Mock
+    private TeamTaskCounterRepository teamTaskCounterRepository;
+
+    @Mock
+    private TeamTaskCounterService teamTaskCounterService;
+
+    @InjectMocks
+    private TaskVersionTracker tracker;
+
+    private Task task(Integer teamId) {
+        Task task = new Task();
+        if (teamId != null) {
+            Team team = new Team();
+            team.setId(teamId);
+            task.setTeam(team);
+        }
+        return task;
+    }
+
+    @Test
+    void globalETag_ShouldBeBuiltFromPersistedVersion() {
+        // Arrange
+        when(taskListVersionRepository.findVersionByName(TaskVersionTracker.GLOBAL_LIST_NAME))
+                .thenReturn(Optional.of(41L))
+                .thenReturn(Optional.of(41L))
+                .thenReturn(Optional.of(42L));
+
+        // Act
+        String initial = tracker.globalETag();
+        String unchanged = tracker.globalETag();
+        String changed = tracker.globalETag();
+
+        // Assert
+        assertEquals("W/\"15\"", initial);
+        assertEquals(initial, unchanged);
+        assertNotEquals(unchanged, changed);
+        verifyNoInteractions(teamTaskCounterRepository);
+    }
+
+    @Test
+    void teamETag_ShouldDependOnTeamAndHandleTeamWithoutCounterRow() {
+        // Arrange
+        when(teamTaskCounterRepository.findListVersionByTeamId(1)).thenReturn(Optional.of(3L));
+        when(teamTaskCounterRepository.findListVersionByTeamId(2)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertEquals("W/\"t1-3\"", tracker.teamETag(1));
+        assertEquals("W/\"t2-0\"", tracker.teamETag(2));
+    }
+
+    @Test
+    void tasksChanged_ShouldBumpPreviousAndCurrentTeamsAndGlobalVersion() {
+        // Arrange
+        when(taskListVersionRepository.increment(TaskVersionTracker.GLOBAL_LIST_NAME)).thenReturn(1);
+
+        // Act
+        tracker.tasksChanged(List.of(task(2), task(null)), Arrays.asList(1, null));
+
+        // Assert
+        verify(teamTaskCounterService).listVersionsChanged(argThat(teamIds ->
+                teamIds.containsAll(List.of(1, 2)) && !teamIds.contains(3)));
+        verify(taskListVersionRepository).increment(TaskVersionTracker.GLOBAL_LIST_NAME);
+        verify(taskListVersionRepository, never()).save(any());
+    }
+
+    @Test
+    void taskListsChanged_WhenGlobalRowIsMissing_ShouldCreateIt() {
+        // Arrange
+        when(taskListVersionRepository.increment(TaskVersionTracker.GLOBAL_LIST_NAME)).thenReturn(0);
+
+        // Act
+        tracker.taskListsChanged(List.of());
+
+        // Assert
+        verify(taskListVersionRepository).save(argThat((TaskListVersion version) ->
+                version.getName().equals(TaskVersionTracker.GLOBAL_LIST_NAME) && version.getVersion() == 1));
+    }
+
+    @Test
+    void matches_ShouldCompareWeaklyAndSupportListsAndWildcard() {
+        assertTrue(TaskVersionTracker.matches("W/\"a-1\"", "W/\"a-1\""));
+        assertTrue(TaskVersionTracker.matches("\"a-1\"", "W/\"a-1\""));
+        assertTrue(TaskVersionTracker.matches("\"b-2\", W/\"a-1\"", "W/\"a-1\""));
+        assertTrue(TaskVersionTracker.matches("*", "W/\"a-1\""));
+        assertFalse(TaskVersionTracker.matches("W/\"a-2\"", "W/\"a-1\""));
+        assertFalse(TaskVersionTracker.matches(null, "W/\"a-1\""));
+    }
+}
@@ -1,15 +1,22 @@
 package com.example.backend.services;
 
 import com.example.backend.dto.TeamDTO;
+import com.example.backend.dto.TeamTaskCountsDTO;
 import com.example.backend.dto.UserDTO;
 import com.example.backend.models.Team;
+import com.example.backend.models.TeamTaskCounter;
 import com.example.backend.models.User;
+import com.example.backend.repository.ArchivedTaskCommentRepository;
+import com.example.backend.repository.ArchivedTaskHistoryRepository;
+import com.example.backend.repository.ArchivedTaskRepository;
 import com.example.backend.repository.TaskRepository;
 import com.example.backend.repository.TeamMemberRepository;
 import com.example.backend.repository.TeamRepository;
+import com.example.backend.repository.TeamTaskCounterRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -39,6 +46,21 @@ class TeamServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private TeamTaskCounterRepository teamTaskCounterRepository;
+
+    @Mock
+    private TaskVersionTracker taskVersionTracker;
+
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Mock
+    private ArchivedTaskCommentRepository archivedTaskCommentRepository;
+
+    @Mock
+    private ArchivedTaskHistoryRepository archivedTaskHistoryRepository;
+
     @InjectMocks
     private TeamService teamService;
 
@@ -94,6 +116,32 @@ class TeamServiceTest {
         assertEquals(1, result.get(0).getManagerId());
     }
 
+    @Test
+    void getAllTeams_ShouldReadTaskCountsFromCounters() {
+        // Arrange
+        Team other = new Team();
+        other.setId(2);
+        other.setName("Construction Team Beta");
+        other.setManager(manager);
+        when(teamRepository.findAll()).thenReturn(List.of(team, other));
+        when(teamTaskCounterRepository.findByTeamIdIn(List.of(1, 2)))
+                .thenReturn(List.of(new TeamTaskCounter(1, 4, 9, 2)));
+        when(teamTaskCounterRepository.countTasksByTeamIdIn(List.of(2)))
+                .thenReturn(List.of(new TeamTaskCountsDTO(2, 3, 0, 1)));
+
+        // Act
+        List<TeamDTO> result = teamService.getAllTeams();
+
+        // Assert
+        assertEquals(4, result.get(0).getOpenTaskCount());
+        assertEquals(9, result.get(0).getCompletedTaskCount());
+        assertEquals(2, result.get(0).getOverdueTaskCount());
+        // A team without a counter row yet is counted from its tasks
+        assertEquals(3, result.get(1).getOpenTaskCount());
+        assertEquals(0, result.get(1).getCompletedTaskCount());
+        assertEquals(1, result.get(1).getOverdueTaskCount());
+    }
+
     @Test
     void getTeamById_WhenTeamExists_ShouldReturnTeam() {
         // Arrange
@@ -123,7 +171,7 @@ class TeamServiceTest {
     @Test
     void getTeamEntityById_WhenTeamExists_ShouldReturnTeamEntity() {
         // Arrange
-        when(teamRepository.findById(1)).thenReturn(Optional.of(team));
+        when(teamRepository.findDetailedById(1)).thenReturn(Optional.of(team));
 
         // Act
         Optional<Team> result = teamService.getTeamEntityById(1);
@@ -282,6 +330,8 @@ class TeamServiceTest {
         assertEquals("Construction Team Alpha", result.getName());
         assertEquals(1, result.getManagerId());
         verify(teamRepository).save(any(Team.class));
+        verify(teamTaskCounterRepository).save(argThat(counter -> counter.getTeamId().equals(team.getId())
+                && counter.getOpenCount() == 0 && counter.getCompletedCount() == 0 && counter.getOverdueCount() == 0));
     }
 
     @Test
@@ -329,6 +379,10 @@ class TeamServiceTest {
 
         // Assert
         verify(taskRepository).deleteAllByTeam(team);
+        InOrder archive = inOrder(archivedTaskCommentRepository, archivedTaskHistoryRepository, archivedTaskRepository);
+        archive.verify(archivedTaskCommentRepository).deleteByArchivedTaskTeamId(1);
+        archive.verify(archivedTaskHistoryRepository).deleteByArchivedTaskTeamId(1);
+        archive.verify(archivedTaskRepository).deleteByTeamId(1);
         verify(teamMemberRepository).deleteAllByTeam(team);
         verify(teamRepository).delete(team);
     }
@@ -0,0 +1,231 @@
+package com.example.backend.services;
+
+import com.example.backend.dto.TeamTaskCountsDTO;
+import com.example.backend.models.ScanWatermark;
+import com.example.backend.models.Task;
+import com.example.backend.models.Team;
+import com.example.backend.models.TeamTaskCounter;
+import com.example.backend.repository.ScanWatermarkRepository;
+import com.example.backend.repository.TeamTaskCounterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TeamTaskCounterServiceTest {
+
+    @Mock
+    private TeamTaskCounterRepository teamTaskCounterRepository;
+
+    @Mock
+    private ScanWatermarkRepository scanWatermarkRepository;
+
+    @InjectMocks
+    private TeamTaskCounterService teamTaskCounterService;
+
+    private final LocalDate today = LocalDate.now();
+
+    private Task task(int id, Integer teamId, LocalDate deadline, LocalDate completedDate) {
+        Task task = new Task();
+        task.setId(id);
+        if (teamId != null) {
+            Team team = new Team();
+            team.setId(teamId);
+            task.setTeam(team);
+        }
+        task.setDeadline(deadline);
+        task.setCompletedDate(completedDate);
+        return task;
+    }
+
+    @Test
+    void tasksCreated_ShouldAddOneUpdatePerTeam() {
+        when(teamTaskCounterRepository.addToCounts(anyInt(), anyInt(), anyInt())).thenReturn(1);
+
+        teamTaskCounterService.tasksCreated(List.of(
+                task(1, 7, null, null),
+                task(2, 7, null, today),
+                task(3, 7, null, null),
+                task(4, 3, null, null),
+                task(5, null, null, null)));
+
+        verify(teamTaskCounterRepository).addToCounts(7, 2, 1);
+        verify(teamTaskCounterRepository).addToCounts(3, 1, 0);
+        verify(teamTaskCounterRepository, times(2)).addToCounts(anyInt(), anyInt(), anyInt());
+        verify(teamTaskCounterRepository, never()).recountOverdueByTeamIdIn(any());
+        verify(teamTaskCounterRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void taskChanged_WhenCompleted_ShouldMoveTaskBetweenCounters() {
+        Task task = task(1, 7, today.plusDays(2), null);
+        TeamTaskCounterService.TaskState previous = TeamTaskCounterService.TaskState.of(task);
+        task.setCompletedDate(today);
+        when(teamTaskCounterRepository.addToCounts(7, -1, 1)).thenReturn(1);
+
+        teamTaskCounterService.taskChanged(previous, task);
+
+        verify(teamTaskCounterRepository).addToCounts(7, -1, 1);
+    }
+
+    @Test
+    void taskChanged_WhenOnlyDeadlineOrStatusChanges_ShouldNotWrite() {
+        Task task = task(1, 7, today.plusDays(2), null);
+        TeamTaskCounterService.TaskState previous = TeamTaskCounterService.TaskState.of(task);
+        task.setDeadline(today.plusDays(9));
+
+        teamTaskCounterService.taskChanged(previous, task);
+
+        verifyNoInteractions(teamTaskCounterRepository);
+    }
+
+    @Test
+    void tasksChanged_WhenOverdueTaskMovesTeam_ShouldRecountOverdueOfBothTeams() {
+        Task task = task(1, 7, today.minusDays(3), null);
+        TeamTaskCounterService.TaskState previous = TeamTaskCounterService.TaskState.of(task);
+        Team team = new Team();
+        team.setId(3);
+        task.setTeam(team);
+        when(teamTaskCounterRepository.addToCounts(anyInt(), anyInt(), anyInt())).thenReturn(1);
+
+        teamTaskCounterService.tasksChanged(Map.of(1, previous), List.of(task, task(2, 7, null, null)));
+
+        verify(teamTaskCounterRepository).addToCounts(7, -1, 0);
+        verify(teamTaskCounterRepository).addToCounts(3, 1, 0);
+        verify(teamTaskCounterRepository).recountOverdueByTeamIdIn(Set.of(3, 7));
+    }
+
+    @Test
+    void tasksRemoved_ShouldDecrementAndRecountOverdueOfRemovedOverdueTasks() {
+        when(teamTaskCounterRepository.addToCounts(anyInt(), anyInt(), anyInt())).thenReturn(1);
+
+        teamTaskCounterService.tasksRemoved(List.of(task(1, 7, today.minusDays(1), null),
+                task(2, 7, today.minusDays(1), today)));
+
+        verify(teamTaskCounterRepository).addToCounts(7, -1, -1);
+        verify(teamTaskCounterRepository).recountOverdueByTeamIdIn(Set.of(7));
+    }
+
+    @Test
+    void tasksCreated_WhenTeamHasNoCounterRow_ShouldCreateItFromTasks() {
+        when(teamTaskCounterRepository.addToCounts(7, 1, 0)).thenReturn(0);
+        when(teamTaskCounterRepository.countTasksByTeamIdIn(List.of(7)))
+                .thenReturn(List.of(new TeamTaskCountsDTO(7, 5, 2, 1)));
+
+        teamTaskCounterService.tasksCreated(List.of(task(1, 7, null, null)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TeamTaskCounter>> saved = ArgumentCaptor.forClass(List.class);
+        verify(teamTaskCounterRepository).saveAll(saved.capture());
+        TeamTaskCounter counter = saved.getValue().get(0);
+        assertEquals(7, counter.getTeamId());
+        assertEquals(5, counter.getOpenCount());
+        assertEquals(2, counter.getCompletedCount());
+        assertEquals(1, counter.getOverdueCount());
+    }
+
+    @Test
+    void listVersionsChanged_ShouldBumpExistingRowsAndCreateMissingOnes() {
+        when(teamTaskCounterRepository.incrementListVersions(Set.of(4, 7))).thenReturn(1);
+        when(teamTaskCounterRepository.findByTeamIdIn(Set.of(4, 7))).thenReturn(List.of(new TeamTaskCounter(4, 1, 0, 0)));
+        when(teamTaskCounterRepository.countTasksByTeamIdIn(Set.of(7)))
+                .thenReturn(List.of(new TeamTaskCountsDTO(7, 5, 2, 1)));
+
+        teamTaskCounterService.listVersionsChanged(Arrays.asList(7, null, 4, 7));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TeamTaskCounter>> saved = ArgumentCaptor.forClass(List.class);
+        verify(teamTaskCounterRepository).saveAll(saved.capture());
+        TeamTaskCounter counter = saved.getValue().get(0);
+        assertEquals(7, counter.getTeamId());
+        assertEquals(5, counter.getOpenCount());
+        assertEquals(1, counter.getListVersion());
+    }
+
+    @Test
+    void listVersionsChanged_WhenAllRowsExist_ShouldIssueOneUpdate() {
+        when(teamTaskCounterRepository.incrementListVersions(Set.of(4, 7))).thenReturn(2);
+
+        teamTaskCounterService.listVersionsChanged(List.of(4, 7));
+        teamTaskCounterService.listVersionsChanged(Collections.singletonList(null));
+
+        verify(teamTaskCounterRepository).incrementListVersions(Set.of(4, 7));
+        verifyNoMoreInteractions(teamTaskCounterRepository);
+    }
+
+    @Test
+    void overdueChanged_ShouldSkipTasksWithoutTeam() {
+        teamTaskCounterService.overdueChanged(Arrays.asList(null, 4, 4));
+        verify(teamTaskCounterRepository).recountOverdueByTeamIdIn(Set.of(4));
+
+        teamTaskCounterService.overdueChanged(Collections.singletonList(null));
+        verifyNoMoreInteractions(teamTaskCounterRepository);
+    }
+
+    @Test
+    void repair_ShouldFixDriftedCountersAndCreateMissingOnes() {
+        TeamTaskCounter correct = new TeamTaskCounter(1, 2, 3, 0);
+        TeamTaskCounter drifted = new TeamTaskCounter(2, 9, 3, 0);
+        when(teamTaskCounterRepository.findAllLocked()).thenReturn(List.of(correct, drifted));
+        when(teamTaskCounterRepository.countTasksOfAllTeams()).thenReturn(List.of(
+                new TeamTaskCountsDTO(1, 2, 3, 0),
+                new TeamTaskCountsDTO(2, 4, 3, 1),
+                new TeamTaskCountsDTO(3, 1, 0, 0)));
+
+        int repaired = teamTaskCounterService.repair();
+
+        assertEquals(2, repaired);
+        assertEquals(4, drifted.getOpenCount());
+        assertEquals(1, drifted.getOverdueCount());
+        assertEquals(2, correct.getOpenCount());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TeamTaskCounter>> saved = ArgumentCaptor.forClass(List.class);
+        verify(teamTaskCounterRepository).saveAll(saved.capture());
+        assertEquals(List.of(3), saved.getValue().stream().map(TeamTaskCounter::getTeamId).toList());
+    }
+
+    @Test
+    void repairOncePerDay_ShouldRepairAndMoveWatermarkToNextDay() {
+        ScanWatermark watermark = new ScanWatermark(TeamTaskCounterService.REPAIR_WATERMARK_NAME);
+        watermark.setWatermark(today);
+        when(scanWatermarkRepository.findLockedByName(TeamTaskCounterService.REPAIR_WATERMARK_NAME))
+                .thenReturn(Optional.of(watermark));
+        when(teamTaskCounterRepository.findAllLocked()).thenReturn(List.of());
+        when(teamTaskCounterRepository.countTasksOfAllTeams()).thenReturn(List.of());
+
+        assertEquals(0, teamTaskCounterService.repairOncePerDay(today));
+
+        verify(teamTaskCounterRepository).findAllLocked();
+        assertEquals(today.plusDays(1), watermark.getWatermark());
+    }
+
+    @Test
+    void repairOncePerDay_WhenAlreadyRepairedToday_ShouldSkipRepair() {
+        ScanWatermark watermark = new ScanWatermark(TeamTaskCounterService.REPAIR_WATERMARK_NAME);
+        watermark.setWatermark(today.plusDays(1));
+        when(scanWatermarkRepository.findLockedByName(TeamTaskCounterService.REPAIR_WATERMARK_NAME))
+                .thenReturn(Optional.of(watermark));
+
+        assertEquals(0, teamTaskCounterService.repairOncePerDay(today));
+
+        verifyNoInteractions(teamTaskCounterRepository);
+        assertEquals(today.plusDays(1), watermark.getWatermark());
+    }
+}
@@ -177,16 +177,16 @@ const apiService = {
         return await apiClient.post(endpoint, data);
     },
 
-    async put(endpoint, data = {}) {
-        return await apiClient.put(endpoint, data);
+    async put(endpoint, data = {}, headers = {}) {
+        return await apiClient.put(endpoint, data, { headers });
     },
 
     async delete(endpoint) {
         return await apiClient.delete(endpoint);
     },
 
-    async patch(endpoint, data = {}) {
-        return await apiClient.patch(endpoint, data);
+    async patch(endpoint, data = {}, headers = {}) {
+        return await apiClient.patch(endpoint, data, { headers });
     }
 };
 
@@ -1,10 +1,18 @@
 // src/services/taskService.js
 import apiService from './apiService';
 
+// Nagłówek If-Match z wersją zadania - serwer odrzuci zmianę (412), jeśli zadanie zmieniono w międzyczasie
+const versionHeaders = (version) =>
+    version !== undefined && version !== null ? { 'If-Match': `"${version}"` } : {};
+
 const taskService = {
-    // Pobieranie wszystkich zadań
-    async getAllTasks() {
-        return await apiService.get('/database/tasks');
+    // Pobieranie jednej strony zadań (kursor z pola "next" poprzedniej strony)
+    async getTasksPage(cursor = null, limit = 500) {
+        const params = { limit };
+        if (cursor) {
+            params.cursor = cursor;
+        }
+        return await apiService.get('/database/tasks', params);
     },
 
     // Pobieranie zadania po ID
@@ -32,6 +40,13 @@ const taskService = {
         }
     },
 
+    // Pobieranie zadania wraz z danymi widoku w jednym żądaniu; include ogranicza odpowiedź do wybranych
+    // części: comments, history, team, teams, priorities, statuses (domyślnie wszystkie)
+    async getTaskDetails(taskId, include = null) {
+        const params = include ? { include: include.join(',') } : {};
+        return await apiService.get(`/database/tasks/${taskId}/details`, params);
+    },
+
     // Pobieranie komentarzy dla zadania
     async getTaskComments(taskId) {
         try {
@@ -71,14 +86,14 @@ const taskService = {
             createdById: Number(taskData.createdById || 1)
         };
 
-        return await apiService.put(`/database/tasks/${taskId}`, cleanedData);
+        return await apiService.put(`/database/tasks/${taskId}`, cleanedData, versionHeaders(taskData.version));
     },
 
     // Częściowa aktualizacja zadania
     async partialUpdateTask(taskId, taskData) {
         try {
             // Przygotowanie danych
-            const cleanedData = { ...taskData };
+            const { version, ...cleanedData } = taskData;
 
             // Konwersja ID na liczby
             if (taskData.teamId !== undefined) cleanedData.teamId = Number(taskData.teamId);
@@ -87,7 +102,7 @@ const taskService = {
 
             // Najpierw spróbuj użyć PATCH
             try {
-                return await apiService.patch(`/database/tasks/${taskId}`, cleanedData);
+                return await apiService.patch(`/database/tasks/${taskId}`, cleanedData, versionHeaders(version));
             } catch (error) {
                 // Jeśli błąd to 405 (Method Not Allowed), użyj PUT jako fallback
                 if (error.response && error.response.status === 405) {
@@ -103,7 +118,8 @@ const taskService = {
                     };
 
                     // Użyj PUT z pełnymi danymi
-                    return await apiService.put(`/database/tasks/${taskId}`, fullUpdateData);
+                    return await apiService.put(`/database/tasks/${taskId}`, fullUpdateData,
+                        versionHeaders(version ?? fullTask.version));
                 }
 
                 // Przekaż inne błędy
@@ -150,6 +166,69 @@ const taskService = {
         return await apiService.get(`/database/tasks/deadline-before/${date}`);
     },
 
+    // Filtrowanie zadań według wielu kryteriów (teamId, teamIds rozdzielone przecinkami, statusId,
+    // priorityId, deadlineFrom, deadlineTo, q) ze stronicowaniem i sortowaniem, np. sort: 'deadline,asc'
+    async filterTasks(criteria = {}, page = 0, size = 100, sort = null) {
+        const params = { page, size };
+        Object.entries(criteria).forEach(([key, value]) => {
+            if (value !== null && value !== undefined && value !== '') {
+                params[key] = value;
+            }
+        });
+        if (sort) {
+            params.sort = sort;
+        }
+        return await apiService.get('/database/tasks/filter', params);
+    },
+
+    // Wyszukiwanie pełnotekstowe w tytułach i opisach zadań (wyniki według trafności)
+    async searchTasks(query, page = 0, size = 20) {
+        return await apiService.get('/database/tasks/search', { q: query, page, size });
+    },
+
+    // Podpowiedzi tytułów: zadania, których tytuł zaczyna się od prefiksu (bez względu na wielkość liter
+    // i polskie znaki), alfabetycznie; pole hasNext informuje o kolejnej stronie
+    async findTasksByTitlePrefix(prefix, page = 0, size = 10) {
+        return await apiService.get('/database/tasks/titles', { prefix, page, size });
+    },
+
+    // Pobieranie bezpośrednich podzadań zadania
+    async getSubtasks(taskId) {
+        return await apiService.get(`/database/tasks/${taskId}/subtasks`);
+    },
+
+    // Pobieranie wszystkich podzadań zadania (rodzic przed swoimi podzadaniami)
+    async getSubtree(taskId) {
+        return await apiService.get(`/database/tasks/${taskId}/subtree`);
+    },
+
+    // Pobieranie postępu zadania zagregowanego z podzadań
+    async getTaskProgress(taskId) {
+        return await apiService.get(`/database/tasks/${taskId}/progress`);
+    },
+
+    // Ustawianie zadania nadrzędnego (null odłącza zadanie od rodzica)
+    async setParentTask(taskId, parentTaskId) {
+        return await apiService.put(`/database/tasks/${taskId}/parent`, { parentTaskId });
+    },
+
+    // Pobieranie zadań po terminie (opcjonalnie tylko dla zespołu)
+    async getOverdueTasks(teamId = null) {
+        const url = teamId ? `/database/tasks/team/${teamId}/overdue` : '/database/tasks/overdue';
+        return await apiService.get(url);
+    },
+
+    // Zestawienie zadań dla panelu głównego (opcjonalnie tylko zespoły użytkownika)
+    async getDashboard(userId = null) {
+        const url = userId ? `/database/tasks/dashboard?userId=${userId}` : '/database/tasks/dashboard';
+        return await apiService.get(url);
+    },
+
+    // Zbiorcza zmiana statusu zadań (np. zamknięcie wszystkich zadań etapu)
+    async transitionTasksStatus(taskIds, statusId, changedById) {
+        return await apiService.post('/database/tasks/bulk/status', { taskIds, statusId, changedById });
+    },
+
     // Dodawanie komentarza do zadania
     async addComment(commentData) {
         try {